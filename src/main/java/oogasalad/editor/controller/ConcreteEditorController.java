@@ -3,12 +3,18 @@ package oogasalad.editor.controller;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import oogasalad.editor.controller.asset.EditorPrefabManager;
+import oogasalad.editor.controller.history.EditorEdit;
 import oogasalad.editor.controller.level.EditorDataAPI;
+import oogasalad.editor.controller.level.LevelLoad;
 import oogasalad.editor.controller.listeners.EditorListenerNotifier;
 import oogasalad.editor.controller.object.EditorEventHandler;
 import oogasalad.editor.model.data.object.DynamicVariable;
@@ -201,6 +207,29 @@ public class ConcreteEditorController implements EditorController {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void requestObjectsRemoval(Collection<UUID> objectIds) {
+    Objects.requireNonNull(objectIds, "Object IDs cannot be null for removal request");
+    LOG.info("Processing bulk removal request for {} objects", objectIds.size());
+    editorDataAPI.beginTransaction("remove objects");
+    try {
+      for (UUID objectId : editorDataAPI.removeEditorObjects(objectIds)) {
+        listenerNotifier.notifyObjectRemoved(objectId);
+        if (objectId.equals(currentSelectedObjectId)) {
+          notifyObjectSelected(null);
+        }
+      }
+    } catch (Exception e) {
+      LOG.error("Error during bulk object removal: {}", e.getMessage(), e);
+      listenerNotifier.notifyErrorOccurred("Failed to remove objects: " + e.getMessage());
+    } finally {
+      editorDataAPI.commitTransaction();
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -227,6 +256,83 @@ public class ConcreteEditorController implements EditorController {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean undo() {
+    return announceEdits(editorDataAPI.undo());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean redo() {
+    return announceEdits(editorDataAPI.redo());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void beginEditGroup(String label) {
+    editorDataAPI.beginEditGroup(label);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void endEditGroup() {
+    editorDataAPI.endEditGroup();
+  }
+
+  /**
+   * Notifies listeners once per object touched by undone or redone edits: objects no longer in
+   * the level as removed, objects that reappeared as added, and everything else as updated. The
+   * notifications are batched into one aggregated event.
+   *
+   * @param edits The edits that were just undone or redone.
+   * @return true if there was at least one edit.
+   */
+  private boolean announceEdits(List<EditorEdit> edits) {
+    if (edits == null || edits.isEmpty()) {
+      return false;
+    }
+    listenerNotifier.beginBatch();
+    try {
+      announceTouchedObjects(edits);
+    } finally {
+      listenerNotifier.endBatch();
+    }
+    return true;
+  }
+
+  private void announceTouchedObjects(List<EditorEdit> edits) {
+    Set<UUID> touched = new LinkedHashSet<>();
+    Set<UUID> reappeared = new LinkedHashSet<>();
+    for (EditorEdit edit : edits) {
+      touched.add(edit.getObjectId());
+      if (edit.changesPresence()) {
+        reappeared.add(edit.getObjectId());
+      }
+    }
+    for (UUID id : touched) {
+      if (editorDataAPI.getEditorObject(id) == null) {
+        listenerNotifier.notifyObjectRemoved(id);
+        if (id.equals(currentSelectedObjectId)) {
+          notifyObjectSelected(null);
+        }
+      } else if (reappeared.contains(id)) {
+        listenerNotifier.notifyObjectAdded(id);
+      } else {
+        listenerNotifier.notifyObjectUpdated(id);
+      }
+    }
+    LOG.info("Applied {} edits to {} objects from history", edits.size(), touched.size());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -256,6 +362,23 @@ public class ConcreteEditorController implements EditorController {
     return foundId;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<UUID> getObjectIDsInRegion(double gridX, double gridY, double width,
+      double height) {
+    return objectQueryHandler.getObjectIDsInRegion(gridX, gridY, width, height);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public UUID getNearestObjectID(double gridX, double gridY, double maxDistance) {
+    return objectQueryHandler.getNearestObjectID(gridX, gridY, maxDistance);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -545,6 +668,12 @@ public class ConcreteEditorController implements EditorController {
     editorDataAPI.loadLevelData(fileName);
   }
 
+  @Override
+  public LevelLoad loadLevelDataAsync(String fileName, Consumer<Runnable> fxThread,
+      DoubleConsumer onProgress) {
+    return editorDataAPI.loadLevelDataAsync(fileName, fxThread, onProgress);
+  }
+
   @Override
   public void setCellSize(int cellSize) {
     if (cellSize > 0) {
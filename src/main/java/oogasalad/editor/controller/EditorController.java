@@ -1,9 +1,13 @@
 package oogasalad.editor.controller;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import oogasalad.editor.controller.level.EditorDataAPI;
+import oogasalad.editor.controller.level.LevelLoad;
 import oogasalad.editor.model.data.object.DynamicVariable;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.event.EditorEvent;
@@ -123,6 +127,14 @@ public interface EditorController {
    */
   void requestObjectRemoval(UUID objectId);
 
+  /**
+   * Removes many objects from the level as a single transaction: the level is updated in bulk,
+   * listeners receive one aggregated change event, and the removal is undone as one step.
+   *
+   * @param objectIds The UUIDs of the objects to remove.
+   */
+  void requestObjectsRemoval(Collection<UUID> objectIds);
+
   /**
    * Handles a request from the view or internal logic to update an existing object's data.
    *
@@ -131,6 +143,35 @@ public interface EditorController {
    */
   void requestObjectUpdate(EditorObject updatedObject);
 
+  /**
+   * Reverts the most recent change, or group of changes, made to the level's objects and notifies
+   * listeners about every object it touched.
+   *
+   * @return true if something was undone, false if there was nothing to undo.
+   */
+  boolean undo();
+
+  /**
+   * Re-applies the most recently undone change and notifies listeners about every object it
+   * touched.
+   *
+   * @return true if something was redone, false if there was nothing to redo.
+   */
+  boolean redo();
+
+  /**
+   * Starts collecting object changes into a single undo step, for example all the placements of
+   * one drag. Every call must be matched by a call to {@link #endEditGroup()}.
+   *
+   * @param label A short description of the step.
+   */
+  void beginEditGroup(String label);
+
+  /**
+   * Closes the undo step opened by the matching {@link #beginEditGroup(String)}.
+   */
+  void endEditGroup();
+
   /**
    * Handles a request to save the specified EditorObject as a reusable prefab.
    *
@@ -155,6 +196,27 @@ public interface EditorController {
    */
   UUID getObjectIDAt(double gridX, double gridY);
 
+  /**
+   * Finds the UUIDs of all objects whose hitboxes overlap the specified rectangle.
+   *
+   * @param gridX  The x-coordinate of the rectangle's top-left corner in grid space.
+   * @param gridY  The y-coordinate of the rectangle's top-left corner in grid space.
+   * @param width  The width of the rectangle.
+   * @param height The height of the rectangle.
+   * @return The UUIDs of the overlapping objects, or an empty list if none are found.
+   */
+  List<UUID> getObjectIDsInRegion(double gridX, double gridY, double width, double height);
+
+  /**
+   * Finds the UUID of the object whose hitbox is closest to the specified grid coordinates.
+   *
+   * @param gridX       The x-coordinate in grid space.
+   * @param gridY       The y-coordinate in grid space.
+   * @param maxDistance The largest distance from the point to consider.
+   * @return The UUID of the closest object, or null if no object lies within range.
+   */
+  UUID getNearestObjectID(double gridX, double gridY, double maxDistance);
+
   /**
    * Adds a specific event type (identified by eventId) to the specified object.
    *
@@ -425,6 +487,18 @@ public interface EditorController {
   void loadLevelData(String fileName)
       throws EditorLoadException;
 
+  /**
+   * Loads level data from the specified file in the background, keeping the editor responsive.
+   * The finished level is added to the editor on the JavaFX Application Thread in one step.
+   *
+   * @param fileName   the path to the level file to load
+   * @param fxThread   runs a task on the JavaFX Application Thread, e.g. Platform::runLater
+   * @param onProgress called on the JavaFX Application Thread with the fraction of objects loaded
+   * @return the running load, which can be cancelled and tells when the level has been loaded
+   */
+  LevelLoad loadLevelDataAsync(String fileName, Consumer<Runnable> fxThread,
+      DoubleConsumer onProgress);
+
   /**
    * Sets the size of a single cell in the editor grid.
    *
@@ -1,11 +1,28 @@
 package oogasalad.editor.controller;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import oogasalad.editor.controller.level.EditorDataAPI;
+import oogasalad.editor.controller.level.LevelLoad;
 import oogasalad.editor.controller.listeners.EditorListenerNotifier;
+import oogasalad.editor.model.saver.EditorAutosave;
+import oogasalad.editor.view.dialogs.LevelLoadingDialog;
 import oogasalad.editor.view.factories.EditorComponentFactory;
+import oogasalad.engine.controller.DefaultGameManager;
+import oogasalad.filesaver.savestrategy.XmlStrategy;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -24,6 +41,13 @@ import org.apache.logging.log4j.Logger;
 public class EditorMaker {
 
   private static final Logger LOG = LogManager.getLogger(EditorMaker.class);
+  private static final String AUTOSAVE_INTERVAL_KEY = "autosaveIntervalSeconds";
+  private static final String AUTOSAVE_BACKUPS_KEY = "autosaveBackups";
+  private static final long DEFAULT_AUTOSAVE_INTERVAL_SECONDS = 60;
+  private static final long DEFAULT_AUTOSAVE_BACKUPS = 3;
+
+  private Stage stage;
+  private EditorController editorController;
 
   /**
    * Initializes the core components of the editor application, including the data backend,
@@ -45,6 +69,8 @@ public class EditorMaker {
 
       // 2. Create the editor controller
       editorController = new ConcreteEditorController(editorDataAPI, listenerNotifier);
+      this.editorController = editorController;
+      this.stage = primaryStage;
       LOG.info("ConcreteEditorController created.");
 
       // Set the game directory name
@@ -54,17 +80,25 @@ public class EditorMaker {
       // 3. Create the view factory using the controller
       EditorComponentFactory factory = new EditorComponentFactory(editorController);
       LOG.info("EditorComponentFactory created.");
+      EditorPlaytest playtest = new EditorPlaytest(editorDataAPI::snapshotLevelData,
+          DefaultGameManager::new, editorController::notifyErrorOccurred);
+      factory.setPlaytestAction(playtest::play);
 
       // 4. Build the editor scene
       Scene editorScene = factory.createEditorScene();
+      editorScene.getAccelerators().put(new KeyCodeCombination(KeyCode.F5), playtest::play);
       LOG.info("Editor scene created.");
 
       // 5. Attach scene to stage and show it
       primaryStage.setTitle("OOGA Salad Game Editor");
       primaryStage.setScene(editorScene);
+      primaryStage.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> factory.dispose());
       primaryStage.show();
       LOG.info("Primary stage configured and shown.");
 
+      // 6. Autosave in the background and offer to recover work lost in a crash
+      startAutosave(primaryStage, editorDataAPI, editorController);
+
     } catch (Exception e) {
       LOG.fatal("Failed to initialize and start Editor Application", e);
       showInitializationError(e);
@@ -74,6 +108,103 @@ public class EditorMaker {
 
   }
 
+  /**
+   * Starts the background autosave configured in the editor properties, stops it when the editor
+   * window closes, and looks for autosaves left behind by a crashed session.
+   *
+   * @param stage            the editor window
+   * @param editorDataAPI    the data the autosave takes snapshots of
+   * @param editorController the controller used to report errors and load recovered levels
+   */
+  private void startAutosave(Stage stage, EditorDataAPI editorDataAPI,
+      EditorController editorController) {
+    Properties config = editorDataAPI.getLevel().getEditorConfig();
+    int backups = (int) configLong(config, AUTOSAVE_BACKUPS_KEY, DEFAULT_AUTOSAVE_BACKUPS);
+    long seconds = configLong(config, AUTOSAVE_INTERVAL_KEY, DEFAULT_AUTOSAVE_INTERVAL_SECONDS);
+    EditorAutosave autosave = new EditorAutosave(EditorAutosave.DEFAULT_DIRECTORY,
+        new XmlStrategy(), backups);
+
+    autosave.start(editorDataAPI::snapshotLevelData, Duration.ofSeconds(seconds),
+        Platform::runLater, editorController::notifyErrorOccurred);
+    autosave.findRecoverableAsync().thenAccept(found -> {
+      if (!found.isEmpty()) {
+        Platform.runLater(() -> offerRecovery(found, autosave, editorController));
+      }
+    });
+    stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> autosave.stop());
+  }
+
+  /**
+   * Reads a whole number from the editor configuration, falling back to a default when the key is
+   * missing or its value is not a number.
+   *
+   * @param config       the editor configuration
+   * @param key          the property key
+   * @param defaultValue the value used when the property is missing or invalid
+   * @return the configured value or the default
+   */
+  private long configLong(Properties config, String key, long defaultValue) {
+    String value = config.getProperty(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      LOG.warn("Invalid number for editor config key '{}': value='{}', using default {}", key,
+          value, defaultValue);
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Asks whether to restore the newest autosave of a crashed session. The autosaves are removed
+   * afterwards either way; a restored level is autosaved again by this session.
+   *
+   * @param found            the recoverable autosaves, newest first
+   * @param autosave         the autosave service that found them
+   * @param editorController the controller used to load the recovered level
+   */
+  private void offerRecovery(List<Path> found, EditorAutosave autosave,
+      EditorController editorController) {
+    Path newest = found.get(0);
+    Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+    alert.setTitle("Recover Unsaved Work");
+    alert.setHeaderText("The editor did not close normally last time.");
+    alert.setContentText("Restore the level autosaved at "
+        + Instant.ofEpochMilli(newest.toFile().lastModified()) + "?");
+    boolean restore = alert.showAndWait().filter(ButtonType.OK::equals).isPresent();
+    CompletableFuture<Void> done = restore ? openLevel(newest.toString()).whenLoaded()
+        : CompletableFuture.completedFuture(null);
+    done.whenComplete((ignored, error) ->
+        CompletableFuture.runAsync(() -> found.forEach(autosave::discard)));
+  }
+
+  /**
+   * Opens a level file in the editor without blocking it: the file is read and its objects are
+   * built in the background while a modal dialog shows the progress and offers to cancel. Must be
+   * called on the JavaFX Application Thread after {@link #initialize(Stage)}.
+   *
+   * @param levelPath the path to the level file
+   * @return the running load
+   */
+  public LevelLoad openLevel(String levelPath) {
+    LevelLoadingDialog dialog = new LevelLoadingDialog(stage,
+        Path.of(levelPath).getFileName().toString());
+    LevelLoad load = editorController.loadLevelDataAsync(levelPath, Platform::runLater,
+        dialog::setProgress);
+    dialog.follow(load);
+    load.whenLoaded().whenComplete((ignored, error) -> {
+      if (error == null) {
+        LOG.info("Opened level {}", levelPath);
+      } else if (!(error instanceof CancellationException)) {
+        LOG.error("Failed to open level {}", levelPath, error);
+        editorController.notifyErrorOccurred("Could not open level: " + error.getMessage());
+      }
+    });
+    return load;
+  }
+
   /**
    * Displays a modal error dialog with details about a critical initialization failure.
    *
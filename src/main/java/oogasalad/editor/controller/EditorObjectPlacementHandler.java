@@ -52,10 +52,12 @@ public class EditorObjectPlacementHandler {
 
     EditorObject newObject = null;
     UUID newObjectId = null;
+    editorDataAPI.beginEditGroup("place prefab");
     try {
 
       newObject = objectPopulator.populateFromBlueprint(prefabData, worldX, worldY);
       newObjectId = newObject.getId();
+      editorDataAPI.recordObjectAdded(newObject);
 
 
 
@@ -72,6 +74,8 @@ public class EditorObjectPlacementHandler {
 
       notifier.notifyErrorOccurred("Failed to place prefab '" + prefabData.type() + "': " + e.getMessage());
       return null;
+    } finally {
+      editorDataAPI.endEditGroup();
     }
   }
 
@@ -81,10 +85,12 @@ public class EditorObjectPlacementHandler {
   public UUID placeStandardObject(String objectGroup, String objectNamePrefix, double worldX, double worldY, int cellSize) {
     LOG.info("Processing standard object placement: Group='{}', Prefix='{}', Pos=({},{})", objectGroup, objectNamePrefix, worldX, worldY);
     UUID newObjectId = null;
+    editorDataAPI.beginEditGroup("place object");
     try {
 
       EditorObject defaultObject = objectPopulator.createDefaultObject();
       newObjectId = defaultObject.getId();
+      editorDataAPI.recordObjectAdded(defaultObject);
 
 
       setInitialObjectProperties(newObjectId, objectGroup, objectNamePrefix, worldX, worldY, cellSize);
@@ -97,6 +103,8 @@ public class EditorObjectPlacementHandler {
 
       notifier.notifyErrorOccurred("Failed to place standard object: " + e.getMessage());
       return null;
+    } finally {
+      editorDataAPI.endEditGroup();
     }
   }
 
@@ -1,8 +1,6 @@
 package oogasalad.editor.controller;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import oogasalad.editor.controller.level.EditorDataAPI;
 import oogasalad.editor.model.data.object.EditorObject;
@@ -47,7 +45,8 @@ public class EditorObjectQueryHandler {
 
   /**
    * Retrieves the UUID of the highest-priority object located at the specified world coordinates.
-   * Checks object hitboxes and considers layer priority for overlapping objects.
+   * Candidates come from the level's hitbox index, ordered by layer priority for overlapping
+   * objects.
    *
    * @param worldX The world X coordinate to check.
    * @param worldY The world Y coordinate to check.
@@ -55,8 +54,7 @@ public class EditorObjectQueryHandler {
    */
   public UUID getObjectIDAt(double worldX, double worldY) {
     try {
-      List<UUID> hitCandidates = findHittingObjects(worldX, worldY);
-      sortCandidatesByLayerPriority(hitCandidates);
+      List<UUID> hitCandidates = editorDataAPI.getLevel().getObjectIdsAt(worldX, worldY);
       return hitCandidates.isEmpty() ? null : hitCandidates.get(0);
     } catch (Exception e) {
       LOG.error("Error checking object ID at ({}, {}): {}", worldX, worldY, e.getMessage(), e);
@@ -65,69 +63,39 @@ public class EditorObjectQueryHandler {
   }
 
   /**
-   * Finds all objects whose hitboxes contain the given world coordinates.
+   * Retrieves the UUIDs of all objects whose hitboxes overlap the given world rectangle.
    *
-   * @param worldX The world X coordinate.
-   * @param worldY The world Y coordinate.
-   * @return A list of UUIDs of objects hit at the specified coordinates.
+   * @param worldX The world X coordinate of the rectangle's top-left corner.
+   * @param worldY The world Y coordinate of the rectangle's top-left corner.
+   * @param width  The width of the rectangle.
+   * @param height The height of the rectangle.
+   * @return The UUIDs of the overlapping objects, or an empty list if none exist or an error occurs.
    */
-  private List<UUID> findHittingObjects(double worldX, double worldY) {
-    List<UUID> hitCandidates = new ArrayList<>();
-    Map<UUID, EditorObject> objectMap = editorDataAPI.getObjectDataMap();
-    if (objectMap == null) {
-      LOG.warn("Object data map is null, cannot find hitting objects.");
-      return hitCandidates;
-    }
-
-    for (Map.Entry<UUID, EditorObject> entry : objectMap.entrySet()) {
-      UUID id = entry.getKey();
-      EditorObject obj = entry.getValue();
-      if (objectCollidesWithPoint(obj, worldX, worldY)) {
-        hitCandidates.add(id);
-      }
-    }
-    return hitCandidates;
-  }
-
-  /**
-   * Sorts a list of object UUIDs based on their layer priority in descending order (highest priority first).
-   *
-   * @param candidates The list of UUIDs to sort.
-   */
-  private void sortCandidatesByLayerPriority(List<UUID> candidates) {
+  public List<UUID> getObjectIDsInRegion(double worldX, double worldY, double width,
+      double height) {
     try {
-      candidates.sort((a, b) ->
-          Integer.compare(editorDataAPI.getIdentityDataAPI().getLayerPriority(b),
-              editorDataAPI.getIdentityDataAPI().getLayerPriority(a))
-      );
+      return editorDataAPI.getLevel().getObjectIdsInRegion(worldX, worldY, width, height);
     } catch (Exception e) {
-      LOG.error("Error sorting candidates by layer priority: {}", e.getMessage(), e);
+      LOG.error("Error querying objects in region ({}, {}, {}, {}): {}", worldX, worldY, width,
+          height, e.getMessage(), e);
+      return List.of();
     }
   }
 
   /**
-   * Checks if an object's hitbox contains the given world coordinates.
-   * Assumes hitbox coordinates represent the top-left corner.
+   * Retrieves the UUID of the object whose hitbox is closest to the specified world coordinates.
    *
-   * @param obj    The EditorObject to check. Can be null.
-   * @param worldX The world X coordinate.
-   * @param worldY The world Y coordinate.
-   * @return true if the point is within the object's hitbox, false otherwise or if object/hitbox is null.
+   * @param worldX      The world X coordinate to check.
+   * @param worldY      The world Y coordinate to check.
+   * @param maxDistance The largest distance from the point to consider.
+   * @return The UUID of the closest object, or null if none lies within range or an error occurs.
    */
-  private boolean objectCollidesWithPoint(EditorObject obj, double worldX, double worldY) {
-    if (obj == null || obj.getHitboxData() == null) {
-      return false;
-    }
+  public UUID getNearestObjectID(double worldX, double worldY, double maxDistance) {
     try {
-      double x = obj.getHitboxData().getX();
-      double y = obj.getHitboxData().getY();
-      int width = obj.getHitboxData().getWidth();
-      int height = obj.getHitboxData().getHeight();
-
-      return (worldX >= x && worldX < x + width) && (worldY >= y && worldY < y + height);
+      return editorDataAPI.getLevel().getNearestObjectId(worldX, worldY, maxDistance);
     } catch (Exception e) {
-      LOG.error("Error checking collision for object {}: {}", obj.getId(), e.getMessage(), e);
-      return false;
+      LOG.error("Error finding nearest object to ({}, {}): {}", worldX, worldY, e.getMessage(), e);
+      return null;
     }
   }
 }
@@ -0,0 +1,63 @@
+package oogasalad.editor.controller;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import oogasalad.engine.controller.api.GameManagerAPI;
+import oogasalad.fileparser.records.LevelData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Plays the level being edited in the game engine without saving it first. The level is handed
+ * over as an in-memory {@link LevelData} snapshot, so nothing is written to disk or parsed again,
+ * and unchanged objects reuse their cached blueprints. The game window is created on the first
+ * playtest and reused afterwards: playing again hot-restarts it with the latest edits, so the
+ * designer can edit and replay in well under a second.
+ *
+ * @author Jacob You
+ */
+public class EditorPlaytest {
+
+  private static final Logger LOG = LogManager.getLogger(EditorPlaytest.class);
+
+  private final Supplier<LevelData> snapshot;
+  private final Callable<GameManagerAPI> engineFactory;
+  private final Consumer<String> onError;
+  private GameManagerAPI engine;
+
+  /**
+   * Constructs a playtest that has not opened a game window yet.
+   *
+   * @param snapshot      takes an immutable snapshot of the level being edited
+   * @param engineFactory creates the game engine, and with it the game window, on first use
+   * @param onError       called with a message when the playtest cannot be started
+   */
+  public EditorPlaytest(Supplier<LevelData> snapshot, Callable<GameManagerAPI> engineFactory,
+      Consumer<String> onError) {
+    this.snapshot = Objects.requireNonNull(snapshot);
+    this.engineFactory = Objects.requireNonNull(engineFactory);
+    this.onError = Objects.requireNonNull(onError);
+  }
+
+  /**
+   * Takes a snapshot of the level and (re)starts it in the game window. Must be called on the
+   * JavaFX Application Thread.
+   */
+  public void play() {
+    long start = System.nanoTime();
+    try {
+      LevelData levelData = snapshot.get();
+      if (engine == null) {
+        engine = engineFactory.call();
+      }
+      engine.playtest(levelData);
+      LOG.info("Playtest of level '{}' handed to the engine in {} ms", levelData.name(),
+          (System.nanoTime() - start) / 1_000_000);
+    } catch (Exception e) {
+      LOG.error("Failed to start playtest", e);
+      onError.accept("Playtest failed: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package oogasalad.editor.controller.history;
+
+import java.util.UUID;
+
+/**
+ * A single reversible change to one editor object, as recorded by {@link EditorHistory}. Edits
+ * store only what is needed to move the object between its state before and after the change,
+ * never a copy of the whole object.
+ *
+ * @author Jacob You
+ */
+public interface EditorEdit {
+
+  /**
+   * Returns the UUID of the object this edit changed.
+   *
+   * @return the affected object's UUID
+   */
+  UUID getObjectId();
+
+  /**
+   * Puts the object back into the state it was in before the edit.
+   */
+  void undo();
+
+  /**
+   * Re-applies the edit after it was undone.
+   */
+  void redo();
+
+  /**
+   * Returns a rough estimate of the heap this edit keeps alive, used to bound the history.
+   *
+   * @return the estimated size in bytes
+   */
+  long estimatedBytes();
+
+  /**
+   * Returns whether this edit adds the object to or removes it from the level, as opposed to
+   * changing one of its properties.
+   *
+   * @return true if the object appears or disappears when this edit is undone or redone
+   */
+  default boolean changesPresence() {
+    return false;
+  }
+
+  /**
+   * Returns the name of the property this edit changes, or null if it cannot be merged with later
+   * edits. Within one group, later edits of the same property of the same object are folded into
+   * the first one.
+   *
+   * @return the property name, or null
+   */
+  default String getProperty() {
+    return null;
+  }
+
+  /**
+   * Folds a later edit of the same property into this one.
+   *
+   * @param later the later edit of the same object and property
+   * @return an edit going from this edit's old value to the later edit's new value, or null if
+   * the two cannot be merged
+   */
+  default EditorEdit mergeWith(EditorEdit later) {
+    return null;
+  }
+}
@@ -0,0 +1,292 @@
+package oogasalad.editor.controller.history;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Journal of reversible editor changes backing undo and redo. Each undo step is a list of compact
+ * {@link EditorEdit} deltas. Edits recorded between {@link #beginGroup(String)} and
+ * {@link #endGroup()} form a single step, so a drag or a bulk paint is undone at once, and
+ * repeated edits of the same property inside a group are merged so a long drag costs one delta
+ * per object and property. The history is bounded by the estimated memory its steps keep alive;
+ * when it grows past the budget the oldest steps are dropped. The most recent step is always
+ * kept, even if it alone exceeds the budget.
+ * Edits are keyed by object, so only changes to objects are journaled: adding and removing them
+ * and their identity, hitbox, sprite, parameter and event data. Level-wide state that belongs to
+ * no object, such as the camera, the layer list and the sprite sheet library, is not recorded.
+ * Edits made while a step is being undone or redone are not recorded. This class is not
+ * thread-safe and is meant to be used from the JavaFX Application Thread.
+ *
+ * @author Jacob You
+ */
+public class EditorHistory {
+
+  /**
+   * The default memory budget of the history, in bytes.
+   */
+  public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+  private static final Logger LOG = LogManager.getLogger(EditorHistory.class);
+
+  private final long maxBytes;
+  private final Deque<Step> undoSteps = new ArrayDeque<>();
+  private final Deque<Step> redoSteps = new ArrayDeque<>();
+  private long retainedBytes;
+  private Step openGroup;
+  private int groupDepth;
+  private boolean applying;
+  private Consumer<UUID> changeListener = id -> {
+  };
+
+  /**
+   * Constructs a history with the {@link #DEFAULT_MAX_BYTES default} memory budget.
+   */
+  public EditorHistory() {
+    this(DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * Constructs a history with the given memory budget.
+   *
+   * @param maxBytes the estimated number of bytes the recorded steps may keep alive
+   * @throws IllegalArgumentException if maxBytes is not positive
+   */
+  public EditorHistory(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("History budget must be positive: " + maxBytes);
+    }
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Sets the callback told about every object a recorded change, undo or redo touches.
+   *
+   * @param listener called with the UUID of each changed object
+   */
+  public void setChangeListener(Consumer<UUID> listener) {
+    this.changeListener = Objects.requireNonNull(listener, "Listener cannot be null.");
+  }
+
+  /**
+   * Records an edit that has already been applied. Discards everything that could be redone.
+   *
+   * @param edit the applied edit
+   */
+  public void record(EditorEdit edit) {
+    Objects.requireNonNull(edit, "Edit cannot be null.");
+    if (applying) {
+      return;
+    }
+    clearRedo();
+    if (openGroup != null) {
+      openGroup.add(edit);
+      return;
+    }
+    Step step = new Step(edit.getProperty());
+    step.add(edit);
+    push(step);
+  }
+
+  /**
+   * Applies a property change and records it if the value actually changed.
+   *
+   * @param id       the UUID of the object to change
+   * @param property the name of the property, unique per setter
+   * @param before   the current value of the property
+   * @param after    the new value of the property
+   * @param setter   writes a value of the property onto the object with the given UUID
+   * @param <T>      the type of the property
+   */
+  public <T> void change(UUID id, String property, T before, T after, BiConsumer<UUID, T> setter) {
+    setter.accept(id, after);
+    if (!Objects.equals(before, after)) {
+      changeListener.accept(id);
+      record(new PropertyEdit<>(id, property, before, after, setter));
+    }
+  }
+
+  /**
+   * Starts collecting edits into a single undo step. Groups may be nested; only the outermost
+   * group forms a step.
+   *
+   * @param label a short description of the step, used for logging
+   */
+  public void beginGroup(String label) {
+    if (groupDepth++ == 0) {
+      openGroup = new Step(label);
+    }
+  }
+
+  /**
+   * Closes the group opened by the matching {@link #beginGroup(String)}. When the outermost
+   * group closes, its edits become one undo step; an empty group records nothing.
+   */
+  public void endGroup() {
+    if (groupDepth == 0) {
+      LOG.warn("endGroup called without a matching beginGroup.");
+      return;
+    }
+    if (--groupDepth == 0) {
+      Step step = openGroup;
+      openGroup = null;
+      if (!step.edits.isEmpty()) {
+        push(step);
+      }
+    }
+  }
+
+  /**
+   * Returns whether there is a step to undo.
+   *
+   * @return true if {@link #undo()} would change something
+   */
+  public boolean canUndo() {
+    return !undoSteps.isEmpty() || (openGroup != null && !openGroup.edits.isEmpty());
+  }
+
+  /**
+   * Returns whether there is a step to redo.
+   *
+   * @return true if {@link #redo()} would change something
+   */
+  public boolean canRedo() {
+    return !redoSteps.isEmpty();
+  }
+
+  /**
+   * Undoes the most recent step, closing any open group first.
+   *
+   * @return the edits that were reverted, in the order they were reverted; empty if there was
+   * nothing to undo
+   */
+  public List<EditorEdit> undo() {
+    closeOpenGroups();
+    Step step = undoSteps.pollLast();
+    if (step == null) {
+      return List.of();
+    }
+    List<EditorEdit> reverted = new ArrayList<>(step.edits);
+    Collections.reverse(reverted);
+    apply(reverted, EditorEdit::undo);
+    redoSteps.addLast(step);
+    LOG.debug("Undid '{}' ({} edits)", step.label, reverted.size());
+    return Collections.unmodifiableList(reverted);
+  }
+
+  /**
+   * Redoes the most recently undone step.
+   *
+   * @return the edits that were re-applied, in order; empty if there was nothing to redo
+   */
+  public List<EditorEdit> redo() {
+    closeOpenGroups();
+    Step step = redoSteps.pollLast();
+    if (step == null) {
+      return List.of();
+    }
+    apply(step.edits, EditorEdit::redo);
+    undoSteps.addLast(step);
+    LOG.debug("Redid '{}' ({} edits)", step.label, step.edits.size());
+    return Collections.unmodifiableList(step.edits);
+  }
+
+  /**
+   * Forgets every recorded step, for example after a new level is loaded.
+   */
+  public void clear() {
+    undoSteps.clear();
+    redoSteps.clear();
+    openGroup = groupDepth > 0 ? new Step(openGroup.label) : null;
+    retainedBytes = 0;
+  }
+
+  /**
+   * Returns the estimated number of bytes kept alive by the recorded steps.
+   *
+   * @return the estimated size of the history in bytes
+   */
+  public long getRetainedBytes() {
+    return retainedBytes;
+  }
+
+  private void apply(List<EditorEdit> edits, Consumer<EditorEdit> action) {
+    applying = true;
+    try {
+      for (EditorEdit edit : edits) {
+        action.accept(edit);
+        changeListener.accept(edit.getObjectId());
+      }
+    } finally {
+      applying = false;
+    }
+  }
+
+  private void closeOpenGroups() {
+    if (groupDepth > 0) {
+      groupDepth = 1;
+      endGroup();
+    }
+  }
+
+  private void push(Step step) {
+    undoSteps.addLast(step);
+    retainedBytes += step.bytes;
+    while (retainedBytes > maxBytes && undoSteps.size() > 1) {
+      Step dropped = undoSteps.pollFirst();
+      retainedBytes -= dropped.bytes;
+      LOG.debug("Dropped oldest undo step '{}' to stay within {} bytes", dropped.label, maxBytes);
+    }
+  }
+
+  private void clearRedo() {
+    for (Step step : redoSteps) {
+      retainedBytes -= step.bytes;
+    }
+    redoSteps.clear();
+  }
+
+  /**
+   * One undo step: the edits it is made of, with later edits of a property merged into the
+   * first edit of that property.
+   */
+  private static final class Step {
+
+    private final String label;
+    private final List<EditorEdit> edits = new ArrayList<>();
+    private final Map<UUID, Map<String, Integer>> positions = new HashMap<>();
+    private long bytes;
+
+    private Step(String label) {
+      this.label = label;
+    }
+
+    private void add(EditorEdit edit) {
+      UUID id = edit.getObjectId();
+      if (edit.changesPresence()) {
+        positions.remove(id);
+      } else if (edit.getProperty() != null) {
+        Map<String, Integer> properties = positions.computeIfAbsent(id, k -> new HashMap<>());
+        Integer index = properties.get(edit.getProperty());
+        EditorEdit merged = index == null ? null : edits.get(index).mergeWith(edit);
+        if (merged != null) {
+          bytes += merged.estimatedBytes() - edits.get(index).estimatedBytes();
+          edits.set(index, merged);
+          return;
+        }
+        properties.put(edit.getProperty(), edits.size());
+      }
+      edits.add(edit);
+      bytes += edit.estimatedBytes();
+    }
+  }
+}
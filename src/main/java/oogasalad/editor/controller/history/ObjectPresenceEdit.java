@@ -0,0 +1,110 @@
+package oogasalad.editor.controller.history;
+
+import java.util.Objects;
+import java.util.UUID;
+import oogasalad.editor.model.data.EditorLevelData;
+import oogasalad.editor.model.data.Layer;
+import oogasalad.editor.model.data.object.EditorObject;
+
+/**
+ * Records an editor object being added to or removed from the level. The edit keeps the object
+ * instance itself rather than a copy: while the object is in the level this costs only a
+ * reference, and once it is removed the journal is what keeps it alive so it can be restored
+ * exactly, including every later property edit that refers to it by UUID.
+ *
+ * @author Jacob You
+ */
+public class ObjectPresenceEdit implements EditorEdit {
+
+  private static final long EDIT_BYTES = 64;
+  private static final long RETAINED_OBJECT_BYTES = 2048;
+
+  private final EditorLevelData level;
+  private final EditorObject object;
+  private final Layer layer;
+  private final boolean added;
+
+  private ObjectPresenceEdit(EditorLevelData level, EditorObject object, boolean added) {
+    this.level = Objects.requireNonNull(level, "Level cannot be null.");
+    this.object = Objects.requireNonNull(object, "Object cannot be null.");
+    this.layer = object.getIdentityData() == null ? null : object.getIdentityData().getLayer();
+    this.added = added;
+  }
+
+  /**
+   * Creates an edit recording that the object was just added to the level.
+   *
+   * @param level  the level the object was added to
+   * @param object the added object
+   * @return the edit
+   */
+  public static ObjectPresenceEdit added(EditorLevelData level, EditorObject object) {
+    return new ObjectPresenceEdit(level, object, true);
+  }
+
+  /**
+   * Creates an edit recording that the object was just removed from the level.
+   *
+   * @param level  the level the object was removed from
+   * @param object the removed object
+   * @return the edit
+   */
+  public static ObjectPresenceEdit removed(EditorLevelData level, EditorObject object) {
+    return new ObjectPresenceEdit(level, object, false);
+  }
+
+  @Override
+  public UUID getObjectId() {
+    return object.getId();
+  }
+
+  @Override
+  public void undo() {
+    if (added) {
+      remove();
+    } else {
+      restore();
+    }
+  }
+
+  @Override
+  public void redo() {
+    if (added) {
+      restore();
+    } else {
+      remove();
+    }
+  }
+
+  /**
+   * Estimates an added object as a reference and a removed one as the object it keeps alive.
+   *
+   * @return the estimated size in bytes
+   */
+  @Override
+  public long estimatedBytes() {
+    return added ? EDIT_BYTES : EDIT_BYTES + RETAINED_OBJECT_BYTES;
+  }
+
+  @Override
+  public boolean changesPresence() {
+    return true;
+  }
+
+  private void remove() {
+    level.removeObjectById(object.getId());
+    Layer current = object.getIdentityData() == null ? layer : object.getIdentityData().getLayer();
+    if (current != null) {
+      level.removeObjectFromLayer(current, object);
+    }
+  }
+
+  private void restore() {
+    Layer target = layer != null && level.getLayers().contains(layer) ? layer
+        : level.getFirstLayer();
+    if (object.getIdentityData() != null && target != layer) {
+      object.getIdentityData().setLayer(target);
+    }
+    level.registerObject(object, target);
+  }
+}
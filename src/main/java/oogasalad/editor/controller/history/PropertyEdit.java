@@ -0,0 +1,84 @@
+package oogasalad.editor.controller.history;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Records a change of one property of an editor object as its old and new value, together with
+ * the setter that writes the property. Values are kept by reference, so an edit costs a few dozen
+ * bytes regardless of how large the object is.
+ *
+ * @param objectId the UUID of the changed object
+ * @param property the name of the changed property, unique per setter
+ * @param before   the value before the change
+ * @param after    the value after the change
+ * @param setter   writes a value of the property onto the object with the given UUID
+ * @param <T>      the type of the property
+ * @author Jacob You
+ */
+public record PropertyEdit<T>(UUID objectId, String property, T before, T after,
+                              BiConsumer<UUID, T> setter) implements EditorEdit {
+
+  private static final long EDIT_BYTES = 48;
+  private static final long BOXED_VALUE_BYTES = 16;
+  private static final long STRING_BYTES = 40;
+  private static final long REFERENCED_VALUE_BYTES = 64;
+
+  /**
+   * Validates the edit's components.
+   */
+  public PropertyEdit {
+    Objects.requireNonNull(objectId, "Object ID cannot be null.");
+    Objects.requireNonNull(property, "Property cannot be null.");
+    Objects.requireNonNull(setter, "Setter cannot be null.");
+  }
+
+  @Override
+  public UUID getObjectId() {
+    return objectId;
+  }
+
+  @Override
+  public void undo() {
+    setter.accept(objectId, before);
+  }
+
+  @Override
+  public void redo() {
+    setter.accept(objectId, after);
+  }
+
+  @Override
+  public long estimatedBytes() {
+    return EDIT_BYTES + sizeOf(before) + sizeOf(after);
+  }
+
+  @Override
+  public String getProperty() {
+    return property;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public EditorEdit mergeWith(EditorEdit later) {
+    if (!(later instanceof PropertyEdit<?> next) || !objectId.equals(next.objectId())
+        || !property.equals(next.property())) {
+      return null;
+    }
+    return new PropertyEdit<>(objectId, property, before, (T) next.after(), setter);
+  }
+
+  private static long sizeOf(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String text) {
+      return STRING_BYTES + 2L * text.length();
+    }
+    if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+      return BOXED_VALUE_BYTES;
+    }
+    return REFERENCED_VALUE_BYTES;
+  }
+}
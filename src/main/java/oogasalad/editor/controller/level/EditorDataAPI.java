@@ -1,7 +1,9 @@
 package oogasalad.editor.controller.level;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -9,9 +11,19 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import oogasalad.editor.controller.asset.SpriteSheetDataManager;
+import oogasalad.editor.controller.history.EditorEdit;
+import oogasalad.editor.controller.history.EditorHistory;
+import oogasalad.editor.controller.history.ObjectPresenceEdit;
 import oogasalad.editor.controller.listeners.EditorListenerNotifier;
 import oogasalad.editor.controller.object.CollisionDataManager;
 import oogasalad.editor.controller.object.CustomEventDataManager;
@@ -29,11 +41,13 @@ import oogasalad.editor.model.data.object.DynamicVariableContainer;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.sprite.SpriteTemplate;
 import oogasalad.editor.model.loader.LevelDataConverter;
+import oogasalad.editor.model.loader.LevelLoadMonitor;
 import oogasalad.editor.model.saver.api.EditorFileConverterAPI;
 import oogasalad.exceptions.EditorLoadException;
 import oogasalad.exceptions.EditorSaveException;
 import oogasalad.fileparser.DefaultFileParser;
 import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.records.LevelData;
 import oogasalad.filesaver.savestrategy.SaverStrategy;
 import oogasalad.filesaver.savestrategy.XmlStrategy;
 import org.apache.logging.log4j.LogManager;
@@ -44,7 +58,9 @@ import org.apache.logging.log4j.Logger;
  * data managers and the core {@link EditorLevelData}. It handles operations related to editor
  * objects (creation, retrieval, update, removal), layers, groups, sprite assets (sheets,
  * templates), camera settings, custom object parameters, and level saving/loading integration. This
- * API simplifies interaction with the editor's data model for the controller layer.
+ * API simplifies interaction with the editor's data model for the controller layer. Object
+ * changes made through it and its object data managers, including event data, are journaled in
+ * an {@link EditorHistory} for undo and redo; camera and layer settings are not.
  *
  * @author Jacob You
  */
@@ -54,6 +70,11 @@ public class EditorDataAPI {
   private static final FileParserApi DEFAULT_FILE_PARSER = new DefaultFileParser();
   private static final SaverStrategy DEFAULT_SAVER_STRATEGY = new XmlStrategy();
   private static final String GAME_PATH = "data/gameData";
+  private static final Executor LEVEL_LOADER = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "editor-level-loader");
+    thread.setDaemon(true);
+    return thread;
+  });
 
 
   private final IdentityDataManager identityAPI;
@@ -72,6 +93,7 @@ public class EditorDataAPI {
   private final SaverStrategy saverStrategy;
   private final LevelDataConverter levelDataConverter;
   private final EditorListenerNotifier listenerNotifier;
+  private final EditorHistory history;
   private String currentGameName;
 
   /**
@@ -90,13 +112,15 @@ public class EditorDataAPI {
     this.listenerNotifier = Objects.requireNonNull(listenerNotifier,
         "ListenerNotifier cannot be null");
     this.level = new EditorLevelData();
-    this.identityAPI = new IdentityDataManager(level); // Handles identity + parameters
-    this.hitboxAPI = new HitboxDataManager(level);
-    this.inputAPI = new InputDataManager(level);
-    this.physicsAPI = new PhysicsDataManager(level);
-    this.collisionAPI = new CollisionDataManager(level);
-    this.spriteAPI = new SpriteDataManager(level, listenerNotifier);
-    this.customEventAPI = new CustomEventDataManager(level);
+    this.history = new EditorHistory();
+    history.setChangeListener(level::objectChanged);
+    this.identityAPI = new IdentityDataManager(level, history); // Handles identity + parameters
+    this.hitboxAPI = new HitboxDataManager(level, history);
+    this.inputAPI = new InputDataManager(level, history);
+    this.physicsAPI = new PhysicsDataManager(level, history);
+    this.collisionAPI = new CollisionDataManager(level, history);
+    this.spriteAPI = new SpriteDataManager(level, listenerNotifier, history);
+    this.customEventAPI = new CustomEventDataManager(level, history);
     this.cameraAPI = new CameraDataManager(level);
     this.dynamicVariableContainer = new DynamicVariableContainer(); // Still exists but not used for object params
     this.spriteSheetAPI = new SpriteSheetDataManager(level, saverStrategy, fileParserAPI);
@@ -113,6 +137,7 @@ public class EditorDataAPI {
    */
   public UUID createEditorObject() {
     UUID newId = level.createEditorObject();
+    history.record(ObjectPresenceEdit.added(level, level.getEditorObject(newId)));
     LOG.debug("Created new EditorObject via EditorLevelData, ID: {}", newId);
     return newId;
   }
@@ -143,6 +168,7 @@ public class EditorDataAPI {
     EditorObject removedObject = level.removeObjectById(id);
 
     if (removedObject != null) {
+      history.record(ObjectPresenceEdit.removed(level, removedObject));
       Layer objectLayer = removedObject.getIdentityData().getLayer();
       if (objectLayer != null) {
         boolean removedFromLayer = level.removeObjectFromLayer(objectLayer, removedObject);
@@ -158,6 +184,112 @@ public class EditorDataAPI {
     return false;
   }
 
+  /**
+   * Removes many editor objects in one bulk operation on the level, recording each removal for
+   * undo. Intended to be called inside a transaction so listeners hear about the removals once.
+   *
+   * @param ids the unique identifiers of the objects to remove. Must not be null.
+   * @return the IDs of the objects that were found and removed
+   */
+  public List<UUID> removeEditorObjects(Collection<UUID> ids) {
+    Objects.requireNonNull(ids, "Object IDs cannot be null for removal.");
+    List<UUID> removedIds = new ArrayList<>();
+    for (EditorObject removed : level.removeObjects(ids)) {
+      history.record(ObjectPresenceEdit.removed(level, removed));
+      removedIds.add(removed.getId());
+    }
+    LOG.debug("Removed {} of {} requested objects in bulk.", removedIds.size(), ids.size());
+    return removedIds;
+  }
+
+  /**
+   * Begins a transaction. Until the matching {@link #commitTransaction()}, every object change is
+   * collected into a single undo step, and object added, removed and updated notifications are
+   * held back. Transactions may be nested; only the outermost commit takes effect.
+   *
+   * @param label a short description of the transaction, used for the undo step
+   */
+  public void beginTransaction(String label) {
+    LOG.debug("Beginning transaction '{}'.", label);
+    history.beginGroup(label);
+    listenerNotifier.beginBatch();
+  }
+
+  /**
+   * Commits the transaction opened by the matching {@link #beginTransaction(String)}: closes its
+   * undo step and sends every held-back change to listeners as one aggregated event. Call it from
+   * a {@code finally} block so a failing mutation still ends the transaction.
+   */
+  public void commitTransaction() {
+    history.endGroup();
+    listenerNotifier.endBatch();
+  }
+
+  /**
+   * Records that an object built outside this API, for example from a prefab, was just added to
+   * the level, so that adding it can be undone.
+   *
+   * @param object the object that was added. Must not be null.
+   */
+  public void recordObjectAdded(EditorObject object) {
+    Objects.requireNonNull(object, "Added object cannot be null.");
+    history.record(ObjectPresenceEdit.added(level, object));
+  }
+
+  /**
+   * Starts collecting object changes into a single undo step, such as all placements of one drag.
+   * Every call must be matched by a call to {@link #endEditGroup()}.
+   *
+   * @param label a short description of the step
+   */
+  public void beginEditGroup(String label) {
+    history.beginGroup(label);
+  }
+
+  /**
+   * Closes the undo step opened by the matching {@link #beginEditGroup(String)}.
+   */
+  public void endEditGroup() {
+    history.endGroup();
+  }
+
+  /**
+   * Reverts the most recent undo step.
+   *
+   * @return the edits that were reverted, in the order they were reverted; empty if there was
+   * nothing to undo
+   */
+  public List<EditorEdit> undo() {
+    return history.undo();
+  }
+
+  /**
+   * Re-applies the most recently undone step.
+   *
+   * @return the edits that were re-applied, in order; empty if there was nothing to redo
+   */
+  public List<EditorEdit> redo() {
+    return history.redo();
+  }
+
+  /**
+   * Returns whether there is a change that can be undone.
+   *
+   * @return true if {@link #undo()} would change something
+   */
+  public boolean canUndo() {
+    return history.canUndo();
+  }
+
+  /**
+   * Returns whether there is an undone change that can be redone.
+   *
+   * @return true if {@link #redo()} would change something
+   */
+  public boolean canRedo() {
+    return history.canRedo();
+  }
+
   /**
    * Updates an existing editor object with new data provided in the {@code updatedObject}. The
    * object is identified by the ID within {@code updatedObject}.
@@ -462,6 +594,17 @@ public class EditorDataAPI {
     fileConverterAPI.saveEditorDataToFile(level, fileName, saverStrategy);
   }
 
+  /**
+   * Takes a snapshot of the current level in the form it is saved in. Must be called on the JavaFX
+   * Application Thread; the returned {@link LevelData} is immutable and may then be written out on
+   * any thread.
+   *
+   * @return a snapshot of the current level
+   */
+  public LevelData snapshotLevelData() {
+    return fileConverterAPI.buildLevelData(level);
+  }
+
   /**
    * Returns the {@link CameraDataManager} for interacting with the level's camera data.
    *
@@ -482,10 +625,53 @@ public class EditorDataAPI {
    * @throws EditorLoadException if an error occurs during file loading or parsing
    */
   public void loadLevelData(String fileName) throws EditorLoadException {
-    levelDataConverter.loadLevelData(this, level, fileConverterAPI, fileName);
-    getObjectDataMap().forEach((key, value) -> {
-      listenerNotifier.notifyObjectAdded(key);
-    });
+    finishLoad(levelDataConverter.prepareLevelData(this, level, fileConverterAPI, fileName,
+        LevelLoadMonitor.NONE));
+  }
+
+  /**
+   * Loads level data like {@link #loadLevelData(String)}, but reads the file and builds the
+   * objects on a background thread, converting independent objects in parallel. The level is left
+   * untouched until everything is ready; then the finished objects are added on the JavaFX
+   * Application Thread in a single hand-off and listeners are notified once. The level must not be
+   * edited while the load runs, for example by showing a modal progress dialog.
+   *
+   * @param fileName   the path to the level file to load
+   * @param fxThread   runs a task on the JavaFX Application Thread, e.g. Platform::runLater
+   * @param onProgress called on the JavaFX Application Thread with the fraction of objects loaded
+   * @return the running load, which can be cancelled and tells when the level has been loaded
+   */
+  public LevelLoad loadLevelDataAsync(String fileName, Consumer<Runnable> fxThread,
+      DoubleConsumer onProgress) {
+    LevelLoad load = new LevelLoad(fxThread, onProgress);
+    CompletableFuture.supplyAsync(() -> {
+      try {
+        return levelDataConverter.prepareLevelData(this, level, fileConverterAPI, fileName, load);
+      } catch (EditorLoadException e) {
+        throw new CompletionException(e);
+      }
+    }, LEVEL_LOADER).whenComplete((prepared, error) -> fxThread.accept(() -> {
+      if (error != null) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        LOG.warn("Loading level {} stopped: {}", fileName, cause.getMessage());
+        load.fail(cause);
+      } else if (load.isCancelled()) {
+        LOG.info("Loading level {} was cancelled", fileName);
+        load.fail(new CancellationException("Level loading was cancelled"));
+      } else {
+        finishLoad(prepared);
+        load.complete();
+      }
+    }));
+    return load;
+  }
+
+  // Hands a prepared level over to the editor: adds its objects, forgets the undo history of the
+  // previous level and notifies listeners once.
+  private void finishLoad(LevelDataConverter.PreparedLevel prepared) {
+    levelDataConverter.applyLevelData(level, prepared);
+    history.clear();
+    listenerNotifier.notifyObjectsLoaded(List.copyOf(getObjectDataMap().keySet()));
   }
 
   /**
@@ -545,6 +731,26 @@ public class EditorDataAPI {
     return level.getObjectsSortedByLayerPriority();
   }
 
+  /**
+   * Returns the layers that currently hold objects, in the order the editor canvas draws them.
+   *
+   * @return the layers from the highest priority to the lowest
+   */
+  public List<Layer> getRenderLayers() {
+    return level.getRenderLayers();
+  }
+
+  /**
+   * Puts the given object IDs into the order the editor canvas draws them, using the render order
+   * maintained by {@link EditorLevelData}.
+   *
+   * @param ids the object IDs to order, typically the ones currently visible
+   * @return a new list with the known IDs in render order
+   */
+  public List<UUID> sortByRenderOrder(Collection<UUID> ids) {
+    return level.sortByRenderOrder(ids);
+  }
+
   /**
    * Returns all objects on a specific layer.
    * This is useful for operations that need to manipulate or select objects from a particular layer.
@@ -0,0 +1,88 @@
+package oogasalad.editor.controller.level;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import oogasalad.editor.model.loader.LevelLoadMonitor;
+
+/**
+ * A level being loaded into the editor in the background, started by
+ * {@link EditorDataAPI#loadLevelDataAsync(String, Consumer, DoubleConsumer)}. Progress updates are
+ * coalesced so the JavaFX Application Thread receives at most one pending update at a time, however
+ * fast objects are converted. Cancelling stops the background work early and leaves the editor's
+ * level untouched, as long as the finished level has not been handed over yet.
+ *
+ * @author Jacob You
+ */
+public class LevelLoad implements LevelLoadMonitor {
+
+  private final Consumer<Runnable> fxThread;
+  private final DoubleConsumer onProgress;
+  private final AtomicBoolean progressPending = new AtomicBoolean();
+  private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+  private volatile double progress;
+  private volatile boolean cancelled;
+
+  /**
+   * Constructs a load that has not made any progress yet.
+   *
+   * @param fxThread   runs a task on the JavaFX Application Thread, e.g. Platform::runLater
+   * @param onProgress called on the JavaFX Application Thread with the fraction of objects loaded
+   */
+  LevelLoad(Consumer<Runnable> fxThread, DoubleConsumer onProgress) {
+    this.fxThread = Objects.requireNonNull(fxThread);
+    this.onProgress = Objects.requireNonNull(onProgress);
+  }
+
+  /**
+   * Asks the load to stop. Has no effect once the level has been handed over to the editor.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public void progress(int done, int total) {
+    progress = total == 0 ? 1.0 : (double) done / total;
+    if (progressPending.compareAndSet(false, true)) {
+      fxThread.accept(() -> {
+        progressPending.set(false);
+        onProgress.accept(progress);
+      });
+    }
+  }
+
+  /**
+   * @return the fraction of the level's objects converted so far, from 0 to 1
+   */
+  public double getProgress() {
+    return progress;
+  }
+
+  /**
+   * Returns a future completed on the JavaFX Application Thread once the level has been added to
+   * the editor, or completed exceptionally with an
+   * {@link oogasalad.exceptions.EditorLoadException} if the file could not be read or a
+   * {@link java.util.concurrent.CancellationException} if the load was cancelled.
+   *
+   * @return the future of this load
+   */
+  public CompletableFuture<Void> whenLoaded() {
+    return loaded;
+  }
+
+  void complete() {
+    loaded.complete(null);
+  }
+
+  void fail(Throwable error) {
+    loaded.completeExceptionally(error);
+  }
+}
@@ -1,5 +1,9 @@
 package oogasalad.editor.controller.listeners;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import oogasalad.editor.view.EditorViewListener;
@@ -9,6 +13,9 @@ import org.apache.logging.log4j.Logger;
 /**
  * Manages and notifies EditorViewListeners about changes in the editor state. This class
  * centralizes notification logic, decoupling it from the main controller.
+ * Between {@link #beginBatch()} and {@link #endBatch()}, object added, removed and updated
+ * notifications are collected instead of sent, and the outermost {@code endBatch} sends them as a
+ * single {@link EditorViewListener#onObjectsChanged} event.
  *
  * @author Tatum McKinnis, Jacob You
  */
@@ -16,6 +23,10 @@ public class EditorListenerNotifier {
 
   private static final Logger LOG = LogManager.getLogger(EditorListenerNotifier.class);
   private final CopyOnWriteArrayList<EditorViewListener> viewListeners = new CopyOnWriteArrayList<>();
+  private final Set<UUID> pendingAdded = new LinkedHashSet<>();
+  private final Set<UUID> pendingRemoved = new LinkedHashSet<>();
+  private final Set<UUID> pendingUpdated = new LinkedHashSet<>();
+  private int batchDepth;
 
   /**
    * Registers a new view listener if it is not already registered and is not null.
@@ -48,16 +59,45 @@ public class EditorListenerNotifier {
    * @param objectId the UUID of the object that was added.
    */
   public void notifyObjectAdded(UUID objectId) {
+    synchronized (this) {
+      if (batchDepth > 0) {
+        if (pendingRemoved.remove(objectId)) {
+          pendingUpdated.add(objectId);
+        } else {
+          pendingAdded.add(objectId);
+        }
+        return;
+      }
+    }
     LOG.debug("Notifying listeners: Object added {}", objectId);
     viewListeners.forEach(listener -> listener.onObjectAdded(objectId));
   }
 
+  /**
+   * Notifies all registered view listeners that a level's objects have been loaded in bulk.
+   *
+   * @param objectIds the UUIDs of every loaded object.
+   */
+  public void notifyObjectsLoaded(Collection<UUID> objectIds) {
+    LOG.debug("Notifying listeners: {} objects loaded", objectIds.size());
+    viewListeners.forEach(listener -> listener.onObjectsLoaded(objectIds));
+  }
+
   /**
    * Notifies all registered view listeners that an object has been removed.
    *
    * @param objectId the UUID of the object that was removed.
    */
   public void notifyObjectRemoved(UUID objectId) {
+    synchronized (this) {
+      if (batchDepth > 0) {
+        pendingUpdated.remove(objectId);
+        if (!pendingAdded.remove(objectId)) {
+          pendingRemoved.add(objectId);
+        }
+        return;
+      }
+    }
     LOG.debug("Notifying listeners: Object removed {}", objectId);
     viewListeners.forEach(listener -> {
       listener.onObjectRemoved(objectId);
@@ -70,10 +110,59 @@ public class EditorListenerNotifier {
    * @param objectId the UUID of the object that was updated.
    */
   public void notifyObjectUpdated(UUID objectId) {
+    synchronized (this) {
+      if (batchDepth > 0) {
+        if (!pendingAdded.contains(objectId) && !pendingRemoved.contains(objectId)) {
+          pendingUpdated.add(objectId);
+        }
+        return;
+      }
+    }
     LOG.debug("Notifying listeners: Object updated {}", objectId);
     viewListeners.forEach(listener -> listener.onObjectUpdated(objectId));
   }
 
+  /**
+   * Starts collecting object added, removed and updated notifications instead of sending them.
+   * Batches may be nested; every call must be matched by a call to {@link #endBatch()}.
+   */
+  public synchronized void beginBatch() {
+    batchDepth++;
+  }
+
+  /**
+   * Closes the batch opened by the matching {@link #beginBatch()}. When the outermost batch
+   * closes, every collected change is sent to the listeners as one
+   * {@link EditorViewListener#onObjectsChanged} event, with an object added and then removed in
+   * the same batch left out entirely.
+   */
+  public void endBatch() {
+    List<UUID> added;
+    List<UUID> removed;
+    List<UUID> updated;
+    synchronized (this) {
+      if (batchDepth == 0) {
+        LOG.warn("endBatch called without a matching beginBatch.");
+        return;
+      }
+      if (--batchDepth > 0) {
+        return;
+      }
+      added = List.copyOf(pendingAdded);
+      removed = List.copyOf(pendingRemoved);
+      updated = List.copyOf(pendingUpdated);
+      pendingAdded.clear();
+      pendingRemoved.clear();
+      pendingUpdated.clear();
+    }
+    if (added.isEmpty() && removed.isEmpty() && updated.isEmpty()) {
+      return;
+    }
+    LOG.debug("Notifying listeners: {} objects added, {} removed, {} updated", added.size(),
+        removed.size(), updated.size());
+    viewListeners.forEach(listener -> listener.onObjectsChanged(added, removed, updated));
+  }
+
   /**
    * Notifies all registered view listeners that the currently selected object has changed.
    *
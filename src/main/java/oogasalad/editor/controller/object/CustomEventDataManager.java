@@ -1,6 +1,7 @@
 package oogasalad.editor.controller.object;
 
 import java.util.UUID;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.event.AbstractEventMapData;
@@ -20,9 +21,10 @@ public class CustomEventDataManager extends EditorEventDataManager {
    * constructor for custom event data manager
    *
    * @param level the level to be created within the editor
+   * @param history the journal every change is recorded in
    */
-  public CustomEventDataManager(EditorLevelData level) {
-    super(level);
+  public CustomEventDataManager(EditorLevelData level, EditorHistory history) {
+    super(level, history, "custom");
   }
 
   /**
@@ -33,9 +35,6 @@ public class CustomEventDataManager extends EditorEventDataManager {
    * @param event    The event to set.
    */
   public void setEvent(UUID objectId, String eventId, EditorEvent event) {
-    EditorObject object = getObjectById(objectId);
-    if (object != null) {
-      object.getCustomEventData().setEvent(eventId, event);
-    }
+    replaceEvent(objectId, eventId, event);
   }
 }
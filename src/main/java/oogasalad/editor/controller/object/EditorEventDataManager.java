@@ -1,9 +1,13 @@
 package oogasalad.editor.controller.object;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.event.AbstractEventMapData;
@@ -16,6 +20,8 @@ import org.apache.logging.log4j.Logger;
  * Abstract class for managing event data (conditions, outcomes, and their parameters) associated
  * with {@link EditorObject}s. Sub‑classes decide which concrete {@link AbstractEventMapData} container
  * (e.g. input, collision, timer, etc.) is used to hold the event data for an editor object.
+ * Every change is recorded in the editor's {@link EditorHistory} as the changed event's contents
+ * before and after, so it can be undone. Events are mutable, so the history keeps copies of them.
  *
  * @author Jacob You
  */
@@ -24,14 +30,26 @@ public abstract class EditorEventDataManager {
   private static final Logger LOG = LogManager.getLogger(EditorEventDataManager.class);
 
   private final EditorLevelData level;
+  private final EditorHistory history;
+  private final String historyName;
+  private final BiConsumer<UUID, List<String>> orderSetter = (id, order) -> {
+    List<String> events = level.getEditorObject(id).getEventData().getEvents();
+    events.clear();
+    events.addAll(order);
+  };
 
   /**
    * Constructs a manager for the supplied level.
    *
-   * @param level the level whose objects' events are being managed
+   * @param level       the level whose objects' events are being managed
+   * @param history     the journal every change is recorded in
+   * @param historyName prefixes the history's property names, unique per manager
    */
-  protected EditorEventDataManager(EditorLevelData level) {
+  protected EditorEventDataManager(EditorLevelData level, EditorHistory history,
+      String historyName) {
     this.level = level;
+    this.history = Objects.requireNonNull(history, "EditorHistory cannot be null");
+    this.historyName = historyName;
   }
 
   /**
@@ -105,8 +123,7 @@ public abstract class EditorEventDataManager {
    * @param eventId  the identifier for the new event
    */
   public void addEvent(UUID objectId, String eventId) {
-    EditorObject object = getObject(objectId);
-    createDataIfAbsent(object).addEvent(eventId, new EditorEvent());
+    replaceEvent(objectId, eventId, new EditorEvent());
     LOG.debug("Added event '{}' for object {}", eventId, objectId);
   }
 
@@ -118,9 +135,9 @@ public abstract class EditorEventDataManager {
    * @return
    */
   public boolean removeEvent(UUID objectId, String eventId) {
-    EditorObject object = getObject(objectId);
-    boolean removed = createDataIfAbsent(object).removeEvent(eventId);
+    boolean removed = createDataIfAbsent(getObject(objectId)).getEvent(eventId) != null;
     if (removed) {
+      replaceEvent(objectId, eventId, null);
       LOG.debug("Removed event '{}' for object {}", eventId, objectId);
     } else {
       LOG.warn("Attempted to remove non‑existent event '{}' for object {}", eventId, objectId);
@@ -145,7 +162,7 @@ public abstract class EditorEventDataManager {
    * @param eventId  the identifier of the event to update
    */
   public void addConditionGroup(UUID objectId, String eventId) {
-    getEvent(objectId, eventId).addConditionGroup();
+    changeEvent(objectId, eventId, EditorEvent::addConditionGroup);
     LOG.debug("Added empty condition group to event '{}' for object {}", eventId, objectId);
   }
 
@@ -158,9 +175,10 @@ public abstract class EditorEventDataManager {
    * @param type       the condition type to add (as a String)
    */
   public void addEventCondition(UUID objectId, String eventId, int groupIndex, String type) {
-    EditorEvent event = getEvent(objectId, eventId);
-    ensureGroupExists(event, groupIndex);
-    event.addCondition(groupIndex, type);
+    changeEvent(objectId, eventId, event -> {
+      ensureGroupExists(event, groupIndex);
+      event.addCondition(groupIndex, type);
+    });
     LOG.debug("Added condition '{}' in group '{}' to event '{}' for object {}", type, groupIndex,
         eventId, objectId);
   }
@@ -174,8 +192,7 @@ public abstract class EditorEventDataManager {
    * @param index      the index of the condition within the group to remove
    */
   public void removeEventCondition(UUID objectId, String eventId, int groupIndex, int index) {
-    EditorEvent event = getEvent(objectId, eventId);
-    event.removeCondition(groupIndex, index);
+    changeEvent(objectId, eventId, event -> event.removeCondition(groupIndex, index));
     LOG.debug("Removed condition at [{},{}] from event '{}' for object {}", groupIndex, index,
         eventId, objectId);
   }
@@ -188,8 +205,7 @@ public abstract class EditorEventDataManager {
    * @param groupIndex the index of the condition group to remove
    */
   public void removeConditionGroup(UUID objectId, String eventId, int groupIndex) {
-    EditorEvent event = getEvent(objectId, eventId);
-    event.removeConditionGroup(groupIndex);
+    changeEvent(objectId, eventId, event -> event.removeConditionGroup(groupIndex));
     LOG.debug("Removed condition group '{}' from event '{}' for object {}", groupIndex, eventId,
         objectId);
   }
@@ -207,7 +223,8 @@ public abstract class EditorEventDataManager {
   public void setEventConditionStringParameter(UUID objectId, String eventId, int groupIndex,
       int index,
       String paramName, String value) {
-    getEvent(objectId, eventId).setConditionStringParameter(groupIndex, index, paramName, value);
+    changeEvent(objectId, eventId,
+        event -> event.setConditionStringParameter(groupIndex, index, paramName, value));
     LOG.trace("Set String param '{}'='{}' on condition [{},{}] of event '{}' for object {}",
         paramName, value, groupIndex, index, eventId, objectId);
   }
@@ -225,7 +242,8 @@ public abstract class EditorEventDataManager {
   public void setEventConditionDoubleParameter(UUID objectId, String eventId, int groupIndex,
       int index,
       String paramName, Double value) {
-    getEvent(objectId, eventId).setConditionDoubleParameter(groupIndex, index, paramName, value);
+    changeEvent(objectId, eventId,
+        event -> event.setConditionDoubleParameter(groupIndex, index, paramName, value));
     LOG.trace("Set Double param '{}'={} on condition [{},{}] of event '{}' for object {}",
         paramName, value, groupIndex, index, eventId, objectId);
   }
@@ -262,7 +280,7 @@ public abstract class EditorEventDataManager {
    * @param outcomeType the type of outcome to add (as a String)
    */
   public void addEventOutcome(UUID objectId, String eventId, String outcomeType) {
-    getEvent(objectId, eventId).addOutcome(outcomeType);
+    changeEvent(objectId, eventId, event -> event.addOutcome(outcomeType));
     LOG.debug("Added outcome '{}' to event '{}' for object {}", outcomeType, eventId, objectId);
   }
 
@@ -274,7 +292,7 @@ public abstract class EditorEventDataManager {
    * @param index    the index of the outcome to remove
    */
   public void removeEventOutcome(UUID objectId, String eventId, int index) {
-    getEvent(objectId, eventId).removeOutcome(index);
+    changeEvent(objectId, eventId, event -> event.removeOutcome(index));
     LOG.debug("Removed outcome index '{}' from event '{}' for object {}", index, eventId, objectId);
   }
 
@@ -289,7 +307,8 @@ public abstract class EditorEventDataManager {
    */
   public void setEventOutcomeStringParameter(UUID objectId, String eventId, int index,
       String paramName, String value) {
-    getEvent(objectId, eventId).setOutcomeStringParameter(index, paramName, value);
+    changeEvent(objectId, eventId,
+        event -> event.setOutcomeStringParameter(index, paramName, value));
     LOG.trace("Set String param '{}'='{}' on outcome[{}] of event '{}' for object {}", paramName,
         value, index, eventId, objectId);
   }
@@ -305,7 +324,8 @@ public abstract class EditorEventDataManager {
    */
   public void setEventOutcomeDoubleParameter(UUID objectId, String eventId, int index,
       String paramName, Double value) {
-    getEvent(objectId, eventId).setOutcomeDoubleParameter(index, paramName, value);
+    changeEvent(objectId, eventId,
+        event -> event.setOutcomeDoubleParameter(index, paramName, value));
     LOG.trace("Set Double param '{}'={} on outcome[{}] of event '{}' for object {}", paramName,
         value, index, eventId, objectId);
   }
@@ -333,6 +353,82 @@ public abstract class EditorEventDataManager {
     return getEvent(objectId, eventId).getOutcomeData(index);
   }
 
+  /**
+   * Adds an event ID to the end of the object's event execution order, if it is not there yet.
+   *
+   * @param objectId the unique identifier of the editor object
+   * @param eventId  the identifier of the event
+   */
+  public void addToEventOrder(UUID objectId, String eventId) {
+    List<String> order = getObject(objectId).getEventData().getEvents();
+    if (!order.contains(eventId)) {
+      List<String> changed = new ArrayList<>(order);
+      changed.add(eventId);
+      history.change(objectId, "event.order", List.copyOf(order), changed, orderSetter);
+    }
+  }
+
+  /**
+   * Removes an event ID from the object's event execution order.
+   *
+   * @param objectId the unique identifier of the editor object
+   * @param eventId  the identifier of the event
+   * @return true if the event ID was in the order
+   */
+  public boolean removeFromEventOrder(UUID objectId, String eventId) {
+    List<String> order = getObject(objectId).getEventData().getEvents();
+    List<String> changed = new ArrayList<>(order);
+    if (!changed.remove(eventId)) {
+      return false;
+    }
+    history.change(objectId, "event.order", List.copyOf(order), changed, orderSetter);
+    return true;
+  }
+
+  /**
+   * Replaces, adds or removes one event of the object and records the change in the history.
+   *
+   * @param objectId the unique identifier of the editor object
+   * @param eventId  the identifier of the event
+   * @param event    the new event, or null to remove the event
+   */
+  protected void replaceEvent(UUID objectId, String eventId, EditorEvent event) {
+    EditorEvent current = createDataIfAbsent(getObject(objectId)).getEvent(eventId);
+    history.change(objectId, historyProperty(eventId), current == null ? null : current.copy(),
+        event == null ? null : event.copy(), eventSetter(eventId));
+  }
+
+  /**
+   * Applies a change to one event in place and records the event's contents before and after it.
+   */
+  private void changeEvent(UUID objectId, String eventId, Consumer<EditorEvent> change) {
+    EditorEvent event = getEvent(objectId, eventId);
+    EditorEvent before = event.copy();
+    change.accept(event);
+    history.change(objectId, historyProperty(eventId), before, event.copy(),
+        eventSetter(eventId));
+  }
+
+  /**
+   * Returns a setter that puts a copy of the recorded contents of an event back on an object, so
+   * later changes never alter the history's copies. Contents equal to the current event are left
+   * alone, so applying a change that already happened keeps the event the views are showing.
+   */
+  private BiConsumer<UUID, EditorEvent> eventSetter(String eventId) {
+    return (id, event) -> {
+      AbstractEventMapData data = createDataIfAbsent(level.getEditorObject(id));
+      if (event == null) {
+        data.removeEvent(eventId);
+      } else if (!event.equals(data.getEvent(eventId))) {
+        data.setEvent(eventId, event.copy());
+      }
+    };
+  }
+
+  private String historyProperty(String eventId) {
+    return historyName + ".event." + eventId;
+  }
+
   private void ensureGroupExists(EditorEvent event, int groupIndex) {
     while (event.getConditions().size() <= groupIndex) {
       event.addConditionGroup();
@@ -63,16 +63,18 @@ public class EditorEventHandler {
   }
 
   private void processAddEvent(UUID objectId, String eventId) {
-    editorDataAPI.getInputDataAPI().addEvent(objectId, eventId);
-    EditorObject obj = editorDataAPI.getEditorObject(objectId);
-    if (obj == null || obj.getEventData() == null) {
-      LOG.error("Failed to add event ID '{}' to EventData list: Object or EventData was null.", eventId);
-      return;
-    }
-    List<String> events = obj.getEventData().getEvents();
-    if (!events.contains(eventId)) {
-      events.add(eventId);
+    editorDataAPI.beginEditGroup("add event");
+    try {
+      editorDataAPI.getInputDataAPI().addEvent(objectId, eventId);
+      EditorObject obj = editorDataAPI.getEditorObject(objectId);
+      if (obj == null || obj.getEventData() == null) {
+        LOG.error("Failed to add event ID '{}' to EventData list: Object or EventData was null.", eventId);
+        return;
+      }
+      editorDataAPI.getInputDataAPI().addToEventOrder(objectId, eventId);
       LOG.debug("Added event ID '{}' to object's EventData list.", eventId);
+    } finally {
+      editorDataAPI.endEditGroup();
     }
   }
 
@@ -95,16 +97,21 @@ public class EditorEventHandler {
   }
 
   private void processRemoveEvent(UUID objectId, String eventId) {
-    boolean removedFromMap = editorDataAPI.getInputDataAPI().removeEvent(objectId, eventId);
-    EditorObject obj = editorDataAPI.getEditorObject(objectId);
-    boolean removedFromList = obj != null
-        && obj.getEventData() != null
-        && obj.getEventData().getEvents().remove(eventId);
-    if (removedFromList) {
-      LOG.debug("Removed event ID '{}' from object's EventData list.", eventId);
-    }
-    if (!removedFromMap && !removedFromList) {
-      LOG.warn("Event '{}' not found in InputData map or EventData list for removal.", eventId);
+    editorDataAPI.beginEditGroup("remove event");
+    try {
+      boolean removedFromMap = editorDataAPI.getInputDataAPI().removeEvent(objectId, eventId);
+      EditorObject obj = editorDataAPI.getEditorObject(objectId);
+      boolean removedFromList = obj != null
+          && obj.getEventData() != null
+          && editorDataAPI.getInputDataAPI().removeFromEventOrder(objectId, eventId);
+      if (removedFromList) {
+        LOG.debug("Removed event ID '{}' from object's EventData list.", eventId);
+      }
+      if (!removedFromMap && !removedFromList) {
+        LOG.warn("Event '{}' not found in InputData map or EventData list for removal.", eventId);
+      }
+    } finally {
+      editorDataAPI.endEditGroup();
     }
   }
 
@@ -1,26 +1,38 @@
 package oogasalad.editor.controller.object;
 
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.model.data.EditorLevelData;
+import oogasalad.editor.model.data.object.HitboxData;
 
 /**
  * Manages hitbox data for editor objects by providing methods to access and modify various hitbox
  * properties such as position, dimensions, and shape. This class uses an {@link EditorLevelData}
  * instance to retrieve an editor object by its UUID and then operates on the object's hitbox data.
+ * Every change is recorded in the editor's {@link EditorHistory} so it can be undone.
  *
  * @author Jacob You
  */
 public class HitboxDataManager {
 
   private EditorLevelData level;
+  private final EditorHistory history;
+  private final BiConsumer<UUID, Integer> xSetter = (id, x) -> hitbox(id).setX(x);
+  private final BiConsumer<UUID, Integer> ySetter = (id, y) -> hitbox(id).setY(y);
+  private final BiConsumer<UUID, Integer> widthSetter = (id, w) -> hitbox(id).setWidth(w);
+  private final BiConsumer<UUID, Integer> heightSetter = (id, h) -> hitbox(id).setHeight(h);
+  private final BiConsumer<UUID, String> shapeSetter = (id, shape) -> hitbox(id).setShape(shape);
 
   /**
    * Constructs a HitboxDataManager with the specified EditorLevelData instance.
    *
-   * @param level the EditorLevelData instance that manages the editor objects
+   * @param level   the EditorLevelData instance that manages the editor objects
+   * @param history the journal every change is recorded in
    */
-  public HitboxDataManager(EditorLevelData level) {
+  public HitboxDataManager(EditorLevelData level, EditorHistory history) {
     this.level = level;
+    this.history = history;
   }
 
   /**
@@ -80,7 +92,7 @@ public class HitboxDataManager {
    * @param x  the new x-coordinate to set
    */
   public void setX(UUID id, int x) {
-    level.getEditorObject(id).getHitboxData().setX(x);
+    history.change(id, "hitbox.x", hitbox(id).getX(), x, xSetter);
   }
 
   /**
@@ -90,7 +102,7 @@ public class HitboxDataManager {
    * @param y  the new y-coordinate to set
    */
   public void setY(UUID id, int y) {
-    level.getEditorObject(id).getHitboxData().setY(y);
+    history.change(id, "hitbox.y", hitbox(id).getY(), y, ySetter);
   }
 
   /**
@@ -100,7 +112,7 @@ public class HitboxDataManager {
    * @param width the new width of the hitbox to set
    */
   public void setWidth(UUID id, int width) {
-    level.getEditorObject(id).getHitboxData().setWidth(width);
+    history.change(id, "hitbox.width", hitbox(id).getWidth(), width, widthSetter);
   }
 
   /**
@@ -110,7 +122,7 @@ public class HitboxDataManager {
    * @param height the new height of the hitbox to set
    */
   public void setHeight(UUID id, int height) {
-    level.getEditorObject(id).getHitboxData().setHeight(height);
+    history.change(id, "hitbox.height", hitbox(id).getHeight(), height, heightSetter);
   }
 
   /**
@@ -120,6 +132,10 @@ public class HitboxDataManager {
    * @param shape the new shape of the hitbox (e.g., "rectangle", "circle")
    */
   public void setShape(UUID id, String shape) {
-    level.getEditorObject(id).getHitboxData().setShape(shape);
+    history.change(id, "hitbox.shape", hitbox(id).getShape(), shape, shapeSetter);
+  }
+
+  private HitboxData hitbox(UUID id) {
+    return level.getEditorObject(id).getHitboxData();
   }
 }
@@ -4,6 +4,8 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.Layer;
 import oogasalad.editor.model.data.object.EditorObject;
@@ -14,7 +16,8 @@ import org.apache.logging.log4j.Logger;
  * Manages identity-related data and custom parameters for EditorObjects, including name, group,
  * layer information, and user-defined string/double key-value pairs. This manager provides a
  * simplified API to interact with these aspects of EditorObjects stored in the underlying
- * {@link EditorLevelData}.
+ * {@link EditorLevelData}. Every change is recorded in the editor's {@link EditorHistory} so it
+ * can be undone.
  *
  * @author Jacob You, Tatum McKinnis, Billy McCune
  */
@@ -22,15 +25,28 @@ public class IdentityDataManager {
 
   private EditorLevelData level;
   private static final Logger LOG = LogManager.getLogger(IdentityDataManager.class);
+  private final EditorHistory history;
+  private final BiConsumer<UUID, String> nameSetter =
+      (id, name) -> level.getEditorObject(id).getIdentityData().setName(name);
+  private final BiConsumer<UUID, String> groupSetter =
+      (id, group) -> level.getEditorObject(id).getIdentityData().setGroup(group);
+  private final BiConsumer<UUID, String> typeSetter =
+      (id, type) -> level.getEditorObject(id).getIdentityData().setType(type);
+  private final BiConsumer<UUID, String> gameSetter =
+      (id, game) -> level.getEditorObject(id).getIdentityData().setGame(game);
+  private final BiConsumer<UUID, Layer> layerSetter = (id, layer) -> level.moveObjectToLayer(id,
+      level.getLayers().contains(layer) ? layer : level.getFirstLayer());
 
 
   /**
    * Constructs an IdentityDataManager with the specified EditorLevelData.
    *
-   * @param level the EditorLevelData that stores the EditorObjects. Must not be null.
+   * @param level   the EditorLevelData that stores the EditorObjects. Must not be null.
+   * @param history the journal every change is recorded in. Must not be null.
    */
-  public IdentityDataManager(EditorLevelData level) {
+  public IdentityDataManager(EditorLevelData level, EditorHistory history) {
     this.level = Objects.requireNonNull(level, "EditorLevelData cannot be null");
+    this.history = Objects.requireNonNull(history, "EditorHistory cannot be null");
   }
 
   /**
@@ -66,7 +82,7 @@ public class IdentityDataManager {
   public void setName(UUID id, String name) {
     EditorObject obj = safeGetObject(id);
     if (obj != null && obj.getIdentityData() != null) {
-      obj.getIdentityData().setName(name);
+      history.change(id, "identity.name", obj.getIdentityData().getName(), name, nameSetter);
     } else {
       LOG.error("Could not set name for non-existent object or object with null identity: {}", id);
     }
@@ -81,7 +97,8 @@ public class IdentityDataManager {
   public void setGroup(UUID id, String group) {
     EditorObject obj = safeGetObject(id);
     if (obj != null && obj.getIdentityData() != null) {
-      obj.getIdentityData().setGroup(group);
+      history.change(id, "identity.group", obj.getIdentityData().getGroup(), group,
+          groupSetter);
     } else {
       LOG.error("Could not set group for non-existent object or object with null identity: {}", id);
     }
@@ -112,7 +129,7 @@ public class IdentityDataManager {
   public void setType(UUID id, String type) {
     EditorObject obj = safeGetObject(id);
     if (obj != null && obj.getIdentityData() != null) {
-      obj.getIdentityData().setType(type);
+      history.change(id, "identity.type", obj.getIdentityData().getType(), type, typeSetter);
     } else {
       LOG.error("Could not set type for non-existent object or object with null identity: {}", id);
     }
@@ -143,7 +160,7 @@ public class IdentityDataManager {
   public void setGame(UUID id, String game) {
     EditorObject obj = safeGetObject(id);
     if (obj != null && obj.getIdentityData() != null) {
-      obj.getIdentityData().setGame(game);
+      history.change(id, "identity.game", obj.getIdentityData().getGame(), game, gameSetter);
       LOG.debug("Set game name to '{}' for object {}", game, id);
     } else {
       LOG.error("Could not set game name for non-existent object or object with null identity: {}", id);
@@ -172,7 +189,8 @@ public class IdentityDataManager {
       }
     }
     if (foundLayer != null) {
-      obj.getIdentityData().setLayer(foundLayer);
+      history.change(id, "identity.layer", obj.getIdentityData().getLayer(), foundLayer,
+          layerSetter);
     } else {
       LOG.error("Layer '{}' not found! Could not set layer for object {}", layerName, id);
     }
@@ -223,7 +241,7 @@ public class IdentityDataManager {
     }
     EditorObject obj = safeGetObject(id);
     if (obj != null) {
-      obj.getStringParameters().put(key, value);
+      changeStringParameter(obj, key, value);
       LOG.debug("Set string parameter '{}'='{}' for object {}", key, value, id);
     } else {
       LOG.error("Could not set string parameter for non-existent object: {}", id);
@@ -245,7 +263,7 @@ public class IdentityDataManager {
     }
     EditorObject obj = safeGetObject(id);
     if (obj != null) {
-      obj.getDoubleParameters().put(key, value);
+      changeDoubleParameter(obj, key, value);
       LOG.debug("Set double parameter '{}'={} for object {}", key, value, id);
     } else {
       LOG.error("Could not set double parameter for non-existent object: {}", id);
@@ -263,8 +281,19 @@ public class IdentityDataManager {
     Objects.requireNonNull(key, "Parameter key cannot be null for removal");
     EditorObject obj = safeGetObject(id);
     if (obj != null) {
-      boolean removedString = obj.getStringParameters().remove(key) != null;
-      boolean removedDouble = obj.getDoubleParameters().remove(key) != null;
+      boolean removedString = obj.getStringParameters().containsKey(key);
+      boolean removedDouble = obj.getDoubleParameters().containsKey(key);
+      history.beginGroup("remove parameter");
+      try {
+        if (removedString) {
+          changeStringParameter(obj, key, null);
+        }
+        if (removedDouble) {
+          changeDoubleParameter(obj, key, null);
+        }
+      } finally {
+        history.endGroup();
+      }
       if (removedString || removedDouble) {
         LOG.debug("Removed parameter '{}' (String: {}, Double: {}) from object {}", key, removedString, removedDouble, id);
       }
@@ -273,6 +302,24 @@ public class IdentityDataManager {
     }
   }
 
+  private void changeStringParameter(EditorObject obj, String key, String value) {
+    history.change(obj.getId(), "parameter.string." + key, obj.getStringParameters().get(key),
+        value, (id, v) -> putOrRemove(level.getEditorObject(id).getStringParameters(), key, v));
+  }
+
+  private void changeDoubleParameter(EditorObject obj, String key, Double value) {
+    history.change(obj.getId(), "parameter.double." + key, obj.getDoubleParameters().get(key),
+        value, (id, v) -> putOrRemove(level.getEditorObject(id).getDoubleParameters(), key, v));
+  }
+
+  private static <T> void putOrRemove(Map<String, T> parameters, String key, T value) {
+    if (value == null) {
+      parameters.remove(key);
+    } else {
+      parameters.put(key, value);
+    }
+  }
+
   /**
    * Safely retrieves an EditorObject by its ID, returning null and logging a warning if not found.
    *
@@ -1,6 +1,7 @@
 package oogasalad.editor.controller.object;
 
 import java.util.UUID;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.event.AbstractEventMapData;
@@ -23,9 +24,10 @@ public class PhysicsDataManager extends EditorEventDataManager {
    * Creates a CollisionDataManager on a specific level object.
    *
    * @param level The level object to create a CollisionDataManager for
+   * @param history the journal every change is recorded in
    */
-  public PhysicsDataManager(EditorLevelData level) {
-    super(level);
+  public PhysicsDataManager(EditorLevelData level, EditorHistory history) {
+    super(level, history, "physics");
   }
 
   /**
@@ -35,9 +37,6 @@ public class PhysicsDataManager extends EditorEventDataManager {
    * @param event The event to set.
    */
   public void setEvent(UUID objectId, String eventId, EditorEvent event) {
-    EditorObject object = getObjectById(objectId);
-    if (object != null) {
-      object.getPhysicsData().setEvent(eventId, event);
-    }
+    replaceEvent(objectId, eventId, event);
   }
 }
\ No newline at end of file
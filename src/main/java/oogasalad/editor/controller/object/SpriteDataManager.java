@@ -1,9 +1,13 @@
 package oogasalad.editor.controller.object;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import oogasalad.editor.controller.history.EditorHistory;
 import oogasalad.editor.controller.listeners.EditorListenerNotifier;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.object.HitboxData;
+import oogasalad.editor.model.data.object.sprite.AnimationData;
 import oogasalad.editor.model.data.object.sprite.FrameData;
 import oogasalad.editor.model.data.object.sprite.SpriteData;
 import oogasalad.editor.model.data.object.sprite.SpriteTemplate;
@@ -12,6 +16,7 @@ import oogasalad.editor.model.data.object.sprite.SpriteTemplate;
  * Manages sprite data for EditorObjects, providing methods to access and modify the x and y
  * coordinates of an object's sprite. Provides methods to get and set sprite attributes such as
  * position, name, rotation, and flip status, and allows applying a sprite template to an object.
+ * Every change is recorded in the editor's {@link EditorHistory} so it can be undone.
  *
  * @author Jacob You
  */
@@ -19,16 +24,38 @@ public class SpriteDataManager {
 
   private final EditorListenerNotifier listenerNotifier;
   private EditorLevelData level;
+  private final EditorHistory history;
+  private final BiConsumer<UUID, Integer> xSetter = (id, x) -> sprite(id).setX(x);
+  private final BiConsumer<UUID, Integer> ySetter = (id, y) -> sprite(id).setY(y);
+  private final BiConsumer<UUID, String> nameSetter = (id, name) -> sprite(id).setName(name);
+  private final BiConsumer<UUID, String> pathSetter = (id, path) -> sprite(id).setSpritePath(path);
+  private final BiConsumer<UUID, Double> rotationSetter = (id, r) -> sprite(id).setRotation(r);
+  private final BiConsumer<UUID, Boolean> flipSetter = (id, f) -> sprite(id).setIsFlipped(f);
+  private final BiConsumer<UUID, String> baseFrameSetter =
+      (id, frame) -> sprite(id).setBaseFrameName(frame);
+  private final BiConsumer<UUID, String> templateSetter =
+      (id, template) -> sprite(id).setTemplateName(template);
+  private final BiConsumer<UUID, Map<String, FrameData>> framesSetter =
+      (id, frames) -> sprite(id).setFrames(frames);
+  private final BiConsumer<UUID, Map<String, AnimationData>> animationsSetter =
+      (id, animations) -> sprite(id).setAnimations(animations);
+  private final BiConsumer<UUID, Integer> hitboxWidthSetter =
+      (id, w) -> level.getEditorObject(id).getHitboxData().setWidth(w);
+  private final BiConsumer<UUID, Integer> hitboxHeightSetter =
+      (id, h) -> level.getEditorObject(id).getHitboxData().setHeight(h);
 
   /**
    * Constructs a {@code SpriteDataManager} with the specified EditorLevelData.
    *
    * @param level            the EditorLevelData instance that manages the EditorObjects
    * @param listenerNotifier the notifier used to broadcast sprite updates
+   * @param history          the journal every change is recorded in
    */
-  public SpriteDataManager(EditorLevelData level, EditorListenerNotifier listenerNotifier) {
+  public SpriteDataManager(EditorLevelData level, EditorListenerNotifier listenerNotifier,
+      EditorHistory history) {
     this.level = level;
     this.listenerNotifier = listenerNotifier;
+    this.history = history;
   }
 
   /**
@@ -118,7 +145,7 @@ public class SpriteDataManager {
    * @param x  the new x-coordinate to set
    */
   public void setX(UUID id, int x) {
-    level.getEditorObject(id).getSpriteData().setX(x);
+    history.change(id, "sprite.x", sprite(id).getX(), x, xSetter);
   }
 
   /**
@@ -128,7 +155,7 @@ public class SpriteDataManager {
    * @param y  the new y-coordinate to set
    */
   public void setY(UUID id, int y) {
-    level.getEditorObject(id).getSpriteData().setY(y);
+    history.change(id, "sprite.y", sprite(id).getY(), y, ySetter);
   }
 
   /**
@@ -138,7 +165,7 @@ public class SpriteDataManager {
    * @param name the new sprite name to set
    */
   public void setName(UUID id, String name) {
-    level.getEditorObject(id).getSpriteData().setName(name);
+    history.change(id, "sprite.name", sprite(id).getName(), name, nameSetter);
   }
 
   /**
@@ -148,7 +175,7 @@ public class SpriteDataManager {
    * @param spritePath the new sprite path to set
    */
   public void setSpritePath(UUID id, String spritePath) {
-    level.getEditorObject(id).getSpriteData().setSpritePath(spritePath);
+    history.change(id, "sprite.path", sprite(id).getSpritePath(), spritePath, pathSetter);
   }
 
   /**
@@ -158,7 +185,8 @@ public class SpriteDataManager {
    * @param rotation the new rotation angle in degrees
    */
   public void setRotation(UUID id, double rotation) {
-    level.getEditorObject(id).getSpriteData().setRotation(rotation);
+    history.change(id, "sprite.rotation", sprite(id).getRotation(), rotation,
+        rotationSetter);
   }
 
   /**
@@ -168,7 +196,7 @@ public class SpriteDataManager {
    * @param flipped {@code true} to flip the sprite; {@code false} otherwise
    */
   public void setFlip(UUID id, boolean flipped) {
-    level.getEditorObject(id).getSpriteData().setIsFlipped(flipped);
+    history.change(id, "sprite.flip", sprite(id).getIsFlipped(), flipped, flipSetter);
   }
 
   /**
@@ -178,29 +206,47 @@ public class SpriteDataManager {
    * @param baseFrame the base frame name to set
    */
   public void setBaseFrameName(UUID id, String baseFrame) {
-    level.getEditorObject(id).getSpriteData().setBaseFrameName(baseFrame);
+    history.change(id, "sprite.baseFrame", sprite(id).getBaseFrameName(), baseFrame,
+        baseFrameSetter);
   }
 
   /**
    * Applies a {@link SpriteTemplate} to the specified object's sprite data, updating its frames,
-   * animations, base frame, template name, and sprite path. Notifies listeners after the update.
+   * animations, base frame, template name, and sprite path. The changes form a single undo step.
+   * Notifies listeners after the update.
    *
    * @param currentObjectId the UUID of the object to apply the template to
    * @param template        the {@link SpriteTemplate} to apply
    */
   public void applyTemplateToSprite(UUID currentObjectId, SpriteTemplate template) {
-    SpriteData spriteData = level.getEditorObject(currentObjectId).getSpriteData();
-    spriteData.setFrames(template.getFrames());
-    spriteData.setAnimations(template.getAnimations());
-    spriteData.setBaseFrameName(template.getBaseFrame().name());
-    spriteData.setTemplateName(template.getName());
-    spriteData.setSpritePath(template.getSpriteFile());
-    HitboxData hitboxData = level.getEditorObject(currentObjectId).getHitboxData();
+    UUID id = currentObjectId;
+    SpriteData spriteData = sprite(id);
+    HitboxData hitboxData = level.getEditorObject(id).getHitboxData();
     FrameData base = template.getBaseFrame();
-    hitboxData.setWidth(base.width());
-    hitboxData.setHeight(base.height());
+    history.beginGroup("apply sprite template");
+    try {
+      history.change(id, "sprite.frames", spriteData.getFrames(), template.getFrames(),
+          framesSetter);
+      history.change(id, "sprite.animations", spriteData.getAnimations(),
+          template.getAnimations(), animationsSetter);
+      history.change(id, "sprite.baseFrame", spriteData.getBaseFrameName(), base.name(),
+          baseFrameSetter);
+      history.change(id, "sprite.template", spriteData.getTemplateName(), template.getName(),
+          templateSetter);
+      history.change(id, "sprite.path", spriteData.getSpritePath(), template.getSpriteFile(),
+          pathSetter);
+      history.change(id, "hitbox.width", hitboxData.getWidth(), base.width(), hitboxWidthSetter);
+      history.change(id, "hitbox.height", hitboxData.getHeight(), base.height(),
+          hitboxHeightSetter);
+    } finally {
+      history.endGroup();
+    }
 
 
     listenerNotifier.notifyObjectUpdated(currentObjectId);
   }
-}
\ No newline at end of file
+
+  private SpriteData sprite(UUID id) {
+    return level.getEditorObject(id).getSpriteData();
+  }
+}
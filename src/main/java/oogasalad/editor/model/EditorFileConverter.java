@@ -2,6 +2,7 @@ package oogasalad.editor.model;
 
 import java.io.File;
 import oogasalad.editor.model.data.EditorLevelData;
+import oogasalad.editor.model.saver.BlueprintCache;
 import oogasalad.editor.model.saver.EditorDataSaver;
 import oogasalad.editor.model.saver.api.EditorFileConverterAPI;
 import oogasalad.exceptions.BlueprintParseException;
@@ -28,11 +29,18 @@ import oogasalad.filesaver.savestrategy.SaverStrategy;
  */
 public class EditorFileConverter implements EditorFileConverterAPI {
 
+  private final BlueprintCache blueprintCache = new BlueprintCache();
+
   @Override
   public void saveEditorDataToFile(EditorLevelData editorLevelData, String fileName,
       SaverStrategy saver)
       throws EditorSaveException {
-    saver.save(EditorDataSaver.buildLevelData(editorLevelData), new File(fileName));
+    saver.save(buildLevelData(editorLevelData), new File(fileName));
+  }
+
+  @Override
+  public LevelData buildLevelData(EditorLevelData editorLevelData) {
+    return EditorDataSaver.buildLevelData(editorLevelData, blueprintCache);
   }
 
   @Override
@@ -3,8 +3,12 @@ package oogasalad.editor.model.data;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +39,13 @@ public class EditorLevelData {
   private Set<String> myGroups;
   private List<Layer> myLayers;
   private Map<Layer, List<EditorObject>> myLayerDataMap;
+  private Map<UUID, Layer> memberLayers;
+  private Map<String, Layer> layersByName;
   private Map<UUID, EditorObject> myObjectDataMap;
+  private HitboxQuadTree hitboxIndex;
+  private Map<UUID, RenderSlot> renderSlots;
+  private Map<Layer, Set<UUID>> renderBuckets;
+  private long nextRenderSequence;
   private SpriteSheetLibrary spriteLibrary;
   private SpriteTemplateMap spriteTemplateMap;
   private CameraData cameraData;
@@ -67,9 +77,14 @@ public class EditorLevelData {
     myGroups = new LinkedHashSet<>();
     myLayers = new ArrayList<>();
     myLayerDataMap = new HashMap<>();
+    memberLayers = new HashMap<>();
+    layersByName = new HashMap<>();
     Layer firstLayer = getFirstLayer();
     myLayerDataMap.put(firstLayer, new ArrayList<>());
     myObjectDataMap = new HashMap<>();
+    hitboxIndex = new HitboxQuadTree();
+    renderSlots = new HashMap<>();
+    renderBuckets = new LinkedHashMap<>();
     spriteLibrary = new SpriteSheetLibrary();
     spriteTemplateMap = new SpriteTemplateMap();
     cameraData = new CameraData();
@@ -84,8 +99,10 @@ public class EditorLevelData {
   public UUID createEditorObject() {
     EditorObject newObject = new EditorObject(this);
     Layer firstLayer = getFirstLayer();
-    myLayerDataMap.computeIfAbsent(firstLayer, k -> new ArrayList<>()).add(newObject);
+    addToLayerList(firstLayer, newObject);
     myObjectDataMap.put(newObject.getIdentityData().getId(), newObject);
+    indexHitbox(newObject.getId(), newObject);
+    placeInRenderOrder(newObject.getId(), newObject.getIdentityData().getLayer());
     LOG.debug("Created and registered new EditorObject with ID: {}", newObject.getId());
     return newObject.getIdentityData().getId();
   }
@@ -111,9 +128,64 @@ public class EditorLevelData {
   public EditorObject removeObjectById(UUID uuid) {
     Objects.requireNonNull(uuid, "UUID cannot be null for removal.");
     LOG.debug("Removing EditorObject with ID: {}", uuid);
+    hitboxIndex.remove(uuid);
+    removeFromRenderOrder(uuid);
     return myObjectDataMap.remove(uuid);
   }
 
+  /**
+   * Registers an object that was built outside of this class, placing it in the object data map
+   * and moving it into the given layer's object list. Any object previously registered under the
+   * same ID is replaced.
+   *
+   * @param object the {@link EditorObject} to register
+   * @param layer  the {@link Layer} the object belongs to
+   * @throws NullPointerException if either the object or layer is null
+   */
+  public void registerObject(EditorObject object, Layer layer) {
+    Objects.requireNonNull(object, "Object cannot be null for registration.");
+    Objects.requireNonNull(layer, "Layer cannot be null for registration.");
+    UUID id = object.getId();
+    myObjectDataMap.put(id, object);
+    Layer previous = memberLayers.get(id);
+    List<EditorObject> previousList = previous == null ? null : myLayerDataMap.get(previous);
+    if (previousList != null) {
+      previousList.removeIf(o -> o.getId().equals(id));
+    }
+    addToLayerList(layer, object);
+    indexHitbox(id, object);
+    placeInRenderOrder(id, layer);
+    LOG.debug("Registered object {} in layer {}", id, layer.getName());
+  }
+
+  /**
+   * Moves a registered object to another layer, updating its identity data, the per-layer object
+   * lists and the render order.
+   *
+   * @param id    the UUID of the object to move
+   * @param layer the {@link Layer} to move the object to
+   * @return true if the object was found and moved, false otherwise
+   * @throws NullPointerException if either the id or layer is null
+   */
+  public boolean moveObjectToLayer(UUID id, Layer layer) {
+    Objects.requireNonNull(id, "ID cannot be null for layer change.");
+    Objects.requireNonNull(layer, "Layer cannot be null for layer change.");
+    EditorObject object = myObjectDataMap.get(id);
+    if (object == null || object.getIdentityData() == null) {
+      LOG.warn("Cannot move missing object {} to layer {}", id, layer.getName());
+      return false;
+    }
+    Layer oldLayer = memberLayers.getOrDefault(id, object.getIdentityData().getLayer());
+    if (oldLayer != null) {
+      removeObjectFromLayer(oldLayer, object);
+    }
+    object.getIdentityData().setLayer(layer);
+    addToLayerList(layer, object);
+    placeInRenderOrder(id, layer);
+    LOG.debug("Moved object {} to layer {}", id, layer.getName());
+    return true;
+  }
+
   /**
    * Removes a specific editor object from the list associated with a given layer.
    *
@@ -130,11 +202,61 @@ public class EditorLevelData {
     if (objectsInLayer != null) {
       removed = objectsInLayer.remove(object);
     }
+    if (removed) {
+      memberLayers.remove(object.getId(), layer);
+    }
     LOG.debug("Removing object {} from layer {}: {}", object.getId(), layer.getName(),
         removed ? "Success" : "Failed (not found)");
     return removed;
   }
 
+  /**
+   * Removes many objects at once from the object data map, their layer lists, the hitbox index and
+   * the render order. Only the layer lists that held a removed object are pruned, each in a single
+   * pass, and removing every object clears the indexes outright instead of deleting their entries
+   * one by one.
+   *
+   * @param ids the UUIDs of the objects to remove; unknown IDs are ignored
+   * @return the removed objects, in the order their IDs were given
+   * @throws NullPointerException if ids is null
+   */
+  public List<EditorObject> removeObjects(Collection<UUID> ids) {
+    Objects.requireNonNull(ids, "IDs cannot be null for removal.");
+    List<EditorObject> removed = new ArrayList<>();
+    Set<UUID> removedIds = new HashSet<>();
+    for (UUID id : ids) {
+      EditorObject object = id == null ? null : myObjectDataMap.get(id);
+      if (object != null && removedIds.add(id)) {
+        removed.add(object);
+      }
+    }
+    if (removed.size() == myObjectDataMap.size()) {
+      myObjectDataMap.clear();
+      myLayerDataMap.values().forEach(List::clear);
+      memberLayers.clear();
+      hitboxIndex.clear();
+      renderSlots.clear();
+      renderBuckets.clear();
+    } else {
+      Set<Layer> touchedLayers = new HashSet<>();
+      for (UUID id : removedIds) {
+        myObjectDataMap.remove(id);
+        hitboxIndex.remove(id);
+        removeFromRenderOrder(id);
+        Layer layer = memberLayers.remove(id);
+        if (layer != null) {
+          touchedLayers.add(layer);
+        }
+      }
+      for (Layer layer : touchedLayers) {
+        myLayerDataMap.getOrDefault(layer, new ArrayList<>())
+            .removeIf(o -> removedIds.contains(o.getId()));
+      }
+    }
+    LOG.debug("Removed {} objects in bulk", removed.size());
+    return removed;
+  }
+
   /**
    * Updates the reference to an existing editor object in the main data map.
    *
@@ -154,6 +276,8 @@ public class EditorLevelData {
     else{
       myObjectDataMap.put(id, updatedObject);
     }
+    indexHitbox(id, updatedObject);
+    placeInRenderOrder(id, layerOf(updatedObject));
     LOG.debug("Updating object {} in data map: {}", id, updated ? "Success" : "Failed (not found)");
     return updated;
   }
@@ -287,6 +411,7 @@ public class EditorLevelData {
     }
     myLayers.add(index, layer);
     myLayerDataMap.computeIfAbsent(layer, k -> new ArrayList<>());
+    layersByName.putIfAbsent(layer.getName(), layer);
     LOG.debug("Added layer '{}' with priority {} at index {}", layer.getName(), layer.getPriority(),
         index);
   }
@@ -305,14 +430,11 @@ public class EditorLevelData {
       return false;
     }
 
-    var maybeLayer = myLayers.stream()
-        .filter(layer -> layer.getName().equals(layerName))
-        .findFirst();
-    if (maybeLayer.isEmpty()) {
+    Layer layerToRemove = findLayer(layerName);
+    if (layerToRemove == null) {
       LOG.warn("Layer '{}' not found for removal.", layerName);
       return false;
     }
-    Layer layerToRemove = maybeLayer.get();
 
     var objects = myLayerDataMap.getOrDefault(layerToRemove, Collections.emptyList());
     if (!objects.isEmpty()) {
@@ -323,6 +445,7 @@ public class EditorLevelData {
 
     boolean removed = myLayers.remove(layerToRemove);
     myLayerDataMap.remove(layerToRemove);
+    layersByName.remove(layerName, layerToRemove);
 
     if (removed) {
       LOG.debug("Removed empty layer: {}", layerName);
@@ -404,43 +527,15 @@ public class EditorLevelData {
   }
 
   /**
-   * Retrieves the minimum and maximum dimensions encompassing all object hitboxes.
+   * Retrieves the minimum and maximum dimensions encompassing all object hitboxes. The bounds are
+   * kept up to date by the hitbox index as objects are added, moved and removed, so this does not
+   * visit the objects. Objects without hitbox data do not contribute to the bounds.
    *
    * @return an integer array of [minX, minY, maxX, maxY], or [0, 0, 0, 0] if no objects exist.
    */
   public int[] getBounds() {
-    if (myObjectDataMap.isEmpty()) {
-      return new int[]{0, 0, 0, 0};
-    }
-
-    double minX = Double.MAX_VALUE;
-    double minY = Double.MAX_VALUE;
-    double maxX = Double.MIN_VALUE;
-    double maxY = Double.MIN_VALUE;
-
-    for (EditorObject object : myObjectDataMap.values()) {
-      HitboxData hitbox = object.getHitboxData();
-      if (hitbox != null) {
-        double x = hitbox.getX();
-        double y = hitbox.getY();
-        double width = hitbox.getWidth();
-        double height = hitbox.getHeight();
-
-        minX = Math.min(minX, x);
-        minY = Math.min(minY, y);
-        maxX = Math.max(maxX, x + width);
-        maxY = Math.max(maxY, y + height);
-      } else {
-        LOG.warn("Object {} has null HitboxData when calculating bounds.", object.getId());
-      }
-    }
-
-    if (minX == Double.MAX_VALUE) {
-      return new int[]{0, 0, 0, 0};
-    }
-
-    return new int[]{(int) Math.floor(minX), (int) Math.floor(minY), (int) Math.ceil(maxX),
-        (int) Math.ceil(maxY)};
+    int[] bounds = ensureHitboxIndex().getBounds();
+    return bounds == null ? new int[]{0, 0, 0, 0} : bounds;
   }
 
   /**
@@ -489,6 +584,228 @@ public class EditorLevelData {
     return spriteLibrary.getAtlas(atlasFile);
   }
 
+  /**
+   * Keeps the spatial index in step with an object whose hitbox was moved, resized or replaced.
+   * Objects that are not registered in this level are ignored.
+   *
+   * @param object the {@link EditorObject} whose hitbox changed
+   */
+  public void hitboxChanged(EditorObject object) {
+    if (object != null && myObjectDataMap.get(object.getId()) == object) {
+      indexHitbox(object.getId(), object);
+    }
+  }
+
+  /**
+   * Records that the data of a registered object changed in place, so anything derived from it is
+   * rebuilt. Unknown IDs are ignored.
+   *
+   * @param id the UUID of the changed object
+   */
+  public void objectChanged(UUID id) {
+    EditorObject object = id == null ? null : myObjectDataMap.get(id);
+    if (object != null) {
+      object.markChanged();
+    }
+  }
+
+  /**
+   * Returns the IDs of all objects whose hitboxes contain the given world point, ordered from the
+   * highest layer priority to the lowest so the first entry is the object drawn on top.
+   *
+   * @param worldX the x-coordinate of the point
+   * @param worldY the y-coordinate of the point
+   * @return the IDs of the objects under the point, or an empty list if there are none
+   */
+  public List<UUID> getObjectIdsAt(double worldX, double worldY) {
+    List<EditorObject> hits = resolveIndexed(ensureHitboxIndex().queryPoint(worldX, worldY));
+    hits.sort((obj1, obj2) -> Integer.compare(getObjectLayerPriorityInternal(obj2),
+        getObjectLayerPriorityInternal(obj1)));
+    return hits.stream().map(EditorObject::getId).toList();
+  }
+
+  /**
+   * Returns the IDs of all objects whose hitboxes overlap the given world rectangle, in no
+   * particular order.
+   *
+   * @param x      the left edge of the rectangle
+   * @param y      the top edge of the rectangle
+   * @param width  the width of the rectangle
+   * @param height the height of the rectangle
+   * @return the IDs of the overlapping objects, or an empty list if there are none
+   */
+  public List<UUID> getObjectIdsInRegion(double x, double y, double width, double height) {
+    return resolveIndexed(ensureHitboxIndex().queryRect(x, y, width, height)).stream()
+        .map(EditorObject::getId).toList();
+  }
+
+  /**
+   * Returns the ID of the object whose hitbox is closest to the given world point. A point inside
+   * a hitbox is at distance zero from it.
+   *
+   * @param worldX      the x-coordinate of the point
+   * @param worldY      the y-coordinate of the point
+   * @param maxDistance the largest distance to consider
+   * @return the ID of the closest object, or null if no object lies within {@code maxDistance}
+   */
+  public UUID getNearestObjectId(double worldX, double worldY, double maxDistance) {
+    return ensureHitboxIndex().nearest(worldX, worldY, maxDistance);
+  }
+
+  private void indexHitbox(UUID id, EditorObject object) {
+    HitboxData hitbox = object.getHitboxData();
+    if (hitbox == null) {
+      hitboxIndex.remove(id);
+      return;
+    }
+    hitboxIndex.put(id, hitbox.getX(), hitbox.getY(), hitbox.getWidth(), hitbox.getHeight());
+  }
+
+  /**
+   * Rebuilds the spatial index if the object data map was changed directly instead of through
+   * this class.
+   */
+  private HitboxQuadTree ensureHitboxIndex() {
+    if (hitboxIndex.size() != myObjectDataMap.size()) {
+      LOG.debug("Rebuilding hitbox index for {} objects", myObjectDataMap.size());
+      hitboxIndex.clear();
+      myObjectDataMap.forEach(this::indexHitbox);
+    }
+    return hitboxIndex;
+  }
+
+  private List<EditorObject> resolveIndexed(List<UUID> ids) {
+    List<EditorObject> objects = new ArrayList<>(ids.size());
+    for (UUID id : ids) {
+      EditorObject object = myObjectDataMap.get(id);
+      if (object != null) {
+        objects.add(object);
+      }
+    }
+    return objects;
+  }
+
+  /**
+   * Returns the IDs of every object in the order the editor canvas draws them: grouped by layer
+   * from the highest priority to the lowest, and by the order they were added within a layer.
+   * The order is maintained as objects are added, removed or moved between layers, so this only
+   * walks the per-layer buckets instead of sorting.
+   *
+   * @return the object IDs in render order
+   */
+  public List<UUID> getRenderOrder() {
+    ensureRenderOrder();
+    List<UUID> order = new ArrayList<>(renderSlots.size());
+    for (Layer layer : layersByPriority()) {
+      order.addAll(renderBuckets.get(layer));
+    }
+    return order;
+  }
+
+  /**
+   * Returns the layers that currently hold objects, in the order the editor canvas draws them.
+   *
+   * @return the layers from the highest priority to the lowest
+   */
+  public List<Layer> getRenderLayers() {
+    ensureRenderOrder();
+    return layersByPriority();
+  }
+
+  /**
+   * Puts a subset of objects, such as the ones currently visible, into the same order as
+   * {@link #getRenderOrder()}. Unknown IDs are dropped. The cost depends on the size of the subset,
+   * not of the level.
+   *
+   * @param ids the object IDs to order
+   * @return a new list with the known IDs in render order
+   */
+  public List<UUID> sortByRenderOrder(Collection<UUID> ids) {
+    ensureRenderOrder();
+    Map<Layer, List<UUID>> byLayer = new HashMap<>();
+    for (UUID id : ids) {
+      EditorObject object = myObjectDataMap.get(id);
+      if (object == null) {
+        continue;
+      }
+      Layer layer = layerOf(object);
+      RenderSlot slot = renderSlots.get(id);
+      if (slot == null || slot.layer() != layer) {
+        placeInRenderOrder(id, layer);
+      }
+      byLayer.computeIfAbsent(layer, k -> new ArrayList<>()).add(id);
+    }
+
+    List<UUID> order = new ArrayList<>(ids.size());
+    for (Layer layer : layersByPriority()) {
+      List<UUID> bucket = byLayer.get(layer);
+      if (bucket != null) {
+        bucket.sort(Comparator.comparingLong(id -> renderSlots.get(id).sequence()));
+        order.addAll(bucket);
+      }
+    }
+    return order;
+  }
+
+  private record RenderSlot(Layer layer, long sequence) {
+
+  }
+
+  private void placeInRenderOrder(UUID id, Layer layer) {
+    RenderSlot slot = renderSlots.get(id);
+    if (slot != null) {
+      if (slot.layer() == layer) {
+        return;
+      }
+      removeFromRenderOrder(id);
+    }
+    renderSlots.put(id, new RenderSlot(layer, nextRenderSequence++));
+    renderBuckets.computeIfAbsent(layer, k -> new LinkedHashSet<>()).add(id);
+  }
+
+  private void removeFromRenderOrder(UUID id) {
+    RenderSlot slot = renderSlots.remove(id);
+    if (slot == null) {
+      return;
+    }
+    Set<UUID> bucket = renderBuckets.get(slot.layer());
+    bucket.remove(id);
+    if (bucket.isEmpty()) {
+      renderBuckets.remove(slot.layer());
+    }
+  }
+
+  /**
+   * Rebuilds the render order if the object data map was changed directly instead of through this
+   * class.
+   */
+  private void ensureRenderOrder() {
+    if (renderSlots.size() != myObjectDataMap.size()) {
+      LOG.debug("Rebuilding render order for {} objects", myObjectDataMap.size());
+      renderSlots.clear();
+      renderBuckets.clear();
+      myObjectDataMap.forEach((id, object) -> placeInRenderOrder(id, layerOf(object)));
+    }
+  }
+
+  /**
+   * Layer priorities can change after objects were bucketed, so the few buckets are ordered on
+   * every call rather than once.
+   */
+  private List<Layer> layersByPriority() {
+    List<Layer> layers = new ArrayList<>(renderBuckets.keySet());
+    layers.sort((layer1, layer2) -> Integer.compare(priorityOf(layer2), priorityOf(layer1)));
+    return layers;
+  }
+
+  private Layer layerOf(EditorObject object) {
+    return object.getIdentityData() == null ? null : object.getIdentityData().getLayer();
+  }
+
+  private int priorityOf(Layer layer) {
+    return layer == null ? 0 : layer.getPriority();
+  }
+
   /**
    * Gets the layer priority of an editor object by its UUID.
    * This is a convenience method that gets the object, retrieves its identity data,
@@ -562,9 +879,12 @@ public class EditorLevelData {
   /**
    * Returns all objects on a specific layer.
    * This is useful for operations that need to manipulate or select objects from a particular layer.
+   * The returned list is a read-only view of the layer's membership, kept up to date as objects
+   * are added, moved and removed, so it is not copied on every call.
    *
    * @param layerName the name of the layer to get objects from
-   * @return a list of editor objects on the specified layer, or an empty list if the layer doesn't exist
+   * @return a read-only list of editor objects on the specified layer, or an empty list if the
+   * layer doesn't exist
    */
   public List<EditorObject> getObjectsByLayer(String layerName) {
     if (layerName == null || layerName.isEmpty()) {
@@ -572,19 +892,47 @@ public class EditorLevelData {
       return Collections.emptyList();
     }
 
-    // Find the layer by name
-    Layer targetLayer = myLayers.stream()
-        .filter(layer -> layerName.equals(layer.getName()))
-        .findFirst()
-        .orElse(null);
-
+    Layer targetLayer = findLayer(layerName);
     if (targetLayer == null) {
       LOG.warn("Layer '{}' not found when getting objects", layerName);
       return Collections.emptyList();
     }
 
-    // Return all objects on this layer
     List<EditorObject> layerObjects = myLayerDataMap.get(targetLayer);
-    return layerObjects != null ? new ArrayList<>(layerObjects) : Collections.emptyList();
+    return layerObjects != null ? Collections.unmodifiableList(layerObjects)
+        : Collections.emptyList();
+  }
+
+  /**
+   * Returns the number of objects on a specific layer without copying its object list.
+   *
+   * @param layerName the name of the layer to count
+   * @return the number of objects on the layer, or 0 if the layer doesn't exist
+   */
+  public int getObjectCount(String layerName) {
+    Layer layer = layerName == null ? null : findLayer(layerName);
+    List<EditorObject> layerObjects = layer == null ? null : myLayerDataMap.get(layer);
+    return layerObjects == null ? 0 : layerObjects.size();
+  }
+
+  private void addToLayerList(Layer layer, EditorObject object) {
+    myLayerDataMap.computeIfAbsent(layer, k -> new ArrayList<>()).add(object);
+    memberLayers.put(object.getId(), layer);
+  }
+
+  /**
+   * Looks a layer up by name. Layers can be renamed after they were added, so a stale entry in the
+   * name index triggers a rebuild of the index from the layer list.
+   */
+  private Layer findLayer(String layerName) {
+    Layer layer = layersByName.get(layerName);
+    if (layer != null && layerName.equals(layer.getName()) && myLayers.contains(layer)) {
+      return layer;
+    }
+    layersByName.clear();
+    for (Layer candidate : myLayers) {
+      layersByName.putIfAbsent(candidate.getName(), candidate);
+    }
+    return layersByName.get(layerName);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,407 @@
+package oogasalad.editor.model.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * A quadtree over the hitboxes of the editor objects in a level, used to answer point, rectangle
+ * and nearest-object queries without scanning every object.
+ * <p>
+ * Each hitbox is stored in the smallest node that fully contains it, so large objects stay near
+ * the root while small objects sink into the leaves. The root grows outward whenever a hitbox is
+ * added outside of it, so the tree never needs to know the size of the level up front. Hitboxes
+ * are half-open rectangles: a point on the right or bottom edge is outside, matching how the
+ * editor has always hit-tested objects.
+ * </p>
+ * <p>
+ * The tree also keeps the bounding box of all hitboxes up to date. Every left, top, right and
+ * bottom edge is counted as hitboxes are added, moved and removed, so {@link #getBounds()} never
+ * has to visit the hitboxes themselves.
+ * </p>
+ *
+ * @author Jacob You
+ */
+public class HitboxQuadTree {
+
+  private static final int NODE_CAPACITY = 8;
+  private static final int MIN_NODE_SIZE = 32;
+  private static final int INITIAL_ROOT_SIZE = 4096;
+  private static final int MAX_ROOT_SIZE = 1 << 30;
+
+  private final Map<UUID, Entry> entries = new HashMap<>();
+  private final EdgeCounts lefts = new EdgeCounts();
+  private final EdgeCounts tops = new EdgeCounts();
+  private final EdgeCounts rights = new EdgeCounts();
+  private final EdgeCounts bottoms = new EdgeCounts();
+  private Node root = new Node(-INITIAL_ROOT_SIZE / 2, -INITIAL_ROOT_SIZE / 2, INITIAL_ROOT_SIZE,
+      null);
+
+  /**
+   * Adds or moves the hitbox of an object.
+   *
+   * @param id     the object's unique identifier
+   * @param x      the hitbox's left edge
+   * @param y      the hitbox's top edge
+   * @param width  the hitbox's width; negative values are treated as zero
+   * @param height the hitbox's height; negative values are treated as zero
+   */
+  public void put(UUID id, int x, int y, int width, int height) {
+    Entry entry = entries.get(id);
+    int w = Math.max(0, width);
+    int h = Math.max(0, height);
+    if (entry != null) {
+      if (entry.x == x && entry.y == y && entry.width == w && entry.height == h) {
+        return;
+      }
+      countEdges(entry, -1);
+      if (entry.node.contains(x, y, w, h) && !entry.node.fitsInChild(x, y, w, h)) {
+        entry.set(x, y, w, h);
+        countEdges(entry, 1);
+        return;
+      }
+      entry.node.items.remove(entry);
+    } else {
+      entry = new Entry(id);
+      entries.put(id, entry);
+    }
+    entry.set(x, y, w, h);
+    countEdges(entry, 1);
+    growToContain(entry);
+    root.insert(entry);
+  }
+
+  /**
+   * Removes the hitbox of an object.
+   *
+   * @param id the object's unique identifier
+   * @return true if the object was indexed
+   */
+  public boolean remove(UUID id) {
+    Entry entry = entries.remove(id);
+    if (entry == null) {
+      return false;
+    }
+    entry.node.items.remove(entry);
+    countEdges(entry, -1);
+    return true;
+  }
+
+  /**
+   * Removes every hitbox and shrinks the tree back to its initial size.
+   */
+  public void clear() {
+    entries.clear();
+    lefts.clear();
+    tops.clear();
+    rights.clear();
+    bottoms.clear();
+    root = new Node(-INITIAL_ROOT_SIZE / 2, -INITIAL_ROOT_SIZE / 2, INITIAL_ROOT_SIZE, null);
+  }
+
+  /**
+   * @return the number of indexed hitboxes
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @param id the object's unique identifier
+   * @return whether the object is indexed
+   */
+  public boolean contains(UUID id) {
+    return entries.containsKey(id);
+  }
+
+  /**
+   * Returns the smallest rectangle containing every indexed hitbox.
+   *
+   * @return a new array of [minX, minY, maxX, maxY], or null if nothing is indexed
+   */
+  public int[] getBounds() {
+    if (entries.isEmpty()) {
+      return null;
+    }
+    return new int[]{(int) lefts.min(), (int) tops.min(), (int) rights.max(),
+        (int) bottoms.max()};
+  }
+
+  /**
+   * Finds every object whose hitbox contains the given point.
+   *
+   * @param px the point's x-coordinate
+   * @param py the point's y-coordinate
+   * @return the matching object IDs, in no particular order
+   */
+  public List<UUID> queryPoint(double px, double py) {
+    List<UUID> result = new ArrayList<>();
+    root.collectPoint(px, py, result);
+    return result;
+  }
+
+  /**
+   * Finds every object whose hitbox overlaps the given rectangle.
+   *
+   * @param x      the rectangle's left edge
+   * @param y      the rectangle's top edge
+   * @param width  the rectangle's width
+   * @param height the rectangle's height
+   * @return the matching object IDs, in no particular order
+   */
+  public List<UUID> queryRect(double x, double y, double width, double height) {
+    List<UUID> result = new ArrayList<>();
+    if (width < 0 || height < 0) {
+      return result;
+    }
+    root.collectRect(x, y, x + width, y + height, result);
+    return result;
+  }
+
+  /**
+   * Finds the object whose hitbox is closest to the given point. A point inside a hitbox is at
+   * distance zero from it.
+   *
+   * @param px          the point's x-coordinate
+   * @param py          the point's y-coordinate
+   * @param maxDistance the largest distance to search; use {@link Double#POSITIVE_INFINITY} for no
+   *                    limit
+   * @return the closest object's ID, or null if no hitbox lies within {@code maxDistance}
+   */
+  public UUID nearest(double px, double py, double maxDistance) {
+    double bestDistance = maxDistance * maxDistance;
+    UUID best = null;
+    PriorityQueue<Candidate> queue = new PriorityQueue<>();
+    queue.add(new Candidate(root, 0));
+    while (!queue.isEmpty()) {
+      Candidate next = queue.poll();
+      if (next.distance > bestDistance) {
+        break;
+      }
+      Node node = next.node;
+      for (Entry entry : node.items) {
+        double distance = entry.distanceSquared(px, py);
+        if (distance < bestDistance || best == null && distance <= bestDistance) {
+          bestDistance = distance;
+          best = entry.id;
+        }
+      }
+      if (node.children != null) {
+        for (Node child : node.children) {
+          queue.add(new Candidate(child, child.distanceSquared(px, py)));
+        }
+      }
+    }
+    return best;
+  }
+
+  private void growToContain(Entry entry) {
+    while (!root.contains(entry.x, entry.y, entry.width, entry.height)
+        && root.size <= MAX_ROOT_SIZE / 2) {
+      Node oldRoot = root;
+      int size = oldRoot.size * 2;
+      boolean growLeft = entry.x < oldRoot.x;
+      boolean growUp = entry.y < oldRoot.y;
+      int x = growLeft ? oldRoot.x - oldRoot.size : oldRoot.x;
+      int y = growUp ? oldRoot.y - oldRoot.size : oldRoot.y;
+      Node newRoot = new Node(x, y, size, null);
+      newRoot.split();
+      int quadrant = (growLeft ? 1 : 0) + (growUp ? 2 : 0);
+      oldRoot.parent = newRoot;
+      newRoot.children[quadrant] = oldRoot;
+      root = newRoot;
+    }
+  }
+
+  private void countEdges(Entry entry, int delta) {
+    lefts.add(entry.x, delta);
+    tops.add(entry.y, delta);
+    rights.add((long) entry.x + entry.width, delta);
+    bottoms.add((long) entry.y + entry.height, delta);
+  }
+
+  /**
+   * A multiset of edge coordinates, so the extreme edge is still known after the hitbox that
+   * defined it moves away.
+   */
+  private static final class EdgeCounts {
+
+    private final TreeMap<Long, Integer> counts = new TreeMap<>();
+
+    private void add(long edge, int delta) {
+      counts.merge(edge, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    private long min() {
+      return counts.firstKey();
+    }
+
+    private long max() {
+      return counts.lastKey();
+    }
+
+    private void clear() {
+      counts.clear();
+    }
+  }
+
+  private record Candidate(Node node, double distance) implements Comparable<Candidate> {
+
+    @Override
+    public int compareTo(Candidate other) {
+      return Double.compare(distance, other.distance);
+    }
+  }
+
+  private static final class Entry {
+
+    private final UUID id;
+    private int x;
+    private int y;
+    private int width;
+    private int height;
+    private Node node;
+
+    private Entry(UUID id) {
+      this.id = id;
+    }
+
+    private void set(int x, int y, int width, int height) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+    }
+
+    private boolean containsPoint(double px, double py) {
+      return px >= x && px < x + width && py >= y && py < y + height;
+    }
+
+    private boolean overlaps(double minX, double minY, double maxX, double maxY) {
+      return x <= maxX && x + width >= minX && y <= maxY && y + height >= minY;
+    }
+
+    private double distanceSquared(double px, double py) {
+      double dx = Math.max(Math.max(x - px, 0), px - (x + width));
+      double dy = Math.max(Math.max(y - py, 0), py - (y + height));
+      return dx * dx + dy * dy;
+    }
+  }
+
+  private static final class Node {
+
+    private final int x;
+    private final int y;
+    private final int size;
+    private final List<Entry> items = new ArrayList<>();
+    private Node parent;
+    private Node[] children;
+
+    private Node(int x, int y, int size, Node parent) {
+      this.x = x;
+      this.y = y;
+      this.size = size;
+      this.parent = parent;
+    }
+
+    private boolean contains(long ex, long ey, long width, long height) {
+      return ex >= x && ey >= y && ex + width <= (long) x + size && ey + height <= (long) y + size;
+    }
+
+    private boolean fitsInChild(int ex, int ey, int width, int height) {
+      return children != null && childFor(ex, ey, width, height) != null;
+    }
+
+    private Node childFor(int ex, int ey, int width, int height) {
+      for (Node child : children) {
+        if (child.contains(ex, ey, width, height)) {
+          return child;
+        }
+      }
+      return null;
+    }
+
+    private void insert(Entry entry) {
+      Node node = this;
+      while (true) {
+        if (node.children == null && node.items.size() >= NODE_CAPACITY
+            && node.size / 2 >= MIN_NODE_SIZE) {
+          node.split();
+        }
+        Node child = node.children == null ? null
+            : node.childFor(entry.x, entry.y, entry.width, entry.height);
+        if (child == null) {
+          node.items.add(entry);
+          entry.node = node;
+          return;
+        }
+        node = child;
+      }
+    }
+
+    private void split() {
+      int half = size / 2;
+      children = new Node[]{
+          new Node(x, y, half, this),
+          new Node(x + half, y, half, this),
+          new Node(x, y + half, half, this),
+          new Node(x + half, y + half, half, this)
+      };
+      List<Entry> existing = new ArrayList<>(items);
+      items.clear();
+      for (Entry entry : existing) {
+        Node child = childFor(entry.x, entry.y, entry.width, entry.height);
+        Node target = child == null ? this : child;
+        target.items.add(entry);
+        entry.node = target;
+      }
+    }
+
+    private boolean overlaps(double minX, double minY, double maxX, double maxY) {
+      return x <= maxX && (long) x + size >= minX && y <= maxY && (long) y + size >= minY;
+    }
+
+    private void collectPoint(double px, double py, List<UUID> result) {
+      if (parent != null && !overlaps(px, py, px, py)) {
+        return;
+      }
+      for (Entry entry : items) {
+        if (entry.containsPoint(px, py)) {
+          result.add(entry.id);
+        }
+      }
+      if (children != null) {
+        for (Node child : children) {
+          child.collectPoint(px, py, result);
+        }
+      }
+    }
+
+    private void collectRect(double minX, double minY, double maxX, double maxY,
+        List<UUID> result) {
+      if (parent != null && !overlaps(minX, minY, maxX, maxY)) {
+        return;
+      }
+      for (Entry entry : items) {
+        if (entry.overlaps(minX, minY, maxX, maxY)) {
+          result.add(entry.id);
+        }
+      }
+      if (children != null) {
+        for (Node child : children) {
+          child.collectRect(minX, minY, maxX, maxY, result);
+        }
+      }
+    }
+
+    private double distanceSquared(double px, double py) {
+      double dx = Math.max(Math.max(x - px, 0), px - ((double) x + size));
+      double dy = Math.max(Math.max(y - py, 0), py - ((double) y + size));
+      return dx * dx + dy * dy;
+    }
+  }
+}
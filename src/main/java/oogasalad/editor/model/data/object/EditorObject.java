@@ -34,6 +34,7 @@ public class EditorObject {
   private Properties editorConfig;
   private Map<String, String> stringParameters;
   private Map<String, Double> doubleParameters;
+  private volatile long revision;
 
   /**
    * Constructs an EditorObject with all specified data components. Initializes parameter maps.
@@ -62,6 +63,7 @@ public class EditorObject {
     this.collision = collision;
     this.sprite = sprite;
     this.hitbox = hitbox;
+    watchHitbox();
     this.custom = custom;
     this.event = event;
     this.stringParameters = new HashMap<>(stringParameters);
@@ -85,6 +87,7 @@ public class EditorObject {
         Integer.parseInt(editorConfig.getProperty("defaultHitboxWidth")),
         Integer.parseInt(editorConfig.getProperty("defaultHitboxHeight")),
         editorConfig.getProperty("defaultHitboxShape"));
+    watchHitbox();
     this.sprite = new SpriteData("", 0, 0, 0, false, new HashMap<>(), new HashMap<>(), "");
     this.input = new InputData();
     this.physics = new PhysicsData();
@@ -123,6 +126,7 @@ public class EditorObject {
    */
   public void setIdentityData(IdentityData identity) {
     this.identity = identity;
+    markChanged();
   }
 
   /**
@@ -141,6 +145,7 @@ public class EditorObject {
    */
   public void setInputData(InputData input) {
     this.input = input;
+    markChanged();
   }
 
   /**
@@ -159,6 +164,7 @@ public class EditorObject {
    */
   public void setPhysicsData(PhysicsData physics) {
     this.physics = physics;
+    markChanged();
   }
 
   /**
@@ -177,6 +183,7 @@ public class EditorObject {
    */
   public void setCollisionData(CollisionData collision) {
     this.collision = collision;
+    markChanged();
   }
 
   /**
@@ -195,6 +202,7 @@ public class EditorObject {
    */
   public void setSpriteData(SpriteData sprite) {
     this.sprite = sprite;
+    markChanged();
   }
 
   /**
@@ -213,6 +221,37 @@ public class EditorObject {
    */
   public void setHitboxData(HitboxData hitbox) {
     this.hitbox = hitbox;
+    watchHitbox();
+    markChanged();
+    level.hitboxChanged(this);
+  }
+
+  private void watchHitbox() {
+    if (hitbox != null) {
+      hitbox.setChangeListener(() -> {
+        markChanged();
+        level.hitboxChanged(this);
+      });
+    }
+  }
+
+  /**
+   * Returns the revision of this object's data. The revision grows whenever one of the object's
+   * components is replaced or changed through the editor's data managers, so anything derived from
+   * the object, such as its saved blueprint, can be reused while the revision stays the same.
+   *
+   * @return the current revision
+   */
+  public long getRevision() {
+    return revision;
+  }
+
+  /**
+   * Records that some of this object's data changed. Code that edits a component in place, rather
+   * than through a setter of this class, must call this so derived data is rebuilt.
+   */
+  public void markChanged() {
+    revision++;
   }
 
   /**
@@ -231,6 +270,7 @@ public class EditorObject {
    */
   public void setCustomEventData(CustomEventData custom) {
     this.custom = custom;
+    markChanged();
   }
 
   /**
@@ -249,6 +289,7 @@ public class EditorObject {
    */
   public void setEventData(EventData event) {
     this.event = event;
+    markChanged();
   }
 
   /**
@@ -281,6 +322,7 @@ public class EditorObject {
    */
   public void setStringParameters(Map<String, String> stringParameters) {
     this.stringParameters = new HashMap<>(stringParameters);
+    markChanged();
   }
 
   /**
@@ -304,5 +346,6 @@ public class EditorObject {
    */
   public void setDoubleParameters(Map<String, Double> doubleParameters) {
     this.doubleParameters = new HashMap<>(doubleParameters);
+    markChanged();
   }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ public class HitboxData {
   private int width;
   private int height;
   private String shape;
+  private Runnable changeListener;
 
   /**
    * Constructs a new HitboxData instance with the specified coordinates, dimensions, and shape.
@@ -82,6 +83,7 @@ public class HitboxData {
    */
   public void setX(int x) {
     this.x = x;
+    notifyChanged();
   }
 
   /**
@@ -91,6 +93,7 @@ public class HitboxData {
    */
   public void setY(int y) {
     this.y = y;
+    notifyChanged();
   }
 
   /**
@@ -100,6 +103,7 @@ public class HitboxData {
    */
   public void setWidth(int width) {
     this.width = width;
+    notifyChanged();
   }
 
   /**
@@ -109,6 +113,7 @@ public class HitboxData {
    */
   public void setHeight(int height) {
     this.height = height;
+    notifyChanged();
   }
 
   /**
@@ -119,4 +124,21 @@ public class HitboxData {
   public void setShape(String shape) {
     this.shape = shape;
   }
+
+  /**
+   * Registers the callback run whenever the position or size of this hitbox changes, replacing
+   * any previous one. The owning {@link EditorObject} uses it to keep the level's spatial index
+   * current.
+   *
+   * @param listener the callback to run, or null to stop notifying
+   */
+  public void setChangeListener(Runnable listener) {
+    this.changeListener = listener;
+  }
+
+  private void notifyChanged() {
+    if (changeListener != null) {
+      changeListener.run();
+    }
+  }
 }
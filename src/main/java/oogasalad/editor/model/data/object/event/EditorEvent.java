@@ -3,6 +3,7 @@ package oogasalad.editor.model.data.object.event;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents an event associated with an editor object, encapsulating its conditions, outcomes, and
@@ -156,7 +157,7 @@ public class EditorEvent {
   public int addConditionGroup() {
     List<ExecutorData> conditionGroup = new ArrayList<>();
     conditions.add(conditionGroup);
-    return conditions.indexOf(conditionGroup);
+    return conditions.size() - 1;
   }
 
   /**
@@ -243,6 +244,38 @@ public class EditorEvent {
     conditions.add(group);
   }
 
+  /**
+   * Returns a deep copy of this event, so that changing the copy's conditions, outcomes or their
+   * parameters leaves this event untouched.
+   *
+   * @return a new EditorEvent with copies of this event's conditions and outcomes
+   */
+  public EditorEvent copy() {
+    List<List<ExecutorData>> conditionsCopy = new ArrayList<>(conditions.size());
+    for (List<ExecutorData> group : conditions) {
+      conditionsCopy.add(new ArrayList<>(group.stream().map(ExecutorData::copy).toList()));
+    }
+    return new EditorEvent(conditionsCopy,
+        new ArrayList<>(outcomes.stream().map(ExecutorData::copy).toList()));
+  }
+
+  /**
+   * Events are equal when they have equal condition groups and outcomes in the same order.
+   *
+   * @param other the object to compare with
+   * @return true if other is an EditorEvent with the same conditions and outcomes
+   */
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof EditorEvent event && Objects.equals(conditions, event.conditions)
+        && Objects.equals(outcomes, event.outcomes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(conditions, outcomes);
+  }
+
   /**
    * Returns a string representation of an editorEvent.
    *
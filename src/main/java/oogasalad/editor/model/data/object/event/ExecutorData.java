@@ -1,6 +1,8 @@
 package oogasalad.editor.model.data.object.event;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents a single executor for an event, which can be either a condition or an outcome. This
@@ -87,6 +89,33 @@ public class ExecutorData {
     doubleParams.put(paramName, paramValue);
   }
 
+  /**
+   * Returns a copy of this executor whose parameter maps can be changed independently.
+   *
+   * @return a new ExecutorData with the same name and parameters
+   */
+  public ExecutorData copy() {
+    return new ExecutorData(executor, new HashMap<>(stringParams), new HashMap<>(doubleParams));
+  }
+
+  /**
+   * Executors are equal when they have the same name and parameters.
+   *
+   * @param other the object to compare with
+   * @return true if other is an ExecutorData with the same name and parameters
+   */
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof ExecutorData data && Objects.equals(executor, data.executor)
+        && Objects.equals(stringParams, data.stringParams)
+        && Objects.equals(doubleParams, data.doubleParams);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(executor, stringParams, doubleParams);
+  }
+
   /**
    * Returns a string representation of an executorEvent.
    * @return a string representation of an executorEvent
@@ -68,10 +68,7 @@ public class EditorObjectPopulator {
   public EditorObject createDefaultObject() {
     LOG.debug("Creating default EditorObject.");
     EditorObject newObject = new EditorObject(levelData);
-    levelData.getObjectDataMap().put(newObject.getId(), newObject);
-    levelData.getObjectLayerDataMap()
-        .computeIfAbsent(newObject.getIdentityData().getLayer(), k -> new ArrayList<>())
-        .add(newObject);
+    levelData.registerObject(newObject, newObject.getIdentityData().getLayer());
     LOG.info("Default EditorObject created and registered with ID: {}", newObject.getId());
     return newObject;
   }
@@ -183,12 +180,7 @@ public class EditorObjectPopulator {
   }
 
   private void registerObjectInLevel(EditorObject object) {
-    levelData.getObjectDataMap().put(object.getId(), object);
-    levelData.getObjectLayerDataMap().values()
-        .forEach(list -> list.removeIf(o -> o.getId().equals(object.getId())));
-    levelData.getObjectLayerDataMap()
-        .computeIfAbsent(object.getIdentityData().getLayer(), k -> new ArrayList<>())
-        .add(object);
+    levelData.registerObject(object, object.getIdentityData().getLayer());
   }
 
   /**
@@ -360,22 +352,47 @@ public class EditorObjectPopulator {
   public EditorObject populateFromGameObjectData(GameObjectData gameObjectData,
       Map<Integer, BlueprintData> blueprintMap) {
     Objects.requireNonNull(gameObjectData, "GameObjectData cannot be null");
+    Layer targetLayer = findTargetLayerByPriority(gameObjectData.layer(),
+        gameObjectData.uniqueId(), levelData.getFirstLayer());
+    EditorObject object = buildFromGameObjectData(gameObjectData, blueprintMap, targetLayer);
+    levelData.addGroup(object.getIdentityData().getGroup());
+    registerObjectInLayer(object, targetLayer);
+    return object;
+  }
+
+  /**
+   * Builds an {@link EditorObject} from a {@link GameObjectData} record like
+   * {@link #populateFromGameObjectData(GameObjectData, Map)}, but neither the object nor its group
+   * is added to the {@link EditorLevelData}. The level is only read, so objects can be built in
+   * parallel on background threads and registered together afterwards.
+   *
+   * @param gameObjectData the {@link GameObjectData} record containing instance-specific
+   *                       information. Must not be null.
+   * @param blueprintMap   a map from blueprint ID to {@link BlueprintData}, used to find the
+   *                       template. Must not be null.
+   * @param targetLayer    the layer the object is placed on. Must not be null.
+   * @return the newly created and populated, but unregistered, {@link EditorObject}.
+   */
+  public EditorObject buildFromGameObjectData(GameObjectData gameObjectData,
+      Map<Integer, BlueprintData> blueprintMap, Layer targetLayer) {
+    Objects.requireNonNull(gameObjectData, "GameObjectData cannot be null");
     Objects.requireNonNull(blueprintMap, "Blueprint map cannot be null");
+    Objects.requireNonNull(targetLayer, "Target layer cannot be null");
     LOG.debug("Populating EditorObject from GameObjectData ID: {}, BlueprintID: {}",
         gameObjectData.uniqueId(), gameObjectData.blueprintId());
     EditorObject object = new EditorObject(levelData);
 
     BlueprintData blueprint = blueprintMap.get(gameObjectData.blueprintId());
     if (blueprint == null) {
-      return createNullBlueprintObject(gameObjectData, object);
+      return createNullBlueprintObject(gameObjectData, object, targetLayer);
     }
 
-    setIdentityData(gameObjectData, object, blueprint);
+    object.setIdentityData(buildIdentity(gameObjectData, blueprint, targetLayer));
     setSpriteData(gameObjectData, object, blueprint);
     setHitboxData(gameObjectData, object, blueprint);
     setPhysicsData(object, blueprint);
     setEventData(object, blueprint);
-    LOG.info("Events:" + object.getCustomEventData().getEvents().keySet());
+    LOG.debug("Events: {}", object.getCustomEventData().getEvents().keySet());
 
     object.setStringParameters(
         blueprint.stringProperties() != null ? blueprint.stringProperties() : new HashMap<>());
@@ -385,7 +402,7 @@ public class EditorObjectPopulator {
         "Populated {} string parameters and {} double parameters from GameObjectData/Blueprint.",
         object.getStringParameters().size(), object.getDoubleParameters().size());
 
-    LOG.info("Populated EditorObject {} from GameObjectData {} using Blueprint {}",
+    LOG.debug("Populated EditorObject {} from GameObjectData {} using Blueprint {}",
         gameObjectData.uniqueId(), gameObjectData.uniqueId(), blueprint.blueprintId());
 
     return object;
@@ -401,25 +418,25 @@ public class EditorObjectPopulator {
   public void setIdentityData(GameObjectData data, EditorObject object, BlueprintData blueprint) {
     Layer defaultLayer = levelData.getFirstLayer();
     Layer targetLayer = findTargetLayerByPriority(data.layer(), data.uniqueId(), defaultLayer);
-    String group = getOrDefault(blueprint.group());
-    String type = getOrDefault(blueprint.type());
-    String game = getOrDefault(blueprint.gameName());
+    IdentityData identity = buildIdentity(data, blueprint, targetLayer);
+    object.setIdentityData(identity);
+
+    levelData.addGroup(identity.getGroup());
+    registerObjectInLayer(object, targetLayer);
+  }
 
-    IdentityData identity = new IdentityData(
+  private IdentityData buildIdentity(GameObjectData data, BlueprintData blueprint,
+      Layer targetLayer) {
+    LOG.debug("Assigned object {} to layer '{}' with priority {}",
+        data.uniqueId(), targetLayer.getName(), targetLayer.getPriority());
+    return new IdentityData(
         data.uniqueId(),
         data.name(),
-        game,
-        group,
-        type,
+        getOrDefault(blueprint.gameName()),
+        getOrDefault(blueprint.group()),
+        getOrDefault(blueprint.type()),
         targetLayer
     );
-    object.setIdentityData(identity);
-
-    LOG.info("Assigned object {} to layer '{}' with priority {}",
-        data.uniqueId(), targetLayer.getName(), targetLayer.getPriority());
-
-    levelData.addGroup(group);
-    registerObjectInLayer(object, targetLayer);
   }
 
   private Layer findTargetLayerByPriority(int priority, UUID id, Layer defaultLayer) {
@@ -443,13 +460,7 @@ public class EditorObjectPopulator {
   }
 
   private void registerObjectInLayer(EditorObject object, Layer layer) {
-    UUID id = object.getId();
-    levelData.getObjectDataMap().put(id, object);
-    levelData.getObjectLayerDataMap().values()
-        .forEach(list -> list.removeIf(o -> o.getId().equals(id)));
-    levelData.getObjectLayerDataMap()
-        .computeIfAbsent(layer, k -> new ArrayList<>())
-        .add(object);
+    levelData.registerObject(object, layer);
   }
 
   private void setSpriteData(GameObjectData gameObjectData, EditorObject object,
@@ -588,31 +599,11 @@ public class EditorObjectPopulator {
   }
 
   private EditorObject createNullBlueprintObject(GameObjectData gameObjectData,
-      EditorObject object) {
+      EditorObject object, Layer targetLayer) {
     LOG.error(
         "BlueprintData not found for blueprintId {} (GameObjectData {}). Creating minimal error object.",
         gameObjectData.blueprintId(), gameObjectData.uniqueId());
 
-    // Try to find the layer by z-value first
-    int zValue = gameObjectData.layer();
-    Layer targetLayer = null;
-
-    // Look for a layer with matching priority first
-    for (Layer layer : levelData.getLayers()) {
-      if (layer.getPriority() == zValue) {
-        targetLayer = layer;
-        LOG.debug("Found layer '{}' with matching priority {} for error object",
-            layer.getName(), zValue);
-        break;
-      }
-    }
-
-    // If no matching layer found, use the first layer
-    if (targetLayer == null) {
-      targetLayer = levelData.getFirstLayer();
-      LOG.warn("No layer found with priority {} for error object, using default layer", zValue);
-    }
-
     IdentityData errorIdentity = new IdentityData(gameObjectData.uniqueId(),
         "ERROR_NoBlueprint_" + gameObjectData.uniqueId().toString().substring(0, 4),
         ERROR_STRING, ERROR_STRING, ERROR_STRING,
@@ -622,13 +613,8 @@ public class EditorObjectPopulator {
     object.setSpriteData(createDefaultSpriteData(gameObjectData.x(), gameObjectData.y()));
     object.getHitboxData().setX(gameObjectData.x());
     object.getHitboxData().setY(gameObjectData.y());
-    levelData.addGroup(ERROR_STRING);
-
-    levelData.getObjectDataMap().put(object.getId(), object);
-    levelData.getObjectLayerDataMap().computeIfAbsent(targetLayer, k -> new ArrayList<>())
-        .add(object);
 
-    LOG.info("Created error object and assigned to layer '{}' with priority {}",
+    LOG.info("Created error object for layer '{}' with priority {}",
         targetLayer.getName(), targetLayer.getPriority());
 
     return object;
@@ -1,12 +1,14 @@
 package oogasalad.editor.model.loader;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import oogasalad.editor.controller.level.CameraDataManager;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 import oogasalad.editor.controller.level.EditorDataAPI;
 import oogasalad.editor.model.data.CameraData;
 import oogasalad.editor.model.data.EditorLevelData;
@@ -36,6 +38,36 @@ import org.slf4j.LoggerFactory;
 public class LevelDataConverter {
 
   private static final Logger LOG = LoggerFactory.getLogger(LevelDataConverter.class);
+  private static final int PARALLEL_THRESHOLD = 64;
+
+  /**
+   * A level that has been read from a file and converted into editor objects, but not yet added to
+   * the editor's level. Produced off the JavaFX Application Thread by
+   * {@link #prepareLevelData(EditorDataAPI, EditorLevelData, EditorFileConverterAPI, String,
+   * LevelLoadMonitor)} and handed to {@link #applyLevelData(EditorLevelData, PreparedLevel)}.
+   */
+  public static final class PreparedLevel {
+
+    private final LevelData levelData;
+    private final Layer reusedLayer;
+    private final Map<Integer, Layer> layersByZ;
+    private final List<EditorObject> objects;
+
+    private PreparedLevel(LevelData levelData, Layer reusedLayer, Map<Integer, Layer> layersByZ,
+        List<EditorObject> objects) {
+      this.levelData = levelData;
+      this.reusedLayer = reusedLayer;
+      this.layersByZ = layersByZ;
+      this.objects = objects;
+    }
+
+    /**
+     * @return the number of objects that will be added to the level
+     */
+    public int getObjectCount() {
+      return objects.size();
+    }
+  }
 
   /**
    * Loads level data from the specified file and populates the editor's internal object map.
@@ -45,118 +77,172 @@ public class LevelDataConverter {
    * {@link EditorObjectPopulator} to create {@link EditorObject}s. Each object is then added to the
    * editor's level data map for later use by the editor view or controller.</p>
    *
-   * @param editorDataAPI
-   * @param fileName      the path to the level file to load
-   * @throws LayerParseException      if there is an error parsing layer information
-   * @throws LevelDataParseException  if there is an error parsing the overall level structure
-   * @throws PropertyParsingException if object properties fail to parse
-   * @throws SpriteParseException     if sprite information fails to load
-   * @throws EventParseException      if event definitions fail to parse
-   * @throws HitBoxParseException     if hit box definitions are invalid
-   * @throws BlueprintParseException  if blueprint data cannot be interpreted
-   * @throws GameObjectParseException if an error occurs while creating game objects
+   * @param editorDataAPI    the data API whose level the objects are created for
+   * @param editorLevelData  the level to load into
+   * @param fileConverterAPI the converter used to read the file
+   * @param fileName         the path to the level file to load
+   * @throws EditorLoadException if the file cannot be parsed
    */
   public void loadLevelData(EditorDataAPI editorDataAPI, EditorLevelData editorLevelData,
       EditorFileConverterAPI fileConverterAPI,
       String fileName) throws EditorLoadException {
+    applyLevelData(editorLevelData, prepareLevelData(editorDataAPI, editorLevelData,
+        fileConverterAPI, fileName, LevelLoadMonitor.NONE));
+  }
+
+  /**
+   * Reads a level file and converts its objects into {@link EditorObject}s without changing the
+   * editor's level, so it can run on a background thread while the editor stays responsive.
+   * Independent objects are converted in parallel. The level is only read, to find the layer that
+   * will be reused; it must not be edited until the result is applied.
+   *
+   * @param editorDataAPI    the data API whose level the objects are created for
+   * @param editorLevelData  the level the result will be applied to
+   * @param fileConverterAPI the converter used to read the file
+   * @param fileName         the path to the level file to load
+   * @param monitor          receives progress and may cancel the preparation
+   * @return the prepared level, to be passed to {@link #applyLevelData}
+   * @throws EditorLoadException   if the file cannot be parsed
+   * @throws CancellationException if the monitor cancelled the preparation
+   */
+  public PreparedLevel prepareLevelData(EditorDataAPI editorDataAPI,
+      EditorLevelData editorLevelData, EditorFileConverterAPI fileConverterAPI, String fileName,
+      LevelLoadMonitor monitor) throws EditorLoadException {
+    LevelData levelData;
     try {
-      LevelData levelData = fileConverterAPI.loadFileToEditor(fileName);
-      Map<Integer, BlueprintData> blueprintMap = levelData.gameBluePrintData();
-
-      List<GameObjectData> gameObjectData = levelData.gameObjects();
-      
-      // Print detailed information about game objects and their layers
-      LOG.info("Loaded {} game objects", gameObjectData.size());
-      Map<Integer, Integer> layerCounts = new HashMap<>();
-      for (GameObjectData obj : gameObjectData) {
-        int zLayer = obj.layer();
-        layerCounts.put(zLayer, layerCounts.getOrDefault(zLayer, 0) + 1);
-        LOG.debug("Object {} (blueprint {}) has z-layer: {}, layerName: '{}'", 
-            obj.uniqueId(), obj.blueprintId(), zLayer, obj.layerName());
-      }
-      
-      // Print summary of layers
-      LOG.info("Layer distribution:");
-      for (Map.Entry<Integer, Integer> entry : layerCounts.entrySet()) {
-        LOG.info(" - Layer {}: {} objects", entry.getKey(), entry.getValue());
-      }
-      
-      // Create layers from the z-coordinates in the game objects
-      setupLayersByZValue(editorLevelData, gameObjectData);
-
-      CameraData cameraData = editorLevelData.getCameraData();
-      cameraData.setCameraType(levelData.cameraData().type());
-      cameraData.setStringParams(levelData.cameraData().stringProperties());
-      cameraData.setDoubleParams(levelData.cameraData().doubleProperties());
-      
-      // Create objects and populate the level
-      EditorObjectPopulator populator = new EditorObjectPopulator(editorDataAPI);
-      for (GameObjectData gameObject : gameObjectData) {
-        EditorObject object = populator.populateFromGameObjectData(gameObject, blueprintMap);
-        editorLevelData.updateObjectInDataMap(object.getId(), object);
-        
-        // Verify which layer the object was actually assigned to
-        Layer objLayer = object.getIdentityData().getLayer();
-        LOG.debug("Object {} assigned to layer '{}' with priority {}",
-            object.getId(), objLayer.getName(), objLayer.getPriority());
-      }
-      
-      // Final verification of object-layer assignments
-      verifyLayerAssignments(editorLevelData);
-      
+      levelData = fileConverterAPI.loadFileToEditor(fileName);
     } catch (LayerParseException | LevelDataParseException | PropertyParsingException |
              SpriteParseException | EventParseException | HitBoxParseException |
              BlueprintParseException | GameObjectParseException e) {
       throw new EditorLoadException(e.getMessage(), e);
     }
+    checkCancelled(monitor);
+
+    List<GameObjectData> gameObjectData = levelData.gameObjects();
+    LOG.info("Loaded {} game objects", gameObjectData.size());
+    Map<Integer, Integer> countsByZ = countObjectsByZValue(gameObjectData);
+    List<Layer> current = editorLevelData.getLayers();
+    Layer reusedLayer = current.isEmpty() ? null : current.get(0);
+    Map<Integer, Layer> layersByZ = planLayers(countsByZ.keySet(), reusedLayer);
+
+    List<EditorObject> objects = populate(editorDataAPI, levelData, layersByZ, monitor);
+    return new PreparedLevel(levelData, reusedLayer, layersByZ, objects);
   }
-  
+
   /**
-   * Sets up layers in the editor level data based solely on the z-values (layer field) 
-   * from game objects. This ensures each distinct z-value becomes a layer with the
-   * appropriate priority.
-   * 
-   * @param data the editor level data to configure
-   * @param gameObjects the list of game objects containing layer information
+   * Adds a prepared level to the editor's level in one step: sets up its layers and camera, then
+   * registers all of its objects. Must be called on the thread that owns the level, normally the
+   * JavaFX Application Thread.
+   *
+   * @param editorLevelData the level to load into
+   * @param prepared        the result of {@link #prepareLevelData}
    */
-  private void setupLayersByZValue(EditorLevelData data, List<GameObjectData> gameObjects) {
-    Set<Integer> uniqueZ = collectUniqueZValues(gameObjects);
-    if (uniqueZ.isEmpty()) {
-      ensureDefaultLayer(data);
-    } else {
-      Set<Layer> processed = initializeLayers(data, uniqueZ);
-      cleanupLayers(data, processed);
+  public void applyLevelData(EditorLevelData editorLevelData, PreparedLevel prepared) {
+    setupLayersByZValue(editorLevelData, prepared);
+
+    CameraData cameraData = editorLevelData.getCameraData();
+    cameraData.setCameraType(prepared.levelData.cameraData().type());
+    cameraData.setStringParams(prepared.levelData.cameraData().stringProperties());
+    cameraData.setDoubleParams(prepared.levelData.cameraData().doubleProperties());
+
+    for (EditorObject object : prepared.objects) {
+      editorLevelData.addGroup(object.getIdentityData().getGroup());
+      editorLevelData.registerObject(object, object.getIdentityData().getLayer());
+    }
+
+    LOG.info("Final object-layer distribution:");
+    for (Layer layer : prepared.layersByZ.values()) {
+      LOG.info(" - Layer '{}': {} objects", layer.getName(),
+          editorLevelData.getObjectCount(layer.getName()));
     }
-    logLayerSummary(data);
   }
 
-  private Set<Integer> collectUniqueZValues(List<GameObjectData> gameObjects) {
-    Set<Integer> unique = new HashSet<>();
+  // Counts the objects on each z-value in one pass, in ascending z order.
+  private Map<Integer, Integer> countObjectsByZValue(List<GameObjectData> gameObjects) {
+    Map<Integer, Integer> counts = new TreeMap<>();
     for (GameObjectData obj : gameObjects) {
-      unique.add(obj.layer());
+      counts.merge(obj.layer(), 1, Integer::sum);
     }
-    return unique;
+    LOG.info("Layer distribution:");
+    counts.forEach((z, count) -> LOG.info(" - Layer {}: {} objects", z, count));
+    return counts;
   }
 
-  private Set<Layer> initializeLayers(EditorLevelData data, Set<Integer> zValues) {
-    List<Layer> current = data.getLayers();
-    Set<Layer> processed = new HashSet<>();
+  // Decides which layer each z-value becomes: the first existing layer is reused for the first
+  // z-value and renamed when the level is applied, every other z-value gets a new layer.
+  private Map<Integer, Layer> planLayers(Set<Integer> zValues, Layer reusedLayer) {
+    Map<Integer, Layer> layersByZ = new LinkedHashMap<>();
     boolean reusedFirst = false;
     for (Integer z : zValues) {
-      String name = "Layer_" + z;
-      if (!reusedFirst && !current.isEmpty()) {
-        Layer first = current.get(0);
-        first.setName(name);
-        first.setPriority(z);
-        processed.add(first);
-        LOG.info("Updated existing layer to '{}' with priority {}", name, z);
+      if (!reusedFirst && reusedLayer != null) {
+        layersByZ.put(z, reusedLayer);
         reusedFirst = true;
       } else {
-        Layer layer = new Layer(name, z);
+        layersByZ.put(z, new Layer(EditorObjectPopulator.LAYER_STRING + z, z));
+      }
+    }
+    return layersByZ;
+  }
+
+  // Converts every game object, in parallel for large levels. Each object only reads its own
+  // record and the shared, immutable blueprints, so the conversions are independent.
+  private List<EditorObject> populate(EditorDataAPI editorDataAPI, LevelData levelData,
+      Map<Integer, Layer> layersByZ, LevelLoadMonitor monitor) {
+    List<GameObjectData> gameObjects = levelData.gameObjects();
+    Map<Integer, BlueprintData> blueprintMap = levelData.gameBluePrintData();
+    EditorObjectPopulator populator = new EditorObjectPopulator(editorDataAPI);
+    int total = gameObjects.size();
+    AtomicInteger done = new AtomicInteger();
+    monitor.progress(0, total);
+    return (total > PARALLEL_THRESHOLD ? gameObjects.parallelStream() : gameObjects.stream())
+        .map(gameObject -> {
+          checkCancelled(monitor);
+          EditorObject object = populator.buildFromGameObjectData(gameObject, blueprintMap,
+              layersByZ.get(gameObject.layer()));
+          monitor.progress(done.incrementAndGet(), total);
+          return object;
+        })
+        .toList();
+  }
+
+  private void checkCancelled(LevelLoadMonitor monitor) {
+    if (monitor.isCancelled()) {
+      throw new CancellationException("Level loading was cancelled");
+    }
+  }
+
+  /**
+   * Sets up layers in the editor level data based solely on the z-values (layer field) from game
+   * objects, as planned while the level was prepared. This ensures each distinct z-value becomes a
+   * layer with the appropriate priority.
+   *
+   * @param data     the editor level data to configure
+   * @param prepared the prepared level holding the planned layers
+   */
+  private void setupLayersByZValue(EditorLevelData data, PreparedLevel prepared) {
+    if (prepared.layersByZ.isEmpty()) {
+      ensureDefaultLayer(data);
+    } else {
+      Set<Layer> processed = initializeLayers(data, prepared);
+      cleanupLayers(data, processed);
+    }
+    logLayerSummary(data);
+  }
+
+  private Set<Layer> initializeLayers(EditorLevelData data, PreparedLevel prepared) {
+    Set<Layer> processed = new HashSet<>();
+    for (Map.Entry<Integer, Layer> entry : prepared.layersByZ.entrySet()) {
+      Layer layer = entry.getValue();
+      String name = EditorObjectPopulator.LAYER_STRING + entry.getKey();
+      layer.setName(name);
+      layer.setPriority(entry.getKey());
+      if (layer == prepared.reusedLayer && data.getLayers().contains(layer)) {
+        LOG.info("Updated existing layer to '{}' with priority {}", name, entry.getKey());
+      } else {
         data.addLayer(layer);
-        processed.add(layer);
-        LOG.info("Created new layer '{}' with priority {}", name, z);
+        LOG.info("Created new layer '{}' with priority {}", name, entry.getKey());
       }
+      processed.add(layer);
     }
     return processed;
   }
@@ -191,27 +277,4 @@ public class LevelDataConverter {
       LOG.info(" - Layer: '{}' with priority {}", layer.getName(), layer.getPriority());
     }
   }
-
-
-  /**
-   * Verifies that objects are correctly assigned to layers.
-   * 
-   * @param editorLevelData the editor level data to check
-   */
-  private void verifyLayerAssignments(EditorLevelData editorLevelData) {
-    Map<String, Integer> layerObjectCounts = new HashMap<>();
-    
-    // Count objects in each layer
-    for (EditorObject obj : editorLevelData.getObjectDataMap().values()) {
-      Layer layer = obj.getIdentityData().getLayer();
-      String layerName = layer.getName();
-      layerObjectCounts.put(layerName, layerObjectCounts.getOrDefault(layerName, 0) + 1);
-    }
-    
-    // Print summary
-    LOG.info("Final object-layer distribution:");
-    for (Map.Entry<String, Integer> entry : layerObjectCounts.entrySet()) {
-      LOG.info(" - Layer '{}': {} objects", entry.getKey(), entry.getValue());
-    }
-  }
 }
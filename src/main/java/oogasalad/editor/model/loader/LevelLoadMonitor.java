@@ -0,0 +1,37 @@
+package oogasalad.editor.model.loader;
+
+/**
+ * Follows a level being prepared by {@link LevelDataConverter} in the background: it is told how
+ * far the preparation has got and decides whether it should stop early.
+ *
+ * @author Jacob You
+ */
+public interface LevelLoadMonitor {
+
+  /**
+   * A monitor that ignores progress and never cancels.
+   */
+  LevelLoadMonitor NONE = new LevelLoadMonitor() {
+    @Override
+    public void progress(int done, int total) {
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+  };
+
+  /**
+   * Reports progress. May be called from several threads at once.
+   *
+   * @param done  the number of objects converted so far
+   * @param total the number of objects in the level
+   */
+  void progress(int done, int total);
+
+  /**
+   * @return whether the load should stop as soon as possible
+   */
+  boolean isCancelled();
+}
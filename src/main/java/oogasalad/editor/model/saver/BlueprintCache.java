@@ -0,0 +1,109 @@
+package oogasalad.editor.model.saver;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import oogasalad.editor.model.data.object.EditorObject;
+import oogasalad.fileparser.records.BlueprintData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Remembers the {@link BlueprintData} built for each editor object between saves. A blueprint is
+ * rebuilt only when its object's revision has changed since it was built, so saving a large level
+ * after a small edit only converts the edited objects again.
+ * <p>
+ * Equal blueprints are interned: every object whose blueprint equals another's is given the same
+ * instance, so {@link EditorDataSaver} can group objects by blueprint by reference instead of
+ * hashing and comparing every blueprint's events and properties on every save.
+ * </p>
+ *
+ * @author Jacob You
+ */
+public class BlueprintCache {
+
+  private static final Logger LOG = LogManager.getLogger(BlueprintCache.class);
+  private static final int PARALLEL_THRESHOLD = 64;
+
+  private record Entry(EditorObject object, long revision, BlueprintData blueprint) {
+
+  }
+
+  private record Built(UUID id, EditorObject object, long revision, BlueprintData blueprint) {
+
+  }
+
+  private final Map<UUID, Entry> entries = new HashMap<>();
+  private final Map<BlueprintData, BlueprintData> interned = new HashMap<>();
+
+  /**
+   * Returns the blueprint of every given object, rebuilding only those that changed since the last
+   * call. Objects that are no longer given are forgotten. Equal blueprints are returned as the same
+   * instance. The returned blueprints do not have an ID yet.
+   *
+   * @param objects the level's objects, keyed by their UUID
+   * @return the blueprint of each object, keyed by the object's UUID, in the order of the given map
+   */
+  public synchronized Map<UUID, BlueprintData> blueprintsFor(Map<UUID, EditorObject> objects) {
+    entries.keySet().retainAll(objects.keySet());
+    List<Map.Entry<UUID, EditorObject>> stale = objects.entrySet().stream()
+        .filter(e -> isStale(entries.get(e.getKey()), e.getValue())).toList();
+    rebuild(stale);
+
+    Map<UUID, BlueprintData> blueprints = new LinkedHashMap<>();
+    Set<BlueprintData> live = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (UUID id : objects.keySet()) {
+      BlueprintData blueprint = entries.get(id).blueprint();
+      blueprints.put(id, blueprint);
+      live.add(blueprint);
+    }
+    interned.values().removeIf(blueprint -> !live.contains(blueprint));
+    return blueprints;
+  }
+
+  /**
+   * @return the number of objects whose blueprint is currently remembered
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Forgets every remembered blueprint, for example after a different level is loaded.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    interned.clear();
+  }
+
+  private boolean isStale(Entry entry, EditorObject object) {
+    return entry == null || entry.object() != object || entry.revision() != object.getRevision();
+  }
+
+  // Rebuilds the given objects' blueprints, in parallel when there are many of them. The revision
+  // is read before building so an edit made meanwhile makes the entry stale again.
+  private void rebuild(List<Map.Entry<UUID, EditorObject>> stale) {
+    if (stale.isEmpty()) {
+      return;
+    }
+    List<Built> built = (stale.size() > PARALLEL_THRESHOLD ? stale.parallelStream()
+        : stale.stream())
+        .map(e -> {
+          long revision = e.getValue().getRevision();
+          return new Built(e.getKey(), e.getValue(), revision,
+              BlueprintBuilder.fromEditorObject(e.getValue()));
+        })
+        .collect(Collectors.toList());
+    for (Built b : built) {
+      BlueprintData shared = interned.computeIfAbsent(b.blueprint(), key -> key);
+      entries.put(b.id(), new Entry(b.object(), b.revision(), shared));
+    }
+    LOG.debug("Rebuilt {} of {} blueprints", built.size(), entries.size());
+  }
+}
@@ -0,0 +1,283 @@
+package oogasalad.editor.model.saver;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import oogasalad.exceptions.EditorSaveException;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.filesaver.savestrategy.SaverStrategy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically saves the level being edited in the background so that a crash loses at most one
+ * interval of work.
+ * <p>
+ * Every interval, a snapshot of the level is taken on the JavaFX Application Thread. The snapshot
+ * is an immutable {@link LevelData}, built cheaply because unchanged objects reuse their cached
+ * blueprints (see {@link BlueprintCache}). Writing it out happens on a single background thread, so
+ * the editor never waits for the disk. A snapshot equal to the last one written is skipped. Each
+ * write keeps the previous autosaves as numbered backups, oldest dropped first.
+ * </p>
+ * <p>
+ * While a session runs it holds an operating system lock on a small lock file naming its
+ * autosave. When the editor closes normally the session removes its files; after a crash the lock
+ * is released but the files stay behind, and {@link #findRecoverable()} reports the autosave so the
+ * next session can offer to restore it.
+ * </p>
+ *
+ * @author Jacob You
+ */
+public class EditorAutosave {
+
+  /**
+   * Where autosaves are stored by default.
+   */
+  public static final Path DEFAULT_DIRECTORY = Path.of("data", "editorData", "autosave");
+  private static final Logger LOG = LogManager.getLogger(EditorAutosave.class);
+  private static final String LOCK_EXTENSION = ".lock";
+  private static final String SAVE_EXTENSION = ".xml";
+
+  private final Path directory;
+  private final SaverStrategy saver;
+  private final int backups;
+  private final String sessionId = UUID.randomUUID().toString();
+  private final ScheduledExecutorService worker =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "editor-autosave");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private ScheduledFuture<?> schedule;
+  private FileChannel lockChannel;
+  private FileLock lock;
+  private LevelData lastWritten;
+
+  /**
+   * Constructs an autosave service that is not yet running.
+   *
+   * @param directory the directory autosaves, backups and lock files are kept in
+   * @param saver     the strategy used to write snapshots
+   * @param backups   how many earlier autosaves to keep next to the latest one
+   */
+  public EditorAutosave(Path directory, SaverStrategy saver, int backups) {
+    this.directory = Objects.requireNonNull(directory);
+    this.saver = Objects.requireNonNull(saver);
+    this.backups = Math.max(0, backups);
+  }
+
+  /**
+   * Starts saving a snapshot of the level every interval. Snapshots are taken on the JavaFX
+   * Application Thread by way of {@code fxThread}; everything else happens in the background.
+   *
+   * @param snapshot takes an immutable snapshot of the level; called on the JavaFX thread
+   * @param interval the time between autosaves
+   * @param fxThread runs a task on the JavaFX Application Thread, e.g. Platform::runLater
+   * @param onError  called on the JavaFX Application Thread with a message when a write fails
+   */
+  public synchronized void start(Supplier<LevelData> snapshot, Duration interval,
+      Consumer<Runnable> fxThread, Consumer<String> onError) {
+    if (schedule != null) {
+      return;
+    }
+    long millis = Math.max(1, interval.toMillis());
+    worker.execute(this::acquireSessionLock);
+    schedule = worker.scheduleWithFixedDelay(() -> fxThread.accept(() -> {
+      if (worker.isShutdown()) {
+        return;
+      }
+      LevelData levelData = snapshot.get();
+      worker.execute(() -> {
+        try {
+          write(levelData);
+        } catch (EditorSaveException | IOException e) {
+          LOG.warn("Autosave failed: {}", e.getMessage());
+          fxThread.accept(() -> onError.accept("Autosave failed: " + e.getMessage()));
+        }
+      });
+    }), millis, millis, TimeUnit.MILLISECONDS);
+    LOG.info("Autosaving every {} seconds to {}", interval.toSeconds(), directory);
+  }
+
+  /**
+   * Stops autosaving after any write in progress and removes this session's autosaves, since the
+   * editor is closing normally.
+   */
+  public synchronized void stop() {
+    if (schedule == null) {
+      return;
+    }
+    schedule.cancel(false);
+    schedule = null;
+    worker.execute(this::releaseSession);
+    worker.shutdown();
+  }
+
+  /**
+   * Writes a snapshot now, unless it equals the last one written, then rotates the backups. Must
+   * be called on the autosave thread or, in tests, with no session running.
+   *
+   * @param levelData the snapshot to write
+   * @return whether the snapshot was written
+   * @throws EditorSaveException if the saver strategy fails
+   * @throws IOException         if the backups cannot be rotated
+   */
+  boolean write(LevelData levelData) throws EditorSaveException, IOException {
+    if (levelData.equals(lastWritten)) {
+      LOG.trace("Level unchanged since last autosave; skipping");
+      return false;
+    }
+    Files.createDirectories(directory);
+    Path next = directory.resolve(sessionId + ".next" + SAVE_EXTENSION);
+    saver.save(levelData, next.toFile());
+    rotateBackups();
+    Files.move(next, savePath(0), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    lastWritten = levelData;
+    LOG.debug("Autosaved level '{}' to {}", levelData.name(), savePath(0));
+    return true;
+  }
+
+  /**
+   * Finds autosaves left behind by editor sessions that ended without closing normally, newest
+   * first. Sessions still running are ignored. Performs file I/O, so call it off the JavaFX
+   * Application Thread.
+   *
+   * @return the paths of the latest autosave of each crashed session
+   */
+  public List<Path> findRecoverable() {
+    List<Path> recoverable = new ArrayList<>();
+    if (!Files.isDirectory(directory)) {
+      return recoverable;
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      String ownLock = sessionId + LOCK_EXTENSION;
+      for (Path lockFile : files.filter(p -> p.toString().endsWith(LOCK_EXTENSION))
+          .filter(p -> !p.getFileName().toString().equals(ownLock)).toList()) {
+        Path save = orphanedSave(lockFile);
+        if (save != null) {
+          recoverable.add(save);
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Could not look for autosaves to recover: {}", e.getMessage());
+    }
+    recoverable.sort((a, b) -> Long.compare(b.toFile().lastModified(), a.toFile().lastModified()));
+    return recoverable;
+  }
+
+  /**
+   * Runs {@link #findRecoverable()} on the autosave thread. Called after {@link #start}, the search
+   * runs only once this session holds its own lock, so it can never probe that lock file while it
+   * is being taken, nor mistake the running session for a crashed one.
+   *
+   * @return the paths of the latest autosave of each crashed session, newest first
+   */
+  public CompletableFuture<List<Path>> findRecoverableAsync() {
+    return CompletableFuture.supplyAsync(this::findRecoverable, worker);
+  }
+
+  /**
+   * Deletes a crashed session's autosave, its backups and its lock file, once it has been
+   * recovered or the user chose not to.
+   *
+   * @param autosave a path returned by {@link #findRecoverable()}
+   */
+  public void discard(Path autosave) {
+    String session = autosave.getFileName().toString().replace(SAVE_EXTENSION, "");
+    deleteSessionFiles(session);
+  }
+
+  private Path orphanedSave(Path lockFile) {
+    try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      FileLock probe = channel.tryLock();
+      if (probe == null) {
+        return null;
+      }
+      probe.release();
+      Path save = directory.resolve(Files.readString(lockFile, StandardCharsets.UTF_8).trim());
+      return Files.isRegularFile(save) ? save : null;
+    } catch (OverlappingFileLockException e) {
+      return null;
+    } catch (IOException e) {
+      LOG.warn("Could not inspect autosave lock {}: {}", lockFile, e.getMessage());
+      return null;
+    }
+  }
+
+  private void acquireSessionLock() {
+    try {
+      Files.createDirectories(directory);
+      Path lockFile = directory.resolve(sessionId + LOCK_EXTENSION);
+      Files.writeString(lockFile, savePath(0).getFileName().toString(), StandardCharsets.UTF_8);
+      lockChannel = FileChannel.open(lockFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      lock = lockChannel.tryLock();
+    } catch (IOException | OverlappingFileLockException e) {
+      LOG.warn("Could not lock autosave session {}: {}", sessionId, e.getMessage());
+    }
+  }
+
+  private void releaseSession() {
+    try {
+      if (lock != null) {
+        lock.release();
+      }
+      if (lockChannel != null) {
+        lockChannel.close();
+      }
+    } catch (IOException e) {
+      LOG.warn("Could not release autosave lock: {}", e.getMessage());
+    }
+    deleteSessionFiles(sessionId);
+  }
+
+  private void deleteSessionFiles(String session) {
+    try {
+      Files.deleteIfExists(directory.resolve(session + LOCK_EXTENSION));
+      for (int i = 0; i <= backups; i++) {
+        Files.deleteIfExists(directory.resolve(saveName(session, i)));
+      }
+    } catch (IOException e) {
+      LOG.warn("Could not remove autosave files of session {}: {}", session, e.getMessage());
+    }
+  }
+
+  // Shifts autosave.(n-1) to autosave.n, ..., autosave to autosave.1, dropping the oldest.
+  private void rotateBackups() throws IOException {
+    Files.deleteIfExists(savePath(backups));
+    for (int i = backups - 1; i >= 0; i--) {
+      Path from = savePath(i);
+      if (Files.exists(from)) {
+        Files.move(from, savePath(i + 1), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+  }
+
+  Path savePath(int backup) {
+    return directory.resolve(saveName(sessionId, backup));
+  }
+
+  private static String saveName(String session, int backup) {
+    return backup == 0 ? session + SAVE_EXTENSION : session + "." + backup + SAVE_EXTENSION;
+  }
+}
@@ -2,9 +2,10 @@ package oogasalad.editor.model.saver;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.UUID;
 import oogasalad.editor.model.data.EditorLevelData;
 import oogasalad.editor.model.data.Layer;
 import oogasalad.editor.model.data.object.EditorObject;
@@ -32,12 +33,32 @@ public class EditorDataSaver {
    * @return a LevelData instance containing camera setup, blueprint mappings, and object data
    */
   public static LevelData buildLevelData(EditorLevelData editorLevelData) {
-    Map<BlueprintData, Integer> blueprintToId = new HashMap<>();
-    AtomicInteger nextId = new AtomicInteger();
+    return buildLevelData(editorLevelData, new BlueprintCache());
+  }
+
+  /**
+   * Builds a {@link LevelData} record from the provided {@link EditorLevelData}, reusing the
+   * blueprints of objects that have not changed since the cache last saw them.
+   *
+   * @param editorLevelData the in‑memory representation of the editor's level
+   * @param blueprintCache the blueprints remembered from earlier saves of this level
+   * @return a LevelData instance containing camera setup, blueprint mappings, and object data
+   */
+  public static LevelData buildLevelData(EditorLevelData editorLevelData,
+      BlueprintCache blueprintCache) {
+    Map<UUID, EditorObject> objects = editorLevelData.getObjectDataMap();
+    Map<UUID, BlueprintData> blueprints = blueprintCache.blueprintsFor(objects);
+    Map<BlueprintData, Integer> blueprintToId = new IdentityHashMap<>();
     List<GameObjectData> gameObjects = new ArrayList<>();
 
-    for (EditorObject obj : editorLevelData.getObjectDataMap().values()) {
-      gameObjects.add(createGameObject(obj, blueprintToId, nextId));
+    for (Map.Entry<UUID, EditorObject> entry : objects.entrySet()) {
+      BlueprintData blueprint = blueprints.get(entry.getKey());
+      Integer id = blueprintToId.get(blueprint);
+      if (id == null) {
+        id = blueprintToId.size() + 1;
+        blueprintToId.put(blueprint, id);
+      }
+      gameObjects.add(createGameObject(entry.getValue(), id));
     }
 
     int[] bounds = editorLevelData.getBounds();
@@ -49,29 +70,19 @@ public class EditorDataSaver {
         bounds[1],
         bounds[2],
         bounds[3],
-        new CameraData(cameraData.getCameraType(), cameraData.getStringParams(), cameraData.getDoubleParams()),
+        new CameraData(cameraData.getCameraType(), new HashMap<>(cameraData.getStringParams()),
+            new HashMap<>(cameraData.getDoubleParams())),
         flipMapping(blueprintToId),
         gameObjects
     );
   }
 
-  // Creates or reuses a blueprint ID for the given object and returns its GameObjectData.
-  private static GameObjectData createGameObject(EditorObject object,
-      Map<BlueprintData, Integer> blueprintToId, AtomicInteger nextId) {
-
-    BlueprintData candidate = BlueprintBuilder.fromEditorObject(object);
-    Integer id = blueprintToId.get(candidate);
-
-    if (id == null) {
-      id = nextId.incrementAndGet();
-      BlueprintData finalBlueprint = candidate.withId(id);
-      blueprintToId.put(finalBlueprint, id);
-    }
-
+  // Returns the GameObjectData of the given object, which uses the blueprint with the given ID.
+  private static GameObjectData createGameObject(EditorObject object, int blueprintId) {
     Layer layer = object.getIdentityData().getLayer();
     return new GameObjectData(
         object.getIdentityData().getName(),
-        id,
+        blueprintId,
         object.getIdentityData().getId(),
         object.getHitboxData().getX(),
         object.getHitboxData().getY(),
@@ -85,7 +96,7 @@ public class EditorDataSaver {
       Map<BlueprintData, Integer> blueprintToId) {
     Map<Integer, BlueprintData> flipped = new HashMap<>();
     for (Map.Entry<BlueprintData, Integer> entry : blueprintToId.entrySet()) {
-      flipped.put(entry.getValue(), entry.getKey());
+      flipped.put(entry.getValue(), entry.getKey().withId(entry.getValue()));
     }
     return flipped;
   }
@@ -3,6 +3,7 @@ package oogasalad.editor.model.saver.api;
 import java.io.IOException;
 import java.util.zip.DataFormatException;
 import oogasalad.editor.model.data.EditorLevelData;
+import oogasalad.editor.model.saver.EditorDataSaver;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EditorSaveException;
 import oogasalad.exceptions.EventParseException;
@@ -39,6 +40,18 @@ public interface EditorFileConverterAPI {
   void saveEditorDataToFile(EditorLevelData editorLevelData, String fileName, SaverStrategy saver)
       throws EditorSaveException;
 
+  /**
+   * Converts the current Editor scene into the immutable {@link LevelData} the saver strategies
+   * write, without writing it anywhere. The result can be handed to another thread while editing
+   * continues.
+   *
+   * @param editorLevelData The level data to convert
+   * @return a snapshot of the level
+   */
+  default LevelData buildLevelData(EditorLevelData editorLevelData) {
+    return EditorDataSaver.buildLevelData(editorLevelData);
+  }
+
   /**
    * Loads an existing file into the Editor by: 1) Calling GameFileParserAPI to parse the file into
    * a standardized data structure 2) Translating that data structure into Editor-specific objects
@@ -1,5 +1,6 @@
 package oogasalad.editor.view;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -19,6 +20,26 @@ public interface EditorViewListener {
    */
   void onObjectAdded(UUID objectId);
 
+  /**
+   * Called once after a whole level has been loaded into the model, instead of one
+   * {@link #onObjectAdded(UUID)} per object. The view should add all the objects in a single pass.
+   *
+   * @param objectIds The IDs of every object in the loaded level, in load order.
+   */
+  void onObjectsLoaded(Collection<UUID> objectIds);
+
+  /**
+   * Called once when a batch of changes made in a single transaction is committed, instead of one
+   * {@link #onObjectAdded(UUID)}, {@link #onObjectRemoved(UUID)} or
+   * {@link #onObjectUpdated(UUID)} per object. Each object appears in at most one collection.
+   *
+   * @param added   The IDs of objects added to the model.
+   * @param removed The IDs of objects removed from the model.
+   * @param updated The IDs of existing objects whose data changed.
+   */
+  void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+      Collection<UUID> updated);
+
   /**
    * Called when a game object has been successfully removed from the model. The view should
    * typically remove the visual representation.
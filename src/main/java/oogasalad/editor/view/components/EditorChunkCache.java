@@ -0,0 +1,250 @@
+package oogasalad.editor.view.components;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import oogasalad.editor.model.data.Layer;
+
+/**
+ * Caches the editor's object layers as square chunks of the world rendered to offscreen images.
+ * Each chunk covers {@link #CHUNK_SIZE} world pixels on a side for one {@link Layer}, so
+ * redrawing a panned view is a handful of image blits rather than one draw call per object. A
+ * chunk is rendered the first time it becomes visible and kept until an object drawn in it, or
+ * an object now overlapping it, changes.
+ * Chunks are rendered at a power-of-two resolution close to the current zoom; zooming within
+ * the same power of two reuses them, and crossing into another one starts a fresh cache. Zoomed
+ * in past {@link #MAX_RENDER_SCALE} the view shows so little of the world that its objects are
+ * painted live instead, so they stay sharp without caching oversized chunks. The
+ * cache is bounded by the total number of pixels it holds, evicting the least recently drawn
+ * chunks first. All methods must be called on the JavaFX Application Thread.
+ * @author Tatum McKinnis
+ */
+class EditorChunkCache {
+
+  static final int CHUNK_SIZE = 512;
+  private static final long MAX_CACHED_PIXELS = 16L * 1024 * 1024;
+  private static final double MIN_RENDER_SCALE = 1.0 / 8;
+  private static final double MAX_RENDER_SCALE = 2;
+
+  /**
+   * Renders the objects of one layer that fall into one chunk.
+   */
+  interface ChunkPainter {
+
+    /**
+     * Draws every object of the layer overlapping the given world square. The graphics context
+     * is already transformed so that drawing happens in world coordinates.
+     *
+     * @param gc The transformed GraphicsContext of the chunk.
+     * @param layer The layer being rendered.
+     * @param chunkX The world x-coordinate of the chunk's left edge.
+     * @param chunkY The world y-coordinate of the chunk's top edge.
+     * @param size The world size of the chunk's sides.
+     * @return The UUIDs of the objects that were drawn.
+     */
+    Collection<UUID> paint(GraphicsContext gc, Layer layer, double chunkX, double chunkY,
+        double size);
+  }
+
+  private record ChunkKey(Layer layer, long coord) {
+
+  }
+
+  private record Chunk(Image image) {
+
+  }
+
+  private final ChunkPainter painter;
+  private final Canvas scratch = new Canvas();
+  private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+  private final Map<ChunkKey, Chunk> chunks = new LinkedHashMap<>(64, 0.75f, true);
+  private final Map<UUID, Set<Long>> objectChunks = new HashMap<>();
+  private double renderScale = 1;
+  private long cachedPixels;
+
+  /**
+   * Constructs an empty cache.
+   *
+   * @param painter The callback that renders a chunk on a cache miss.
+   */
+  EditorChunkCache(ChunkPainter painter) {
+    this.painter = painter;
+    snapshotParameters.setFill(Color.TRANSPARENT);
+  }
+
+  /**
+   * Draws one layer of the visible world region from cached chunks, rendering any missing ones,
+   * or paints it directly when zoomed in past the highest chunk resolution. The graphics context
+   * must already be transformed to world coordinates.
+   *
+   * @param gc The transformed GraphicsContext of the object canvas.
+   * @param layer The layer to draw.
+   * @param minX The world x-coordinate of the visible region's left edge.
+   * @param minY The world y-coordinate of the visible region's top edge.
+   * @param maxX The world x-coordinate of the visible region's right edge.
+   * @param maxY The world y-coordinate of the visible region's bottom edge.
+   * @param zoom The current zoom scale, used to pick the chunk resolution.
+   */
+  void drawLayer(GraphicsContext gc, Layer layer, double minX, double minY, double maxX,
+      double maxY, double zoom) {
+    if (zoom > MAX_RENDER_SCALE) {
+      painter.paint(gc, layer, minX, minY, Math.max(maxX - minX, maxY - minY));
+      return;
+    }
+    useScaleFor(zoom);
+    int firstColumn = chunkIndex(minX);
+    int lastColumn = chunkIndex(maxX);
+    int firstRow = chunkIndex(minY);
+    int lastRow = chunkIndex(maxY);
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        Chunk chunk = getOrRender(layer, column, row);
+        if (chunk.image() != null) {
+          gc.drawImage(chunk.image(), (double) column * CHUNK_SIZE, (double) row * CHUNK_SIZE,
+              CHUNK_SIZE, CHUNK_SIZE);
+        }
+      }
+    }
+  }
+
+  /**
+   * Drops every chunk the object was drawn into, and every chunk overlapping the given world
+   * rectangle, which should cover wherever the object is drawn now.
+   *
+   * @param id The UUID of the object that changed.
+   * @param minX The world x-coordinate of the rectangle's left edge.
+   * @param minY The world y-coordinate of the rectangle's top edge.
+   * @param maxX The world x-coordinate of the rectangle's right edge.
+   * @param maxY The world y-coordinate of the rectangle's bottom edge.
+   */
+  void invalidateObject(UUID id, double minX, double minY, double maxX, double maxY) {
+    Set<Long> coords = new HashSet<>();
+    Set<Long> drawnInto = objectChunks.remove(id);
+    if (drawnInto != null) {
+      coords.addAll(drawnInto);
+    }
+    if (maxX >= minX && maxY >= minY) {
+      for (int row = chunkIndex(minY); row <= chunkIndex(maxY); row++) {
+        for (int column = chunkIndex(minX); column <= chunkIndex(maxX); column++) {
+          coords.add(coord(column, row));
+        }
+      }
+    }
+    invalidateCoords(coords);
+  }
+
+  /**
+   * Drops every chunk the object was drawn into.
+   *
+   * @param id The UUID of the object that changed or was removed.
+   */
+  void invalidateObject(UUID id) {
+    Set<Long> drawnInto = objectChunks.remove(id);
+    if (drawnInto != null) {
+      invalidateCoords(drawnInto);
+    }
+  }
+
+  /**
+   * Drops every cached chunk.
+   */
+  void invalidateAll() {
+    chunks.clear();
+    objectChunks.clear();
+    cachedPixels = 0;
+  }
+
+  private void invalidateCoords(Set<Long> coords) {
+    Iterator<Map.Entry<ChunkKey, Chunk>> entries = chunks.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<ChunkKey, Chunk> entry = entries.next();
+      if (coords.contains(entry.getKey().coord())) {
+        cachedPixels -= pixelsOf(entry.getValue());
+        entries.remove();
+      }
+    }
+  }
+
+  private void useScaleFor(double zoom) {
+    double exponent = Math.ceil(Math.log(zoom) / Math.log(2));
+    double scale = Math.max(MIN_RENDER_SCALE, Math.min(MAX_RENDER_SCALE, Math.pow(2, exponent)));
+    if (scale != renderScale) {
+      invalidateAll();
+      renderScale = scale;
+    }
+  }
+
+  private Chunk getOrRender(Layer layer, int column, int row) {
+    ChunkKey key = new ChunkKey(layer, coord(column, row));
+    Chunk chunk = chunks.get(key);
+    if (chunk == null) {
+      chunk = render(layer, column, row);
+      chunks.put(key, chunk);
+      cachedPixels += pixelsOf(chunk);
+      evictOverBudget(key);
+    }
+    return chunk;
+  }
+
+  private Chunk render(Layer layer, int column, int row) {
+    int pixels = (int) Math.ceil(CHUNK_SIZE * renderScale);
+    if (scratch.getWidth() != pixels) {
+      scratch.setWidth(pixels);
+      scratch.setHeight(pixels);
+    }
+    GraphicsContext gc = scratch.getGraphicsContext2D();
+    gc.clearRect(0, 0, pixels, pixels);
+    gc.save();
+    gc.scale(renderScale, renderScale);
+    double chunkX = (double) column * CHUNK_SIZE;
+    double chunkY = (double) row * CHUNK_SIZE;
+    gc.translate(-chunkX, -chunkY);
+    Collection<UUID> drawn = painter.paint(gc, layer, chunkX, chunkY, CHUNK_SIZE);
+    gc.restore();
+    if (drawn.isEmpty()) {
+      return new Chunk(null);
+    }
+
+    long coord = coord(column, row);
+    for (UUID id : drawn) {
+      objectChunks.computeIfAbsent(id, k -> new HashSet<>()).add(coord);
+    }
+    return new Chunk(scratch.snapshot(snapshotParameters, new WritableImage(pixels, pixels)));
+  }
+
+  private void evictOverBudget(ChunkKey newest) {
+    Iterator<Map.Entry<ChunkKey, Chunk>> entries = chunks.entrySet().iterator();
+    while (cachedPixels > MAX_CACHED_PIXELS && entries.hasNext()) {
+      Map.Entry<ChunkKey, Chunk> eldest = entries.next();
+      if (eldest.getKey().equals(newest)) {
+        break;
+      }
+      cachedPixels -= pixelsOf(eldest.getValue());
+      entries.remove();
+    }
+  }
+
+  private long pixelsOf(Chunk chunk) {
+    Image image = chunk.image();
+    return image == null ? 0 : (long) image.getWidth() * (long) image.getHeight();
+  }
+
+  private int chunkIndex(double world) {
+    return (int) Math.floor(world / CHUNK_SIZE);
+  }
+
+  private long coord(int column, int row) {
+    return ((long) column << 32) | (row & 0xffffffffL);
+  }
+}
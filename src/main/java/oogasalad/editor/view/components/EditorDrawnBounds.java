@@ -0,0 +1,128 @@
+package oogasalad.editor.view.components;
+
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.editor.controller.EditorController;
+import oogasalad.editor.model.data.object.EditorObject;
+import oogasalad.editor.model.data.object.HitboxData;
+import oogasalad.editor.model.data.object.sprite.FrameData;
+import oogasalad.editor.model.data.object.sprite.SpriteData;
+
+/**
+ * Works out the world rectangle each object of the {@link EditorGameView} is drawn in, and how
+ * far the displayed sprites reach beyond their hitboxes.
+ * <p>
+ * An object is drawn over the union of its hitbox and its sprite: the display frame at the
+ * sprite's position, or a placeholder cell while its image is not loaded. The level's spatial
+ * index only knows hitboxes, so a region padded by {@link #getReach()} finds every object drawn
+ * into it. The reach is recomputed from all displayed objects when the whole view is invalidated
+ * and only ever grows in between, so lookups stay complete without a fixed margin. All methods
+ * must be called on the JavaFX Application Thread.
+ * </p>
+ *
+ * @author Tatum McKinnis
+ */
+class EditorDrawnBounds {
+
+  private final EditorGameView view;
+  private final EditorController controller;
+  private double reach;
+
+  /**
+   * Constructs the bounds tracker with no reach.
+   *
+   * @param view       The parent EditorGameView, whose cell size sizes the placeholders.
+   * @param controller The application's editor controller.
+   */
+  EditorDrawnBounds(EditorGameView view, EditorController controller) {
+    this.view = view;
+    this.controller = controller;
+  }
+
+  /**
+   * @return the furthest any displayed sprite is drawn beyond its hitbox, in world units
+   */
+  double getReach() {
+    return reach;
+  }
+
+  /**
+   * Widens the reach to cover an object that was added or changed.
+   *
+   * @param object The object, or {@code null} if it was removed.
+   */
+  void include(EditorObject object) {
+    if (object != null) {
+      reach = Math.max(reach, overhang(object));
+    }
+  }
+
+  /**
+   * Recomputes the reach from every displayed object, so it shrinks again after sprites that
+   * reached far were removed or resized.
+   */
+  void recompute() {
+    reach = 0;
+    for (UUID id : view.getDisplayedObjectIds()) {
+      include(controller.getEditorObject(id));
+    }
+  }
+
+  /**
+   * @return the world rectangle {minX, minY, maxX, maxY} an object is drawn in, or {@code null}
+   * if it has neither a sprite nor a hitbox
+   */
+  double[] drawnRect(EditorObject object) {
+    double[] sprite = spriteRect(object.getSpriteData());
+    HitboxData hitbox = object.getHitboxData();
+    if (hitbox == null) {
+      return sprite;
+    }
+    double[] rect = {hitbox.getX(), hitbox.getY(), hitbox.getX() + hitbox.getWidth(),
+        hitbox.getY() + hitbox.getHeight()};
+    if (sprite != null) {
+      rect[0] = Math.min(rect[0], sprite[0]);
+      rect[1] = Math.min(rect[1], sprite[1]);
+      rect[2] = Math.max(rect[2], sprite[2]);
+      rect[3] = Math.max(rect[3], sprite[3]);
+    }
+    return rect;
+  }
+
+  /**
+   * @return the frame a sprite shows: its base frame, else its first one, or {@code null} if it
+   * has no frames
+   */
+  static FrameData displayFrame(SpriteData sprite) {
+    Map<String, FrameData> frames = sprite.getFrames();
+    if (frames == null || frames.isEmpty()) {
+      return null;
+    }
+    FrameData base = sprite.getBaseFrameName() == null ? null
+        : frames.get(sprite.getBaseFrameName());
+    return base != null ? base : frames.values().iterator().next();
+  }
+
+  private double[] spriteRect(SpriteData sprite) {
+    if (sprite == null) {
+      return null;
+    }
+    FrameData frame = displayFrame(sprite);
+    double cellSize = view.getCellSize();
+    double width = frame == null ? cellSize : Math.max(frame.width(), cellSize);
+    double height = frame == null ? cellSize : Math.max(frame.height(), cellSize);
+    return new double[]{sprite.getX(), sprite.getY(), sprite.getX() + width,
+        sprite.getY() + height};
+  }
+
+  private double overhang(EditorObject object) {
+    HitboxData hitbox = object.getHitboxData();
+    double[] rect = hitbox == null ? null : drawnRect(object);
+    if (rect == null) {
+      return 0;
+    }
+    return Math.max(Math.max(hitbox.getX() - rect[0], hitbox.getY() - rect[1]),
+        Math.max(rect[2] - hitbox.getX() - hitbox.getWidth(),
+            rect[3] - hitbox.getY() - hitbox.getHeight()));
+  }
+}
@@ -2,11 +2,12 @@ package oogasalad.editor.view.components;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
 import javafx.application.Platform;
 import javafx.scene.canvas.Canvas;
@@ -31,18 +32,22 @@ public class EditorGameView extends Pane implements EditorViewListener {
 
   private static final Logger LOG = LogManager.getLogger(EditorGameView.class);
   private static final String IDENTIFIERS_PROPERTIES_PATH = "/oogasalad/config/editor/resources/editor_game_view_identifiers.properties";
+  private static final int BULK_INVALIDATION_THRESHOLD = 64;
+  private static final double MINIMAP_INSET = 8;
 
   private final Canvas gridCanvas;
   private final Canvas objectCanvas;
+  private final Canvas selectionCanvas;
   private final GraphicsContext gridGraphicsContext;
   private final GraphicsContext objectGraphicsContext;
+  private final GraphicsContext selectionGraphicsContext;
 
   private final EditorController editorController;
   private final PrefabPalettePane prefabPalettePane;
   private final ResourceBundle uiBundle;
   private final Properties identifierProps;
 
-  private final List<UUID> displayedObjectIds = new ArrayList<>();
+  private final Set<UUID> displayedObjectIds = new LinkedHashSet<>();
   private UUID selectedObjectId;
   private ObjectInteractionTool currentTool;
 
@@ -72,6 +77,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
   private final EditorGameViewImageManager imageManager;
   private final EditorGameViewEventHandler eventHandler;
   private final EditorGameViewDrawer drawer;
+  private final EditorMinimap minimap;
 
 
   /**
@@ -110,18 +116,27 @@ public class EditorGameView extends Pane implements EditorViewListener {
 
     this.gridCanvas = new Canvas();
     this.objectCanvas = new Canvas();
+    this.selectionCanvas = new Canvas();
+    this.selectionCanvas.setMouseTransparent(true);
     this.gridGraphicsContext = gridCanvas.getGraphicsContext2D();
     this.objectGraphicsContext = objectCanvas.getGraphicsContext2D();
+    this.selectionGraphicsContext = selectionCanvas.getGraphicsContext2D();
 
     this.imageManager = new EditorGameViewImageManager(this, editorController, LOG);
-    this.drawer = new EditorGameViewDrawer(this, editorController, imageManager, LOG);
+    EditorDrawnBounds drawnBounds = new EditorDrawnBounds(this, editorController);
+    this.minimap = new EditorMinimap(this, editorController, imageManager, drawnBounds, LOG);
+    this.drawer = new EditorGameViewDrawer(this, editorController, imageManager, minimap,
+        drawnBounds, LOG);
     this.eventHandler = new EditorGameViewEventHandler(this, editorController, prefabPalettePane,
         drawer, LOG);
 
     loadConfigurableValues();
 
     this.setId(getId("id.view"));
-    getChildren().addAll(gridCanvas, objectCanvas);
+    getChildren().addAll(gridCanvas, objectCanvas, selectionCanvas, minimap);
+    minimap.layoutXProperty().bind(
+        widthProperty().subtract(minimap.widthProperty()).subtract(MINIMAP_INSET));
+    minimap.setLayoutY(MINIMAP_INSET);
 
     bindCanvasProperties();
     addCanvasListeners();
@@ -143,7 +158,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
   }
 
   /**
-   * Binds the width and height properties of the grid and object canvases
+   * Binds the width and height properties of the grid, object and selection canvases
    * to the width and height properties of this Pane. This ensures the canvases
    * resize automatically when the Pane resizes.
    */
@@ -152,6 +167,8 @@ public class EditorGameView extends Pane implements EditorViewListener {
     gridCanvas.heightProperty().bind(heightProperty());
     objectCanvas.widthProperty().bind(widthProperty());
     objectCanvas.heightProperty().bind(heightProperty());
+    selectionCanvas.widthProperty().bind(widthProperty());
+    selectionCanvas.heightProperty().bind(heightProperty());
   }
 
   /**
@@ -185,6 +202,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
       gridMinBound = Integer.parseInt(getId("grid.min.bound"));
       gridMaxBound = Integer.parseInt(getId("grid.max.bound"));
       drawer.loadConfigurableValues(identifierProps);
+      minimap.loadConfigurableValues(identifierProps);
     } catch (Exception e) {
       LOG.fatal(
           "Failed to load or parse one or more configuration values from identifier properties.",
@@ -242,11 +260,45 @@ public class EditorGameView extends Pane implements EditorViewListener {
   }
 
   /**
-   * Forces a complete redraw of all objects currently displayed on the object canvas.
-   * Useful after bulk updates or changes that might not trigger individual redraws.
+   * Forces a complete redraw of all objects currently displayed on the object canvas, discarding
+   * every cached chunk. Useful after bulk updates or changes that might not trigger individual
+   * redraws.
    */
   public void refreshDisplay() {
-    drawer.redrawObjects();
+    drawer.invalidateAll();
+  }
+
+  /**
+   * Releases the view once the editor window is closed: it stops listening to the controller and
+   * stops its redraw timer.
+   */
+  public void dispose() {
+    editorController.unregisterViewListener(this);
+    drawer.dispose();
+  }
+
+  /**
+   * Redraws a single object, for example once its image has finished loading. Only the cached
+   * chunks the object touches are re-rendered.
+   *
+   * @param objectId The UUID of the object to redraw.
+   */
+  public void refreshObject(UUID objectId) {
+    drawer.invalidateObject(objectId);
+  }
+
+  /**
+   * Redraws several objects, for example once an image they share has finished loading. Large
+   * batches invalidate every cached chunk at once instead of one object at a time.
+   *
+   * @param objectIds The UUIDs of the objects to redraw.
+   */
+  void refreshObjects(Collection<UUID> objectIds) {
+    if (objectIds.size() > BULK_INVALIDATION_THRESHOLD) {
+      drawer.invalidateAll();
+    } else {
+      objectIds.forEach(drawer::invalidateObject);
+    }
   }
 
   /**
@@ -256,7 +308,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
   public void removeAllObjects() {
     displayedObjectIds.clear();
     imageManager.clearCache();
-    drawer.redrawObjects();
+    drawer.invalidateAll();
   }
 
 
@@ -271,19 +323,79 @@ public class EditorGameView extends Pane implements EditorViewListener {
   public void onObjectAdded(UUID objectId) {
     Platform.runLater(() -> {
       LOG.trace("EditorGameView received: onObjectAdded {}", objectId);
-      if (!displayedObjectIds.contains(objectId)) {
+      displayedObjectIds.add(objectId);
+      imageManager.preloadObjectImage(objectId);
+      drawer.invalidateObject(objectId);
+    });
+  }
+
+  /**
+   * Called when a whole level has been loaded into the model. Adds every object's ID to the
+   * display set and preloads the images in one pass, then redraws once.
+   * Ensures execution on the JavaFX Application Thread.
+   *
+   * @param objectIds The UUIDs of all loaded objects.
+   */
+  @Override
+  public void onObjectsLoaded(Collection<UUID> objectIds) {
+    Platform.runLater(() -> {
+      LOG.debug("EditorGameView received: onObjectsLoaded ({} objects)", objectIds.size());
+      for (UUID objectId : objectIds) {
+        if (displayedObjectIds.add(objectId)) {
+          imageManager.preloadObjectImage(objectId);
+        }
+      }
+      drawer.invalidateAll();
+    });
+  }
+
+  /**
+   * Called when a transaction touching many objects is committed. Updates the display set and the
+   * image cache for every changed object in one pass, then invalidates either just the affected
+   * chunks or, for large batches, the whole object cache, so the canvas is redrawn once.
+   * Ensures execution on the JavaFX Application Thread.
+   *
+   * @param added   The UUIDs of objects that were added.
+   * @param removed The UUIDs of objects that were removed.
+   * @param updated The UUIDs of objects that were updated.
+   */
+  @Override
+  public void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+      Collection<UUID> updated) {
+    Platform.runLater(() -> {
+      LOG.debug("EditorGameView received: onObjectsChanged (+{} -{} ~{})", added.size(),
+          removed.size(), updated.size());
+      for (UUID objectId : removed) {
+        if (displayedObjectIds.remove(objectId)) {
+          imageManager.removeImage(objectId);
+        }
+      }
+      if (selectedObjectId != null && removed.contains(selectedObjectId)) {
+        selectedObjectId = null;
+      }
+      for (UUID objectId : added) {
         displayedObjectIds.add(objectId);
+        imageManager.preloadObjectImage(objectId);
+      }
+      for (UUID objectId : updated) {
+        if (displayedObjectIds.contains(objectId)) {
+          imageManager.preloadObjectImage(objectId);
+        }
+      }
+      if (added.size() + removed.size() + updated.size() > BULK_INVALIDATION_THRESHOLD) {
+        drawer.invalidateAll();
+      } else {
+        removed.forEach(drawer::invalidateObject);
+        added.forEach(drawer::invalidateObject);
+        updated.forEach(drawer::invalidateObject);
       }
-      imageManager.preloadObjectImage(objectId);
-      drawer.redrawObjects();
     });
   }
 
   /**
    * Called when a game object is removed from the model. Removes the object's ID
    * from the display list, removes its image from the cache, deselects it if it was
-   * selected, and triggers a redraw.
-   * Ensures execution on the JavaFX Application Thread.
+   * selected, and schedules a redraw for the next pulse.
    *
    * @param objectId The UUID of the object that was removed.
    */
@@ -295,10 +407,8 @@ public class EditorGameView extends Pane implements EditorViewListener {
     if (Objects.equals(selectedObjectId, objectId)) {
       selectedObjectId = null;
     }
-    Platform.runLater(() -> {
-      LOG.trace("EditorGameView received: onObjectRemoved {}", objectId);
-      drawer.redrawObjects();
-    });
+    LOG.trace("EditorGameView received: onObjectRemoved {}", objectId);
+    drawer.invalidateObject(objectId);
   }
 
   /**
@@ -315,14 +425,15 @@ public class EditorGameView extends Pane implements EditorViewListener {
       if (displayedObjectIds.contains(objectId)) {
 
         imageManager.preloadObjectImage(objectId);
-        drawer.redrawObjects();
+        drawer.invalidateObject(objectId);
       }
     });
   }
 
   /**
    * Called when the selected object changes in the model. Updates the internal
-   * selected object ID and triggers a redraw to potentially highlight the new selection.
+   * selected object ID and triggers a redraw of the selection overlay to highlight the new
+   * selection.
    * Ensures execution on the JavaFX Application Thread.
    *
    * @param selectedObjectId The UUID of the newly selected object, or null if none is selected.
@@ -333,7 +444,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
       LOG.trace("EditorGameView received: onSelectionChanged {}", selectedObjectId);
       if (!Objects.equals(this.selectedObjectId, selectedObjectId)) {
         this.selectedObjectId = selectedObjectId;
-        drawer.redrawObjects();
+        drawer.redrawSelection();
       }
     });
   }
@@ -383,7 +494,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
     imageManager.clearCache();
 
     displayedObjectIds.forEach(imageManager::preloadObjectImage);
-    drawer.redrawObjects();
+    drawer.invalidateAll();
   }
 
   /**
@@ -409,7 +520,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
     if (cellSize > 0) {
       this.cellSize = cellSize;
 
-      drawer.redrawObjects();
+      drawer.invalidateAll();
       drawer.drawGrid();
       LOG.debug("Cell size set to: {}", cellSize);
     } else {
@@ -566,6 +677,21 @@ public class EditorGameView extends Pane implements EditorViewListener {
 
   }
 
+  /**
+   * Moves the camera so it is centered on a world position and redraws the grid and the objects,
+   * for example when the level overview is clicked.
+   *
+   * @param worldX The world x-coordinate to center on.
+   * @param worldY The world y-coordinate to center on.
+   */
+  void recenterCamera(double worldX, double worldY) {
+    setCenterCameraX(worldX);
+    setCenterCameraY(worldY);
+    updateCameraCoordinates();
+    drawer.drawGrid();
+    drawer.redrawObjects();
+  }
+
   /**
    * Gets the x-coordinate of the top-left corner of the camera's view in world coordinates.
    * Ensures camera coordinates are updated before returning the value.
@@ -626,8 +752,7 @@ public class EditorGameView extends Pane implements EditorViewListener {
   }
 
   /**
-   * Gets the GraphicsContext associated with the object canvas, used for drawing game objects,
-   * selection highlights, and potentially other overlays.
+   * Gets the GraphicsContext associated with the object canvas, used for drawing game objects.
    *
    * @return The GraphicsContext for the object canvas.
    */
@@ -636,13 +761,24 @@ public class EditorGameView extends Pane implements EditorViewListener {
   }
 
   /**
-   * Gets the list of UUIDs of the game objects currently being tracked for display in the view.
-   * Note: Returns the internal modifiable list. Consider returning an unmodifiable view
-   * ({@code Collections.unmodifiableList(displayedObjectIds)}) if external modification is undesirable.
+   * Gets the GraphicsContext associated with the selection canvas, a mouse-transparent overlay
+   * above the objects that holds the selection highlight, so selecting does not repaint objects.
+   *
+   * @return The GraphicsContext for the selection canvas.
+   */
+  public GraphicsContext getSelectionGraphicsContext() {
+    return selectionGraphicsContext;
+  }
+
+  /**
+   * Gets the UUIDs of the game objects currently being tracked for display in the view, in the
+   * order they were added. Note: Returns the internal modifiable set. Consider returning an
+   * unmodifiable view ({@code Collections.unmodifiableSet(displayedObjectIds)}) if external
+   * modification is undesirable.
    *
-   * @return The list of displayed object UUIDs.
+   * @return The ordered set of displayed object UUIDs.
    */
-  public List<UUID> getDisplayedObjectIds() {
+  public Set<UUID> getDisplayedObjectIds() {
 
     return displayedObjectIds;
   }
@@ -1,7 +1,7 @@
 package oogasalad.editor.view.components;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -10,9 +10,11 @@ import javafx.application.Platform;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import oogasalad.editor.controller.EditorController;
+import oogasalad.editor.model.data.Layer;
 import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.model.data.object.sprite.FrameData;
 import oogasalad.editor.model.data.object.sprite.SpriteData;
@@ -22,8 +24,9 @@ import org.apache.logging.log4j.Logger;
  * Handles all drawing operations for the {@link EditorGameView}.
  * This class is responsible for drawing the grid background, game objects (sprites and hitboxes),
  * selection indicators, and placeholder graphics when images are unavailable. It manages the
- * {@link GraphicsContext} transformations based on camera pan and zoom, and ensures drawing
- * occurs on the JavaFX Application Thread.
+ * {@link GraphicsContext} transformations based on camera pan and zoom. Redraw requests are
+ * coalesced by an {@link EditorRedrawScheduler}, so drawing happens at most once per layer per
+ * pulse and always on the JavaFX Application Thread.
  * It interacts with the {@link EditorController} to get object data and the
  * {@link EditorGameViewImageManager} to retrieve cached images.
  * @author Tatum McKinnis
@@ -33,7 +36,12 @@ class EditorGameViewDrawer {
   private final EditorGameView view;
   private final EditorController controller;
   private final EditorGameViewImageManager imageManager;
+  private final EditorMinimap minimap;
+  private final EditorDrawnBounds drawnBounds;
   private final Logger log;
+  private final EditorRedrawScheduler scheduler;
+  private final EditorChunkCache chunkCache;
+  private final EditorGridPatternCache gridPatterns = new EditorGridPatternCache();
 
 
   private Color objectPlaceholderFill;
@@ -51,14 +59,27 @@ class EditorGameViewDrawer {
    * @param view The parent EditorGameView.
    * @param controller The application's editor controller.
    * @param imageManager The manager for object images.
+   * @param minimap The level overview, kept in step with the object canvas.
+   * @param drawnBounds The tracker of where objects are drawn, shared with the minimap.
    * @param log The logger instance for logging.
    */
   EditorGameViewDrawer(EditorGameView view, EditorController controller,
-      EditorGameViewImageManager imageManager, Logger log) {
+      EditorGameViewImageManager imageManager, EditorMinimap minimap,
+      EditorDrawnBounds drawnBounds, Logger log) {
     this.view = view;
     this.controller = controller;
     this.imageManager = imageManager;
+    this.minimap = minimap;
+    this.drawnBounds = drawnBounds;
     this.log = log;
+    this.chunkCache = new EditorChunkCache(this::paintChunk);
+    this.scheduler = new EditorRedrawScheduler(this::paintGrid, this::paintObjects,
+        this::paintSelection);
+    if (Platform.isFxApplicationThread()) {
+      scheduler.start();
+    } else {
+      Platform.runLater(scheduler::start);
+    }
   }
 
   /**
@@ -86,10 +107,20 @@ class EditorGameViewDrawer {
   }
 
   /**
-   * Draws the background grid onto the grid canvas.
-   * Clears the canvas, applies camera transformations (pan/zoom), and draws the grid lines.
+   * Schedules a redraw of the background grid for the next pulse. Safe to call from any thread;
+   * any number of calls within one frame result in a single redraw.
    */
   void drawGrid() {
+    scheduler.request(EditorRedrawScheduler.GRID);
+  }
+
+  /**
+   * Draws the background grid onto the grid canvas.
+   * Clears the canvas, fills the grid lines from a cached tile pattern, then applies camera
+   * transformations (pan/zoom) and draws the origin axes.
+   * This method MUST be called on the JavaFX Application Thread.
+   */
+  private void paintGrid() {
     GraphicsContext gc = view.getGridGraphicsContext();
     double width = view.getGridWidth();
     double height = view.getGridHeight();
@@ -99,10 +130,11 @@ class EditorGameViewDrawer {
     gc.setFill(view.getGridBackgroundColor());
     gc.fillRect(0, 0, width, height);
 
+    fillGridLines(gc, width, height);
 
     gc.save();
     applyCameraTransform(gc);
-    drawGridLines(gc);
+    drawHorizonLines(gc);
     gc.restore();
 
     log.trace("Grid drawn.");
@@ -124,33 +156,50 @@ class EditorGameViewDrawer {
   }
 
   /**
-   * Draws the horizontal and vertical grid lines based on the current cell size and view bounds.
-   * Also draws distinct lines for the origin axes (horizon lines). Assumes camera transform
+   * Fills the visible part of the grid area with a pattern of cached single-cell tiles instead of
+   * stroking every line. Works in screen coordinates so the lines keep a constant on-screen width.
+   * When cells are too small on screen, only every second, fourth... line is drawn, as decided by
+   * {@link EditorGridPatternCache#lineSpacing(int, double)}.
+   *
+   * @param gc The untransformed GraphicsContext of the grid canvas.
+   * @param width The width of the canvas in pixels.
+   * @param height The height of the canvas in pixels.
+   */
+  private void fillGridLines(GraphicsContext gc, double width, double height) {
+    int cellSize = view.getCellSize();
+    double zoom = view.getZoomScale();
+    double lineWidth = view.getGridLineWidth();
+    double screenSpacing = EditorGridPatternCache.lineSpacing(cellSize, zoom) * zoom;
+
+    double originX = -view.getCornerCameraX() * zoom - lineWidth / 2;
+    double originY = -view.getCornerCameraY() * zoom - lineWidth / 2;
+    double gridMin = (double) view.getGridMinBound() * cellSize * zoom;
+    double gridMax = (double) view.getGridMaxBound() * cellSize * zoom + lineWidth;
+    double left = Math.max(0, originX + gridMin);
+    double top = Math.max(0, originY + gridMin);
+    double right = Math.min(width, originX + gridMax);
+    double bottom = Math.min(height, originY + gridMax);
+    if (right <= left || bottom <= top) {
+      return;
+    }
+
+    Image tile = gridPatterns.tileFor(screenSpacing, lineWidth, view.getGridLineColor());
+    gc.setFill(new ImagePattern(tile, originX, originY, screenSpacing, screenSpacing, false));
+    gc.fillRect(left, top, right - left, bottom - top);
+  }
+
+  /**
+   * Draws distinct lines for the origin axes (horizon lines). Assumes camera transform
    * has already been applied to the GraphicsContext.
    *
    * @param gc The transformed GraphicsContext for drawing.
    */
-  private void drawGridLines(GraphicsContext gc) {
+  private void drawHorizonLines(GraphicsContext gc) {
     int cellSize = view.getCellSize();
 
     int gridMinPixels = view.getGridMinBound() * cellSize;
     int gridMaxPixels = view.getGridMaxBound() * cellSize;
 
-
-    gc.setStroke(view.getGridLineColor());
-
-    gc.setLineWidth(view.getGridLineWidth() / view.getZoomScale());
-
-
-    for (int x = gridMinPixels; x <= gridMaxPixels; x += cellSize) {
-      gc.strokeLine(x, gridMinPixels, x, gridMaxPixels);
-    }
-
-    for (int y = gridMinPixels; y <= gridMaxPixels; y += cellSize) {
-      gc.strokeLine(gridMinPixels, y, gridMaxPixels, y);
-    }
-
-
     gc.setStroke(view.getGridHorizonColor());
     gc.setLineWidth(view.getGridHorizonWidth() / view.getZoomScale());
 
@@ -165,24 +214,85 @@ class EditorGameViewDrawer {
   }
 
   /**
-   * Schedules a redraw of all objects on the object canvas.
-   * Ensures the actual drawing happens on the JavaFX Application Thread.
+   * Schedules a redraw of all objects on the object canvas for the next pulse, along with the
+   * selection overlay, which follows the selected object. Safe to call from any thread; any number
+   * of calls within one frame result in a single redraw.
    */
   void redrawObjects() {
+    scheduler.request(EditorRedrawScheduler.OBJECTS | EditorRedrawScheduler.SELECTION);
+  }
+
+  /**
+   * Discards the cached chunks an object was drawn into and the ones it overlaps now, dirties the
+   * same areas of the minimap, then schedules a redraw. Call this whenever an object is added,
+   * changed or removed. Safe to call from any thread.
+   *
+   * @param id The UUID of the object that changed.
+   */
+  void invalidateObject(UUID id) {
     if (!Platform.isFxApplicationThread()) {
-      Platform.runLater(this::redrawObjectsInternal);
+      Platform.runLater(() -> invalidateObject(id));
+      return;
+    }
+    EditorObject object = controller.getEditorObject(id);
+    drawnBounds.include(object);
+    minimap.invalidateObject(id);
+    double[] rect = object == null ? null : drawnBounds.drawnRect(object);
+    if (rect == null) {
+      chunkCache.invalidateObject(id);
     } else {
-      redrawObjectsInternal();
+      chunkCache.invalidateObject(id, rect[0], rect[1], rect[2], rect[3]);
     }
+    redrawObjects();
+  }
+
+  /**
+   * Discards every cached chunk and the minimap's raster and schedules a redraw, for changes that
+   * affect how every object is drawn, such as loading a level or changing the cell size. Safe to
+   * call from any thread.
+   */
+  void invalidateAll() {
+    if (!Platform.isFxApplicationThread()) {
+      Platform.runLater(this::invalidateAll);
+      return;
+    }
+    drawnBounds.recompute();
+    chunkCache.invalidateAll();
+    minimap.invalidateAll();
+    redrawObjects();
+  }
+
+  /**
+   * Stops the redraw timer and drops every cached chunk. Once the editor window is closed nothing
+   * is painted anymore, and the timer no longer keeps the closed editor reachable. Safe to call
+   * from any thread.
+   */
+  void dispose() {
+    if (!Platform.isFxApplicationThread()) {
+      Platform.runLater(this::dispose);
+      return;
+    }
+    scheduler.stop();
+    chunkCache.invalidateAll();
+  }
+
+  /**
+   * Schedules a redraw of only the selection overlay for the next pulse, leaving the grid and the
+   * objects untouched. Safe to call from any thread.
+   */
+  void redrawSelection() {
+    scheduler.request(EditorRedrawScheduler.SELECTION);
   }
 
   /**
    * Performs the actual redrawing of all objects.
-   * Clears the object canvas, applies camera transformations, sorts objects by layer priority,
-   * draws each object (sprite and optional hitbox), and draws the selection indicator if applicable.
+   * Clears the object canvas, applies camera transformations, and composes the visible part of the
+   * world from cached chunks, one layer at a time in the level's render order. Only chunks that
+   * are missing or were invalidated are drawn object by object. The minimap is brought up to date
+   * afterwards, since its viewport follows the camera.
    * This method MUST be called on the JavaFX Application Thread.
    */
-  private void redrawObjectsInternal() {
+  private void paintObjects() {
     GraphicsContext gc = view.getObjectGraphicsContext();
     double width = view.getGridWidth();
     double height = view.getGridHeight();
@@ -193,39 +303,78 @@ class EditorGameViewDrawer {
     gc.save();
     applyCameraTransform(gc);
 
-    log.trace("Object canvas cleared. Drawing {} objects.", view.getDisplayedObjectIds().size());
-
+    double zoom = view.getZoomScale();
+    double minX = view.getCornerCameraX();
+    double minY = view.getCornerCameraY();
+    for (Layer layer : controller.getEditorDataAPI().getRenderLayers()) {
+      chunkCache.drawLayer(gc, layer, minX, minY, minX + width / zoom, minY + height / zoom,
+          zoom);
+    }
 
-    List<UUID> sortedIds = getSortedObjectIds();
-    log.trace("Objects sorted by layer priority for drawing.");
+    gc.restore();
+    minimap.refresh();
+    log.trace("Finished redrawing objects.");
+  }
 
+  /**
+   * Draws the displayed objects of one layer that overlap a chunk, for the chunk cache. Objects
+   * are found through the level's spatial index with the chunk padded by the sprites' reach
+   * beyond their hitboxes, so sprites reaching into the chunk from a neighbouring one are drawn
+   * too.
+   *
+   * @param gc The chunk's GraphicsContext, transformed to world coordinates.
+   * @param layer The layer being rendered.
+   * @param chunkX The world x-coordinate of the chunk's left edge.
+   * @param chunkY The world y-coordinate of the chunk's top edge.
+   * @param size The world size of the chunk's sides.
+   * @return The UUIDs of the objects drawn into the chunk.
+   */
+  private Collection<UUID> paintChunk(GraphicsContext gc, Layer layer, double chunkX,
+      double chunkY, double size) {
+    double reach = drawnBounds.getReach();
+    List<UUID> candidates = controller.getObjectIDsInRegion(chunkX - reach, chunkY - reach,
+        size + 2 * reach, size + 2 * reach);
+
+    List<UUID> layerIds = new ArrayList<>(candidates.size());
+    for (UUID id : candidates) {
+      EditorObject object = controller.getEditorObject(id);
+      if (view.getDisplayedObjectIds().contains(id) && object != null
+          && object.getIdentityData() != null && object.getIdentityData().getLayer() == layer) {
+        layerIds.add(id);
+      }
+    }
 
+    List<UUID> sortedIds = getSortedObjectIds(layerIds);
     for (UUID id : sortedIds) {
       drawSingleObject(gc, id);
     }
+    log.trace("Rendered chunk ({}, {}) of layer {} with {} objects.", chunkX, chunkY,
+        layer == null ? null : layer.getName(), sortedIds.size());
+    return sortedIds;
+  }
 
-
+  /**
+   * Clears the selection overlay canvas and draws the selection indicator on it, if applicable.
+   * This method MUST be called on the JavaFX Application Thread.
+   */
+  private void paintSelection() {
+    GraphicsContext gc = view.getSelectionGraphicsContext();
+    gc.clearRect(0, 0, view.getGridWidth(), view.getGridHeight());
+    gc.save();
+    applyCameraTransform(gc);
     drawSelectionIfPresent(gc);
-
     gc.restore();
-    log.trace("Finished redrawing objects.");
   }
 
   /**
-   * Retrieves the list of displayed object IDs sorted by their layer priority in descending order.
-   * Objects with higher priority values will appear later in the list and thus be drawn on top.
+   * Puts the given object IDs into the render order the level maintains, grouped by layer from the
+   * highest priority to the lowest. No priorities are looked up or compared per object here.
    *
-   * @return A new list containing the sorted UUIDs of displayed objects.
+   * @param idsToDraw The UUIDs of the objects to draw.
+   * @return A new list with the UUIDs in drawing order.
    */
-  private List<UUID> getSortedObjectIds() {
-
-    List<UUID> idsToDraw = new ArrayList<>(view.getDisplayedObjectIds());
-
-
-    idsToDraw.sort(Comparator.comparingInt(
-            (UUID id) -> controller.getEditorDataAPI().getObjectLayerPriority(id))
-        .reversed());
-    return idsToDraw;
+  private List<UUID> getSortedObjectIds(List<UUID> idsToDraw) {
+    return controller.getEditorDataAPI().sortByRenderOrder(idsToDraw);
   }
 
   /**
@@ -237,10 +386,6 @@ class EditorGameViewDrawer {
    */
   private void drawSingleObject(GraphicsContext gc, UUID id) {
     try {
-      int layerPriority = controller.getEditorDataAPI().getObjectLayerPriority(id);
-      log.trace("Drawing object {} with layer priority {}", id, layerPriority);
-
-
       redrawSprites(gc, id);
 
       if (view.isDrawHitboxesEnabled()) {
@@ -189,8 +189,9 @@ class EditorGameViewEventHandler {
 
 
   /**
-   * Sets up keyboard event handlers for panning (WASD keys) and starts the
-   * animation timer responsible for continuous panning movement. Makes the view focus traversable.
+   * Sets up keyboard event handlers for panning (WASD keys) and undo/redo (Ctrl+Z, Ctrl+Shift+Z
+   * or Ctrl+Y) and starts the animation timer responsible for continuous panning movement. Makes
+   * the view focus traversable.
    */
   void setupPanning() {
     view.setFocusTraversable(true);
@@ -206,12 +207,37 @@ class EditorGameViewEventHandler {
    * @param event The KeyEvent generated by the key press.
    */
   private void handlePanningKeyPressed(KeyEvent event) {
+    if (event.isShortcutDown()) {
+      if (handleHistoryShortcut(event)) {
+        event.consume();
+      }
+      return;
+    }
     boolean consumed = updatePanVelocity(event.getCode(), true);
     if (consumed) {
       event.consume();
     }
   }
 
+  /**
+   * Undoes on Ctrl+Z and redoes on Ctrl+Shift+Z or Ctrl+Y (Cmd on macOS).
+   *
+   * @param event The KeyEvent generated by the key press, with the shortcut modifier down.
+   * @return true if the key was an undo or redo shortcut.
+   */
+  private boolean handleHistoryShortcut(KeyEvent event) {
+    KeyCode code = event.getCode();
+    if (code == KeyCode.Z && !event.isShiftDown()) {
+      controller.undo();
+      return true;
+    }
+    if (code == KeyCode.Y || code == KeyCode.Z) {
+      controller.redo();
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Handles key released events, specifically checking for WASD keys to stop panning.
    * Resets the pan velocity component corresponding to the released key.
@@ -4,9 +4,6 @@ import java.io.File;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 import javafx.scene.image.Image;
 import oogasalad.editor.controller.EditorController;
@@ -18,13 +15,14 @@ import org.apache.logging.log4j.Logger;
  * Manages the loading, caching, and resolution of image paths for game objects displayed
  * within the {@link EditorGameView}. It interacts with the {@link EditorController} to
  * retrieve object data (like sprite sheet paths) and handles asynchronous image loading
- * using JavaFX {@link Image}. Maintains an internal cache to avoid redundant loading.
+ * using JavaFX {@link Image}. Images are shared through an {@link EditorImageCache} keyed by URL,
+ * so objects showing the same sprite sheet share one decoded copy of it.
  *
  * @author Tatum McKinnis
  */
 class EditorGameViewImageManager {
 
-  private final Map<UUID, Image> objectImages = new HashMap<>();
+  private final EditorImageCache imageCache;
   private final EditorGameView view;
   private final EditorController controller;
   private final Logger log;
@@ -40,6 +38,8 @@ class EditorGameViewImageManager {
     this.view = view;
     this.controller = controller;
     this.log = log;
+    this.imageCache = new EditorImageCache(EditorImageCache.DEFAULT_MAX_BYTES,
+        url -> new Image(url, true), view::refreshObjects);
   }
 
   /**
@@ -53,7 +53,7 @@ class EditorGameViewImageManager {
     try {
       String imagePath = getObjectSpritePath(id);
       if (imagePath == null) {
-        objectImages.remove(id);
+        imageCache.release(id);
         log.trace("No valid sprite path found for ID {}. Removing image cache.", id);
         return;
       }
@@ -61,8 +61,8 @@ class EditorGameViewImageManager {
       String resolvedPathOrUrl = resolveImagePath(imagePath);
       if (resolvedPathOrUrl == null) {
         log.error("Could not resolve image path/URL for: {}", imagePath);
-        objectImages.remove(id);
-        view.refreshDisplay();
+        imageCache.release(id);
+        view.refreshObject(id);
         return;
       }
 
@@ -70,8 +70,8 @@ class EditorGameViewImageManager {
 
     } catch (Exception e) {
       log.error("Failed during image preload process for object ID {}: {}", id, e.getMessage(), e);
-      objectImages.remove(id);
-      view.refreshDisplay();
+      imageCache.release(id);
+      view.refreshObject(id);
     }
   }
 
@@ -107,30 +107,30 @@ class EditorGameViewImageManager {
 
 
   /**
-   * Checks if an image needs to be loaded for the given ID and path/URL.
-   * Converts the path to a URL string and compares it with the cached image's URL.
-   * Initiates loading if the image is not cached, the URL has changed, or the cached image is in an error state.
+   * Points the object at the shared image for the given path/URL, loading the image only if no
+   * other object already uses it or the shared copy failed to load.
    *
    * @param id The UUID of the object.
    * @param path The resolved path or URL string of the image.
    */
   private void loadImageIfNotCached(UUID id, String path) {
-    Image cachedImage = objectImages.get(id);
     String urlString = convertPathToUrlString(path);
 
     if (urlString == null) {
       log.error("Could not create a valid URL string from path: {}", path);
-      objectImages.remove(id);
-      view.refreshDisplay();
+      imageCache.release(id);
+      view.refreshObject(id);
       return;
     }
 
-    boolean needsLoading = shouldLoadImage(cachedImage, urlString);
-
-    if (needsLoading) {
-      loadImage(id, urlString);
-    } else {
-      log.trace("Image for {} already cached and valid: {}", id, urlString);
+    try {
+      imageCache.acquire(id, urlString);
+      log.trace("Object {} uses shared image {}", id, urlString);
+    } catch (IllegalArgumentException e) {
+      log.error("Failed to load image for {} - Invalid URL or resource not found: {}", id,
+          urlString, e);
+      imageCache.release(id);
+      view.refreshObject(id);
     }
   }
 
@@ -164,105 +164,6 @@ class EditorGameViewImageManager {
   }
 
 
-  /**
-   * Determines if a new image load is required based on the cached image and the target URL.
-   *
-   * @param cachedImage The currently cached Image object (can be null).
-   * @param urlString The target URL string for the image.
-   * @return true if the image should be loaded (not cached, URL mismatch, or cache error), false otherwise.
-   */
-  private boolean shouldLoadImage(Image cachedImage, String urlString) {
-    return cachedImage == null
-        || !Objects.equals(cachedImage.getUrl(), urlString)
-        || cachedImage.isError();
-  }
-
-  /**
-   * Loads an image from the given URL string asynchronously.
-   * Creates a new JavaFX {@link Image}, sets up listeners for load completion and errors,
-   * and adds the new image to the cache. If loading fails immediately (e.g., invalid URL),
-   * removes the entry and refreshes the view.
-   *
-   * @param id The UUID of the object associated with this image.
-   * @param urlString The URL string from which to load the image.
-   */
-  private void loadImage(UUID id, String urlString) {
-    log.trace("Loading image for object ID {} from resolved URL string: {}", id, urlString);
-    try {
-      Image newImage = new Image(urlString, true);
-      setupImageListeners(newImage, id, urlString);
-      objectImages.put(id, newImage);
-
-    } catch (IllegalArgumentException e) {
-      log.error("Failed to load image for {} - Invalid URL or resource not found: {}", id,
-          urlString, e);
-      objectImages.remove(id);
-      view.refreshDisplay();
-    } catch (Exception e) {
-      log.error("Unexpected error loading image for {} from URL {}: {}", id, urlString,
-          e.getMessage(), e);
-      objectImages.remove(id);
-      view.refreshDisplay();
-    }
-  }
-
-  /**
-   * Sets up listeners on an Image object to handle asynchronous loading events (errors and progress).
-   *
-   * @param image The Image object to attach listeners to.
-   * @param id The UUID of the associated object.
-   * @param url The URL from which the image is being loaded (for logging).
-   */
-  private void setupImageListeners(Image image, UUID id, String url) {
-    image.errorProperty().addListener((obs, oldErr, newErr) -> {
-      if (newErr) {
-        handleImageError(image, id, url);
-      }
-    });
-    image.progressProperty().addListener((obs, oldProgress, newProgress) -> {
-      if (newProgress != null && newProgress.doubleValue() >= 1.0) {
-        handleImageLoadComplete(image, id, url);
-      }
-    });
-  }
-
-  /**
-   * Handles the case where image loading fails asynchronously.
-   * Logs the error, removes the failed image entry from the cache, and triggers a view refresh
-   * so a placeholder might be drawn.
-   *
-   * @param image The Image object that failed to load.
-   * @param id The UUID of the associated object.
-   * @param url The URL that failed to load (for logging).
-   */
-  private void handleImageError(Image image, UUID id, String url) {
-    String errorMessage = (image.getException() != null) ? image.getException().getMessage()
-        : "Unknown image loading error";
-    log.error("Failed to load image for {} from {}: {}", id, url, errorMessage);
-
-    objectImages.remove(id);
-    view.refreshDisplay();
-  }
-
-  /**
-   * Handles the case where image loading completes asynchronously (progress reaches 1.0).
-   * Double-checks if an error occurred despite the completion signal, logs success,
-   * and triggers a view refresh to display the newly loaded image.
-   *
-   * @param image The Image object that finished loading.
-   * @param id The UUID of the associated object.
-   * @param url The URL that was loaded (for logging).
-   */
-  private void handleImageLoadComplete(Image image, UUID id, String url) {
-    if (image.isError()) {
-      log.warn("Error flag set after image load completion signal for ID {}, URL: {}", id, url);
-      objectImages.remove(id);
-    } else {
-      log.trace("Image loaded successfully for ID {}: {}", id, url);
-    }
-    view.refreshDisplay();
-  }
-
   /**
    * Resolves a given path string into a loadable URL string using multiple strategies.
    * It prioritizes:
@@ -378,22 +279,23 @@ class EditorGameViewImageManager {
    * or if the cached image failed to load.
    */
   Image getImage(UUID id) {
-    return objectImages.get(id);
+    return imageCache.get(id);
   }
 
   /**
-   * Removes the image associated with the given object ID from the cache.
+   * Releases the object's reference to its shared image. The image itself stays cached until the
+   * memory budget requires evicting it.
    *
    * @param id The UUID of the object whose image should be removed.
    */
   void removeImage(UUID id) {
-    objectImages.remove(id);
+    imageCache.release(id);
   }
 
   /**
-   * Clears the entire image cache, removing all stored images.
+   * Releases every object's reference to its shared image.
    */
   void clearCache() {
-    objectImages.clear();
+    imageCache.releaseAll();
   }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package oogasalad.editor.view.components;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Renders and caches the single-cell images the editor grid is tiled from.
+ * A tile holds one vertical and one horizontal grid line along its left and top edges at screen
+ * resolution, so the whole grid can be filled with one {@link javafx.scene.paint.ImagePattern}
+ * instead of a stroke per line. Tiles are keyed by their on-screen size, line width and colour,
+ * and the few most recently used are kept so zooming back and forth does not re-render them.
+ * Also decides the grid's level of detail: when cells become too small on screen, only every
+ * second, fourth, eighth... line is kept. All methods must be called on the JavaFX Application
+ * Thread.
+ * @author Tatum McKinnis
+ */
+class EditorGridPatternCache {
+
+  /**
+   * The smallest on-screen distance, in pixels, between two drawn grid lines.
+   */
+  static final double MIN_LINE_SPACING = 8;
+  private static final int MAX_CACHED_TILES = 8;
+
+  private record TileKey(int size, double lineWidth, Color color) {
+
+  }
+
+  private final Canvas scratch = new Canvas();
+  private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+  private final Map<TileKey, Image> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<TileKey, Image> eldest) {
+      return size() > MAX_CACHED_TILES;
+    }
+  };
+
+  /**
+   * Constructs an empty cache.
+   */
+  EditorGridPatternCache() {
+    snapshotParameters.setFill(Color.TRANSPARENT);
+  }
+
+  /**
+   * Returns the world distance between drawn grid lines: the cell size, doubled until lines are
+   * at least {@link #MIN_LINE_SPACING} pixels apart on screen so minor lines are dropped when
+   * zoomed far out.
+   *
+   * @param cellSize The size of a grid cell in world units.
+   * @param zoom The current zoom scale.
+   * @return The world spacing of the lines to draw.
+   */
+  static double lineSpacing(int cellSize, double zoom) {
+    double spacing = cellSize;
+    while (spacing * zoom < MIN_LINE_SPACING) {
+      spacing *= 2;
+    }
+    return spacing;
+  }
+
+  /**
+   * Returns the tile image for lines the given distance apart on screen, rendering it on first
+   * use.
+   *
+   * @param screenSpacing The on-screen distance between lines, in pixels.
+   * @param lineWidth The on-screen line width, in pixels.
+   * @param color The line colour.
+   * @return The tile image, with lines along its left and top edges.
+   */
+  Image tileFor(double screenSpacing, double lineWidth, Color color) {
+    int size = Math.max(1, (int) Math.round(screenSpacing));
+    return tiles.computeIfAbsent(new TileKey(size, lineWidth, color), this::render);
+  }
+
+  private Image render(TileKey key) {
+    int size = key.size();
+    scratch.setWidth(size);
+    scratch.setHeight(size);
+    GraphicsContext gc = scratch.getGraphicsContext2D();
+    gc.clearRect(0, 0, size, size);
+    gc.setFill(key.color());
+    gc.fillRect(0, 0, key.lineWidth(), size);
+    gc.fillRect(0, 0, size, key.lineWidth());
+    return scratch.snapshot(snapshotParameters, new WritableImage(size, size));
+  }
+}
@@ -0,0 +1,241 @@
+package oogasalad.editor.view.components;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.scene.image.Image;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Shares decoded images between the editor objects that display them. Images are keyed by their
+ * canonical URL, so every placed copy of a prefab refers to the same decoded sprite sheet and the
+ * sheet is loaded only once. Each entry counts the objects using it; an entry that no object uses
+ * any more is kept so it can be picked up again cheaply, but it is the first to go once the
+ * decoded pixels of all entries exceed the memory budget, least recently used first. Entries that
+ * are still in use are never evicted. All methods must be called on the JavaFX Application Thread.
+ *
+ * @author Tatum McKinnis
+ */
+class EditorImageCache {
+
+  /**
+   * The default budget for decoded pixels, in bytes.
+   */
+  static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+  private static final Logger LOG = LogManager.getLogger(EditorImageCache.class);
+  private static final int BYTES_PER_PIXEL = 4;
+
+  private static final class Entry {
+
+    private final String url;
+    private final Image image;
+    private final Set<UUID> users = new LinkedHashSet<>();
+    private long bytes;
+
+    private Entry(String url, Image image) {
+      this.url = url;
+      this.image = image;
+    }
+  }
+
+  private final long maxBytes;
+  private final Function<String, Image> loader;
+  private final Consumer<Collection<UUID>> onSettled;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<UUID, Entry> entriesByUser = new HashMap<>();
+  private long decodedBytes;
+
+  /**
+   * Constructs an empty cache.
+   *
+   * @param maxBytes The budget for decoded pixels, in bytes.
+   * @param loader Starts loading the image at a canonical URL, for example in the background.
+   * @param onSettled Called with the objects using an image once it has finished loading or has
+   * failed to load, so they can be redrawn.
+   */
+  EditorImageCache(long maxBytes, Function<String, Image> loader,
+      Consumer<Collection<UUID>> onSettled) {
+    this.maxBytes = maxBytes;
+    this.loader = Objects.requireNonNull(loader);
+    this.onSettled = Objects.requireNonNull(onSettled);
+  }
+
+  /**
+   * Makes an object use the image at the given URL, loading it only if no other object already
+   * does. The object stops using any image it used before.
+   *
+   * @param user The UUID of the object displaying the image.
+   * @param url The URL of the image.
+   * @return The shared image, which may still be loading.
+   * @throws IllegalArgumentException if the loader rejects the URL.
+   */
+  Image acquire(UUID user, String url) {
+    String key = canonicalUrl(url);
+    Entry current = entriesByUser.get(user);
+    if (current != null && current.url.equals(key) && !current.image.isError()) {
+      entries.get(key);
+      return current.image;
+    }
+    release(user);
+    Entry entry = entries.get(key);
+    if (entry == null || entry.image.isError()) {
+      entry = load(key, entry);
+    }
+    entry.users.add(user);
+    entriesByUser.put(user, entry);
+    return entry.image;
+  }
+
+  /**
+   * Returns the image an object uses.
+   *
+   * @param user The UUID of the object.
+   * @return The image, which may still be loading, or null if the object uses no image or its
+   * image failed to load.
+   */
+  Image get(UUID user) {
+    Entry entry = entriesByUser.get(user);
+    return entry == null || entry.image.isError() ? null : entry.image;
+  }
+
+  /**
+   * Makes an object stop using its image. The image stays cached until the budget requires it to
+   * be evicted.
+   *
+   * @param user The UUID of the object.
+   */
+  void release(UUID user) {
+    Entry entry = entriesByUser.remove(user);
+    if (entry == null) {
+      return;
+    }
+    entry.users.remove(user);
+    if (entry.users.isEmpty()) {
+      if (entry.image.isError()) {
+        entries.remove(entry.url, entry);
+      }
+      trimToBudget();
+    }
+  }
+
+  /**
+   * Makes every object stop using its image.
+   */
+  void releaseAll() {
+    entriesByUser.clear();
+    entries.values().forEach(entry -> entry.users.clear());
+    entries.values().removeIf(entry -> entry.image.isError());
+    trimToBudget();
+  }
+
+  /**
+   * @param url The URL of an image.
+   * @return The number of objects using the image at the URL.
+   */
+  int getReferenceCount(String url) {
+    Entry entry = entries.get(canonicalUrl(url));
+    return entry == null ? 0 : entry.users.size();
+  }
+
+  /**
+   * @return The number of distinct images held by the cache, in use or not.
+   */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return The estimated size of all decoded images held by the cache, in bytes.
+   */
+  long getDecodedBytes() {
+    return decodedBytes;
+  }
+
+  /**
+   * Normalizes a URL so different spellings of the same file share one entry. File URLs are
+   * resolved to the canonical path of the file; other URLs are only normalized.
+   *
+   * @param url The URL to normalize.
+   * @return The canonical URL, or the URL unchanged if it cannot be parsed.
+   */
+  static String canonicalUrl(String url) {
+    try {
+      URI uri = new URI(url).normalize();
+      if ("file".equalsIgnoreCase(uri.getScheme())) {
+        return new File(uri).getCanonicalFile().toURI().toString();
+      }
+      return uri.toString();
+    } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+      return url;
+    }
+  }
+
+  private Entry load(String key, Entry failed) {
+    Entry entry = new Entry(key, loader.apply(key));
+    if (failed != null) {
+      entries.remove(key);
+      failed.users.forEach(user -> entriesByUser.put(user, entry));
+      entry.users.addAll(failed.users);
+    }
+    entries.put(key, entry);
+    LOG.trace("Loading shared image from {}", key);
+    if (entry.image.getProgress() >= 1.0 || entry.image.isError()) {
+      settle(entry, false);
+      return entry;
+    }
+    entry.image.errorProperty().addListener((obs, oldErr, newErr) -> {
+      if (newErr) {
+        settle(entry, true);
+      }
+    });
+    entry.image.progressProperty().addListener((obs, oldProgress, newProgress) -> {
+      if (newProgress != null && newProgress.doubleValue() >= 1.0) {
+        settle(entry, true);
+      }
+    });
+    return entry;
+  }
+
+  private void settle(Entry entry, boolean notify) {
+    if (entry.image.isError()) {
+      String message = entry.image.getException() != null ? entry.image.getException().getMessage()
+          : "Unknown image loading error";
+      LOG.error("Failed to load image from {}: {}", entry.url, message);
+    } else if (entry.bytes == 0 && entries.get(entry.url) == entry) {
+      entry.bytes = (long) entry.image.getWidth() * (long) entry.image.getHeight()
+          * BYTES_PER_PIXEL;
+      decodedBytes += entry.bytes;
+      LOG.trace("Loaded shared image from {} for {} objects", entry.url, entry.users.size());
+      trimToBudget();
+    }
+    if (notify && !entry.users.isEmpty()) {
+      onSettled.accept(List.copyOf(entry.users));
+    }
+  }
+
+  private void trimToBudget() {
+    Iterator<Entry> eldestFirst = entries.values().iterator();
+    while (decodedBytes > maxBytes && eldestFirst.hasNext()) {
+      Entry entry = eldestFirst.next();
+      if (entry.users.isEmpty()) {
+        eldestFirst.remove();
+        decodedBytes -= entry.bytes;
+        LOG.debug("Evicted unused image {} to stay within {} bytes", entry.url, maxBytes);
+      }
+    }
+  }
+}
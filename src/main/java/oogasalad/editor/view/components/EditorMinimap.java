@@ -0,0 +1,257 @@
+package oogasalad.editor.view.components;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import oogasalad.editor.controller.EditorController;
+import oogasalad.editor.model.data.Layer;
+import oogasalad.editor.model.data.object.EditorObject;
+import oogasalad.editor.model.data.object.sprite.FrameData;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An overview of the whole level in a corner of the {@link EditorGameView}, with a rectangle
+ * showing the part of the level the camera currently shows. Pressing or dragging on it moves the
+ * camera there.
+ * <p>
+ * The overview is a {@link LevelMinimapRaster} fed from the level's spatial index. It follows the
+ * same change notifications as the object chunks: the drawer passes every invalidated object on,
+ * and the minimap dirties the rectangle the object was last drawn in and the one it covers now, so
+ * only those parts of the raster are redrawn on the next pulse. All methods must be called on the
+ * JavaFX Application Thread.
+ * </p>
+ *
+ * @author Tatum McKinnis
+ */
+class EditorMinimap extends Pane {
+
+  /**
+   * The raster covers the level's bounds rounded out to this step, so objects moved around near
+   * the edge of the level rarely force the whole raster to be redrawn.
+   */
+  private static final int BOUNDS_STEP = 512;
+
+  private final EditorGameView view;
+  private final EditorController controller;
+  private final EditorGameViewImageManager imageManager;
+  private final EditorDrawnBounds drawnBounds;
+  private final Logger log;
+  private final ImageView rasterView = new ImageView();
+  private final Canvas viewportCanvas = new Canvas();
+  private final Map<UUID, double[]> lastRects = new HashMap<>();
+  private final Map<Image, Map<FrameData, Integer>> frameColors = new WeakHashMap<>();
+
+  private LevelMinimapRaster raster;
+  private int placeholderArgb;
+  private Color viewportColor;
+  private double viewportWidth;
+
+  /**
+   * Constructs the minimap. It stays empty until
+   * {@link #loadConfigurableValues(Properties)} is called.
+   *
+   * @param view         The parent EditorGameView, whose camera the minimap shows and moves.
+   * @param controller   The application's editor controller.
+   * @param imageManager The manager for object images.
+   * @param drawnBounds  The tracker of where objects are drawn, shared with the object canvas.
+   * @param log          The logger instance for logging.
+   */
+  EditorMinimap(EditorGameView view, EditorController controller,
+      EditorGameViewImageManager imageManager, EditorDrawnBounds drawnBounds, Logger log) {
+    this.view = view;
+    this.controller = controller;
+    this.imageManager = imageManager;
+    this.drawnBounds = drawnBounds;
+    this.log = log;
+    viewportCanvas.setMouseTransparent(true);
+    getChildren().addAll(rasterView, viewportCanvas);
+    addEventHandler(MouseEvent.MOUSE_PRESSED, this::recenterCamera);
+    addEventHandler(MouseEvent.MOUSE_DRAGGED, this::recenterCamera);
+    addEventHandler(MouseEvent.MOUSE_RELEASED, MouseEvent::consume);
+    addEventHandler(MouseEvent.MOUSE_CLICKED, MouseEvent::consume);
+  }
+
+  /**
+   * Loads the minimap's size and colours from the identifier properties.
+   *
+   * @param identifierProps The Properties object containing the minimap configuration values.
+   * @throws RuntimeException if any value is missing or cannot be parsed.
+   */
+  void loadConfigurableValues(Properties identifierProps) {
+    try {
+      int width = Integer.parseInt(identifierProps.getProperty("minimap.width"));
+      int height = Integer.parseInt(identifierProps.getProperty("minimap.height"));
+      Color background = Color.web(identifierProps.getProperty("color.minimap.background"));
+      placeholderArgb = LevelMinimapRaster.toArgb(Color.web(identifierProps.getProperty(
+          "color.object.placeholder.fill")));
+      viewportColor = Color.web(identifierProps.getProperty("color.minimap.viewport"));
+      viewportWidth = Double.parseDouble(identifierProps.getProperty("width.minimap.viewport"));
+      raster = new LevelMinimapRaster(this::marksIn, width, height,
+          LevelMinimapRaster.toArgb(background));
+      lastRects.clear();
+    } catch (Exception e) {
+      log.fatal("Failed to load minimap configuration values.", e);
+      throw new RuntimeException("Failed to load essential minimap configuration.", e);
+    }
+  }
+
+  /**
+   * Dirties the part of the overview an object was last drawn in and the part it covers now.
+   *
+   * @param id The UUID of the object that was added, changed or removed.
+   */
+  void invalidateObject(UUID id) {
+    if (raster == null) {
+      return;
+    }
+    double[] previous = lastRects.remove(id);
+    if (previous != null) {
+      raster.invalidate(previous[0], previous[1], previous[2], previous[3]);
+    }
+    EditorObject object = controller.getEditorObject(id);
+    if (object != null && view.getDisplayedObjectIds().contains(id)) {
+      double[] rect = worldRect(object);
+      if (rect != null) {
+        raster.invalidate(rect[0], rect[1], rect[2], rect[3]);
+        lastRects.put(id, rect);
+      }
+    }
+  }
+
+  /**
+   * Dirties the whole overview, for changes that affect every object.
+   */
+  void invalidateAll() {
+    if (raster != null) {
+      lastRects.clear();
+      raster.invalidateAll();
+    }
+  }
+
+  /**
+   * Redraws the dirty parts of the overview and the camera rectangle. Called by the drawer after
+   * every redraw of the objects, so it runs at most once per pulse.
+   */
+  void refresh() {
+    if (raster == null) {
+      return;
+    }
+    updateWorldBounds();
+    raster.update();
+    Image image = raster.getImage();
+    if (rasterView.getImage() != image) {
+      rasterView.setImage(image);
+      viewportCanvas.setWidth(image.getWidth());
+      viewportCanvas.setHeight(image.getHeight());
+    }
+    drawViewport();
+  }
+
+  private void updateWorldBounds() {
+    int[] bounds = controller.getEditorDataAPI().getLevel().getBounds();
+    double reach = drawnBounds.getReach();
+    double minX = Math.floor((bounds[0] - reach) / BOUNDS_STEP) * BOUNDS_STEP;
+    double minY = Math.floor((bounds[1] - reach) / BOUNDS_STEP) * BOUNDS_STEP;
+    double maxX = Math.ceil((bounds[2] + reach) / BOUNDS_STEP) * BOUNDS_STEP;
+    double maxY = Math.ceil((bounds[3] + reach) / BOUNDS_STEP) * BOUNDS_STEP;
+    if (raster.setWorldBounds(minX, minY, maxX, maxY)) {
+      lastRects.clear();
+      log.debug("Minimap now covers ({}, {}) to ({}, {}).", minX, minY, maxX, maxY);
+    }
+  }
+
+  private void drawViewport() {
+    GraphicsContext gc = viewportCanvas.getGraphicsContext2D();
+    gc.clearRect(0, 0, viewportCanvas.getWidth(), viewportCanvas.getHeight());
+    double zoom = view.getZoomScale();
+    double left = raster.toRasterX(view.getCornerCameraX());
+    double top = raster.toRasterY(view.getCornerCameraY());
+    double width = view.getGridWidth() / zoom / raster.getWorldPerPixel();
+    double height = view.getGridHeight() / zoom / raster.getWorldPerPixel();
+    gc.setStroke(viewportColor);
+    gc.setLineWidth(viewportWidth);
+    gc.strokeRect(left, top, width, height);
+  }
+
+  private void recenterCamera(MouseEvent event) {
+    if (raster != null && raster.getWidth() > 0) {
+      view.recenterCamera(raster.toWorldX(event.getX()), raster.toWorldY(event.getY()));
+    }
+    event.consume();
+  }
+
+  /**
+   * Lists the displayed objects overlapping a world region, layer by layer in the level's render
+   * order, as the raster's source. Remembers where each one was drawn for
+   * {@link #invalidateObject(UUID)}.
+   */
+  private List<LevelMinimapRaster.Mark> marksIn(double minX, double minY, double maxX,
+      double maxY) {
+    double reach = drawnBounds.getReach();
+    List<UUID> candidates = controller.getObjectIDsInRegion(minX - reach, minY - reach,
+        maxX - minX + 2 * reach, maxY - minY + 2 * reach);
+    Map<Layer, List<UUID>> byLayer = new LinkedHashMap<>();
+    for (UUID id : candidates) {
+      EditorObject object = controller.getEditorObject(id);
+      if (view.getDisplayedObjectIds().contains(id) && object != null
+          && object.getIdentityData() != null) {
+        byLayer.computeIfAbsent(object.getIdentityData().getLayer(), layer -> new ArrayList<>())
+            .add(id);
+      }
+    }
+
+    List<LevelMinimapRaster.Mark> marks = new ArrayList<>(candidates.size());
+    for (Layer layer : controller.getEditorDataAPI().getRenderLayers()) {
+      List<UUID> layerIds = byLayer.get(layer);
+      if (layerIds == null) {
+        continue;
+      }
+      for (UUID id : controller.getEditorDataAPI().sortByRenderOrder(layerIds)) {
+        EditorObject object = controller.getEditorObject(id);
+        double[] rect = worldRect(object);
+        if (rect != null) {
+          lastRects.put(id, rect);
+          marks.add(new LevelMinimapRaster.Mark(rect[0], rect[1], rect[2] - rect[0],
+              rect[3] - rect[1], colorOf(id, object)));
+        }
+      }
+    }
+    return marks;
+  }
+
+  /**
+   * @return the world rectangle {minX, minY, maxX, maxY} an object is drawn in on the object
+   * canvas, or {@code null} if it has neither a sprite nor a hitbox
+   */
+  private double[] worldRect(EditorObject object) {
+    return drawnBounds.drawnRect(object);
+  }
+
+  /**
+   * @return the average colour of the frame an object shows, cached per sprite sheet and frame,
+   * or the placeholder colour while its image is not loaded
+   */
+  private int colorOf(UUID id, EditorObject object) {
+    Image image = imageManager.getImage(id);
+    FrameData frame = object.getSpriteData() == null ? null
+        : EditorDrawnBounds.displayFrame(object.getSpriteData());
+    if (image == null || image.isError() || image.getProgress() < 1.0 || frame == null) {
+      return placeholderArgb;
+    }
+    return frameColors.computeIfAbsent(image, key -> new HashMap<>())
+        .computeIfAbsent(frame, key -> LevelMinimapRaster.averageColor(image, frame.x(),
+            frame.y(), frame.width(), frame.height()));
+  }
+}
@@ -0,0 +1,68 @@
+package oogasalad.editor.view.components;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Collapses redraw requests for the {@link EditorGameView} into at most one repaint per layer per
+ * JavaFX pulse.
+ * Requests only set a dirty bit for the grid, the objects or the selection overlay, and can be
+ * made from any thread any number of times. On the next pulse the timer repaints each dirty layer
+ * exactly once, so a drag or a bulk edit that fires dozens of notifications in one frame still
+ * costs a single redraw.
+ * @author Tatum McKinnis
+ */
+class EditorRedrawScheduler extends AnimationTimer {
+
+  static final int GRID = 1;
+  static final int OBJECTS = 1 << 1;
+  static final int SELECTION = 1 << 2;
+
+  private final AtomicInteger dirty = new AtomicInteger();
+  private final Runnable gridPainter;
+  private final Runnable objectPainter;
+  private final Runnable selectionPainter;
+
+  /**
+   * Constructs a scheduler that repaints through the given callbacks on the JavaFX Application
+   * Thread.
+   *
+   * @param gridPainter Paints the grid canvas.
+   * @param objectPainter Paints the object canvas.
+   * @param selectionPainter Paints the selection overlay canvas.
+   */
+  EditorRedrawScheduler(Runnable gridPainter, Runnable objectPainter, Runnable selectionPainter) {
+    this.gridPainter = gridPainter;
+    this.objectPainter = objectPainter;
+    this.selectionPainter = selectionPainter;
+  }
+
+  /**
+   * Marks one or more layers as needing a repaint on the next pulse.
+   *
+   * @param layers A combination of {@link #GRID}, {@link #OBJECTS} and {@link #SELECTION}.
+   */
+  void request(int layers) {
+    dirty.getAndUpdate(current -> current | layers);
+  }
+
+  /**
+   * Repaints every layer marked dirty since the last pulse. Bits set while painting are kept for
+   * the next pulse.
+   *
+   * @param now The timestamp of the current frame in nanoseconds.
+   */
+  @Override
+  public void handle(long now) {
+    int layers = dirty.getAndSet(0);
+    if ((layers & GRID) != 0) {
+      gridPainter.run();
+    }
+    if ((layers & OBJECTS) != 0) {
+      objectPainter.run();
+    }
+    if ((layers & SELECTION) != 0) {
+      selectionPainter.run();
+    }
+  }
+}
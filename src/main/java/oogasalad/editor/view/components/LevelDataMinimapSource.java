@@ -0,0 +1,142 @@
+package oogasalad.editor.view.components;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javafx.scene.image.Image;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+
+/**
+ * Feeds a {@link LevelMinimapRaster} from a parsed level file rather than the editor's model, so
+ * the same raster that backs the editor's minimap can render thumbnails of saved levels, for
+ * example in the game picker.
+ * <p>
+ * Every object becomes a mark where the engine draws its base frame, coloured with the frame's
+ * average colour. Marks are ordered back to front like the engine orders layers, where a higher
+ * layer is drawn further back.
+ * </p>
+ *
+ * @author Tatum McKinnis
+ */
+public class LevelDataMinimapSource implements LevelMinimapRaster.Source {
+
+  private final List<LevelMinimapRaster.Mark> marks = new ArrayList<>();
+  private double minX = Double.POSITIVE_INFINITY;
+  private double minY = Double.POSITIVE_INFINITY;
+  private double maxX = Double.NEGATIVE_INFINITY;
+  private double maxY = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Builds the marks of a level.
+   *
+   * @param level           the parsed level
+   * @param sheets          returns the loaded image of a sprite sheet file, or {@code null} if it
+   *                        cannot be loaded
+   * @param placeholderArgb the colour of objects whose sprite sheet cannot be loaded, as ARGB
+   */
+  public LevelDataMinimapSource(LevelData level, Function<File, Image> sheets,
+      int placeholderArgb) {
+    Map<File, Image> images = new HashMap<>();
+    Map<FrameKey, Integer> colors = new HashMap<>();
+    List<GameObjectData> objects = new ArrayList<>(level.gameObjects());
+    objects.sort(Comparator.comparingInt(GameObjectData::layer).reversed());
+    for (GameObjectData object : objects) {
+      BlueprintData blueprint = level.gameBluePrintData().get(object.blueprintId());
+      if (blueprint != null) {
+        addMark(object, blueprint, sheets, images, colors, placeholderArgb);
+      }
+    }
+  }
+
+  /**
+   * Renders a whole level into a new raster, sized to the level's objects.
+   *
+   * @param maxWidth   the largest width of the raster in pixels
+   * @param maxHeight  the largest height of the raster in pixels
+   * @param background the colour of empty space as ARGB
+   * @return the rendered raster; call {@link LevelMinimapRaster#getImage()} on the JavaFX
+   * Application Thread to display it
+   */
+  public LevelMinimapRaster render(int maxWidth, int maxHeight, int background) {
+    LevelMinimapRaster raster = new LevelMinimapRaster(this, maxWidth, maxHeight, background);
+    if (marks.isEmpty()) {
+      raster.setWorldBounds(0, 0, maxWidth, maxHeight);
+    } else {
+      raster.setWorldBounds(minX, minY, maxX, maxY);
+    }
+    raster.update();
+    return raster;
+  }
+
+  @Override
+  public List<LevelMinimapRaster.Mark> marksIn(double regionMinX, double regionMinY,
+      double regionMaxX, double regionMaxY) {
+    List<LevelMinimapRaster.Mark> overlapping = new ArrayList<>();
+    for (LevelMinimapRaster.Mark mark : marks) {
+      if (mark.x() < regionMaxX && mark.x() + mark.width() > regionMinX
+          && mark.y() < regionMaxY && mark.y() + mark.height() > regionMinY) {
+        overlapping.add(mark);
+      }
+    }
+    return overlapping;
+  }
+
+  private void addMark(GameObjectData object, BlueprintData blueprint,
+      Function<File, Image> sheets, Map<File, Image> images, Map<FrameKey, Integer> colors,
+      int placeholderArgb) {
+    SpriteData sprite = blueprint.spriteData();
+    HitBoxData hitBox = blueprint.hitBoxData();
+    FrameData frame = sprite == null ? null : displayFrame(sprite);
+    double x = object.x() + (hitBox == null ? 0 : hitBox.spriteDx());
+    double y = object.y() + (hitBox == null ? 0 : hitBox.spriteDy());
+    double width;
+    double height;
+    if (frame != null) {
+      width = frame.width();
+      height = frame.height();
+    } else if (hitBox != null) {
+      x = object.x();
+      y = object.y();
+      width = hitBox.hitBoxWidth();
+      height = hitBox.hitBoxHeight();
+    } else {
+      return;
+    }
+
+    int argb = placeholderArgb;
+    if (frame != null && sprite.spriteFile() != null) {
+      File file = sprite.spriteFile();
+      Image image = images.computeIfAbsent(file, sheets);
+      if (image != null && !image.isError()) {
+        argb = colors.computeIfAbsent(new FrameKey(file, frame), key ->
+            LevelMinimapRaster.averageColor(image, frame.x(), frame.y(), frame.width(),
+                frame.height()));
+      }
+    }
+    marks.add(new LevelMinimapRaster.Mark(x, y, width, height, argb));
+    minX = Math.min(minX, x);
+    minY = Math.min(minY, y);
+    maxX = Math.max(maxX, x + width);
+    maxY = Math.max(maxY, y + height);
+  }
+
+  private static FrameData displayFrame(SpriteData sprite) {
+    if (sprite.baseFrame() != null) {
+      return sprite.baseFrame();
+    }
+    return sprite.frames() == null || sprite.frames().isEmpty() ? null : sprite.frames().get(0);
+  }
+
+  private record FrameKey(File sheet, FrameData frame) {
+
+  }
+}
@@ -0,0 +1,413 @@
+package oogasalad.editor.view.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * A low resolution raster of a whole level, where every object is a rectangle filled with the
+ * average colour of its sprite. The level is scaled down uniformly to fit a maximum raster size,
+ * so a raster stays a few hundred pixels wide however large the level is.
+ * <p>
+ * The raster is kept between changes. When objects change, only the world regions they covered
+ * and cover now are {@link #invalidate(double, double, double, double) invalidated}, and
+ * {@link #update()} re-rasterizes just those pixel rectangles by asking the {@link Source} for the
+ * marks overlapping them. {@link #getImage()} then copies only the updated rectangles into the
+ * displayed image. Only changing the world bounds re-rasterizes everything.
+ * </p>
+ * <p>
+ * Not thread-safe. Everything but {@link #getImage()} may run on a background thread, for example
+ * to render a level thumbnail, as long as the raster is handed over to the JavaFX Application
+ * Thread afterwards.
+ * </p>
+ *
+ * @author Tatum McKinnis
+ */
+public class LevelMinimapRaster {
+
+  private static final int MAX_DIRTY_RECTS = 32;
+  private static final int SAMPLES_PER_SIDE = 8;
+  private static final int ALPHA_SHIFT = 24;
+  private static final int CHANNEL_MASK = 0xFF;
+
+  /**
+   * A rectangle of the world filled with one colour.
+   *
+   * @param x      the world x-coordinate of the left edge
+   * @param y      the world y-coordinate of the top edge
+   * @param width  the world width
+   * @param height the world height
+   * @param argb   the fill colour as non-premultiplied ARGB
+   */
+  public record Mark(double x, double y, double width, double height, int argb) {
+
+  }
+
+  /**
+   * Supplies what is drawn in the raster.
+   */
+  @FunctionalInterface
+  public interface Source {
+
+    /**
+     * Lists the marks overlapping a world region.
+     *
+     * @param minX the world x-coordinate of the region's left edge
+     * @param minY the world y-coordinate of the region's top edge
+     * @param maxX the world x-coordinate of the region's right edge
+     * @param maxY the world y-coordinate of the region's bottom edge
+     * @return the marks in the order they are drawn, back to front
+     */
+    List<Mark> marksIn(double minX, double minY, double maxX, double maxY);
+  }
+
+  private final Source source;
+  private final int maxWidth;
+  private final int maxHeight;
+  private final int background;
+
+  private double originX;
+  private double originY;
+  private double worldPerPixel = 1;
+  private int width;
+  private int height;
+  private int[] pixels = new int[0];
+  private final List<int[]> dirty = new ArrayList<>();
+  private final List<int[]> pendingUpload = new ArrayList<>();
+  private WritableImage image;
+
+  /**
+   * Constructs an empty raster. Call {@link #setWorldBounds(double, double, double, double)}
+   * before using it.
+   *
+   * @param source     supplies the marks to draw
+   * @param maxWidth   the largest width of the raster in pixels
+   * @param maxHeight  the largest height of the raster in pixels
+   * @param background the colour of empty space as ARGB
+   */
+  public LevelMinimapRaster(Source source, int maxWidth, int maxHeight, int background) {
+    if (maxWidth <= 0 || maxHeight <= 0) {
+      throw new IllegalArgumentException("Minimap size must be positive");
+    }
+    this.source = source;
+    this.maxWidth = maxWidth;
+    this.maxHeight = maxHeight;
+    this.background = background;
+  }
+
+  /**
+   * Sets the world region the raster covers. If the region or the scale changes, the whole raster
+   * is invalidated and a new image is made.
+   *
+   * @param minX the world x-coordinate of the left edge
+   * @param minY the world y-coordinate of the top edge
+   * @param maxX the world x-coordinate of the right edge
+   * @param maxY the world y-coordinate of the bottom edge
+   * @return whether the bounds changed
+   */
+  public boolean setWorldBounds(double minX, double minY, double maxX, double maxY) {
+    double spanX = Math.max(1, maxX - minX);
+    double spanY = Math.max(1, maxY - minY);
+    double scale = Math.max(spanX / maxWidth, spanY / maxHeight);
+    int newWidth = Math.max(1, Math.min(maxWidth, (int) Math.ceil(spanX / scale)));
+    int newHeight = Math.max(1, Math.min(maxHeight, (int) Math.ceil(spanY / scale)));
+    if (minX == originX && minY == originY && scale == worldPerPixel && newWidth == width
+        && newHeight == height) {
+      return false;
+    }
+    originX = minX;
+    originY = minY;
+    worldPerPixel = scale;
+    width = newWidth;
+    height = newHeight;
+    pixels = new int[width * height];
+    image = null;
+    pendingUpload.clear();
+    invalidateAll();
+    return true;
+  }
+
+  /**
+   * Marks a world region as needing to be rasterized again.
+   *
+   * @param minX the world x-coordinate of the region's left edge
+   * @param minY the world y-coordinate of the region's top edge
+   * @param maxX the world x-coordinate of the region's right edge
+   * @param maxY the world y-coordinate of the region's bottom edge
+   */
+  public void invalidate(double minX, double minY, double maxX, double maxY) {
+    int[] rect = toPixelRect(minX, minY, maxX, maxY);
+    if (rect != null) {
+      addRect(dirty, rect);
+    }
+  }
+
+  /**
+   * Marks the whole raster as needing to be rasterized again.
+   */
+  public void invalidateAll() {
+    dirty.clear();
+    if (width > 0 && height > 0) {
+      dirty.add(new int[]{0, 0, width, height});
+    }
+  }
+
+  /**
+   * Rasterizes every invalidated region again.
+   *
+   * @return whether anything was rasterized
+   */
+  public boolean update() {
+    if (dirty.isEmpty()) {
+      return false;
+    }
+    for (int[] rect : dirty) {
+      render(rect);
+      addRect(pendingUpload, rect);
+    }
+    dirty.clear();
+    return true;
+  }
+
+  /**
+   * Returns the image of the raster, copying into it whatever {@link #update()} changed since the
+   * last call. Must be called on the JavaFX Application Thread.
+   *
+   * @return the raster's image; a new image after the world bounds changed
+   */
+  public WritableImage getImage() {
+    if (image == null) {
+      image = new WritableImage(width, height);
+      pendingUpload.clear();
+      pendingUpload.add(new int[]{0, 0, width, height});
+    }
+    for (int[] rect : pendingUpload) {
+      image.getPixelWriter().setPixels(rect[0], rect[1], rect[2] - rect[0], rect[3] - rect[1],
+          PixelFormat.getIntArgbInstance(), pixels, rect[1] * width + rect[0], width);
+    }
+    pendingUpload.clear();
+    return image;
+  }
+
+  /**
+   * @param x the raster x-coordinate
+   * @param y the raster y-coordinate
+   * @return the colour of a raster pixel as ARGB, as of the last {@link #update()}
+   */
+  public int getArgb(int x, int y) {
+    return pixels[y * width + x];
+  }
+
+  /**
+   * @return the width of the raster in pixels
+   */
+  public int getWidth() {
+    return width;
+  }
+
+  /**
+   * @return the height of the raster in pixels
+   */
+  public int getHeight() {
+    return height;
+  }
+
+  /**
+   * @return how many world units one raster pixel covers
+   */
+  public double getWorldPerPixel() {
+    return worldPerPixel;
+  }
+
+  /**
+   * @param rasterX a raster x-coordinate
+   * @return the matching world x-coordinate
+   */
+  public double toWorldX(double rasterX) {
+    return originX + rasterX * worldPerPixel;
+  }
+
+  /**
+   * @param rasterY a raster y-coordinate
+   * @return the matching world y-coordinate
+   */
+  public double toWorldY(double rasterY) {
+    return originY + rasterY * worldPerPixel;
+  }
+
+  /**
+   * @param worldX a world x-coordinate
+   * @return the matching raster x-coordinate
+   */
+  public double toRasterX(double worldX) {
+    return (worldX - originX) / worldPerPixel;
+  }
+
+  /**
+   * @param worldY a world y-coordinate
+   * @return the matching raster y-coordinate
+   */
+  public double toRasterY(double worldY) {
+    return (worldY - originY) / worldPerPixel;
+  }
+
+  /**
+   * Packs a colour into the ARGB integer format the raster works with.
+   *
+   * @param color a colour
+   * @return the colour as ARGB, eight bits per channel
+   */
+  public static int toArgb(Color color) {
+    return (int) Math.round(color.getOpacity() * CHANNEL_MASK) << ALPHA_SHIFT
+        | (int) Math.round(color.getRed() * CHANNEL_MASK) << 16
+        | (int) Math.round(color.getGreen() * CHANNEL_MASK) << 8
+        | (int) Math.round(color.getBlue() * CHANNEL_MASK);
+  }
+
+  /**
+   * Averages the visible pixels of a region of an image, sampling a small grid rather than every
+   * pixel. Fully transparent pixels are ignored, so a sprite's colour is not washed out by the
+   * empty space around it.
+   *
+   * @param image  a loaded image
+   * @param x      the left edge of the region in the image
+   * @param y      the top edge of the region in the image
+   * @param width  the width of the region
+   * @param height the height of the region
+   * @return the opaque average colour as ARGB, or 0 if the region has no visible pixel
+   */
+  public static int averageColor(Image image, double x, double y, double width, double height) {
+    PixelReader reader = image == null ? null : image.getPixelReader();
+    if (reader == null || width <= 0 || height <= 0) {
+      return 0;
+    }
+    int right = (int) Math.min(image.getWidth(), x + width);
+    int bottom = (int) Math.min(image.getHeight(), y + height);
+    int left = (int) Math.max(0, x);
+    int top = (int) Math.max(0, y);
+    if (left >= right || top >= bottom) {
+      return 0;
+    }
+    long red = 0;
+    long green = 0;
+    long blue = 0;
+    long weight = 0;
+    for (int i = 0; i < SAMPLES_PER_SIDE; i++) {
+      int sampleY = top + (int) ((i + 0.5) * (bottom - top) / SAMPLES_PER_SIDE);
+      for (int j = 0; j < SAMPLES_PER_SIDE; j++) {
+        int sampleX = left + (int) ((j + 0.5) * (right - left) / SAMPLES_PER_SIDE);
+        int argb = reader.getArgb(sampleX, sampleY);
+        int alpha = (argb >>> ALPHA_SHIFT) & CHANNEL_MASK;
+        red += (long) ((argb >> 16) & CHANNEL_MASK) * alpha;
+        green += (long) ((argb >> 8) & CHANNEL_MASK) * alpha;
+        blue += (long) (argb & CHANNEL_MASK) * alpha;
+        weight += alpha;
+      }
+    }
+    if (weight == 0) {
+      return 0;
+    }
+    return CHANNEL_MASK << ALPHA_SHIFT | (int) (red / weight) << 16 | (int) (green / weight) << 8
+        | (int) (blue / weight);
+  }
+
+  private void render(int[] rect) {
+    for (int row = rect[1]; row < rect[3]; row++) {
+      Arrays.fill(pixels, row * width + rect[0], row * width + rect[2], background);
+    }
+    List<Mark> marks = source.marksIn(toWorldX(rect[0]), toWorldY(rect[1]), toWorldX(rect[2]),
+        toWorldY(rect[3]));
+    for (Mark mark : marks) {
+      fill(mark, rect);
+    }
+  }
+
+  /**
+   * Fills the part of a mark inside a pixel rectangle. Marks smaller than a pixel still cover one,
+   * so small objects do not vanish from the overview.
+   */
+  private void fill(Mark mark, int[] clip) {
+    int alpha = (mark.argb() >>> ALPHA_SHIFT) & CHANNEL_MASK;
+    if (alpha == 0) {
+      return;
+    }
+    int left = (int) Math.floor(toRasterX(mark.x()));
+    int top = (int) Math.floor(toRasterY(mark.y()));
+    int right = Math.max(left + 1, (int) Math.ceil(toRasterX(mark.x() + mark.width())));
+    int bottom = Math.max(top + 1, (int) Math.ceil(toRasterY(mark.y() + mark.height())));
+    left = Math.max(left, clip[0]);
+    top = Math.max(top, clip[1]);
+    right = Math.min(right, clip[2]);
+    bottom = Math.min(bottom, clip[3]);
+    for (int row = top; row < bottom; row++) {
+      int offset = row * width;
+      if (alpha == CHANNEL_MASK) {
+        Arrays.fill(pixels, offset + left, offset + right, mark.argb());
+        continue;
+      }
+      for (int column = left; column < right; column++) {
+        pixels[offset + column] = blend(mark.argb(), alpha, pixels[offset + column]);
+      }
+    }
+  }
+
+  private static int blend(int color, int alpha, int under) {
+    int inverse = CHANNEL_MASK - alpha;
+    int red = (((color >> 16) & CHANNEL_MASK) * alpha + ((under >> 16) & CHANNEL_MASK) * inverse)
+        / CHANNEL_MASK;
+    int green = (((color >> 8) & CHANNEL_MASK) * alpha + ((under >> 8) & CHANNEL_MASK) * inverse)
+        / CHANNEL_MASK;
+    int blue = ((color & CHANNEL_MASK) * alpha + (under & CHANNEL_MASK) * inverse) / CHANNEL_MASK;
+    int underAlpha = (under >>> ALPHA_SHIFT) & CHANNEL_MASK;
+    int outAlpha = alpha + underAlpha * inverse / CHANNEL_MASK;
+    return outAlpha << ALPHA_SHIFT | red << 16 | green << 8 | blue;
+  }
+
+  /**
+   * @return the pixel rectangle {left, top, right, bottom} covering a world region, clipped to the
+   * raster, or {@code null} if the region lies outside it
+   */
+  private int[] toPixelRect(double minX, double minY, double maxX, double maxY) {
+    int left = Math.max(0, (int) Math.floor(toRasterX(minX)));
+    int top = Math.max(0, (int) Math.floor(toRasterY(minY)));
+    int right = Math.min(width, (int) Math.ceil(toRasterX(maxX)) + 1);
+    int bottom = Math.min(height, (int) Math.ceil(toRasterY(maxY)) + 1);
+    return left < right && top < bottom ? new int[]{left, top, right, bottom} : null;
+  }
+
+  /**
+   * Adds a pixel rectangle to a list, dropping rectangles it contains. Once the list grows past
+   * {@link #MAX_DIRTY_RECTS}, it is merged into its bounding rectangle, which is cheaper to redraw
+   * than many scattered rectangles.
+   */
+  private static void addRect(List<int[]> rects, int[] rect) {
+    for (int[] existing : rects) {
+      if (contains(existing, rect)) {
+        return;
+      }
+    }
+    rects.removeIf(existing -> contains(rect, existing));
+    rects.add(rect);
+    if (rects.size() > MAX_DIRTY_RECTS) {
+      int[] bounds = rects.get(0).clone();
+      for (int[] other : rects) {
+        bounds[0] = Math.min(bounds[0], other[0]);
+        bounds[1] = Math.min(bounds[1], other[1]);
+        bounds[2] = Math.max(bounds[2], other[2]);
+        bounds[3] = Math.max(bounds[3], other[3]);
+      }
+      rects.clear();
+      rects.add(bounds);
+    }
+  }
+
+  private static boolean contains(int[] outer, int[] inner) {
+    return outer[0] <= inner[0] && outer[1] <= inner[1] && outer[2] >= inner[2]
+        && outer[3] >= inner[3];
+  }
+}
@@ -1,9 +1,9 @@
 package oogasalad.editor.view.components;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -13,22 +13,22 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
 import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.DataFormat;
 import javafx.scene.input.Dragboard;
@@ -38,9 +38,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
-import javafx.scene.layout.TilePane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import oogasalad.editor.controller.EditorController;
@@ -64,6 +62,7 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
   private static final Logger LOG = LogManager.getLogger(PrefabPalettePane.class);
   private static final String UI_RESOURCES = "EditorUI";
   private static final int PREFAB_ICON_SIZE = 64;
+  private static final int PREFAB_COLUMNS = 3;
   private static final String PLACEHOLDER_IMAGE_RESOURCE = "/oogasalad/editor/view/resources/images/placeholder_icon.png";
   private static final String EDITOR_PREFAB_PATH = "data/editorData/prefabricatedData/prefab.xml";
   private static final String ALL_GAMES_FILTER = "All";
@@ -75,7 +74,8 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
 
 
   private final EditorController controller;
-  private final TilePane prefabGrid;
+  private final ListView<List<BlueprintData>> prefabGrid;
+  private final PrefabThumbnailCache thumbnailCache;
   private final ObjectProperty<BlueprintData> selectedPrefab = new SimpleObjectProperty<>(null);
   private final ResourceBundle uiResources;
   private final Image placeholderImage;
@@ -93,6 +93,8 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
     this.controller = controller;
     this.uiResources = EditorResourceLoader.loadResourceBundle(UI_RESOURCES);
     this.placeholderImage = loadPlaceholderImage();
+    this.thumbnailCache = new PrefabThumbnailCache(PrefabThumbnailCache.DEFAULT_DIRECTORY,
+        PREFAB_ICON_SIZE, Platform::runLater);
 
     setPadding(new Insets(10));
     setSpacing(10);
@@ -112,25 +114,20 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
     gameFilterPane.setAlignment(Pos.CENTER_LEFT);
     gameToggleGroup = new ToggleGroup();
 
-    prefabGrid = new TilePane();
+    prefabGrid = new ListView<>();
     prefabGrid.setPadding(new Insets(5));
-    prefabGrid.setHgap(10);
-    prefabGrid.setVgap(10);
-    prefabGrid.setPrefColumns(3);
-    prefabGrid.getStyleClass().add("prefab-grid");
-
-    ScrollPane scrollPane = new ScrollPane(prefabGrid);
-    scrollPane.setFitToWidth(true);
-    scrollPane.setFitToHeight(true);
-    scrollPane.getStyleClass().add("prefab-scroll-pane");
-    scrollPane.setStyle(
+    prefabGrid.setFocusTraversable(false);
+    prefabGrid.setCellFactory(list -> new PrefabRowCell());
+    prefabGrid.getStyleClass().addAll("prefab-grid", "prefab-scroll-pane");
+    prefabGrid.setStyle(
         "-fx-background-color: transparent; -fx-background-insets: 0; -fx-padding: 0;");
+    VBox.setVgrow(prefabGrid, Priority.ALWAYS);
 
     HBox header = new HBox(titleLabel, currentPrefabLabel);
     header.setAlignment(Pos.CENTER_LEFT);
     HBox.setHgrow(currentPrefabLabel, Priority.ALWAYS);
 
-    getChildren().addAll(header, gameFilterPane, scrollPane);
+    getChildren().addAll(header, gameFilterPane, prefabGrid);
 
     loadAvailablePrefabs();
 
@@ -163,6 +160,7 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
   public void loadAvailablePrefabs() {
     LOG.debug("Loading available prefabs from fixed path: {}", EDITOR_PREFAB_PATH);
     allLoadedPrefabs.clear();
+    thumbnailCache.invalidate();
     Map<Integer, BlueprintData> editorPrefabs = loadPrefabsFromFile(EDITOR_PREFAB_PATH);
     allLoadedPrefabs.putAll(editorPrefabs);
 
@@ -230,10 +228,10 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
 
 
   /**
-   * Clears and repopulates the prefab grid based on the currently selected game filter.
+   * Repopulates the prefab grid based on the currently selected game filter. The grid is
+   * virtualized, so only the rows on screen create nodes and request thumbnails.
    */
   private void displayFilteredPrefabs() {
-    prefabGrid.getChildren().clear();
     if (selectedNode != null) {
       selectedNode.getStyleClass().remove(SELECTED_PREFAB_ITEM);
       selectedNode = null;
@@ -246,16 +244,15 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
         .sorted(Comparator.comparing(BlueprintData::type, String.CASE_INSENSITIVE_ORDER))
         .collect(Collectors.toList());
 
-    if (filteredPrefabs.isEmpty()) {
-      String messageKey =
-          currentGameFilter.equals(ALL_GAMES_FILTER) ? "NoPrefabsFound" : "NoPrefabsForGame";
-      prefabGrid.getChildren()
-          .add(new Label(String.format(uiResources.getString(messageKey), currentGameFilter)));
-    } else {
-      for (BlueprintData prefab : filteredPrefabs) {
-        addPrefabToGrid(prefab);
-      }
+    String messageKey =
+        currentGameFilter.equals(ALL_GAMES_FILTER) ? "NoPrefabsFound" : "NoPrefabsForGame";
+    prefabGrid.setPlaceholder(
+        new Label(String.format(uiResources.getString(messageKey), currentGameFilter)));
+    List<List<BlueprintData>> rows = new ArrayList<>();
+    for (int i = 0; i < filteredPrefabs.size(); i += PREFAB_COLUMNS) {
+      rows.add(filteredPrefabs.subList(i, Math.min(i + PREFAB_COLUMNS, filteredPrefabs.size())));
     }
+    prefabGrid.getItems().setAll(rows);
     currentPrefabLabel.setText(NO_PREFAB_SELECTED);
     LOG.info("Displayed {} prefabs for filter '{}'", filteredPrefabs.size(), currentGameFilter);
   }
@@ -300,86 +297,138 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
 
 
   /**
-   * Creates and adds a visual representation (icon and label) of a single prefab to the internal
-   * {@code prefabGrid}. Sets up mouse click and drag detection. Centers icon within a fixed-size
-   * pane, preserving aspect ratio (may clip).
-   *
-   * @param prefab The {@link BlueprintData} of the prefab to add to the grid.
+   * A row of the virtualized prefab grid. Its item nodes are created once and rebound as the row
+   * is reused for other prefabs while scrolling.
    */
-  private void addPrefabToGrid(BlueprintData prefab) {
-    Image prefabImg = loadPrefabImage(prefab);
+  private final class PrefabRowCell extends ListCell<List<BlueprintData>> {
 
-    ImageView imageView = new ImageView(prefabImg != null ? prefabImg : placeholderImage);
+    private final HBox row = new HBox(10);
+    private final List<PrefabItem> items = new ArrayList<>();
 
-    StackPane iconContainer = new StackPane();
-    iconContainer.setPrefSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
-    iconContainer.setMinSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
-    iconContainer.setMaxSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
-    iconContainer.setAlignment(Pos.CENTER);
+    private PrefabRowCell() {
+      for (int i = 0; i < PREFAB_COLUMNS; i++) {
+        PrefabItem item = new PrefabItem();
+        items.add(item);
+        row.getChildren().add(item.container);
+      }
+      setStyle("-fx-background-color: transparent;");
+    }
 
-    imageView.setPreserveRatio(true);
+    @Override
+    public void updateSelected(boolean selected) {
+      super.updateSelected(false);
+    }
 
+    @Override
+    protected void updateItem(List<BlueprintData> prefabs, boolean empty) {
+      super.updateItem(prefabs, empty);
+      for (int i = 0; i < items.size(); i++) {
+        items.get(i).bind(empty || prefabs == null || i >= prefabs.size() ? null : prefabs.get(i));
+      }
+      setGraphic(empty || prefabs == null ? null : row);
+    }
+  }
 
-    if (prefabImg != null && prefabImg.getWidth() > prefabImg.getHeight()) {
-      imageView.setFitWidth(PREFAB_ICON_SIZE);
-      imageView.setFitHeight(-1);
-    } else {
-      imageView.setFitHeight(PREFAB_ICON_SIZE);
-      imageView.setFitWidth(-1);
+  /**
+   * The icon and label of one prefab in the grid. Sets up mouse click and drag detection. Centers
+   * the icon within a fixed-size pane, preserving aspect ratio.
+   */
+  private final class PrefabItem {
+
+    private final ImageView imageView = new ImageView();
+    private final Label nameLabel = new Label();
+    private final Tooltip tooltip = new Tooltip();
+    private final VBox container;
+    private BlueprintData prefab;
+
+    private PrefabItem() {
+      StackPane iconContainer = new StackPane(imageView);
+      iconContainer.setPrefSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
+      iconContainer.setMinSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
+      iconContainer.setMaxSize(PREFAB_ICON_SIZE, PREFAB_ICON_SIZE);
+      iconContainer.setAlignment(Pos.CENTER);
+      imageView.setPreserveRatio(true);
+
+      nameLabel.setWrapText(true);
+      nameLabel.setMaxWidth(PREFAB_ICON_SIZE);
+      nameLabel.getStyleClass().add("prefab-name-label");
+
+      container = new VBox(iconContainer, nameLabel);
+      container.setSpacing(5);
+      container.getStyleClass().add("prefab-item");
+      container.setAlignment(Pos.CENTER);
+      container.setPadding(new Insets(5));
+      Tooltip.install(container, tooltip);
+
+      container.setOnMouseClicked(event -> select());
+      setupDragDetectionForNode(container, this);
     }
 
-    imageView.fitWidthProperty().addListener((obs, oldVal, newVal) -> {
-      if (newVal.doubleValue() < PREFAB_ICON_SIZE) {
-        StackPane.setAlignment(imageView, Pos.CENTER);
+    private void bind(BlueprintData newPrefab) {
+      prefab = newPrefab;
+      container.setVisible(newPrefab != null);
+      container.setUserData(newPrefab);
+      container.getStyleClass().remove(SELECTED_PREFAB_ITEM);
+      if (selectedNode == container) {
+        selectedNode = null;
       }
-    });
-    imageView.fitHeightProperty().addListener((obs, oldVal, newVal) -> {
-      if (newVal.doubleValue() < PREFAB_ICON_SIZE) {
-        StackPane.setAlignment(imageView, Pos.CENTER);
+      if (newPrefab == null) {
+        imageView.setImage(null);
+        return;
       }
-    });
-
-    iconContainer.getChildren().add(imageView);
-
-    Label nameLabel = new Label(prefab.type());
-    nameLabel.setWrapText(true);
-    nameLabel.setMaxWidth(PREFAB_ICON_SIZE);
-    nameLabel.getStyleClass().add("prefab-name-label");
-
-    VBox prefabContainer = new VBox(iconContainer, nameLabel);
-    prefabContainer.setSpacing(5);
-    prefabContainer.getStyleClass().add("prefab-item");
-    prefabContainer.setAlignment(Pos.CENTER);
-    prefabContainer.setPadding(new Insets(5));
-    prefabContainer.setUserData(prefab);
+      if (newPrefab == selectedPrefab.get()) {
+        container.getStyleClass().add(SELECTED_PREFAB_ITEM);
+        selectedNode = container;
+      }
+      nameLabel.setText(newPrefab.type());
+      tooltip.setText(String.format("%s\nGroup: %s\nGame: %s", newPrefab.type(),
+          newPrefab.group(), newPrefab.gameName()));
+      Image thumbnail = requestPrefabImage(newPrefab, image -> {
+        if (prefab == newPrefab) {
+          show(image);
+        }
+      });
+      show(thumbnail);
+    }
 
-    String tooltipText = String.format("%s\nGroup: %s\nGame: %s", prefab.type(), prefab.group(),
-        prefab.gameName());
-    Tooltip.install(prefabContainer, new Tooltip(tooltipText));
+    private void show(Image image) {
+      Image shown = image != null ? image : placeholderImage;
+      imageView.setImage(shown);
+      if (shown != null && shown.getWidth() > shown.getHeight()) {
+        imageView.setFitWidth(PREFAB_ICON_SIZE);
+        imageView.setFitHeight(-1);
+      } else {
+        imageView.setFitHeight(PREFAB_ICON_SIZE);
+        imageView.setFitWidth(-1);
+      }
+    }
 
-    prefabContainer.setOnMouseClicked(event -> {
+    private void select() {
+      if (prefab == null) {
+        return;
+      }
       if (selectedNode != null) {
         selectedNode.getStyleClass().remove(SELECTED_PREFAB_ITEM);
       }
-      selectedNode = prefabContainer;
+      selectedNode = container;
       selectedNode.getStyleClass().add(SELECTED_PREFAB_ITEM);
       LOG.debug("Prefab selected: {}", prefab.type());
       selectedPrefab.set(prefab);
       currentPrefabLabel.setText(
           "Selected: " + prefab.type() + " (" + prefab.group() + ')');
       controller.setActiveTool("placePrefabTool");
-    });
-
-    setupDragDetectionForNode(prefabContainer, prefab, prefabImg);
-
-    prefabGrid.getChildren().add(prefabContainer);
+    }
   }
 
   /**
-   * Sets up drag detection for a specific prefab node.
+   * Sets up drag detection for a prefab item; the item's current prefab and thumbnail are used.
    */
-  private void setupDragDetectionForNode(Node node, BlueprintData prefab, Image dragViewImage) {
+  private void setupDragDetectionForNode(Node node, PrefabItem item) {
     node.setOnDragDetected((MouseEvent event) -> {
+      BlueprintData prefab = item.prefab;
+      if (prefab == null) {
+        return;
+      }
       LOG.debug("Drag detected on prefab: {}", prefab.type());
       Dragboard db = node.startDragAndDrop(TransferMode.COPY);
 
@@ -388,7 +437,7 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
       content.put(PREFAB_BLUEPRINT_ID, String.valueOf(prefab.blueprintId()));
       db.setContent(content);
 
-
+      Image dragViewImage = item.imageView.getImage();
       Image imageToShow =
           (dragViewImage != null && !dragViewImage.isError()) ? dragViewImage : placeholderImage;
       if (imageToShow != null) {
@@ -402,42 +451,33 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
   // --- Refactored Image Loading Logic ---
 
   /**
-   * Attempts to load the display image for a given prefab. Returns a placeholder on any failure.
+   * Returns the thumbnail of a prefab's display frame if it is cached in memory, or starts
+   * producing it in the background.
    *
    * @param prefab The BlueprintData containing sprite information.
-   * @return The generated Image snapshot of the display frame, or a placeholder on failure.
+   * @param onReady Called with the thumbnail, or null on failure, once it has been produced.
+   * @return The thumbnail if it was cached in memory, the placeholder if the prefab has no usable
+   * sprite, or null if the thumbnail is being produced.
    */
-  private Image loadPrefabImage(BlueprintData prefab) {
-    LOG.debug("Loading prefab image for type: {}", prefab.type());
-
+  private Image requestPrefabImage(BlueprintData prefab, Consumer<Image> onReady) {
     if (!validatePrefabDataForImage(prefab)) {
       return placeholderImage;
     }
 
     oogasalad.fileparser.records.SpriteData spriteData = prefab.spriteData();
-    File imageFile = spriteData.spriteFile();
-
-    Optional<Image> sheetImageOpt = loadSheetImage(imageFile);
-    if (sheetImageOpt.isEmpty()) {
-      LOG.error("Failed to load sheet image file: {}", imageFile.getPath());
-      return placeholderImage;
-    }
-
     Optional<FrameData> displayFrameOpt = selectDisplayFrame(spriteData);
     if (displayFrameOpt.isEmpty()) {
       LOG.warn("Could not determine display frame for prefab '{}'", prefab.type());
       return placeholderImage;
     }
 
-    Optional<Image> snapshotOpt = createSnapshot(sheetImageOpt.get(), displayFrameOpt.get(),
-        prefab.type());
-    if (snapshotOpt.isEmpty()) {
-      LOG.error("Failed to create snapshot for prefab '{}'", prefab.type());
+    File imageFile = spriteData.spriteFile();
+    if (!imageFile.isFile()) {
+      LOG.warn("Sheet image file reference invalid or file not found: {}",
+          imageFile.getAbsolutePath());
       return placeholderImage;
     }
-
-    LOG.debug("Successfully loaded image for prefab {}", prefab.type());
-    return snapshotOpt.get();
+    return thumbnailCache.request(imageFile, displayFrameOpt.get(), onReady);
   }
 
   /**
@@ -475,38 +515,6 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
     return true;
   }
 
-  /**
-   * Loads the full sprite sheet image from the specified file.
-   *
-   * @param imageFile The File object pointing to the sprite sheet.
-   * @return An Optional containing the loaded Image if successful, otherwise empty.
-   */
-  private Optional<Image> loadSheetImage(File imageFile) {
-    LOG.debug("Attempting to load sheet image from: '{}' (Exists: {}, IsFile: {})",
-        imageFile.getAbsolutePath(), imageFile.exists(), imageFile.isFile());
-
-    if (!imageFile.exists() || !imageFile.isFile()) {
-      LOG.warn("Sheet image file reference invalid or file not found: {}",
-          imageFile.getAbsolutePath());
-      return Optional.empty();
-    }
-
-    try (FileInputStream fis = new FileInputStream(imageFile)) {
-      Image sheetImage = new Image(fis);
-      if (sheetImage.isError()) {
-        LOG.error("JavaFX failed to load image from stream '{}': {}", imageFile.getPath(),
-            sheetImage.getException() != null ? sheetImage.getException().getMessage()
-                : "Unknown image error");
-        return Optional.empty();
-      }
-      return Optional.of(sheetImage);
-    } catch (Exception e) {
-      LOG.error("Failed to open or read sheet image file '{}': {}", imageFile.getPath(),
-          e.getMessage());
-      return Optional.empty();
-    }
-  }
-
   /**
    * Selects the FrameData to be used for the prefab's display icon.
    * Prefers the 'baseImage' field, falls back to the first frame in the 'frames' list.
@@ -533,59 +541,6 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
     return Optional.empty();
   }
 
-  /**
-   * Creates a snapshot Image of a specific frame within the larger sprite sheet.
-   *
-   * @param sheetImage The full sprite sheet Image.
-   * @param displayFrame The FrameData defining the rectangle to snapshot.
-   * @param prefabType The type name of the prefab (for logging).
-   * @return An Optional containing the snapshot WritableImage if successful, otherwise empty.
-   */
-  private Optional<Image> createSnapshot(Image sheetImage, FrameData displayFrame,
-      String prefabType) {
-    LOG.debug("Creating snapshot for {}: Frame='{}', x={}, y={}, w={}, h={}",
-        prefabType, displayFrame.name(), displayFrame.x(), displayFrame.y(),
-        displayFrame.width(), displayFrame.height());
-
-    if (displayFrame.width() <= 0 || displayFrame.height() <= 0
-        || displayFrame.x() < 0 || displayFrame.y() < 0
-        || displayFrame.x() + displayFrame.width() > sheetImage.getWidth()
-        || displayFrame.y() + displayFrame.height() > sheetImage.getHeight()) {
-      LOG.warn(
-          "Invalid frame dimensions or coordinates for snapshot: Frame=[w={}, h={}, x={}, y={}], Sheet=[w={}, h={}]. Using placeholder.",
-          displayFrame.width(), displayFrame.height(), displayFrame.x(), displayFrame.y(),
-          sheetImage.getWidth(), sheetImage.getHeight());
-      return Optional.empty();
-    }
-
-    try {
-
-      ImageView tempImageView = new ImageView(sheetImage);
-      Rectangle2D viewportRect = new Rectangle2D(
-          displayFrame.x(), displayFrame.y(), displayFrame.width(), displayFrame.height()
-      );
-      SnapshotParameters params = new SnapshotParameters();
-      params.setViewport(viewportRect);
-      params.setFill(Color.TRANSPARENT);
-
-      WritableImage frameImage = tempImageView.snapshot(params, null);
-
-      if (frameImage == null || frameImage.isError() || frameImage.getPixelReader() == null) {
-        LOG.error("Failed to create snapshot for prefab '{}'. Error: {}",
-            prefabType, frameImage != null ? frameImage.getException() : "null image resulted");
-        return Optional.empty();
-      }
-
-      return Optional.of(frameImage);
-
-    } catch (Exception e) {
-      LOG.error("Exception during snapshot creation for prefab '{}': {}", prefabType,
-          e.getMessage(), e);
-      return Optional.empty();
-    }
-  }
-
-
   // --- End of Refactored Image Loading ---
 
   /**
@@ -661,6 +616,17 @@ public class PrefabPalettePane extends VBox implements EditorViewListener {
     // Unused notification calls
   }
 
+  @Override
+  public void onObjectsLoaded(Collection<UUID> objectIds) {
+    // Unused notification calls
+  }
+
+  @Override
+  public void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+      Collection<UUID> updated) {
+    // Unused notification calls
+  }
+
   @Override
   public void onDynamicVariablesChanged() {
     // Unused notification calls
@@ -0,0 +1,236 @@
+package oogasalad.editor.view.components;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import javafx.scene.image.Image;
+import javax.imageio.ImageIO;
+import oogasalad.fileparser.records.FrameData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Produces the small images shown for prefabs in the {@link PrefabPalettePane}. A thumbnail is
+ * cropped from its sprite sheet and scaled down once, on a background thread, then kept in memory
+ * for later filter changes and written to disk so later editor sessions only read a small PNG.
+ * Thumbnails on disk are named after a hash of the sheet's contents plus the frame rectangle, so
+ * an edited sheet never shows a stale thumbnail. Requests and callbacks happen on the JavaFX
+ * Application Thread; only the cropping, hashing and file access run in the background.
+ *
+ * @author Tatum McKinnis
+ */
+class PrefabThumbnailCache {
+
+  /**
+   * Where thumbnails are stored between editor sessions.
+   */
+  static final Path DEFAULT_DIRECTORY = Path.of("data", "editorData", "thumbnails");
+  private static final Logger LOG = LogManager.getLogger(PrefabThumbnailCache.class);
+  private static final int DECODED_SHEETS = 2;
+
+  private record RequestKey(String sheetPath, int x, int y, int width, int height) {
+
+  }
+
+  private record SheetStamp(String path, long lastModified, long length) {
+
+  }
+
+  private final Path directory;
+  private final int size;
+  private final Consumer<Runnable> fxThread;
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "prefab-thumbnails");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Map<RequestKey, Image> thumbnails = new HashMap<>();
+  private final Map<RequestKey, List<Consumer<Image>>> pending = new HashMap<>();
+  private final Map<SheetStamp, String> sheetHashes = new HashMap<>();
+  private final Map<String, BufferedImage> decodedSheets = new LinkedHashMap<>(4, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+      return size() > DECODED_SHEETS;
+    }
+  };
+  private long generation;
+
+  /**
+   * Constructs a cache.
+   *
+   * @param directory The directory thumbnails are stored in between sessions.
+   * @param size The largest width and height of a thumbnail, in pixels.
+   * @param fxThread Runs a task on the JavaFX Application Thread, e.g. Platform::runLater.
+   */
+  PrefabThumbnailCache(Path directory, int size, Consumer<Runnable> fxThread) {
+    this.directory = directory;
+    this.size = size;
+    this.fxThread = fxThread;
+  }
+
+  /**
+   * Returns the thumbnail of a frame of a sprite sheet, or starts producing it in the background.
+   *
+   * @param sheet The sprite sheet file.
+   * @param frame The frame of the sheet to show.
+   * @param onReady Called on the JavaFX Application Thread with the thumbnail, or with null if it
+   * could not be produced, when the thumbnail was not already in memory.
+   * @return The thumbnail if it is already in memory, otherwise null.
+   */
+  Image request(File sheet, FrameData frame, Consumer<Image> onReady) {
+    RequestKey key = new RequestKey(sheet.getAbsolutePath(), frame.x(), frame.y(), frame.width(),
+        frame.height());
+    if (thumbnails.containsKey(key)) {
+      return thumbnails.get(key);
+    }
+    List<Consumer<Image>> waiting = pending.get(key);
+    if (waiting != null) {
+      waiting.add(onReady);
+      return null;
+    }
+    waiting = new ArrayList<>();
+    waiting.add(onReady);
+    pending.put(key, waiting);
+    long requestedIn = generation;
+    worker.execute(() -> {
+      Image thumbnail = produce(sheet, key);
+      fxThread.accept(() -> deliver(key, thumbnail, requestedIn));
+    });
+    return null;
+  }
+
+  /**
+   * Forgets the thumbnails held in memory, for example after prefabs or sprites were edited.
+   * Thumbnails on disk stay valid because they are keyed by the sheet's contents.
+   */
+  void invalidate() {
+    generation++;
+    thumbnails.clear();
+  }
+
+  private void deliver(RequestKey key, Image thumbnail, long requestedIn) {
+    if (requestedIn == generation) {
+      thumbnails.put(key, thumbnail);
+    }
+    List<Consumer<Image>> waiting = pending.remove(key);
+    if (waiting != null) {
+      waiting.forEach(callback -> callback.accept(thumbnail));
+    }
+  }
+
+  private Image produce(File sheet, RequestKey key) {
+    try {
+      String hash = hashOf(sheet);
+      Path stored = directory.resolve(String.format("%s_%d_%d_%d_%d_%d.png", hash, key.x(),
+          key.y(), key.width(), key.height(), size));
+      if (Files.isRegularFile(stored)) {
+        try (InputStream in = Files.newInputStream(stored)) {
+          Image image = new Image(in);
+          if (!image.isError()) {
+            return image;
+          }
+        }
+        LOG.warn("Discarding unreadable thumbnail {}", stored);
+      }
+      byte[] png = render(sheet, hash, key);
+      if (png == null) {
+        return null;
+      }
+      store(stored, png);
+      return new Image(new ByteArrayInputStream(png));
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to create thumbnail for {}: {}", sheet, e.getMessage());
+      return null;
+    }
+  }
+
+  private byte[] render(File sheetFile, String hash, RequestKey key) throws IOException {
+    BufferedImage sheet = decodedSheets.get(hash);
+    if (sheet == null) {
+      sheet = ImageIO.read(sheetFile);
+      if (sheet == null) {
+        LOG.warn("Unsupported sprite sheet format: {}", sheetFile);
+        return null;
+      }
+      decodedSheets.put(hash, sheet);
+    }
+    if (key.width() <= 0 || key.height() <= 0 || key.x() < 0 || key.y() < 0
+        || key.x() + key.width() > sheet.getWidth() || key.y() + key.height() > sheet.getHeight()) {
+      LOG.warn("Frame [x={}, y={}, w={}, h={}] lies outside sheet {} ({}x{})", key.x(), key.y(),
+          key.width(), key.height(), sheetFile, sheet.getWidth(), sheet.getHeight());
+      return null;
+    }
+    double scale = Math.min(1.0, (double) size / Math.max(key.width(), key.height()));
+    int width = Math.max(1, (int) Math.round(key.width() * scale));
+    int height = Math.max(1, (int) Math.round(key.height() * scale));
+    BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = thumbnail.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.drawImage(sheet, 0, 0, width, height, key.x(), key.y(), key.x() + key.width(),
+          key.y() + key.height(), null);
+    } finally {
+      graphics.dispose();
+    }
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(thumbnail, "png", png);
+    return png.toByteArray();
+  }
+
+  private void store(Path stored, byte[] png) {
+    try {
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, "thumbnail", ".tmp");
+      Files.write(temp, png);
+      Files.move(temp, stored, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Could not store thumbnail {}: {}", stored, e.getMessage());
+    }
+  }
+
+  /**
+   * Hashes a sheet's contents, reusing the last hash while the file's size and modification time
+   * are unchanged so prefabs sharing a sheet read it only once.
+   */
+  private String hashOf(File file) throws IOException {
+    SheetStamp stamp = new SheetStamp(file.getAbsolutePath(), file.lastModified(), file.length());
+    String known = sheetHashes.get(stamp);
+    if (known != null) {
+      return known;
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+        in.transferTo(OutputStream.nullOutputStream());
+      }
+      String hash = HexFormat.of().formatHex(digest.digest());
+      sheetHashes.put(stamp, hash);
+      return hash;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
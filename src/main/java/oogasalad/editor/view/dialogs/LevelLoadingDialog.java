@@ -0,0 +1,74 @@
+package oogasalad.editor.view.dialogs;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+import javafx.stage.Window;
+import oogasalad.editor.controller.level.LevelLoad;
+
+/**
+ * Modal window shown while a level loads in the background. It shows how many of the level's
+ * objects have been converted and lets the designer cancel the load. Being modal, it also keeps
+ * the level from being edited before the loaded objects are handed over.
+ *
+ * @author Tatum McKinnis
+ */
+public class LevelLoadingDialog extends Stage {
+
+  private static final double WIDTH = 320;
+  private static final double SPACING = 10;
+
+  private final ProgressBar progressBar = new ProgressBar(ProgressBar.INDETERMINATE_PROGRESS);
+
+  /**
+   * Creates the dialog for a level that is about to be loaded.
+   *
+   * @param owner     the editor window
+   * @param levelName the name shown to the designer
+   */
+  public LevelLoadingDialog(Window owner, String levelName) {
+    initModality(Modality.APPLICATION_MODAL);
+    initOwner(owner);
+    initStyle(StageStyle.UTILITY);
+    setTitle("Opening Level");
+    setResizable(false);
+
+    progressBar.setPrefWidth(WIDTH);
+    VBox root = new VBox(SPACING, new Label("Loading " + levelName + "…"), progressBar);
+    root.setPadding(new Insets(SPACING * 2));
+    root.setAlignment(Pos.CENTER_LEFT);
+    setScene(new Scene(root));
+  }
+
+  /**
+   * Shows the dialog for a running load: the progress bar follows the load, the cancel button and
+   * closing the window cancel it, and the dialog closes itself once the load ends either way.
+   *
+   * @param load the running load
+   */
+  public void follow(LevelLoad load) {
+    Button cancel = new Button("Cancel");
+    cancel.setCancelButton(true);
+    cancel.setOnAction(e -> load.cancel());
+    ((VBox) getScene().getRoot()).getChildren().add(cancel);
+    setOnCloseRequest(e -> load.cancel());
+    load.whenLoaded().whenComplete((ignored, error) -> close());
+    show();
+  }
+
+  /**
+   * Updates the progress bar.
+   *
+   * @param fraction the fraction of objects loaded, from 0 to 1
+   */
+  public void setProgress(double fraction) {
+    progressBar.setProgress(fraction);
+  }
+}
@@ -71,6 +71,7 @@ public class EditorComponentFactory {
 
   private EditorGameView gameView;
   private PrefabPalettePane prefabPalettePane;
+  private Runnable playtestAction;
 
   /**
    * Constructs the factory, loading necessary resources and initializing dependencies. Loads core
@@ -370,12 +371,47 @@ public class EditorComponentFactory {
 
     toolbar.getChildren()
         .addAll(entityButton, dragPrefabButton, selectButton, deleteButton, clearAllObjectsButton, saveButton);
+    if (playtestAction != null) {
+      toolbar.getChildren().add(createPlaytestButton());
+    }
     gameView.updateCurrentTool(null);
     LOG.debug("Toolbar created with configured placement tools.");
 
     return toolbar;
   }
 
+  /**
+   * Releases the components built by {@link #createEditorScene()} that outlive their window unless
+   * stopped, such as the map's redraw timer. Call it once the editor window is hidden.
+   */
+  public void dispose() {
+    if (gameView != null) {
+      gameView.dispose();
+    }
+  }
+
+  /**
+   * Sets the action run by the toolbar's playtest button. Must be called before
+   * {@link #createEditorScene()}; without an action the button is left out.
+   *
+   * @param playtestAction plays the level being edited
+   */
+  public void setPlaytestAction(Runnable playtestAction) {
+    this.playtestAction = playtestAction;
+  }
+
+  /**
+   * Helper method to create the playtest button in the toolbar.
+   *
+   * @return the playtest button
+   */
+  private Button createPlaytestButton() {
+    Button playtest = new Button("Playtest");
+    playtest.getStyleClass().add("save-button-label");
+    playtest.setOnAction(evt -> playtestAction.run());
+    return playtest;
+  }
+
   /**
    * Helper method to create the save button in the toolbar.
    *
@@ -388,7 +424,7 @@ public class EditorComponentFactory {
       FileChooser chooser = new FileChooser();
       chooser.setTitle("Save Level As…");
       chooser.getExtensionFilters().add(
-          new FileChooser.ExtensionFilter("Level Files", "*.xml")
+          new FileChooser.ExtensionFilter("Level Files", "*.xml", "*.xml.gz")
       );
       Window win = save.getScene().getWindow();
       File file = chooser.showSaveDialog(win);
@@ -2,6 +2,7 @@ package oogasalad.editor.view.factories;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -875,6 +876,34 @@ public class InputTabComponentFactory implements EditorViewListener {
   refreshDynamicVariables();
  }
 
+ /**
+  * {@inheritDoc} Refreshes the dynamic variable list once for the whole level.
+  */
+ @Override
+ public void onObjectsLoaded(Collection<UUID> objectIds) {
+  LOG.trace("InputTab received: onObjectsLoaded ({} objects)", objectIds.size());
+  refreshDynamicVariables();
+ }
+
+ /**
+  * {@inheritDoc} Clears the UI or refreshes the events list once if the selected object is part
+  * of the batch, and refreshes the dynamic variable list once. Ensures execution on the FX thread.
+  */
+ @Override
+ public void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+     Collection<UUID> updated) {
+  runOnFxThread(() -> {
+   LOG.trace("InputTab received: onObjectsChanged (+{} -{} ~{})", added.size(), removed.size(),
+       updated.size());
+   if (this.currentObjectId != null && removed.contains(this.currentObjectId)) {
+    clearAllUIToDefault();
+   } else if (this.currentObjectId != null && updated.contains(this.currentObjectId)) {
+    refreshEventsList();
+   }
+   refreshDynamicVariables();
+  });
+ }
+
  /**
   * {@inheritDoc} Clears the entire UI if the removed object was the one selected. Refreshes the
   * dynamic variable list regardless. Ensures execution on the FX thread.
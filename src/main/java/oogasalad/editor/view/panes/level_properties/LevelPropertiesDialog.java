@@ -200,7 +200,12 @@ public class LevelPropertiesDialog extends Stage {
         new SimpleIntegerProperty(cd.getValue().getPriority()));
     prioCol.setPrefWidth(100);
 
-    tv.getColumns().setAll(nameCol, prioCol);
+    TableColumn<Layer, Number> countCol = new TableColumn<>("Objects");
+    countCol.setCellValueFactory(cd ->
+        new SimpleIntegerProperty(level.getObjectCount(cd.getValue().getName())));
+    countCol.setPrefWidth(80);
+
+    tv.getColumns().setAll(nameCol, prioCol, countCol);
     return tv;
   }
 
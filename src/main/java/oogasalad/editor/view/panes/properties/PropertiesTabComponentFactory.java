@@ -2,6 +2,7 @@ package oogasalad.editor.view.panes.properties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -719,6 +720,30 @@ public class PropertiesTabComponentFactory implements EditorViewListener {
     LOG.trace("PropertiesTab received: onObjectAdded {}", objectId);
   }
 
+  /**
+   * {@inheritDoc} No action needed in this component.
+   */
+  @Override
+  public void onObjectsLoaded(Collection<UUID> objectIds) {
+    LOG.trace("PropertiesTab received: onObjectsLoaded ({} objects)", objectIds.size());
+  }
+
+  /**
+   * {@inheritDoc} Clears or refreshes the fields once if the selected object is part of the batch.
+   */
+  @Override
+  public void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+      Collection<UUID> updated) {
+    if (this.currentObjectId == null) {
+      return;
+    }
+    if (removed.contains(this.currentObjectId)) {
+      onObjectRemoved(this.currentObjectId);
+    } else if (updated.contains(this.currentObjectId)) {
+      onObjectUpdated(this.currentObjectId);
+    }
+  }
+
   /**
    * {@inheritDoc} No action needed in this component for global dynamic variables.
    */
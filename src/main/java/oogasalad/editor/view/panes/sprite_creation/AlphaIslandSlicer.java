@@ -0,0 +1,288 @@
+package oogasalad.editor.view.panes.sprite_creation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * Finds the sprites on an irregular sprite sheet: every island of connected non-transparent pixels
+ * becomes one frame, bounded by the island's box. Pixels touching at an edge or a corner belong to
+ * the same island.
+ * <p>
+ * The sheet is read once into an ARGB buffer and split into horizontal bands that are labeled in
+ * parallel. Each band records the runs of opaque pixels in its rows and unions runs that touch the
+ * runs of the row above, so islands are tracked per run rather than per pixel. The bands are then
+ * stitched together by unioning the touching runs on either side of every band edge, and the boxes
+ * of the resulting islands are collected in reading order.
+ * </p>
+ *
+ * @author Jacob You
+ */
+public final class AlphaIslandSlicer {
+
+  private static final int MIN_BAND_HEIGHT = 64;
+  private static final int ALPHA_SHIFT = 24;
+  private static final int ALPHA_MASK = 0xFF;
+
+  private final int alphaThreshold;
+  private final int minArea;
+
+  /**
+   * Constructs a slicer.
+   *
+   * @param alphaThreshold pixels with an alpha above this value, from 0 to 255, are opaque
+   * @param minArea        islands with fewer opaque pixels than this are dropped as noise
+   */
+  public AlphaIslandSlicer(int alphaThreshold, int minArea) {
+    if (alphaThreshold < 0 || alphaThreshold > ALPHA_MASK) {
+      throw new IllegalArgumentException("Alpha threshold must be between 0 and 255");
+    }
+    this.alphaThreshold = alphaThreshold;
+    this.minArea = Math.max(1, minArea);
+  }
+
+  /**
+   * Reads an image and finds its sprites.
+   *
+   * @param image the loaded sprite sheet
+   * @return the frames of the sheet's sprites, named {@code sprite_<n>} in reading order
+   */
+  public List<FrameData> slice(Image image) {
+    return slice(readArgb(image), (int) image.getWidth(), (int) image.getHeight());
+  }
+
+  /**
+   * Finds the sprites in a buffer of ARGB pixels.
+   *
+   * @param argb   the pixels, row by row
+   * @param width  the width of the sheet
+   * @param height the height of the sheet
+   * @return the frames of the sheet's sprites, named {@code sprite_<n>} in reading order
+   */
+  public List<FrameData> slice(int[] argb, int width, int height) {
+    if (width <= 0 || height <= 0) {
+      return List.of();
+    }
+    int bandCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+        height / MIN_BAND_HEIGHT));
+    int bandHeight = (height + bandCount - 1) / bandCount;
+    Band[] bands = IntStream.range(0, bandCount)
+        .mapToObj(i -> new Band(i * bandHeight, Math.min(height, (i + 1) * bandHeight)))
+        .filter(band -> band.top < band.bottom)
+        .toArray(Band[]::new);
+    Arrays.stream(bands).parallel().forEach(band -> band.label(argb, width));
+    return collectFrames(bands);
+  }
+
+  /**
+   * Reads every pixel of an image into an ARGB buffer.
+   *
+   * @param image the image to read
+   * @return the pixels, row by row
+   */
+  static int[] readArgb(Image image) {
+    int width = (int) image.getWidth();
+    int height = (int) image.getHeight();
+    int[] argb = new int[width * height];
+    PixelReader reader = image.getPixelReader();
+    if (reader != null) {
+      reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+    }
+    return argb;
+  }
+
+  private List<FrameData> collectFrames(Band[] bands) {
+    int[] offsets = new int[bands.length];
+    int total = 0;
+    for (int i = 0; i < bands.length; i++) {
+      offsets[i] = total;
+      total += bands[i].runCount;
+    }
+    int[] parent = new int[total];
+    for (int i = 0; i < bands.length; i++) {
+      Band band = bands[i];
+      for (int run = 0; run < band.runCount; run++) {
+        parent[offsets[i] + run] = offsets[i] + band.find(run);
+      }
+    }
+    for (int i = 1; i < bands.length; i++) {
+      stitch(bands[i - 1], offsets[i - 1], bands[i], offsets[i], parent);
+    }
+
+    int[] minX = new int[total];
+    int[] minY = new int[total];
+    int[] maxX = new int[total];
+    int[] maxY = new int[total];
+    long[] area = new long[total];
+    Arrays.fill(minX, Integer.MAX_VALUE);
+    Arrays.fill(minY, Integer.MAX_VALUE);
+    for (int i = 0; i < bands.length; i++) {
+      Band band = bands[i];
+      for (int run = 0; run < band.runCount; run++) {
+        int root = find(parent, offsets[i] + run);
+        int y = band.runRow[run];
+        minX[root] = Math.min(minX[root], band.runStart[run]);
+        maxX[root] = Math.max(maxX[root], band.runEnd[run]);
+        minY[root] = Math.min(minY[root], y);
+        maxY[root] = Math.max(maxY[root], y);
+        area[root] += band.runEnd[run] - band.runStart[run] + 1;
+      }
+    }
+
+    List<int[]> boxes = new ArrayList<>();
+    for (int run = 0; run < total; run++) {
+      if (parent[run] == run && area[run] >= minArea) {
+        boxes.add(new int[]{minX[run], minY[run], maxX[run], maxY[run]});
+      }
+    }
+    boxes.sort(Comparator.<int[]>comparingInt(box -> box[1]).thenComparingInt(box -> box[0]));
+    List<FrameData> frames = new ArrayList<>(boxes.size());
+    for (int[] box : boxes) {
+      frames.add(new FrameData("sprite_" + frames.size(), box[0], box[1],
+          box[2] - box[0] + 1, box[3] - box[1] + 1));
+    }
+    return frames;
+  }
+
+  /**
+   * Unions the runs in the last row of one band with the touching runs in the first row of the
+   * band below it.
+   */
+  private static void stitch(Band above, int aboveOffset, Band below, int belowOffset,
+      int[] parent) {
+    int aboveRow = above.bottom - 1;
+    if (below.top != above.bottom || above.rowFirstRun.length == 0) {
+      return;
+    }
+    int a = above.rowFirstRun[aboveRow - above.top];
+    int aEnd = above.runCount;
+    int b = 0;
+    int bEnd = below.rowFirstRun.length > 1 ? below.rowFirstRun[1] : below.runCount;
+    while (a < aEnd && b < bEnd) {
+      if (touches(above.runStart[a], above.runEnd[a], below.runStart[b], below.runEnd[b])) {
+        union(parent, aboveOffset + a, belowOffset + b);
+      }
+      if (above.runEnd[a] < below.runEnd[b]) {
+        a++;
+      } else {
+        b++;
+      }
+    }
+  }
+
+  /**
+   * @return whether two runs on neighbouring rows share an edge or a corner
+   */
+  private static boolean touches(int startA, int endA, int startB, int endB) {
+    return startA <= endB + 1 && startB <= endA + 1;
+  }
+
+  private static int find(int[] parent, int run) {
+    while (parent[run] != run) {
+      parent[run] = parent[parent[run]];
+      run = parent[run];
+    }
+    return run;
+  }
+
+  private static void union(int[] parent, int a, int b) {
+    int rootA = find(parent, a);
+    int rootB = find(parent, b);
+    if (rootA != rootB) {
+      parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+  }
+
+  /**
+   * The runs of opaque pixels in a horizontal band of the sheet, with a union-find over the runs.
+   * Only touched by the thread labeling it until all bands are done.
+   */
+  private final class Band {
+
+    private final int top;
+    private final int bottom;
+    private final int[] rowFirstRun;
+    private int[] runRow = new int[16];
+    private int[] runStart = new int[16];
+    private int[] runEnd = new int[16];
+    private int[] parent = new int[16];
+    private int runCount;
+
+    private Band(int top, int bottom) {
+      this.top = top;
+      this.bottom = bottom;
+      this.rowFirstRun = new int[Math.max(0, bottom - top)];
+    }
+
+    private void label(int[] argb, int width) {
+      int previousFirst = 0;
+      int previousEnd = 0;
+      for (int y = top; y < bottom; y++) {
+        int rowFirst = runCount;
+        rowFirstRun[y - top] = rowFirst;
+        int rowOffset = y * width;
+        int x = 0;
+        while (x < width) {
+          while (x < width && !isOpaque(argb[rowOffset + x])) {
+            x++;
+          }
+          if (x == width) {
+            break;
+          }
+          int start = x;
+          while (x < width && isOpaque(argb[rowOffset + x])) {
+            x++;
+          }
+          addRun(y, start, x - 1);
+        }
+        if (y > top) {
+          joinRows(previousFirst, previousEnd, rowFirst, runCount);
+        }
+        previousFirst = rowFirst;
+        previousEnd = runCount;
+      }
+    }
+
+    private boolean isOpaque(int pixel) {
+      return ((pixel >>> ALPHA_SHIFT) & ALPHA_MASK) > alphaThreshold;
+    }
+
+    private void addRun(int y, int start, int end) {
+      if (runCount == runRow.length) {
+        int capacity = runCount * 2;
+        runRow = Arrays.copyOf(runRow, capacity);
+        runStart = Arrays.copyOf(runStart, capacity);
+        runEnd = Arrays.copyOf(runEnd, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+      }
+      runRow[runCount] = y;
+      runStart[runCount] = start;
+      runEnd[runCount] = end;
+      parent[runCount] = runCount;
+      runCount++;
+    }
+
+    private void joinRows(int above, int aboveEnd, int below, int belowEnd) {
+      while (above < aboveEnd && below < belowEnd) {
+        if (touches(runStart[above], runEnd[above], runStart[below], runEnd[below])) {
+          union(parent, above, below);
+        }
+        if (runEnd[above] < runEnd[below]) {
+          above++;
+        } else {
+          below++;
+        }
+      }
+    }
+
+    private int find(int run) {
+      return AlphaIslandSlicer.find(parent, run);
+    }
+  }
+}
@@ -38,7 +38,7 @@ import javafx.stage.Window;
 import oogasalad.editor.controller.EditorController;
 
 /**
- * Pane for slicing a sprite-sheet in TILE_SIZE, COLS_ROWS, or MANUAL modes.
+ * Pane for slicing a sprite-sheet in TILE_SIZE, COLS_ROWS, ALPHA_ISLANDS, or MANUAL modes.
  * <p>
  * Users can load an image, adjust slicing parameters, preview cut lines, rename regions, and save
  * an XML atlas.
@@ -57,6 +57,9 @@ public class SpriteSheetProcessorPane extends BorderPane {
   private static final int DEFAULT_MANUAL_Y = 0;
   private static final int DEFAULT_MANUAL_WIDTH = 32;
   private static final int DEFAULT_MANUAL_HEIGHT = 32;
+  private static final int DEFAULT_ALPHA_THRESHOLD = 0;
+  private static final int DEFAULT_MIN_AREA = 4;
+  private static final int MAX_ALPHA = 255;
 
   private static final double TEXT_FIELD_PREF_WIDTH = 60.0;
   private static final double CONTROL_HGAP = 8.0;
@@ -73,7 +76,7 @@ public class SpriteSheetProcessorPane extends BorderPane {
   /**
    * different sprite sheet modes that can be entered for sprite creation
    */
-  enum SpriteSheetMode {TILE_SIZE, COLS_ROWS, MANUAL}
+  enum SpriteSheetMode {TILE_SIZE, COLS_ROWS, ALPHA_ISLANDS, MANUAL}
 
   /**
    * Region Strategy for creating sprites
@@ -103,6 +106,8 @@ public class SpriteSheetProcessorPane extends BorderPane {
   private final TextField manualY = intField(DEFAULT_MANUAL_Y);
   private final TextField manualWidth = intField(DEFAULT_MANUAL_WIDTH);
   private final TextField manualHeight = intField(DEFAULT_MANUAL_HEIGHT);
+  private final TextField alphaThreshold = intField(DEFAULT_ALPHA_THRESHOLD);
+  private final TextField minArea = intField(DEFAULT_MIN_AREA);
   private final ChoiceBox<SpriteSheetMode> modeBox = new ChoiceBox<>();
   private final Button loadSheet = new Button("Load Sheet");
   private final Button save = new Button("Save");
@@ -112,6 +117,10 @@ public class SpriteSheetProcessorPane extends BorderPane {
   private final GridPane tilePane = new GridPane();
   private final GridPane colsRowsPane = new GridPane();
   private final GridPane manualPane = new GridPane();
+  private final GridPane islandsPane = new GridPane();
+
+  private Image pixelsImage;
+  private int[] pixels;
 
   private final EditorController controller;
 
@@ -137,12 +146,14 @@ public class SpriteSheetProcessorPane extends BorderPane {
     modeBox.getItems().addAll(
         SpriteSheetMode.TILE_SIZE,
         SpriteSheetMode.COLS_ROWS,
+        SpriteSheetMode.ALPHA_ISLANDS,
         SpriteSheetMode.MANUAL);
 
     modeBox.setValue(SpriteSheetMode.TILE_SIZE);
 
     strategies.put(SpriteSheetMode.TILE_SIZE, this::tileSizeStrategy);
     strategies.put(SpriteSheetMode.COLS_ROWS, this::colsRowsStrategy);
+    strategies.put(SpriteSheetMode.ALPHA_ISLANDS, this::alphaIslandsStrategy);
   }
 
   /**
@@ -181,8 +192,8 @@ public class SpriteSheetProcessorPane extends BorderPane {
       recomputeRegions();
     });
 
-    List.of(tileWidth, tileHeight, numCols, numRows, manualX, manualY, manualWidth, manualHeight)
-        .forEach(this::attachLive);
+    List.of(tileWidth, tileHeight, numCols, numRows, manualX, manualY, manualWidth, manualHeight,
+        alphaThreshold, minArea).forEach(this::attachLive);
   }
 
   /**
@@ -365,6 +376,29 @@ public class SpriteSheetProcessorPane extends BorderPane {
     }
   }
 
+  /**
+   * ALPHA_ISLANDS strategy: one region per island of connected pixels more opaque than the alpha
+   * threshold, dropping islands smaller than the minimum area. The sheet's pixels are read once per
+   * image, so changing the parameters only slices again.
+   */
+  private void alphaIslandsStrategy(Image img) {
+    if (alphaThreshold.getText().isEmpty() || minArea.getText().isEmpty()) {
+      return;
+    }
+    int threshold = parse(alphaThreshold);
+    if (threshold > MAX_ALPHA) {
+      return;
+    }
+    if (pixelsImage != img) {
+      pixels = AlphaIslandSlicer.readArgb(img);
+      pixelsImage = img;
+    }
+    new AlphaIslandSlicer(threshold, parse(minArea))
+        .slice(pixels, (int) img.getWidth(), (int) img.getHeight())
+        .forEach(frame -> regions.add(new SpriteRegion(frame.name(),
+            new Rectangle2D(frame.x(), frame.y(), frame.width(), frame.height()))));
+  }
+
   /**
    * Adds a region whose bounds are clamped so the rectangle never exceeds the image. Width / height
    * are reduced to fit and never fall below 1 pixel.
@@ -442,16 +476,18 @@ public class SpriteSheetProcessorPane extends BorderPane {
   }
 
   /**
-   * Adds and configures the three parameter panes (tile size, cols/rows, manual) to the given
-   * grid.
+   * Adds and configures the four parameter panes (tile size, cols/rows, alpha islands, manual) to
+   * the given grid.
    */
   private void addParameterPanes(GridPane root) {
     configureTilePane();
     configureColsRowsPane();
+    configureIslandsPane();
     configureManualPane();
 
     root.add(tilePane, 0, 1, 4, 1);
     root.add(colsRowsPane, 0, 1, 4, 1);
+    root.add(islandsPane, 0, 1, 4, 1);
     root.add(manualPane, 0, 1, 4, 1);
   }
 
@@ -479,6 +515,18 @@ public class SpriteSheetProcessorPane extends BorderPane {
     colsRowsPane.add(numRows, 3, 0);
   }
 
+  /**
+   * Configures the alpha-islands parameter pane.
+   */
+  private void configureIslandsPane() {
+    islandsPane.setHgap(SUBPANE_HGAP);
+    islandsPane.getChildren().clear();
+    islandsPane.add(new Label("Alpha >"), 0, 0);
+    islandsPane.add(alphaThreshold, 1, 0);
+    islandsPane.add(new Label("Min Area:"), 2, 0);
+    islandsPane.add(minArea, 3, 0);
+  }
+
   /**
    * Configures the manual‑entry parameter pane.
    */
@@ -504,6 +552,8 @@ public class SpriteSheetProcessorPane extends BorderPane {
     tilePane.setManaged(tilePane.isVisible());
     colsRowsPane.setVisible(modeBox.getValue() == SpriteSheetMode.COLS_ROWS);
     colsRowsPane.setManaged(colsRowsPane.isVisible());
+    islandsPane.setVisible(modeBox.getValue() == SpriteSheetMode.ALPHA_ISLANDS);
+    islandsPane.setManaged(islandsPane.isVisible());
     manualPane.setVisible(modeBox.getValue() == SpriteSheetMode.MANUAL);
     manualPane.setManaged(manualPane.isVisible());
   }
@@ -1,5 +1,6 @@
 package oogasalad.editor.view.panes.sprite_properties;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -237,6 +238,24 @@ public class SpriteTabComponentFactory implements EditorViewListener {
     //No method body required
   }
 
+  @Override
+  public void onObjectsLoaded(Collection<UUID> ids) {
+    //No method body required
+  }
+
+  @Override
+  public void onObjectsChanged(Collection<UUID> added, Collection<UUID> removed,
+      Collection<UUID> updated) {
+    if (currentObjectId == null) {
+      return;
+    }
+    if (removed.contains(currentObjectId)) {
+      onObjectRemoved(currentObjectId);
+    } else if (updated.contains(currentObjectId)) {
+      onObjectUpdated(currentObjectId);
+    }
+  }
+
   @Override
   public void onDynamicVariablesChanged() {
     //No method body required
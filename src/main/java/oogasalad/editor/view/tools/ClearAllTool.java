@@ -9,7 +9,7 @@ import oogasalad.editor.model.data.object.EditorObject;
 import oogasalad.editor.view.components.EditorGameView;
 
 /**
- * Tool for clearing all the objects from the editor view
+ * Tool for clearing all the objects from the editor view in a single transaction
  */
 public class ClearAllTool implements OnClickTool {
 
@@ -31,12 +31,8 @@ public class ClearAllTool implements OnClickTool {
   @Override
   public void execute() {
     Map<UUID, EditorObject> editorObjects = editorController.getEditorDataAPI().getObjectDataMap();
-    List<UUID> objectUUIDs = editorObjects.keySet().stream().toList();
+    List<UUID> objectUUIDs = List.copyOf(editorObjects.keySet());
 
-    for (UUID uuid : objectUUIDs) {
-      if (uuid != null) {
-        editorController.requestObjectRemoval(uuid);
-      }
-    }
+    editorController.requestObjectsRemoval(objectUUIDs);
   }
 }
@@ -39,7 +39,8 @@ public class DragPrefabPlacementTool extends PrefabPlacementTool {
   }
 
   /**
-   * Starts a drag operation at the specified coordinates.
+   * Starts a drag operation at the specified coordinates. Every placement until
+   * {@link #endDrag()} is undone as one step.
    *
    * @param worldX X-coordinate in world space.
    * @param worldY Y-coordinate in world space.
@@ -64,6 +65,7 @@ public class DragPrefabPlacementTool extends PrefabPlacementTool {
     isDragging = true;
     populated.clear();
     placedIds.clear();
+    getEditorController().beginEditGroup("drag place prefabs");
 
     placeAt((int) worldX, (int) worldY);
   }
@@ -87,16 +89,19 @@ public class DragPrefabPlacementTool extends PrefabPlacementTool {
   }
 
   /**
-   * Ends the current drag operation, clearing any tracking data. Also ensures all placed objects
-   * have their images properly loaded.
+   * Ends the current drag operation, clearing any tracking data and closing the undo step that
+   * holds every placement of the drag. Each placement has already redrawn the chunks it touches
+   * through the listener events, so nothing else needs repainting.
    */
   public void endDrag() {
     LOG.debug("Drag-run finished – {} objects placed", placedIds.size());
+    if (isDragging) {
+      getEditorController().endEditGroup();
+    }
     isDragging = false;
     suppressClick = true;
     populated.clear();
     placedIds.clear();
-    getEditorView().refreshDisplay();
   }
 
 
@@ -114,8 +114,9 @@ public class DefaultEngineFileConverter implements EngineFileConverterAPI {
         blueprintData.hitBoxData().spriteDx(), blueprintData.hitBoxData().spriteDy(), blueprintData.spriteData().spriteFile(),
         blueprintData.rotation(), blueprintData.isFlipped());
     List<Event> emptyEvents = new ArrayList<>();
-    Map<String, String> stringParams = blueprintData.stringProperties();
-    Map<String, Double> doubleParams = blueprintData.doubleProperties();
+    // Copied so that a running game never writes into the level data, which may be replayed
+    Map<String, String> stringParams = copyParams(blueprintData.stringProperties());
+    Map<String, Double> doubleParams = copyParams(blueprintData.doubleProperties());
     List<String> displayedStats = blueprintData.displayedProperties();
 
     if (blueprintData.type().equals("player")) {
@@ -132,6 +133,25 @@ public class DefaultEngineFileConverter implements EngineFileConverterAPI {
     return newGameObject;
   }
 
+  @Override
+  public void applyBlueprint(GameObject gameObject, GameObjectData gameObjectData,
+      Map<Integer, BlueprintData> bluePrintMap) {
+    BlueprintData blueprintData = bluePrintMap.get(gameObjectData.blueprintId());
+    gameObject.getSpriteInfo().replaceFrames(makeFrameMap(blueprintData),
+        blueprintData.spriteData().baseImage(), makeAnimationMap(blueprintData),
+        blueprintData.hitBoxData().spriteDx(), blueprintData.hitBoxData().spriteDy(),
+        blueprintData.spriteData().spriteFile());
+    gameObject.getHitBox().setSize(blueprintData.hitBoxData().hitBoxWidth(),
+        blueprintData.hitBoxData().hitBoxHeight());
+    copyParams(blueprintData.stringProperties()).forEach(gameObject.getStringParams()::putIfAbsent);
+    copyParams(blueprintData.doubleProperties()).forEach(gameObject.getDoubleParams()::putIfAbsent);
+    gameObject.setEvents(EventConverter.convertEventData(gameObjectData, gameObject, bluePrintMap));
+  }
+
+  private static <V> Map<String, V> copyParams(Map<String, V> params) {
+    return params == null ? new HashMap<>() : new HashMap<>(params);
+  }
+
   private static Map<String, FrameData> makeFrameMap(BlueprintData blueprintData) {
     Map<String, FrameData> frameMap = new HashMap<>();
     for (FrameData frameData : blueprintData.spriteData().frames()) {
@@ -6,9 +6,11 @@ package oogasalad.engine.controller;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
 import java.util.zip.DataFormatException;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
@@ -36,6 +38,7 @@ import oogasalad.exceptions.LayerParseException;
 import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
 
@@ -56,6 +59,7 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
   private final EventHandler eventHandler;
   private final CollisionHandler collisionHandler;
   private Map<String, GameObject> myGameObjectMap;
+  private final Map<String, GameObjectData> myGameObjectData = new HashMap<>();
   private List<GameObject> myGameObjects;
   private mapObject myMapObject;
   private Camera myCamera;
@@ -152,6 +156,10 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
   public void setLevelData(LevelData data) {
     DefaultEngineFileConverter converter = new DefaultEngineFileConverter();
     myGameObjectMap = converter.loadFileToEngine(data);
+    myGameObjectData.clear();
+    for (GameObjectData gameObjectData : data.gameObjects()) {
+      myGameObjectData.put(gameObjectData.uniqueId().toString(), gameObjectData);
+    }
     myCamera = converter.loadCamera(data);
     myGameObjects = new ArrayList<>(myGameObjectMap.values());
     myMapObject = new mapObject(data.minX(), data.minY(), data.maxX(), data.maxY());
@@ -161,6 +169,7 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
   public void destroyGameObject(GameObject gameObject) {
     myGameObjects.remove(gameObject);
     myGameObjectMap.remove(gameObject.getUUID());
+    myGameObjectData.remove(gameObject.getUUID());
     myGameManager.removeGameObjectImage(gameObject);
   }
 
@@ -170,9 +179,25 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
     GameObject gameObject = myGameManager.makeObjectFromData(gameObjectData);
     myGameObjects.add(gameObject);
     myGameObjectMap.put(gameObject.getUUID(), gameObject);
+    myGameObjectData.put(gameObject.getUUID(), gameObjectData);
     myGameManager.addGameObjectImage(gameObject);
   }
 
+  @Override
+  public int reloadBlueprints(Map<Integer, BlueprintData> blueprints, IntPredicate changed) {
+    EngineFileConverterAPI converter = new DefaultEngineFileConverter();
+    int updated = 0;
+    for (GameObject gameObject : myGameObjects) {
+      GameObjectData gameObjectData = myGameObjectData.get(gameObject.getUUID());
+      if (gameObjectData != null && changed.test(gameObjectData.blueprintId())
+          && blueprints.containsKey(gameObjectData.blueprintId())) {
+        converter.applyBlueprint(gameObject, gameObjectData, blueprints);
+        updated++;
+      }
+    }
+    return updated;
+  }
+
   @Override
   public Camera getCamera() {
     return myCamera;
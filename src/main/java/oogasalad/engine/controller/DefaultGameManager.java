@@ -6,6 +6,8 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 import java.util.zip.DataFormatException;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -33,6 +35,7 @@ import oogasalad.exceptions.RenderingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.exceptions.ViewInitializationException;
 import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,6 +55,7 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   private List<KeyCode> currentKeysReleased;
   private String myCurrentGamePath;
   private String currentLevel;
+  private LevelData currentLevelData;
   private boolean gameWon = false;
 
   /**
@@ -86,6 +90,9 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
     if (!(currentLevel == null)) {
       myLevelAPI.selectGame(currentLevel);
       playGame();
+    } else if (currentLevelData != null) {
+      myLevelAPI.selectLevelData(currentLevelData);
+      playGame();
     }
   }
 
@@ -96,14 +103,39 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
       NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException {
     currentLevel = filePath;
     myCurrentGamePath = filePath;
+    currentLevelData = null;
     myLevelAPI.selectGame(filePath);
   }
 
+  @Override
+  public void selectLevelData(LevelData levelData)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+    currentLevel = null;
+    myCurrentGamePath = null;
+    currentLevelData = levelData;
+    myLevelAPI.selectLevelData(levelData);
+  }
+
+  @Override
+  public void playtest(LevelData levelData) {
+    myView.playtest(levelData);
+  }
+
   @Override
   public List<String> listLevels() {
     return myLevelAPI.listLevels();
   }
 
+  @Override
+  public void setTextureProgressListener(DoubleConsumer listener) {
+    myLevelAPI.setTextureProgressListener(listener);
+  }
+
+  @Override
+  public CompletableFuture<Void> texturesReady() {
+    return myLevelAPI.texturesReady();
+  }
+
   @Override
   public boolean isKeyPressed(KeyCode keyCode) {
     return currentKeysPressed.contains(keyCode);
@@ -194,6 +226,9 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
         return levelFile.replaceAll("\\.xml$", "");
       }
     }
+    if (currentLevelData != null) {
+      return currentLevelData.name();
+    }
     return "Unknown";
   }
 
@@ -1,15 +1,30 @@
 package oogasalad.engine.controller;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
+import javafx.application.Platform;
+import oogasalad.ResourceManager;
 import oogasalad.engine.controller.api.EngineFileConverterAPI;
 import oogasalad.engine.controller.api.GameControllerAPI;
 import oogasalad.engine.controller.api.LevelAPI;
 import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.view.util.SpriteSheetImageCache;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.GameObjectParseException;
@@ -23,13 +38,28 @@ import oogasalad.fileparser.FileParserApi;
 import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
 
 /**
  * Default implementation of the {@link LevelAPI}.
  *
  * <p>This class is responsible for selecting and loading a specific level from a given game,
  * category, and level name. It uses a {@link FileParserApi} to parse the level file and delegates
- * to the {@link GameControllerAPI} to update the engine with the parsed data.
+ * to the {@link GameControllerAPI} to update the engine with the parsed data. Sprite sheets are
+ * prefetched into the {@link SpriteSheetImageCache} while the level is being parsed, and blueprints
+ * that nothing in the level uses yet are only parsed once an outcome spawns them. Once parsed, the
+ * sprite sheets of every placed object are decoded in the background; {@link #texturesReady()}
+ * completes when they are all resident. Sheets that neither the placed objects nor the parsed
+ * blueprints use are released from the cache. A level can also be handed over already parsed, as
+ * the editor does for playtests, in which case no file is read.
+ *
+ * <p>In development builds, hot reload can be turned on with the {@code HotReload} level config or
+ * {@code -Doogasalad.hotReload=true}. The level file, sprite files and sprite sheets of the running
+ * level are then watched with a {@link LevelFileWatcher}, and only the file that changed is parsed
+ * again: edited blueprints and sprites are applied to the objects already in the level, which keep
+ * their positions and variables, and edited images replace their cached texture. Objects added to
+ * or removed from the level file and camera settings take effect on the next restart.
  *
  * @author Gage Garcia, Billy McCune
  */
@@ -41,6 +71,20 @@ public class DefaultLevel implements LevelAPI {
   private static final String LEVEL_FILE_PATH =
       System.getProperty("user.dir") + "/data/gameData/levels/";
   private static LevelData levelData;
+  private static final boolean HOT_RELOAD = Boolean.parseBoolean(
+      System.getProperty("oogasalad.hotReload",
+          ResourceManager.getInstance().getConfig("engine.controller.level", "HotReload")));
+  private static final Duration QUIET_PERIOD = Duration.ofMillis(150);
+  private CompletableFuture<Void> myTexturesReady = CompletableFuture.completedFuture(null);
+  private DoubleConsumer myTextureProgressListener;
+  private final LevelFileWatcher myFileWatcher;
+  private final Map<Path, Set<SpriteRequest>> mySpriteFiles = new ConcurrentHashMap<>();
+  private final Set<File> myParsedSpriteSheets = ConcurrentHashMap.newKeySet();
+  private final Map<SpriteData, SpriteRequest> mySpriteSources =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private volatile Path myLevelFile;
+  private ReloadableBlueprintMap myBlueprints =
+      new ReloadableBlueprintMap(Map.of(), mySpriteSources);
 
   /**
    * Default level constructor
@@ -48,8 +92,18 @@ public class DefaultLevel implements LevelAPI {
    * @param gameController the game controller manages the back-end of the game
    */
   public DefaultLevel(GameControllerAPI gameController) {
+    myFileWatcher = HOT_RELOAD ? startFileWatcher() : null;
     myFileParser = new DefaultFileParser();
+    myFileParser.setSpriteSheetListener(spriteFile -> {
+      myParsedSpriteSheets.add(spriteFile);
+      SpriteSheetImageCache.getInstance().prefetch(spriteFile);
+      watch(spriteFile.toPath());
+    });
+    myFileParser.setLazyBlueprintLoading(true);
     myGameController = gameController;
+    if (myFileWatcher != null) {
+      myFileParser.setSpriteFileListener(this::spriteFileResolved);
+    }
   }
 
   /**
@@ -61,18 +115,171 @@ public class DefaultLevel implements LevelAPI {
   public void selectGame(String filePath)
       throws LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, LayerParseException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
     LOG.info("Selecting game " + filePath);
-    levelData = myFileParser.parseLevelFile(filePath);
+    stopWatching();
+    myParsedSpriteSheets.clear();
+    myLevelFile = Path.of(filePath).toAbsolutePath().normalize();
+    watch(myLevelFile);
+    loadLevel(myFileParser.parseLevelFile(filePath));
+  }
+
+  /**
+   * @see LevelAPI#selectLevelData(LevelData)
+   */
+  @Override
+  public void selectLevelData(LevelData data)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+    stopWatching();
+    myParsedSpriteSheets.clear();
+    myLevelFile = null;
+    loadLevel(data);
+  }
+
+  private void loadLevel(LevelData data)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+    levelData = data;
+    myBlueprints = new ReloadableBlueprintMap(data.gameBluePrintData(), mySpriteSources);
+    Set<File> spriteFiles = placedSpriteFiles(levelData);
+    spriteFiles.forEach(spriteFile -> watch(spriteFile.toPath()));
+    Set<File> inUse = new LinkedHashSet<>(myParsedSpriteSheets);
+    inUse.addAll(spriteFiles);
+    SpriteSheetImageCache.getInstance().retainOnly(inUse);
+    myTexturesReady = SpriteSheetImageCache.getInstance()
+        .preload(spriteFiles, myTextureProgressListener);
     myGameController.setLevelData(levelData);
   }
 
+  /**
+   * @see LevelAPI#setTextureProgressListener(DoubleConsumer)
+   */
+  @Override
+  public void setTextureProgressListener(DoubleConsumer listener) {
+    myTextureProgressListener = listener;
+  }
+
+  /**
+   * @see LevelAPI#texturesReady()
+   */
+  @Override
+  public CompletableFuture<Void> texturesReady() {
+    return myTexturesReady;
+  }
+
+  /**
+   * Collects the sprite sheets of the objects placed in a level. Only the blueprints those objects
+   * use are looked up, so blueprints that are still unresolved stay that way.
+   */
+  private Set<File> placedSpriteFiles(LevelData data) {
+    Set<Integer> blueprintIds = new LinkedHashSet<>();
+    for (GameObjectData gameObject : data.gameObjects()) {
+      blueprintIds.add(gameObject.blueprintId());
+    }
+    Set<File> spriteFiles = new LinkedHashSet<>();
+    for (int blueprintId : blueprintIds) {
+      BlueprintData blueprint = data.gameBluePrintData().get(blueprintId);
+      if (blueprint != null && blueprint.spriteData() != null) {
+        spriteFiles.add(blueprint.spriteData().spriteFile());
+      }
+    }
+    return spriteFiles;
+  }
+
   /**
    * Converts GameObjectData to GameObject
    */
   @Override
   public GameObject makeObjectFromData(GameObjectData gameObjectData) {
-    Map<Integer, BlueprintData> gameBluePrintData = levelData.gameBluePrintData();
     EngineFileConverterAPI fileConverter = new DefaultEngineFileConverter();
-    return fileConverter.makeGameObject(gameObjectData, gameBluePrintData);
+    return fileConverter.makeGameObject(gameObjectData, myBlueprints);
+  }
+
+  private LevelFileWatcher startFileWatcher() {
+    try {
+      LOG.info("Hot reload enabled: watching level, sprite and image files for changes");
+      return new LevelFileWatcher(QUIET_PERIOD, changed -> changed.forEach(this::reload));
+    } catch (IOException e) {
+      LOG.warning("Hot reload unavailable: " + e.getMessage());
+      return null;
+    }
+  }
+
+  private void watch(Path file) {
+    if (myFileWatcher != null) {
+      myFileWatcher.watch(file);
+    }
+  }
+
+  private void stopWatching() {
+    if (myFileWatcher != null) {
+      myFileWatcher.unwatchAll();
+      mySpriteFiles.clear();
+      mySpriteSources.clear();
+    }
+  }
+
+  private void spriteFileResolved(SpriteRequest request, File spriteFile, SpriteData sprite) {
+    mySpriteSources.put(sprite, request);
+    Path path = spriteFile.toPath().toAbsolutePath().normalize();
+    mySpriteFiles.computeIfAbsent(path, key -> ConcurrentHashMap.newKeySet()).add(request);
+    watch(path);
+  }
+
+  /**
+   * Reloads a watched file that changed. Runs on the watcher thread: the changed file alone is
+   * parsed here, and the result is applied to the running level on the JavaFX Application Thread.
+   */
+  private void reload(Path file) {
+    if (file.equals(myLevelFile)) {
+      reloadLevelFile(file);
+    } else if (mySpriteFiles.containsKey(file)) {
+      reloadSpriteFile(file);
+    } else {
+      SpriteSheetImageCache.getInstance().invalidate(file.toFile());
+    }
+  }
+
+  private void reloadLevelFile(Path file) {
+    LevelData reloaded;
+    try {
+      reloaded = myFileParser.parseLevelFile(file.toString());
+    } catch (BlueprintParseException | SpriteParseException | HitBoxParseException |
+             GameObjectParseException | LevelDataParseException | PropertyParsingException |
+             EventParseException | LayerParseException e) {
+      LOG.warning("Could not reload level " + file + ": " + e.getMessage());
+      return;
+    }
+    Platform.runLater(() -> {
+      if (!file.equals(myLevelFile)) {
+        return;
+      }
+      Map<Integer, BlueprintData> previous = myBlueprints;
+      ReloadableBlueprintMap current = new ReloadableBlueprintMap(reloaded.gameBluePrintData(),
+          mySpriteSources);
+      levelData = reloaded;
+      myBlueprints = current;
+      int updated = myGameController.reloadBlueprints(current,
+          id -> !Objects.equals(previous.get(id), current.get(id)));
+      LOG.info("Reloaded level " + file + ", updated " + updated + " objects");
+    });
+  }
+
+  private void reloadSpriteFile(Path file) {
+    Map<SpriteRequest, SpriteData> sprites = new HashMap<>();
+    for (SpriteRequest request : mySpriteFiles.getOrDefault(file, Set.of())) {
+      try {
+        SpriteData sprite = myFileParser.parseSprite(request);
+        SpriteSheetImageCache.getInstance().prefetch(sprite.spriteFile());
+        sprites.put(request, sprite);
+      } catch (SpriteParseException e) {
+        LOG.warning("Could not reload sprite " + request.spriteName() + ": " + e.getMessage());
+      }
+    }
+    Platform.runLater(() -> {
+      ReloadableBlueprintMap blueprints = myBlueprints;
+      sprites.forEach(blueprints::reloadSprite);
+      int updated = myGameController.reloadBlueprints(blueprints,
+          id -> blueprints.usesSprite(id, sprites.keySet()));
+      LOG.info("Reloaded sprite file " + file + ", updated " + updated + " objects");
+    });
   }
 
   /**
@@ -86,7 +293,8 @@ public class DefaultLevel implements LevelAPI {
     File levelsDir = new File(LEVEL_FILE_PATH);
 
     if (levelsDir.exists() && levelsDir.isDirectory()) {
-      File[] files = levelsDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".xml"));
+      File[] files = levelsDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".xml")
+          || name.toLowerCase().endsWith(".xml.gz"));
       if (files != null) {
         for (File file : files) {
           levels.add(
@@ -0,0 +1,150 @@
+package oogasalad.engine.controller;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Watches the files a running level was loaded from and reports the ones that change, so they can
+ * be reloaded without restarting the level. Meant for development builds only.
+ * <p>
+ * A {@link WatchService} can only watch directories, so the directory of every watched file is
+ * registered and events for other files in it are ignored. Tools often save a file in several
+ * steps, so once a change arrives the watcher waits until the files have been quiet for a short
+ * while and then reports every file that changed in that burst at once. Changes are reported on the
+ * watcher's own daemon thread.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public class LevelFileWatcher implements AutoCloseable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final WatchService watchService;
+  private final Duration quietPeriod;
+  private final Consumer<Set<Path>> onChange;
+  private final Set<Path> watchedFiles = ConcurrentHashMap.newKeySet();
+  private final Map<Path, WatchKey> watchedDirectories = new ConcurrentHashMap<>();
+  private final Thread thread;
+
+  /**
+   * Starts a watcher that is not watching any file yet.
+   *
+   * @param quietPeriod how long the files must stay unchanged before a burst of changes is
+   *                    reported
+   * @param onChange    receives the files changed in a burst, on the watcher thread
+   * @throws IOException if the file system cannot be watched
+   */
+  public LevelFileWatcher(Duration quietPeriod, Consumer<Set<Path>> onChange) throws IOException {
+    this.watchService = FileSystems.getDefault().newWatchService();
+    this.quietPeriod = quietPeriod;
+    this.onChange = onChange;
+    this.thread = new Thread(this::run, "level-file-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Starts reporting changes to a file. Safe to call from any thread.
+   *
+   * @param file the file to watch
+   */
+  public void watch(Path file) {
+    Path normalized = normalize(file);
+    Path directory = normalized.getParent();
+    if (directory == null || !watchedFiles.add(normalized)) {
+      return;
+    }
+    watchedDirectories.computeIfAbsent(directory, dir -> {
+      try {
+        return dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY);
+      } catch (IOException | ClosedWatchServiceException e) {
+        LOG.warn("Cannot watch {} for changes: {}", dir, e.getMessage());
+        return null;
+      }
+    });
+  }
+
+  /**
+   * Stops watching every file, for example when another level is selected.
+   */
+  public void unwatchAll() {
+    watchedFiles.clear();
+    watchedDirectories.values().forEach(WatchKey::cancel);
+    watchedDirectories.clear();
+  }
+
+  /**
+   * Stops the watcher thread.
+   */
+  @Override
+  public void close() {
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOG.warn("Could not close the level file watcher: {}", e.getMessage());
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        Set<Path> changed = new LinkedHashSet<>();
+        collect(watchService.take(), changed);
+        WatchKey next;
+        while ((next = watchService.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          collect(next, changed);
+        }
+        if (!changed.isEmpty()) {
+          LOG.debug("Watched files changed: {}", changed);
+          report(changed);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      LOG.debug("Level file watcher closed");
+    }
+  }
+
+  private void collect(WatchKey key, Set<Path> changed) {
+    Path directory = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.context() instanceof Path name) {
+        Path file = normalize(directory.resolve(name));
+        if (watchedFiles.contains(file)) {
+          changed.add(file);
+        }
+      }
+    }
+    key.reset();
+  }
+
+  private void report(Set<Path> changed) {
+    try {
+      onChange.accept(changed);
+    } catch (RuntimeException e) {
+      LOG.error("Could not reload {}", changed, e);
+    }
+  }
+
+  private static Path normalize(Path file) {
+    return file.toAbsolutePath().normalize();
+  }
+}
@@ -0,0 +1,107 @@
+package oogasalad.engine.controller;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
+
+/**
+ * The blueprints of a running level whose sprite files may be reloaded. Looking up a blueprint
+ * returns the blueprint the level was parsed with, but with its sprite replaced if that sprite was
+ * reloaded since. Lookups go straight to the parsed map, so blueprints a lazily loaded level has
+ * not needed yet stay unparsed. Only meant to be used on the JavaFX Application Thread.
+ *
+ * @author Billy McCune
+ */
+class ReloadableBlueprintMap extends AbstractMap<Integer, BlueprintData> {
+
+  private final Map<Integer, BlueprintData> parsed;
+  private final Map<SpriteData, SpriteRequest> spriteSources;
+  private final Map<SpriteRequest, SpriteData> reloadedSprites = new HashMap<>();
+  private final Map<Integer, BlueprintData> patched = new HashMap<>();
+
+  /**
+   * @param parsed        the blueprints the level was parsed with
+   * @param spriteSources the request, and with it the sprite XML file, each parsed sprite instance
+   *                      was read from; looked up by identity and filled in as blueprints resolve
+   */
+  ReloadableBlueprintMap(Map<Integer, BlueprintData> parsed,
+      Map<SpriteData, SpriteRequest> spriteSources) {
+    this.parsed = parsed;
+    this.spriteSources = spriteSources;
+  }
+
+  /**
+   * Replaces a sprite in every blueprint whose sprite was parsed for the same request, which
+   * includes the sprite XML file it came from.
+   *
+   * @param request the request the sprite was originally parsed for
+   * @param sprite  the sprite parsed again from its edited file
+   */
+  void reloadSprite(SpriteRequest request, SpriteData sprite) {
+    reloadedSprites.put(request, sprite);
+    patched.clear();
+  }
+
+  /**
+   * @param blueprintId a blueprint ID
+   * @param requests    sprite requests
+   * @return whether the blueprint uses the sprite of one of the requests
+   */
+  boolean usesSprite(int blueprintId, Collection<SpriteRequest> requests) {
+    BlueprintData blueprint = parsed.get(blueprintId);
+    SpriteRequest source = blueprint == null ? null : sourceOf(blueprint);
+    return source != null && requests.contains(source);
+  }
+
+  private SpriteRequest sourceOf(BlueprintData blueprint) {
+    return blueprint.spriteData() == null ? null : spriteSources.get(blueprint.spriteData());
+  }
+
+  @Override
+  public BlueprintData get(Object key) {
+    BlueprintData blueprint = patched.get(key);
+    if (blueprint != null) {
+      return blueprint;
+    }
+    blueprint = parsed.get(key);
+    if (blueprint == null || reloadedSprites.isEmpty()) {
+      return blueprint;
+    }
+    SpriteRequest source = sourceOf(blueprint);
+    SpriteData sprite = source == null ? null : reloadedSprites.get(source);
+    if (sprite != null) {
+      blueprint = new BlueprintData(blueprint.blueprintId(), blueprint.velocityX(),
+          blueprint.velocityY(), blueprint.rotation(), blueprint.isFlipped(),
+          blueprint.gameName(), blueprint.group(), blueprint.type(), sprite,
+          blueprint.hitBoxData(), blueprint.eventDataList(), blueprint.stringProperties(),
+          blueprint.doubleProperties(), blueprint.displayedProperties());
+      patched.put(blueprint.blueprintId(), blueprint);
+    }
+    return blueprint;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return parsed.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return parsed.size();
+  }
+
+  @Override
+  public Set<Entry<Integer, BlueprintData>> entrySet() {
+    Map<Integer, BlueprintData> all = new LinkedHashMap<>();
+    for (Integer id : parsed.keySet()) {
+      all.put(id, get(id));
+    }
+    return all.entrySet();
+  }
+}
@@ -41,6 +41,18 @@ public interface EngineFileConverterAPI {
   GameObject makeGameObject(GameObjectData gameObjectData,
       Map<Integer, BlueprintData> bluePrintMap);
 
+  /**
+   * Brings a live game object up to date with its edited blueprint: the sprite, hitbox size and
+   * events are replaced, while the position, velocity and current parameter values are kept.
+   * Parameters the blueprint newly declares are added with their default values.
+   *
+   * @param gameObject     the live object
+   * @param gameObjectData the record the object was created from
+   * @param bluePrintMap   the blueprints holding the edited blueprint
+   */
+  void applyBlueprint(GameObject gameObject, GameObjectData gameObjectData,
+      Map<Integer, BlueprintData> bluePrintMap);
+
   /**
    * Takes in LevelData record and converts the Camera data into a view camera based on the type of
    * camera specified in the file
@@ -3,6 +3,8 @@ package oogasalad.engine.controller.api;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
 import java.util.zip.DataFormatException;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.camera.Camera;
@@ -14,6 +16,7 @@ import oogasalad.exceptions.LayerParseException;
 import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.LevelData;
 
 /**
@@ -57,6 +60,16 @@ public interface GameControllerAPI {
   void setLevelData(LevelData data)
       throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException;
 
+  /**
+   * Applies edited blueprints to the live objects created from them, keeping their positions and
+   * current variables, so a level can be reloaded without restarting it.
+   *
+   * @param blueprints the level's blueprints, including the edited ones
+   * @param changed    tells whether the blueprint with a given ID was edited
+   * @return the number of live objects updated
+   */
+  int reloadBlueprints(Map<Integer, BlueprintData> blueprints, IntPredicate changed);
+
   /**
    * @return the camera object which translates the game scene
    */
@@ -5,6 +5,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 import java.util.zip.DataFormatException;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.engine.model.object.ImmutableGameObject;
@@ -18,6 +20,7 @@ import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.RenderingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
 
 /**
  * API responsible for managing the game loop, including playing, pausing, and selecting a game
@@ -51,6 +54,25 @@ public interface GameManagerAPI {
   void selectGame(String filePath)
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException;
 
+  /**
+   * Loads a level that is already in memory instead of a file. Restarting the game replays this
+   * level until another one is selected.
+   *
+   * @param levelData the level to load
+   */
+  void selectLevelData(LevelData levelData)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException;
+
+  /**
+   * Plays a level handed over by the editor: whatever is running is stopped, the level is loaded
+   * from memory and, once its textures are decoded, shown and started in the game window. Calling
+   * this again with an edited level hot-restarts the playtest in the same window.
+   *
+   * @param levelData the level to playtest
+   * @throws IllegalStateException if the level cannot be loaded into the engine
+   */
+  void playtest(LevelData levelData);
+
   /**
    * Pauses the timeline and displays a splashscreen when the user either wins or loses
    */
@@ -127,4 +149,20 @@ public interface GameManagerAPI {
    * @param gameWon whether the game has been won
    */
   void setGameWonVariable(Boolean gameWon);
+
+  /**
+   * Sets the listener notified while the sprite sheets of the next selected level are decoded.
+   *
+   * @param listener receives the fraction of sprite sheets decoded, from 0 to 1, possibly from a
+   *                 background thread; {@code null} removes the listener
+   */
+  void setTextureProgressListener(DoubleConsumer listener);
+
+  /**
+   * Returns a future that completes once the selected level's sprite sheets are resident, so the
+   * game can be started without decoding textures mid-frame.
+   *
+   * @return the texture loading future of the selected level
+   */
+  CompletableFuture<Void> texturesReady();
 }
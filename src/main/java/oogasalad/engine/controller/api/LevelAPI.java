@@ -3,6 +3,8 @@ package oogasalad.engine.controller.api;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 import java.util.zip.DataFormatException;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.exceptions.BlueprintParseException;
@@ -14,6 +16,7 @@ import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
 
 /**
  * Interface used for selecting a new Game or new Level of a Game
@@ -31,6 +34,15 @@ public interface LevelAPI {
   void selectGame(String filePath)
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, LayerParseException;
 
+  /**
+   * Selects a level that is already in memory, such as one handed over by the editor for a
+   * playtest, without reading or parsing a file.
+   *
+   * @param levelData the level to play
+   */
+  void selectLevelData(LevelData levelData)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException;
+
   /**
    * Create a game object from a GameObjectData record
    *
@@ -45,4 +57,20 @@ public interface LevelAPI {
    * @return list of string representations of "game/level"
    */
   List<String> listLevels();
+
+  /**
+   * Sets the listener notified while the sprite sheets of the next selected level are decoded.
+   *
+   * @param listener receives the fraction of sprite sheets decoded, from 0 to 1, possibly from a
+   *                 background thread; {@code null} removes the listener
+   */
+  void setTextureProgressListener(DoubleConsumer listener);
+
+  /**
+   * Returns a future that completes once every sprite sheet the selected level starts with has
+   * been decoded.
+   *
+   * @return the texture loading future of the selected level
+   */
+  CompletableFuture<Void> texturesReady();
 }
@@ -287,6 +287,13 @@ public abstract class GameObject implements ImmutableGameObject{
     return spriteInfo;
   }
 
+  /**
+   * @return the hitbox of the game object
+   */
+  public HitBox getHitBox() {
+    return hitBox;
+  }
+
   /**
    * sets the current frame of the animation
    * @param currentFrame the frame to set the sprite to
@@ -94,5 +94,18 @@ public class HitBox {
   public void setY(int y) {
     this.y = y;
   }
-}
 
+  /**
+   * Sets the width and height of the hitbox, keeping its position.
+   *
+   * @param width  the new width in pixels
+   * @param height the new height in pixels
+   */
+  public void setSize(int width, int height) {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException(EXCEPTIONS.getString("InvalidWidthAndHeight"));
+    }
+    this.width = width;
+    this.height = height;
+  }
+}
@@ -216,4 +216,29 @@ public class Sprite {
   public void setRotation(double rotation) {
     this.rotation = rotation;
   }
-}
\ No newline at end of file
+
+  /**
+   * Replaces the frames, animations and sprite sheet of this sprite, for example after its sprite
+   * file was edited while the game is running. The frame currently shown is kept if a frame of the
+   * same name still exists, and so are the animation position, rotation and flip.
+   *
+   * @param frameMap   the new named frames
+   * @param baseSprite the new base frame
+   * @param animations the new animations
+   * @param spriteDx   the new horizontal offset of the sprite relative to the hitbox
+   * @param spriteDy   the new vertical offset of the sprite relative to the hitbox
+   * @param spriteFile the new sprite sheet image
+   */
+  public void replaceFrames(Map<String, FrameData> frameMap, FrameData baseSprite,
+      Map<String, AnimationData> animations, int spriteDx, int spriteDy, File spriteFile) {
+    String currentName = currentSprite == null ? null : currentSprite.name();
+    this.frameMap = frameMap;
+    this.animations = animations;
+    this.spriteDx = spriteDx;
+    this.spriteDy = spriteDy;
+    this.spriteFile = spriteFile;
+    this.currentSprite = currentName != null && frameMap.containsKey(currentName)
+        ? frameMap.get(currentName) : baseSprite;
+    this.baseSprite = baseSprite;
+  }
+}
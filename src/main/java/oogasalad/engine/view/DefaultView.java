@@ -15,10 +15,12 @@ import oogasalad.engine.controller.api.GameManagerAPI;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.camera.Camera;
 import oogasalad.engine.view.camera.TrackerCamera;
+import oogasalad.engine.view.factory.ButtonActionFactory;
 import oogasalad.engine.view.screen.SplashScreen;
 import oogasalad.exceptions.InputException;
 import oogasalad.exceptions.RenderingException;
 import oogasalad.exceptions.ViewInitializationException;
+import oogasalad.fileparser.records.LevelData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,6 +47,7 @@ public class DefaultView implements ViewAPI {
   private final List<KeyCode> releasedInputs;
   private Camera myCamera;
   private Point mousePosition;
+  private ViewState currentState;
 
   /**
    * Constructor to initialize the GameAppView with a Stage reference.
@@ -63,7 +66,7 @@ public class DefaultView implements ViewAPI {
    */
   @Override
   public void initialize() throws ViewInitializationException, FileNotFoundException {
-    ViewState currentState = new ViewState(currentStage, gameManager, this);
+    currentState = new ViewState(currentStage, gameManager, this);
     SplashScreen splashScreen = new SplashScreen(currentState);
 
     int width = splashScreen.getSplashWidth();
@@ -76,6 +79,16 @@ public class DefaultView implements ViewAPI {
     });
   }
 
+  /**
+   * Plays a level handed over in memory, switching this view straight to the game screen.
+   *
+   * @param levelData the level to playtest
+   * @see oogasalad.engine.controller.api.GameManagerAPI#playtest(LevelData)
+   */
+  public void playtest(LevelData levelData) {
+    new ButtonActionFactory(currentState).playtest(levelData).run();
+  }
+
   /**
    * @see DefaultView#renderGameObjects(List, Camera)
    */
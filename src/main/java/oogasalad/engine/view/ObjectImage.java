@@ -1,5 +1,6 @@
 package oogasalad.engine.view;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
@@ -7,6 +8,7 @@ import javafx.scene.shape.Rectangle;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
 import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.view.util.SpriteSheetImageCache;
 import oogasalad.engine.view.util.ViewObjectToImageConverter;
 
 /**
@@ -26,6 +28,8 @@ public class ObjectImage {
   private final int spriteDx;
   private final int spriteDy;
   private final String UUID;
+  private File spriteFile;
+  private long spriteGeneration;
 
   /**
    * Constructs an {@code ObjectImage} with the given parameters.
@@ -36,6 +40,8 @@ public class ObjectImage {
   public ObjectImage(ImmutableGameObject viewObject)
       throws FileNotFoundException {
     this.UUID = viewObject.getUUID();
+    this.spriteFile = viewObject.getSpriteFile();
+    this.spriteGeneration = SpriteSheetImageCache.getInstance().getGeneration();
     converter = new ViewObjectToImageConverter();
     this.imageView = converter.convertFrameToView(viewObject);
     imageView.setX(viewObject.getXPosition() + viewObject.getSpriteDx());
@@ -87,6 +93,27 @@ public class ObjectImage {
     imageView.setY(y + spriteDy);
   }
 
+  /**
+   * Fetches the sprite sheet again if it was reloaded since this image was made, or if the object
+   * has been given a different sprite, and matches the hitbox to the object's current size. Only a
+   * reference comparison is made when nothing changed, so this is cheap to call every frame.
+   *
+   * @param viewObject the object this image shows
+   * @throws FileNotFoundException if the new sprite sheet cannot be read
+   */
+  public void refreshSprite(ImmutableGameObject viewObject) throws FileNotFoundException {
+    SpriteSheetImageCache cache = SpriteSheetImageCache.getInstance();
+    long generation = cache.getGeneration();
+    if (generation == spriteGeneration && viewObject.getSpriteFile() == spriteFile) {
+      return;
+    }
+    spriteFile = viewObject.getSpriteFile();
+    spriteGeneration = generation;
+    imageView.setImage(cache.getImage(spriteFile));
+    hitBox.setWidth(viewObject.getHitBoxWidth());
+    hitBox.setHeight(viewObject.getHitBoxHeight());
+  }
+
   /**
    * Creates and configures the hitbox for the object.
    *
@@ -7,14 +7,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URISyntaxException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 import java.util.zip.DataFormatException;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
-import oogasalad.editor.controller.EditorController;
 import oogasalad.editor.controller.EditorMaker;
 import oogasalad.engine.controller.DefaultGameManager;
 import oogasalad.engine.controller.api.GameManagerAPI;
@@ -27,7 +29,6 @@ import oogasalad.engine.view.screen.LoginScreen;
 import oogasalad.engine.view.screen.ProfileEditScreen;
 import oogasalad.engine.view.screen.UserDataScreen;
 import oogasalad.exceptions.BlueprintParseException;
-import oogasalad.exceptions.EditorLoadException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.GameObjectParseException;
 import oogasalad.exceptions.HitBoxParseException;
@@ -38,6 +39,7 @@ import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.RenderingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.exceptions.ViewInitializationException;
+import oogasalad.fileparser.records.LevelData;
 import oogasalad.server.ClientSocket;
 import oogasalad.server.ServerMessage;
 import oogasalad.userData.SessionManager;
@@ -108,30 +110,75 @@ public class ButtonActionFactory {
   }
 
   /**
-   * Start button on the home page.
+   * Start button on the home page. The game is only shown once the selected level's sprite sheets
+   * have been decoded; until then the current screen stays up.
    *
    * @throws ViewInitializationException thrown if error initializing the view.
    * @throws InputException              if error parsing user key inputs.
    */
   public Runnable startGame() throws ViewInitializationException, InputException {
+    return () -> whenTexturesReady(this::showGame);
+  }
+
+  /**
+   * Returns a runnable that playtests a level handed over in memory by the editor. Whatever is
+   * running is paused, the level is selected without reading a file, and the game screen is shown
+   * and started as soon as its sprite sheets are decoded. Sheets already decoded by an earlier run
+   * are reused, so replaying an edited level takes a fraction of a second. Closing the window pauses
+   * the playtest until the next one.
+   *
+   * @param levelData the level to playtest
+   * @return a runnable that starts the playtest; it throws an {@link IllegalStateException} when
+   * the level cannot be loaded, so the editor can report why nothing was shown
+   */
+  public Runnable playtest(LevelData levelData) {
     return () -> {
+      GameManagerAPI gameManager = viewState.getGameManager();
+      gameManager.pauseGame();
       try {
-        DefaultView gameView = viewState.getDefaultView();
-        GameManagerAPI gameManager = viewState.getGameManager();
-        Stage currentStage = viewState.getStage();
+        gameManager.selectLevelData(levelData);
+      } catch (ClassNotFoundException | InvocationTargetException | NoSuchMethodException |
+               InstantiationException | IllegalAccessException e) {
+        LOG.error("Failed to load the playtest level", e);
+        throw new IllegalStateException("Failed to load the playtest level: " + e.getMessage(), e);
+      }
+      Stage stage = viewState.getStage();
+      stage.setOnHidden(e -> gameManager.pauseGame());
+      whenTexturesReady(() -> {
+        showGame();
+        stage.show();
+        stage.toFront();
+        gameManager.playGame();
+      });
+    };
+  }
 
-        GameDisplay game = new GameDisplay(viewState);
-        viewState.setDisplay(game);
+  private void whenTexturesReady(Runnable action) {
+    CompletableFuture<Void> texturesReady = viewState.getGameManager().texturesReady();
+    if (texturesReady == null || texturesReady.isDone()) {
+      action.run();
+    } else {
+      texturesReady.whenComplete((ready, error) -> Platform.runLater(action));
+    }
+  }
 
-        currentStage.setWidth(1000); // TODO set this to the game size
-        currentStage.setHeight(1000);
+  private void showGame() {
+    try {
+      DefaultView gameView = viewState.getDefaultView();
+      GameManagerAPI gameManager = viewState.getGameManager();
+      Stage currentStage = viewState.getStage();
 
-        gameManager.displayGameObjects();
-        setCurrentInputs(gameView.getCurrentScene()).run();
-      } catch (Exception e) {
-        LOG.error("Error starting game", e);
-      }
-    };
+      GameDisplay game = new GameDisplay(viewState);
+      viewState.setDisplay(game);
+
+      currentStage.setWidth(1000); // TODO set this to the game size
+      currentStage.setHeight(1000);
+
+      gameManager.displayGameObjects();
+      setCurrentInputs(gameView.getCurrentScene()).run();
+    } catch (Exception e) {
+      LOG.error("Error starting game", e);
+    }
   }
 
   /**
@@ -338,11 +385,28 @@ public class ButtonActionFactory {
    * @return a {@code Runnable} that, when executed, loads the specified level into the game engine
    */
   public Runnable selectLevel(String game, String level) {
+    return selectLevel(game, level, null);
+  }
+
+  /**
+   * Returns a {@link Runnable} that loads a game level like {@link #selectLevel(String, String)}
+   * and reports how far the level's sprite sheets have been decoded.
+   *
+   * @param game             the name of the game (i.e., the folder name under the game levels
+   *                         directory)
+   * @param level            the name of the level file inside the game folder
+   * @param progressListener receives the fraction of sprite sheets decoded, from 0 to 1, on the
+   *                         JavaFX application thread; may be {@code null}
+   * @return a {@code Runnable} that, when executed, loads the specified level into the game engine
+   */
+  public Runnable selectLevel(String game, String level, DoubleConsumer progressListener) {
     return () -> {
       if (game != null && level != null) {
         try {
-          viewState.getGameManager()
-              .selectGame(gamesFilePath + game + "/" + level);
+          GameManagerAPI gameManager = viewState.getGameManager();
+          gameManager.setTextureProgressListener(progressListener == null ? null
+              : progress -> Platform.runLater(() -> progressListener.accept(progress)));
+          gameManager.selectGame(gamesFilePath + game + "/" + level);
         } catch (DataFormatException | IOException | ClassNotFoundException |
                  InvocationTargetException | NoSuchMethodException | InstantiationException |
                  IllegalAccessException | LayerParseException | LevelDataParseException |
@@ -359,29 +423,25 @@ public class ButtonActionFactory {
    * specified game level into the editor if valid game and level names are provided.
    *
    * <p>When executed, this runnable creates a new {@link Stage}, initializes the editor
-   * components, and attempts to load the specified level from the game's file path. If either the
-   * game or level is {@code null}, the editor opens without preloading a level.</p>
+   * components, and starts loading the specified level from the game's file path in the
+   * background. If either the game or level is {@code null}, the editor opens without preloading a
+   * level. Errors while loading the level are reported in the editor.</p>
    *
    * @param game  the name of the selected game, or {@code null} if no game is selected
    * @param level the name of the selected level, or {@code null} if no level is selected
    * @return a {@link Runnable} that opens the editor and optionally loads the selected level
-   * @throws RuntimeException if any error occurs while loading the level
    */
   public Runnable startEditor(String game, String level) {
     return () -> {
       LOG.info("Selected game: " + game + " Selected level: " + level);
 
       EditorMaker editor = new EditorMaker();
-      EditorController editorController = editor.initialize(new Stage());
+      editor.initialize(new Stage());
 
       if (game != null && level != null) {
         String levelPath = gamesFilePath + game + "/" + level;
-        try {
-          LOG.info("Attempting to open level " + levelPath);
-          editorController.loadLevelData(levelPath);
-        } catch (EditorLoadException e) {
-          throw new RuntimeException(e);
-        }
+        LOG.info("Attempting to open level " + levelPath);
+        editor.openLevel(levelPath);
       }
     };
   }
@@ -4,10 +4,17 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -15,12 +22,25 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
+import oogasalad.editor.view.components.LevelDataMinimapSource;
+import oogasalad.editor.view.components.LevelMinimapRaster;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.Display;
 import oogasalad.engine.view.ViewState;
 import oogasalad.engine.view.factory.ButtonActionFactory;
+import oogasalad.engine.view.util.SpriteSheetImageCache;
+import oogasalad.exceptions.BlueprintParseException;
+import oogasalad.exceptions.EventParseException;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.exceptions.HitBoxParseException;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.DefaultFileParser;
+import oogasalad.fileparser.records.LevelData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -31,9 +51,32 @@ import org.apache.logging.log4j.Logger;
  */
 public class SplashScreen extends Display {
 
+  /**
+   * A rendered level overview, together with the modification time of the level file it shows.
+   */
+  private record LevelThumbnail(long lastModified, Image image) {
+
+  }
+
   private static final Logger LOG = LogManager.getLogger();
   private static ResourceManagerAPI resourceManager = ResourceManager.getInstance();
   private static final String gamesFilePath = "data/gameData/levels/";
+  private static final int MAX_CACHED_THUMBNAILS = 16;
+  // Accessed on the JavaFX Application Thread only; one entry per level file, least recently
+  // shown dropped first.
+  private static final Map<String, LevelThumbnail> levelThumbnails =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LevelThumbnail> eldest) {
+          return size() > MAX_CACHED_THUMBNAILS;
+        }
+      };
+  private static final ExecutorService thumbnailRenderer =
+      Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "level-thumbnail");
+        thread.setDaemon(true);
+        return thread;
+      });
   private final String exceptions = "exceptions";
   private static final String displayedText = "displayedText";
   private final String splashConfig = "engine.view.splashScene";
@@ -43,6 +86,9 @@ public class SplashScreen extends Display {
   private ViewState viewState;
   private ComboBox<String> gameTypeBox;
   private ComboBox<String> levelBox;
+  private ProgressBar textureProgress;
+  private ImageView levelThumbnail;
+  private volatile File shownLevelFile;
 
   /**
    * Constructor for making a new opening splash screen
@@ -291,6 +337,8 @@ public class SplashScreen extends Display {
         comboBoxIDs, comboBoxStyles, splashBox);
     levelBox = createComboBox(comboBoxTexts, 1, buttonWidth, buttonHeight,
         comboBoxIDs, comboBoxStyles, splashBox);
+    textureProgress = createTextureProgressBar(buttonWidth, splashBox);
+    levelThumbnail = createLevelThumbnail(splashBox);
     populateGameTypeComboBox(gameTypeBox);
     selectGameType(gameTypeBox, levelBox);
     setComboBoxButtonAction(gameTypeBox, levelBox);
@@ -319,6 +367,104 @@ public class SplashScreen extends Display {
     return currBox;
   }
 
+  /**
+   * Creates the bar showing how far the selected level's sprite sheets have been decoded. It stays
+   * hidden until a level is selected.
+   */
+  private ProgressBar createTextureProgressBar(double buttonWidth, VBox splashBox) {
+    ProgressBar progressBar = new ProgressBar(0);
+    progressBar.setPrefWidth(buttonWidth);
+    progressBar.setId("textureProgress");
+    progressBar.setVisible(false);
+    progressBar.managedProperty().bind(progressBar.visibleProperty());
+    splashBox.getChildren().add(progressBar);
+    return progressBar;
+  }
+
+  /**
+   * Creates the overview of the selected level. It stays hidden until a level is selected and its
+   * thumbnail is rendered.
+   */
+  private ImageView createLevelThumbnail(VBox splashBox) {
+    ImageView thumbnail = new ImageView();
+    thumbnail.setId("levelThumbnail");
+    thumbnail.setPreserveRatio(true);
+    thumbnail.setVisible(false);
+    thumbnail.managedProperty().bind(thumbnail.visibleProperty());
+    splashBox.getChildren().add(thumbnail);
+    return thumbnail;
+  }
+
+  /**
+   * Shows an overview of a level, rendered by the same raster as the editor's minimap. Thumbnails
+   * are rendered one at a time on a background thread and the most recently shown ones are cached
+   * for as long as their level file is unchanged, so going back to a level shows it at once.
+   */
+  private void showLevelThumbnail(String game, String level) {
+    levelThumbnail.setVisible(false);
+    if (game == null || level == null) {
+      shownLevelFile = null;
+      return;
+    }
+    File levelFile = new File(gamesFilePath + game, level);
+    shownLevelFile = levelFile;
+    String key = levelFile.getAbsolutePath();
+    long lastModified = levelFile.lastModified();
+    LevelThumbnail cached = levelThumbnails.get(key);
+    if (cached != null && cached.lastModified() == lastModified) {
+      levelThumbnail.setImage(cached.image());
+      levelThumbnail.setVisible(true);
+      return;
+    }
+    thumbnailRenderer.execute(() -> {
+      if (!levelFile.equals(shownLevelFile)) {
+        return;
+      }
+      try {
+        LevelMinimapRaster raster = renderLevelThumbnail(levelFile);
+        Platform.runLater(() -> {
+          Image image = raster.getImage();
+          levelThumbnails.put(key, new LevelThumbnail(lastModified, image));
+          if (levelFile.equals(shownLevelFile)) {
+            levelThumbnail.setImage(image);
+            levelThumbnail.setVisible(true);
+          }
+        });
+      } catch (BlueprintParseException | SpriteParseException | LevelDataParseException |
+               HitBoxParseException | GameObjectParseException | PropertyParsingException |
+               EventParseException | RuntimeException e) {
+        LOG.warn("Could not render a thumbnail of {}: {}", levelFile, e.getMessage());
+      }
+    });
+  }
+
+  private LevelMinimapRaster renderLevelThumbnail(File levelFile)
+      throws BlueprintParseException, SpriteParseException, LevelDataParseException,
+      HitBoxParseException, GameObjectParseException, PropertyParsingException,
+      EventParseException {
+    DefaultFileParser parser = new DefaultFileParser();
+    parser.setLazyBlueprintLoading(true);
+    LevelData levelData = parser.parseLevelFile(levelFile.getPath());
+    int width = Integer.parseInt(resourceManager.getConfig(splashConfig, "splash.thumbnail.width"));
+    int height = Integer.parseInt(
+        resourceManager.getConfig(splashConfig, "splash.thumbnail.height"));
+    int background = LevelMinimapRaster.toArgb(Color.web(
+        resourceManager.getConfig(splashConfig, "splash.thumbnail.background")));
+    int placeholder = LevelMinimapRaster.toArgb(Color.web(
+        resourceManager.getConfig(splashConfig, "splash.thumbnail.placeholder")));
+    return new LevelDataMinimapSource(levelData, SplashScreen::loadSpriteSheet, placeholder)
+        .render(width, height, background);
+  }
+
+  /**
+   * Decodes a sprite sheet through the shared cache, so sheets decoded for a thumbnail are ready
+   * when the level is played.
+   */
+  private static Image loadSpriteSheet(File spriteFile) {
+    CompletableFuture<Image> image = SpriteSheetImageCache.getInstance().prefetch(spriteFile);
+    return image == null ? null : image.exceptionally(error -> null).join();
+  }
+
   private void setButtonStyle(Button currButton, String buttonID, String buttonStyle) {
     currButton.setId(buttonID);
     String defaultButtonStyle = resourceManager.getConfig(splashConfig,
@@ -348,7 +494,10 @@ public class SplashScreen extends Display {
     ButtonActionFactory factory = new ButtonActionFactory(viewState);
     levelBox.valueProperty().addListener((obs, oldValue, level) -> {
       String game = gameBox.getValue();
-      factory.selectLevel(game, level).run();
+      textureProgress.setProgress(0);
+      textureProgress.setVisible(level != null);
+      showLevelThumbnail(game, level);
+      factory.selectLevel(game, level, textureProgress::setProgress).run();
     });
   }
 
@@ -374,7 +523,8 @@ public class SplashScreen extends Display {
 
   private void populateLevelComboBox(String game, ComboBox<String> levelComboBox) {
     File levelFile = new File(gamesFilePath, game);
-    File[] levels = levelFile.listFiles((dir, name) -> name.endsWith(".xml"));
+    File[] levels = levelFile.listFiles((dir, name) -> name.endsWith(".xml")
+        || name.endsWith(".xml.gz"));
     if (levels != null) {
       levelComboBox.getItems().clear();
       for (File level : levels) {
@@ -0,0 +1,230 @@
+package oogasalad.engine.view.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+import javafx.scene.image.Image;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Shared cache of decoded sprite sheet images used by the game view.
+ * <p>
+ * Every sprite sheet is decoded once and shared by all objects that use it. Decoding happens on a
+ * small pool of worker threads: {@link #prefetch(File)} starts decoding a single sheet while a
+ * level is still being parsed, and {@link #preload(Collection, DoubleConsumer)} decodes every sheet
+ * a level needs and reports progress, so the game can wait until its textures are resident. A
+ * later {@link #getImage(File)} for the same file returns the decoded image instead of decoding
+ * the sheet again on the JavaFX thread.
+ * </p>
+ * <p>
+ * A sheet that changed on disk can be {@link #invalidate(File) invalidated}: it is decoded again in
+ * the background and, once done, the cache's {@link #getGeneration() generation} goes up so views
+ * know to fetch their images again.
+ * </p>
+ * <p>
+ * Loading a level calls {@link #retainOnly(Collection)} with the sheets that level uses, so sheets
+ * of earlier levels and of level previews do not stay in memory for the life of the process.
+ * </p>
+ *
+ * @author Alana Zinkin, Billy McCune
+ */
+public class SpriteSheetImageCache {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int DECODER_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+  private static final SpriteSheetImageCache instance = new SpriteSheetImageCache();
+
+  private final Map<String, CompletableFuture<Image>> images = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final ExecutorService decoder = Executors.newFixedThreadPool(DECODER_THREADS, task -> {
+    Thread thread = new Thread(task, "sprite-sheet-decoder");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private SpriteSheetImageCache() {
+  }
+
+  /**
+   * @return the shared sprite sheet cache
+   */
+  public static SpriteSheetImageCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Starts decoding the given sprite sheet on a worker thread if it is not cached yet. Safe to
+   * call from any thread; failures are logged and left for {@link #getImage(File)} to report.
+   *
+   * @param spriteFile the sprite sheet image file
+   * @return a future completing with the decoded image, or {@code null} if the file does not exist
+   */
+  public CompletableFuture<Image> prefetch(File spriteFile) {
+    if (spriteFile == null || !spriteFile.isFile()) {
+      return null;
+    }
+    return images.computeIfAbsent(keyFor(spriteFile),
+        key -> CompletableFuture.supplyAsync(() -> decodeUnchecked(spriteFile), decoder));
+  }
+
+  /**
+   * Decodes every given sprite sheet on the worker threads. Sheets that are already cached or
+   * being decoded are not decoded again, and a sheet that fails to decode still counts as done so
+   * one broken file cannot stall a level; {@link #getImage(File)} reports it later.
+   *
+   * @param spriteFiles      the sprite sheet image files a level needs
+   * @param progressListener receives the fraction of sheets decoded so far, from 0 to 1, on a
+   *                         worker thread; may be {@code null}
+   * @return a future completing once every sheet is resident
+   */
+  public CompletableFuture<Void> preload(Collection<File> spriteFiles,
+      DoubleConsumer progressListener) {
+    Map<String, File> distinct = new LinkedHashMap<>();
+    for (File spriteFile : spriteFiles) {
+      if (spriteFile != null) {
+        distinct.putIfAbsent(keyFor(spriteFile), spriteFile);
+      }
+    }
+    DoubleConsumer listener = progressListener == null ? progress -> { } : progressListener;
+    if (distinct.isEmpty()) {
+      listener.accept(1.0);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    AtomicInteger decoded = new AtomicInteger();
+    CompletableFuture<?>[] pending = distinct.values().stream()
+        .map(spriteFile -> {
+          CompletableFuture<Image> image = prefetch(spriteFile);
+          return (image == null ? CompletableFuture.completedFuture(null) : image)
+              .handle((result, error) -> {
+                listener.accept((double) decoded.incrementAndGet() / distinct.size());
+                return null;
+              });
+        })
+        .toArray(CompletableFuture<?>[]::new);
+    return CompletableFuture.allOf(pending);
+  }
+
+  /**
+   * Returns the decoded image for a sprite sheet, decoding it now if it was neither cached nor
+   * prefetched. If the sheet is still being decoded in the background, this waits for it.
+   *
+   * @param spriteFile the sprite sheet image file
+   * @return the shared image for the file
+   * @throws FileNotFoundException if the sprite sheet file cannot be read
+   */
+  public Image getImage(File spriteFile) throws FileNotFoundException {
+    String key = keyFor(spriteFile);
+    CompletableFuture<Image> cached = images.get(key);
+    if (cached != null) {
+      try {
+        Image image = cached.join();
+        if (!image.isError()) {
+          return image;
+        }
+      } catch (CompletionException e) {
+        LOG.debug("Background decode of {} failed, retrying", spriteFile, e.getCause());
+      }
+    }
+    Image image = decode(spriteFile);
+    images.put(key, CompletableFuture.completedFuture(image));
+    return image;
+  }
+
+  /**
+   * Decodes a sprite sheet again because its file changed. The old image stays in use until the
+   * new one is decoded; then the generation goes up.
+   *
+   * @param spriteFile the sprite sheet image file that changed
+   * @return a future completing once the new image is resident
+   */
+  public CompletableFuture<Void> invalidate(File spriteFile) {
+    String key = keyFor(spriteFile);
+    CompletableFuture<Image> reloaded =
+        CompletableFuture.supplyAsync(() -> decodeUnchecked(spriteFile), decoder);
+    return reloaded.handle((image, error) -> {
+      if (error == null && !image.isError()) {
+        images.put(key, reloaded);
+        generation.incrementAndGet();
+        LOG.info("Reloaded sprite sheet {}", spriteFile);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Returns a number that goes up every time an invalidated sprite sheet has been decoded again.
+   * Views compare it with the value they last saw to find out whether their images are stale.
+   *
+   * @return the current generation of the cache
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Removes every cached image except those of the given sprite sheets, for example once another
+   * level has been loaded. Kept sheets that are still being decoded are left to finish.
+   *
+   * @param spriteFiles the sprite sheet image files to keep
+   */
+  public void retainOnly(Collection<File> spriteFiles) {
+    Set<String> keep = new HashSet<>();
+    for (File spriteFile : spriteFiles) {
+      if (spriteFile != null) {
+        keep.add(keyFor(spriteFile));
+      }
+    }
+    int before = images.size();
+    images.keySet().retainAll(keep);
+    LOG.debug("Released {} sprite sheets no longer in use", before - images.size());
+  }
+
+  /**
+   * Removes every cached image, for example after a level has been unloaded.
+   */
+  public void clear() {
+    images.clear();
+  }
+
+  private Image decodeUnchecked(File spriteFile) {
+    try {
+      return decode(spriteFile);
+    } catch (FileNotFoundException e) {
+      LOG.warn("Could not decode sprite sheet {}", spriteFile, e);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Image decode(File spriteFile) throws FileNotFoundException {
+    try (InputStream input = new FileInputStream(spriteFile)) {
+      return new Image(input);
+    } catch (FileNotFoundException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new FileNotFoundException(e.getMessage());
+    }
+  }
+
+  private String keyFor(File spriteFile) {
+    return spriteFile.getAbsoluteFile().toPath().normalize().toString();
+  }
+}
@@ -1,6 +1,5 @@
 package oogasalad.engine.view.util;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -52,6 +51,7 @@ public class ViewObjectToImageConverter {
     List<ObjectImage> images = new ArrayList<>();
     for (ImmutableGameObject object : gameObjects) {
       if (UUIDToImageMap.containsKey(object.getUUID())) {
+        UUIDToImageMap.get(object.getUUID()).refreshSprite(object);
         UUIDToImageMap.get(object.getUUID())
             .updateImageLocation(object.getXPosition(), object.getYPosition());
         moveImageViewToCurrentFrame(object, UUIDToImageMap.get(object.getUUID()).getImageView());
@@ -82,14 +82,15 @@ public class ViewObjectToImageConverter {
 
   /**
    * Converts a single {@link FrameData} object to an {@link ImageView} configured with a viewport
-   * to show only the relevant sprite portion.
+   * to show only the relevant sprite portion. The sprite sheet itself comes from the shared
+   * {@link SpriteSheetImageCache}, so it is only decoded once.
    *
    * @param viewObject object to display
    * @return an {@code ImageView} representing the frame
    * @throws FileNotFoundException if the sprite file cannot be loaded
    */
   public ImageView convertFrameToView(ImmutableGameObject viewObject) throws FileNotFoundException {
-    Image sprite = new Image(new FileInputStream(viewObject.getSpriteFile()));
+    Image sprite = SpriteSheetImageCache.getInstance().getImage(viewObject.getSpriteFile());
     ImageView imageView = new ImageView(sprite);
     makeViewport(viewObject, imageView);
     return imageView;
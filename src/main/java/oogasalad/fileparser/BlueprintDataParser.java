@@ -1,10 +1,21 @@
 package oogasalad.fileparser;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.HitBoxParseException;
@@ -34,6 +45,13 @@ import org.w3c.dom.NodeList;
  *   blueprintData = parser.getBlueprintData(root, events);
  * </pre>
  * </p>
+ * <p>
+ * The XML document itself is read on the calling thread, but each distinct sprite referenced by a
+ * blueprint is resolved on a bounded worker pool, since that involves reading and parsing a
+ * separate sprite file. The resulting map keeps the document order of the blueprints. As soon as a
+ * sprite is resolved its sheet image is handed to the optional sprite sheet listener, so image
+ * decoding can start while the remaining sprites are still being parsed.
+ * </p>
  *
  * @author Billy McCune
  */
@@ -42,6 +60,7 @@ public class BlueprintDataParser {
   // Constants to avoid using literals directly in conditions.
   private static final String DISPLAYED_PROPERTIES_TAG = "displayedProperties";
   private static final String PROPERTY_LIST_ATTR = "propertyList";
+  private static final int MAX_SPRITE_THREADS = 8;
 
   private String groupName = "";
   private String gameName = "";
@@ -49,6 +68,23 @@ public class BlueprintDataParser {
   private HitBoxDataParser myHitBoxDataParser;
   private List<EventData> myEventDataList;
   private PropertyParser propertyParser;
+  private ExecutorService mySpriteExecutor;
+  private Map<SpriteRequest, Future<SpriteData>> mySpriteRequests;
+  private Map<BlueprintData, Future<SpriteData>> myPendingSprites;
+  private Consumer<File> mySpriteSheetListener = file -> {
+  };
+  private SpriteFileListener mySpriteFileListener = (request, file, sprite) -> {
+  };
+  private Set<Integer> myEagerIds;
+  private Map<Integer, DeferredBlueprint> myDeferredBlueprints;
+
+  /**
+   * A blueprint element whose parsing has been postponed until it is first requested, together
+   * with the game and object group it was declared in.
+   */
+  private record DeferredBlueprint(Element node, String gameName, String groupName) {
+
+  }
 
   /**
    * Constructs a new BlueprintDataParser and initializes the required parsers.
@@ -70,19 +106,112 @@ public class BlueprintDataParser {
   public Map<Integer, BlueprintData> getBlueprintData(Element root, List<EventData> eventList)
       throws BlueprintParseException, SpriteParseException, HitBoxParseException,
       PropertyParsingException, EventParseException {
+    return getBlueprintData(root, eventList, null);
+  }
+
+  /**
+   * Extracts blueprint data from the provided XML root element, fully resolving only the given
+   * blueprints. Every other blueprint is parsed, sprite included, the first time it is looked up
+   * in the returned map. Iterating over the map's entries or values resolves all of them.
+   * <p>
+   * The returned map keeps a reference to the XML document until every blueprint is resolved. A
+   * blueprint that fails to resolve on demand raises an {@link IllegalStateException} whose cause
+   * is the original parsing exception.
+   * </p>
+   *
+   * @param root      the root XML {@link Element} containing <code>&lt;game&gt;</code> nodes.
+   * @param eventList a list of {@link EventData} objects to be associated with blueprint event
+   *                  IDs.
+   * @param eagerIds  the blueprint IDs to resolve immediately, or {@code null} to resolve all.
+   * @return a {@link Map} of blueprint data, keyed by their blueprint ID, with the eagerly
+   *     resolved blueprints first in document order.
+   * @throws BlueprintParseException if any parsing error occurs.
+   */
+  public synchronized Map<Integer, BlueprintData> getBlueprintData(Element root,
+      List<EventData> eventList, Set<Integer> eagerIds)
+      throws BlueprintParseException, SpriteParseException, HitBoxParseException,
+      PropertyParsingException, EventParseException {
     myEventDataList = eventList;
-    NodeList gameNodes = root.getElementsByTagName("game");
-    List<BlueprintData> gameObjectDataList = new ArrayList<>();
-    for (int i = 0; i < gameNodes.getLength(); i++) {
-      Node node = gameNodes.item(i);
-      if (!(node instanceof Element)) {
-        throw new BlueprintParseException("error.gameNode.notElement");
+    myEagerIds = eagerIds;
+    myDeferredBlueprints = new LinkedHashMap<>();
+    mySpriteDataParser = null;
+    mySpriteRequests = new HashMap<>();
+    myPendingSprites = new IdentityHashMap<>();
+    mySpriteExecutor = Executors.newFixedThreadPool(spriteThreadCount(), runnable -> {
+      Thread thread = new Thread(runnable, "blueprint-sprite-loader");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      NodeList gameNodes = root.getElementsByTagName("game");
+      List<BlueprintData> gameObjectDataList = new ArrayList<>();
+      for (int i = 0; i < gameNodes.getLength(); i++) {
+        Node node = gameNodes.item(i);
+        if (!(node instanceof Element)) {
+          throw new BlueprintParseException("error.gameNode.notElement");
+        }
+        Element gameElement = (Element) node;
+        gameName = gameElement.getAttribute("name");
+        gameObjectDataList.addAll(parseByGame(gameElement));
+      }
+      Map<Integer, BlueprintData> blueprintDataMap = createBlueprintDataMap(gameObjectDataList);
+      if (myDeferredBlueprints.isEmpty()) {
+        return blueprintDataMap;
       }
-      Element gameElement = (Element) node;
-      gameName = gameElement.getAttribute("name");
-      gameObjectDataList.addAll(parseByGame(gameElement));
+      Map<Integer, DeferredBlueprint> deferred = myDeferredBlueprints;
+      return new LazyBlueprintMap(blueprintDataMap, deferred.keySet(),
+          id -> resolveDeferred(deferred.get(id), eventList));
+    } finally {
+      mySpriteExecutor.shutdownNow();
+      mySpriteExecutor = null;
     }
-    return createBlueprintDataMap(gameObjectDataList);
+  }
+
+  /**
+   * Parses a blueprint that was skipped by a lazy {@link #getBlueprintData(Element, List, Set)}
+   * call. Sprites are resolved on the calling thread.
+   *
+   * @param deferred  the postponed blueprint element.
+   * @param eventList the level events of the document the blueprint belongs to.
+   * @return the fully resolved blueprint.
+   */
+  private synchronized BlueprintData resolveDeferred(DeferredBlueprint deferred,
+      List<EventData> eventList)
+      throws BlueprintParseException, SpriteParseException, HitBoxParseException,
+      PropertyParsingException {
+    myEventDataList = eventList;
+    gameName = deferred.gameName();
+    groupName = deferred.groupName();
+    mySpriteRequests = new HashMap<>();
+    myPendingSprites = new IdentityHashMap<>();
+    return withResolvedSprite(parseGameObjectData(deferred.node()));
+  }
+
+  /**
+   * Sets the listener that is notified with the sprite sheet image file of every sprite as soon as
+   * it has been resolved. The listener is called from the sprite worker threads.
+   *
+   * @param listener the consumer to notify, or {@code null} to stop notifying
+   */
+  public void setSpriteSheetListener(Consumer<File> listener) {
+    mySpriteSheetListener = listener != null ? listener : file -> {
+    };
+  }
+
+  /**
+   * Sets the listener that is notified with every sprite request, the sprite XML file it was read
+   * from and the parsed sprite, once the sprite has been resolved. The listener is called from the sprite worker
+   * threads, or from the thread resolving a lazy blueprint.
+   *
+   * @param listener the consumer to notify, or {@code null} to stop notifying
+   */
+  public void setSpriteFileListener(SpriteFileListener listener) {
+    mySpriteFileListener = listener != null ? listener : (request, file, sprite) -> {
+    };
+  }
+
+  private int spriteThreadCount() {
+    return Math.max(1, Math.min(MAX_SPRITE_THREADS, Runtime.getRuntime().availableProcessors()));
   }
 
   /**
@@ -93,14 +222,71 @@ public class BlueprintDataParser {
    * {@link BlueprintData} record.
    */
   private Map<Integer, BlueprintData> createBlueprintDataMap(
-      List<BlueprintData> blueprintDataList) {
-    Map<Integer, BlueprintData> blueprintDataMap = new HashMap<>();
+      List<BlueprintData> blueprintDataList) throws SpriteParseException, BlueprintParseException {
+    Map<Integer, BlueprintData> blueprintDataMap = new LinkedHashMap<>();
     for (BlueprintData data : blueprintDataList) {
-      blueprintDataMap.put(data.blueprintId(), data);
+      blueprintDataMap.put(data.blueprintId(), withResolvedSprite(data));
     }
     return blueprintDataMap;
   }
 
+  /**
+   * Waits for the sprite requested for the given blueprint and returns the blueprint with its
+   * sprite data filled in. Failures on the worker threads are rethrown with their original type.
+   *
+   * @param data the blueprint whose sprite was requested by {@link #requestSprite(SpriteRequest)}.
+   * @return the complete blueprint record.
+   * @throws SpriteParseException    if the sprite could not be parsed.
+   * @throws BlueprintParseException if the sprite worker failed for any other reason.
+   */
+  private BlueprintData withResolvedSprite(BlueprintData data)
+      throws SpriteParseException, BlueprintParseException {
+    Future<SpriteData> sprite = myPendingSprites.remove(data);
+    if (sprite == null) {
+      return data;
+    }
+    try {
+      return new BlueprintData(data.blueprintId(), data.velocityX(), data.velocityY(),
+          data.rotation(), data.isFlipped(), data.gameName(), data.group(), data.type(),
+          sprite.get(), data.hitBoxData(), data.eventDataList(), data.stringProperties(),
+          data.doubleProperties(), data.displayedProperties());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SpriteParseException spriteParseException) {
+        throw spriteParseException;
+      }
+      throw new BlueprintParseException(e.getCause().getMessage(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BlueprintParseException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Schedules the sprite for a request on the worker pool, reusing any identical request already
+   * made for this document. Outside of a {@link #getBlueprintData(Element, List, Set)} call the
+   * sprite is resolved immediately on the calling thread.
+   *
+   * @param request the sprite to resolve.
+   * @return the pending sprite data.
+   */
+  private Future<SpriteData> requestSprite(SpriteRequest request) {
+    return mySpriteRequests.computeIfAbsent(request, key -> {
+      Callable<SpriteData> task = () -> {
+        SpriteData spriteData = mySpriteDataParser.getSpriteData(key);
+        mySpriteSheetListener.accept(spriteData.spriteFile());
+        mySpriteFileListener.spriteResolved(key, mySpriteDataParser.resolveSpriteFile(key),
+            spriteData);
+        return spriteData;
+      };
+      if (mySpriteExecutor != null) {
+        return mySpriteExecutor.submit(task);
+      }
+      FutureTask<SpriteData> inline = new FutureTask<>(task);
+      inline.run();
+      return inline;
+    });
+  }
+
   /**
    * Parses the blueprint data contained within a <code>&lt;game&gt;</code> element.
    *
@@ -147,18 +333,41 @@ public class BlueprintDataParser {
         continue;
       }
       Element gameObjectNode = (Element) node;
+      if (myEagerIds != null) {
+        int id = parseBlueprintId(gameObjectNode);
+        if (!myEagerIds.contains(id)) {
+          myDeferredBlueprints.put(id, new DeferredBlueprint(gameObjectNode, gameName, groupName));
+          continue;
+        }
+      }
       gameObjectsGroupList.add(parseGameObjectData(gameObjectNode));
     }
     return gameObjectsGroupList;
   }
 
+  /**
+   * Reads the blueprint ID of a game object node.
+   *
+   * @param gameObjectNode the XML {@link Element} representing a game object.
+   * @return the blueprint ID.
+   * @throws BlueprintParseException if the ID is not a number.
+   */
+  private int parseBlueprintId(Element gameObjectNode) throws BlueprintParseException {
+    try {
+      return Integer.parseInt(gameObjectNode.getAttribute("id"));
+    } catch (NumberFormatException e) {
+      throw new BlueprintParseException("error.number", e);
+    }
+  }
+
   /**
    * Parses a single game object node into a {@link BlueprintData} record.
    * <p>
    * This method extracts basic attributes (ID, velocityX, velocityY, rotation, isFlipped, shape, sprite name,
-   * and sprite file), creates the corresponding {@link SpriteData} and {@link HitBoxData} objects,
+   * and sprite file), requests the corresponding {@link SpriteData} and creates the {@link HitBoxData},
    * processes event identifiers, and parses property nodes using the dedicated
-   * {@link PropertyParser}.
+   * {@link PropertyParser}. The sprite is still being resolved when this method returns, so the
+   * record it returns has no sprite data until {@link #withResolvedSprite(BlueprintData)} is called.
    * </p>
    *
    * @param gameObjectNode the XML {@link Element} representing a game object.
@@ -169,7 +378,9 @@ public class BlueprintDataParser {
   private BlueprintData parseGameObjectData(Element gameObjectNode)
       throws BlueprintParseException, SpriteParseException, HitBoxParseException,
       PropertyParsingException {
-    mySpriteDataParser = new SpriteDataParser();
+    if (mySpriteDataParser == null) {
+      mySpriteDataParser = new SpriteDataParser();
+    }
     try {
       int id = Integer.parseInt(gameObjectNode.getAttribute("id"));
       double velocityX = Double.parseDouble(gameObjectNode.getAttribute("velocityX"));
@@ -180,11 +391,10 @@ public class BlueprintDataParser {
       String spriteName = gameObjectNode.getAttribute("spriteName");
       String spriteFile = gameObjectNode.getAttribute("spriteFile");
 
-      SpriteData spriteData = null;
+      Future<SpriteData> spriteData = null;
       if (gameName != null && !gameName.isEmpty()) {
-        SpriteRequest request = new SpriteRequest(gameName, groupName, type, spriteName,
-            spriteFile);
-        spriteData = mySpriteDataParser.getSpriteData(request);
+        spriteData = requestSprite(new SpriteRequest(gameName, groupName, type, spriteName,
+            spriteFile));
       }
 
       HitBoxData hitBoxData = myHitBoxDataParser.getHitBoxData(gameObjectNode);
@@ -196,7 +406,7 @@ public class BlueprintDataParser {
           "stringProperties", "property");
       List<String> displayedProperties = getDisplayedProperties(gameObjectNode);
 
-      return new BlueprintData(
+      BlueprintData blueprint = new BlueprintData(
           id,
           velocityX,
           velocityY,
@@ -205,13 +415,17 @@ public class BlueprintDataParser {
           gameName,
           groupName,
           type,
-          spriteData,
+          null,
           hitBoxData,
           eventDataList,
           stringProperties,
           doubleProperties,
           displayedProperties
       );
+      if (spriteData != null) {
+        myPendingSprites.put(blueprint, spriteData);
+      }
+      return blueprint;
     } catch (NumberFormatException e) {
       throw new BlueprintParseException("error.number", e);
     }
@@ -1,9 +1,16 @@
 package oogasalad.fileparser;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -20,6 +27,9 @@ import oogasalad.fileparser.records.CameraData;
 import oogasalad.fileparser.records.EventData;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
 import oogasalad.fileparser.records.SpriteSheetData;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -36,7 +46,9 @@ import org.xml.sax.SAXException;
  *   <li>{@link EventDataParser} to extract event-related information.</li>
  *   <li>{@link SpriteSheetDataParser} to extract sprite sheet information.</li>
  * </ul>
- * The parsed data is then bundled into a {@link LevelData} record.
+ * The parsed data is then bundled into a {@link LevelData} record. With lazy blueprint loading
+ * enabled, the layers are read first so that only the blueprints they use are parsed up front.
+ * Gzip-compressed level files are detected by their content and decompressed transparently.
  * </p>
  *
  * @author Billy McCune, Jacob You
@@ -45,11 +57,16 @@ import org.xml.sax.SAXException;
  */
 public class DefaultFileParser implements FileParserApi {
 
+  private static final String SPAWNED_BLUEPRINT_PARAMETER = "blueprintId";
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+
   private LayerDataParser layerDataParser;
   private BlueprintDataParser myGameObjectParser;
   private EventDataParser myEventDataParser;
   private CameraDataParser myCameraDataParser;
   private SpriteSheetDataParser mySpriteSheetDataParser;
+  private boolean myLazyBlueprints;
 
   /**
    * Constructs a new {@code DefaultFileParser} and initializes the helper parsers.
@@ -100,10 +117,10 @@ public class DefaultFileParser implements FileParserApi {
 
     String levelName = levelFile.getName();
 
-    try {
+    try (InputStream input = openLevelStream(levelFile)) {
       DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
       DocumentBuilder builder = factory.newDocumentBuilder();
-      Document doc = builder.parse(levelFile);
+      Document doc = builder.parse(input, levelFile.toURI().toString());
       doc.getDocumentElement().normalize();
 
       Element root = doc.getDocumentElement();
@@ -114,12 +131,13 @@ public class DefaultFileParser implements FileParserApi {
 
       List<EventData> eventList = myEventDataParser.getLevelEvents(root);
 
-      Map<Integer, BlueprintData> blueprintData = myGameObjectParser.getBlueprintData(root,
-          eventList);
-
       List<GameObjectData> gameObjectDataList = layerDataParser.getGameObjectDataList(
           root);
 
+      Map<Integer, BlueprintData> blueprintData = myGameObjectParser.getBlueprintData(root,
+          eventList, myLazyBlueprints ? referencedBlueprintIds(gameObjectDataList, eventList)
+              : null);
+
       CameraData cameraData = myCameraDataParser.parseCameraData(root);
 
       return new LevelData(levelName, minX, minY, maxX, maxY, cameraData, blueprintData,
@@ -129,6 +147,85 @@ public class DefaultFileParser implements FileParserApi {
     }
   }
 
+  /**
+   * Opens a level file for reading, decompressing it on the fly if it starts with the gzip magic
+   * number.
+   *
+   * @param levelFile the level file to open
+   * @return a buffered stream of the level's XML
+   * @throws IOException if the file cannot be opened or its gzip header is corrupt
+   */
+  private InputStream openLevelStream(File levelFile) throws IOException {
+    InputStream input = new BufferedInputStream(new FileInputStream(levelFile), READ_BUFFER_SIZE);
+    try {
+      input.mark(2);
+      int magic = input.read() | (input.read() << 8);
+      input.reset();
+      return magic == GZIP_MAGIC ? new GZIPInputStream(input, READ_BUFFER_SIZE) : input;
+    } catch (IOException e) {
+      input.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Collects the blueprint IDs a level needs as soon as it starts: those of its placed objects and
+   * those spawned by any of its event outcomes.
+   *
+   * @param gameObjects the objects placed in the level's layers
+   * @param events      the level's events
+   * @return the IDs of the blueprints to resolve eagerly
+   */
+  private Set<Integer> referencedBlueprintIds(List<GameObjectData> gameObjects,
+      List<EventData> events) {
+    Set<Integer> ids = new HashSet<>();
+    for (GameObjectData gameObject : gameObjects) {
+      ids.add(gameObject.blueprintId());
+    }
+    for (EventData event : events) {
+      for (OutcomeData outcome : event.outcomes()) {
+        Double spawnedId = outcome.doubleProperties() == null ? null
+            : outcome.doubleProperties().get(SPAWNED_BLUEPRINT_PARAMETER);
+        if (spawnedId != null) {
+          ids.add((int) Math.ceil(spawnedId));
+        }
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * @see FileParserApi#setLazyBlueprintLoading(boolean)
+   */
+  @Override
+  public void setLazyBlueprintLoading(boolean lazy) {
+    myLazyBlueprints = lazy;
+  }
+
+  /**
+   * @see FileParserApi#setSpriteSheetListener(Consumer)
+   */
+  @Override
+  public void setSpriteSheetListener(Consumer<File> listener) {
+    myGameObjectParser.setSpriteSheetListener(listener);
+  }
+
+  /**
+   * @see FileParserApi#setSpriteFileListener(SpriteFileListener)
+   */
+  @Override
+  public void setSpriteFileListener(SpriteFileListener listener) {
+    myGameObjectParser.setSpriteFileListener(listener);
+  }
+
+  /**
+   * @see FileParserApi#parseSprite(SpriteRequest)
+   */
+  @Override
+  public SpriteData parseSprite(SpriteRequest request) throws SpriteParseException {
+    return new SpriteDataParser().getSpriteData(request);
+  }
+
   /**
    * Parse the specified sprite sheet XML file and return the sprite data.
    *
@@ -1,5 +1,7 @@
 package oogasalad.fileparser;
 
+import java.io.File;
+import java.util.function.Consumer;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.GameObjectParseException;
@@ -10,6 +12,8 @@ import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.exceptions.SpriteSheetLoadException;
 import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
 import oogasalad.fileparser.records.SpriteSheetData;
 
 /**
@@ -61,4 +65,41 @@ public interface FileParserApi {
    */
   public SpriteSheetData parseSpriteSheet(String filePath) throws SpriteSheetLoadException;
 
+  /**
+   * Registers a listener that receives the sprite sheet image file of every sprite while a level
+   * is being parsed, as soon as that sprite is known. This lets callers start decoding images
+   * before parsing has finished. The listener may be called from worker threads.
+   *
+   * @param listener the consumer to notify, or {@code null} to stop notifying
+   */
+  public void setSpriteSheetListener(Consumer<File> listener);
+
+  /**
+   * Registers a listener that receives every sprite request made while a level is parsed, together
+   * with the sprite XML file the sprite was read from and the parsed sprite. This lets callers find
+   * out which files a level depends on, and which blueprints use each file, for example to reload
+   * a sprite when its file changes. The listener may be called from worker threads.
+   *
+   * @param listener the listener to notify, or {@code null} to stop notifying
+   */
+  public void setSpriteFileListener(SpriteFileListener listener);
+
+  /**
+   * Parses a single sprite from its sprite XML file, as reported by the sprite file listener.
+   *
+   * @param request the sprite to parse
+   * @return the {@link SpriteData} record of the sprite
+   * @throws SpriteParseException if the sprite file cannot be read or does not define the sprite
+   */
+  public SpriteData parseSprite(SpriteRequest request) throws SpriteParseException;
+
+  /**
+   * Chooses whether levels load their blueprints lazily. When enabled, only the blueprints used by
+   * the level's objects, or spawned by its events, are parsed with the level; the rest are parsed
+   * the first time they are looked up in {@link LevelData#gameBluePrintData()}.
+   *
+   * @param lazy {@code true} to resolve unused blueprints on demand
+   */
+  public void setLazyBlueprintLoading(boolean lazy);
+
 }
@@ -21,6 +21,8 @@ import org.w3c.dom.Element;
  */
 public class GameObjectDataParser {
 
+  private static final Pattern COORDINATE_PATTERN = Pattern.compile("\\((-?\\d+),(-?\\d+)\\)");
+
   /**
    * Parses a game object XML element and creates a list of {@link GameObjectData} records.
    * <p>
@@ -45,8 +47,7 @@ public class GameObjectDataParser {
       String coordinates = gameObjectElement.getAttribute("coordinates");
       List<GameObjectData> gameObjectDataList = new ArrayList<>();
 
-      Pattern pattern = Pattern.compile("\\((-?\\d+),(-?\\d+)\\)");
-      Matcher matcher = pattern.matcher(coordinates);
+      Matcher matcher = COORDINATE_PATTERN.matcher(coordinates);
 
       int index = 0;
       while (matcher.find()) {
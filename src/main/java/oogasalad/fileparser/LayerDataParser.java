@@ -34,6 +34,11 @@ public class LayerDataParser {
    */
   private GameObjectDataParser myGameObjectDataParser;
 
+  /**
+   * A parser used to expand run-length encoded tile grids into game object data.
+   */
+  private TileGridDataParser myTileGridDataParser;
+
   /**
    * Parses the provided XML root element to extract game object data for each layer.
    *
@@ -51,6 +56,7 @@ public class LayerDataParser {
     Element layersElement = (Element) root.getElementsByTagName("layers").item(0);
     List<GameObjectData> gameObjects = new ArrayList<>();
     myGameObjectDataParser = new GameObjectDataParser();
+    myTileGridDataParser = new TileGridDataParser();
 
     NodeList layers = layersElement.getElementsByTagName("layer");
 
@@ -68,7 +74,9 @@ public class LayerDataParser {
    * <p>
    * This method first retrieves the <code>data</code> element from the layer, then iterates through
    * all <code>object</code> elements within the <code>data</code> element. The game object data is
-   * extracted using {@link GameObjectDataParser#getGameObjectData(Element, int)}.
+   * extracted using {@link GameObjectDataParser#getGameObjectData(Element, int)}. Any
+   * <code>grid</code> elements are expanded into one game object per non-empty cell using
+   * {@link TileGridDataParser#getGameObjectData(Element, int, int)}.
    * </p>
    *
    * @param layerElement the XML {@link Element} representing a single layer.
@@ -87,6 +95,11 @@ public class LayerDataParser {
         gameObjects.addAll(myGameObjectDataParser.getGameObjectData(gameObjectElement, z));
       }
     }
+    NodeList gridNodes = dataNode.getElementsByTagName("grid");
+    for (int i = 0; i < gridNodes.getLength(); i++) {
+      Element gridElement = (Element) gridNodes.item(i);
+      gameObjects.addAll(myTileGridDataParser.getGameObjectData(gridElement, z, i));
+    }
     return gameObjects;
   }
 }
@@ -0,0 +1,119 @@
+package oogasalad.fileparser;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import oogasalad.fileparser.records.BlueprintData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A read-only blueprint map that resolves some of its blueprints only when they are first needed.
+ * <p>
+ * Returned by {@link BlueprintDataParser#getBlueprintData(org.w3c.dom.Element, java.util.List,
+ * Set)} when a level is loaded lazily. The keys of every blueprint in the file are known up front,
+ * so {@link #containsKey(Object)}, {@link #keySet()} and {@link #size()} never trigger parsing.
+ * {@link #get(Object)} parses a single pending blueprint, while anything that looks at every
+ * value, such as iterating over the entries or values or calling
+ * {@link #containsValue(Object)}, parses all of them.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+class LazyBlueprintMap extends AbstractMap<Integer, BlueprintData> {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /**
+   * Parses a single pending blueprint.
+   */
+  @FunctionalInterface
+  interface BlueprintResolver {
+
+    /**
+     * @param blueprintId the ID of the blueprint to parse
+     * @return the fully resolved blueprint
+     * @throws Exception if the blueprint or its sprite cannot be parsed
+     */
+    BlueprintData resolve(int blueprintId) throws Exception;
+  }
+
+  private final Map<Integer, BlueprintData> resolved;
+  private final Set<Integer> pending;
+  private final BlueprintResolver resolver;
+
+  /**
+   * Creates a map from the blueprints already resolved and the IDs still to be resolved.
+   *
+   * @param resolved   the resolved blueprints, keyed by ID
+   * @param pendingIds the IDs of the blueprints that have not been parsed yet
+   * @param resolver   the resolver used to parse a pending blueprint on demand
+   */
+  LazyBlueprintMap(Map<Integer, BlueprintData> resolved, Set<Integer> pendingIds,
+      BlueprintResolver resolver) {
+    this.resolved = new LinkedHashMap<>(resolved);
+    this.pending = new LinkedHashSet<>(pendingIds);
+    this.resolver = resolver;
+  }
+
+  @Override
+  public synchronized BlueprintData get(Object key) {
+    if (key instanceof Integer id && pending.contains(id)) {
+      resolve(id);
+    }
+    return resolved.get(key);
+  }
+
+  @Override
+  public synchronized boolean containsKey(Object key) {
+    return resolved.containsKey(key) || pending.contains(key);
+  }
+
+  @Override
+  public synchronized int size() {
+    return resolved.size() + pending.size();
+  }
+
+  /**
+   * Returns the IDs of every blueprint in the file without parsing any pending ones. The map is
+   * read-only and resolving a blueprint never changes its keys, so the returned set is a snapshot.
+   *
+   * @return an unmodifiable set of the resolved and pending blueprint IDs
+   */
+  @Override
+  public synchronized Set<Integer> keySet() {
+    Set<Integer> keys = new LinkedHashSet<>(resolved.keySet());
+    keys.addAll(pending);
+    return Collections.unmodifiableSet(keys);
+  }
+
+  @Override
+  public synchronized Set<Entry<Integer, BlueprintData>> entrySet() {
+    for (Integer id : new ArrayList<>(pending)) {
+      resolve(id);
+    }
+    return Collections.unmodifiableMap(resolved).entrySet();
+  }
+
+  /**
+   * @return the number of blueprints that have not been parsed yet
+   */
+  synchronized int pendingCount() {
+    return pending.size();
+  }
+
+  private void resolve(int id) {
+    try {
+      resolved.put(id, resolver.resolve(id));
+      pending.remove(id);
+      LOG.debug("Resolved blueprint {} on demand", id);
+    } catch (Exception e) {
+      LOG.error("Could not resolve blueprint {}", id, e);
+      throw new IllegalStateException("Could not resolve blueprint " + id, e);
+    }
+  }
+}
@@ -128,26 +128,8 @@ public class SpriteDataParser {
    *                              not found.
    */
   public SpriteData getSpriteData(SpriteRequest request) throws SpriteParseException {
-    String filePath = buildFilePath(
-        request.gameName(),
-        request.group(),
-        request.type(),
-        request.spriteFile()
-    );
-
-    Document doc;
-    File spriteFile = new File(filePath);
-
-    if (!spriteFile.exists() || !spriteFile.isFile()) {
-
-      filePath = buildFilePath(request.gameName(), null, null, request.spriteFile());
-      doc = loadDocument(filePath);
-
-    } else {
-
-      doc = loadDocument(filePath);
-
-    }
+    String filePath = resolveSpriteFile(request).getPath();
+    Document doc = loadDocument(filePath);
 
     Element spriteFileElement = doc.getDocumentElement();
 
@@ -167,6 +149,22 @@ public class SpriteDataParser {
   }
 
 
+  /**
+   * Returns the sprite XML file a request is read from: the file in the request's group and type
+   * folder if it exists, otherwise the file of that name directly in the game's folder.
+   *
+   * @param request the sprite to locate.
+   * @return the sprite XML file, which may not exist.
+   */
+  public File resolveSpriteFile(SpriteRequest request) {
+    File spriteFile = new File(buildFilePath(request.gameName(), request.group(), request.type(),
+        request.spriteFile()));
+    if (!spriteFile.exists() || !spriteFile.isFile()) {
+      spriteFile = new File(buildFilePath(request.gameName(), null, null, request.spriteFile()));
+    }
+    return spriteFile;
+  }
+
   /**
    * Builds the file path to the sprite XML file.
    *
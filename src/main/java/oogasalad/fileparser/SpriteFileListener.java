@@ -0,0 +1,25 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
+
+/**
+ * Receives every sprite resolved while a level is parsed, together with the sprite XML file it was
+ * read from.
+ *
+ * @author Billy McCune
+ * @see FileParserApi#setSpriteFileListener(SpriteFileListener)
+ */
+@FunctionalInterface
+public interface SpriteFileListener {
+
+  /**
+   * Called once a requested sprite has been parsed.
+   *
+   * @param request    the sprite request, which names the sprite XML file
+   * @param spriteFile the resolved sprite XML file the sprite was read from
+   * @param sprite     the parsed sprite, the same instance the blueprints of the request hold
+   */
+  void spriteResolved(SpriteRequest request, File spriteFile, SpriteData sprite);
+}
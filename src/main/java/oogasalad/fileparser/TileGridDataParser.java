@@ -0,0 +1,132 @@
+package oogasalad.fileparser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.fileparser.records.GameObjectData;
+import org.w3c.dom.Element;
+
+/**
+ * Parses a run-length encoded <code>&lt;grid&gt;</code> element into a list of
+ * {@link GameObjectData} records.
+ * <p>
+ * Dense tile layers are stored as a single grid instead of one coordinate and UUID per tile. The
+ * grid declares its tile size, origin and dimensions, and its text content is a row-major list of
+ * comma separated cells. Each cell token is either a blueprint ID, {@code -} for an empty cell, or
+ * {@code count*value} for a run of identical cells, for example:
+ * </p>
+ * <pre>
+ *   &lt;grid tileWidth="8" tileHeight="8" x="0" y="0" columns="4" rows="2" encoding="rle"
+ *         names="3:platform"&gt;3*3,-,2*-,2*2&lt;/grid&gt;
+ * </pre>
+ * <p>
+ * Tiles do not carry their own UUIDs. Each one receives an implicit ID derived from its layer, the
+ * grid's position in the layer and its cell index, so the same file always yields the same IDs.
+ * Only non-empty cells produce records, which keeps parsing proportional to the number of tiles.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public class TileGridDataParser {
+
+  /**
+   * The only cell encoding currently supported.
+   */
+  public static final String RLE_ENCODING = "rle";
+
+  /**
+   * The token used for an empty grid cell.
+   */
+  public static final String EMPTY_CELL = "-";
+
+  private static final long IMPLICIT_ID_TAG = 0x71E6_0000_0000_0000L;
+  private static final String RUN_SEPARATOR = "*";
+  private static final String NAME_SEPARATOR = ":";
+
+  /**
+   * Parses a grid element into the game objects of its non-empty cells.
+   *
+   * @param gridElement the XML element representing the tile grid
+   * @param z           the z-index layer of the grid
+   * @param gridIndex   the position of this grid among the grids of its layer
+   * @return a list of {@link GameObjectData} objects, one per non-empty cell, in row-major order
+   * @throws GameObjectParseException if an attribute or cell token is malformed, or the cells do
+   *                                  not match the declared dimensions
+   */
+  public List<GameObjectData> getGameObjectData(Element gridElement, int z, int gridIndex)
+      throws GameObjectParseException {
+    String encoding = gridElement.getAttribute("encoding");
+    if (!encoding.isEmpty() && !RLE_ENCODING.equals(encoding)) {
+      throw new GameObjectParseException("Unsupported grid encoding: " + encoding);
+    }
+    try {
+      int tileWidth = Integer.parseInt(gridElement.getAttribute("tileWidth"));
+      int tileHeight = Integer.parseInt(gridElement.getAttribute("tileHeight"));
+      int originX = Integer.parseInt(gridElement.getAttribute("x"));
+      int originY = Integer.parseInt(gridElement.getAttribute("y"));
+      int columns = Integer.parseInt(gridElement.getAttribute("columns"));
+      int rows = Integer.parseInt(gridElement.getAttribute("rows"));
+      Map<Integer, String> names = parseNames(gridElement.getAttribute("names"));
+
+      List<GameObjectData> tiles = new ArrayList<>();
+      int cell = 0;
+      for (String token : gridElement.getTextContent().split(",")) {
+        String trimmed = token.trim();
+        if (trimmed.isEmpty()) {
+          continue;
+        }
+        int separator = trimmed.indexOf(RUN_SEPARATOR);
+        int runLength = separator < 0 ? 1 : Integer.parseInt(trimmed.substring(0, separator));
+        String value = separator < 0 ? trimmed : trimmed.substring(separator + 1);
+        if (runLength <= 0 || cell + runLength > columns * rows) {
+          throw new GameObjectParseException("Grid cells exceed declared size: " + trimmed);
+        }
+        if (!EMPTY_CELL.equals(value)) {
+          int blueprintId = Integer.parseInt(value);
+          String name = names.getOrDefault(blueprintId, "");
+          for (int i = cell; i < cell + runLength; i++) {
+            int x = originX + (i % columns) * tileWidth;
+            int y = originY + (i / columns) * tileHeight;
+            tiles.add(new GameObjectData(name, blueprintId, implicitTileId(z, gridIndex, i), x, y,
+                z, ""));
+          }
+        }
+        cell += runLength;
+      }
+      return tiles;
+    } catch (NumberFormatException e) {
+      throw new GameObjectParseException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Returns the implicit ID of a grid tile.
+   *
+   * @param z         the z-index layer of the grid
+   * @param gridIndex the position of the grid among the grids of its layer
+   * @param cellIndex the row-major index of the tile's cell
+   * @return a UUID that is stable for the given layer, grid and cell
+   */
+  public static UUID implicitTileId(int z, int gridIndex, int cellIndex) {
+    long mostSigBits = IMPLICIT_ID_TAG | ((long) (gridIndex & 0xFFFF) << 32) | (z & 0xFFFFFFFFL);
+    return new UUID(mostSigBits, cellIndex);
+  }
+
+  private Map<Integer, String> parseNames(String namesAttr) {
+    Map<Integer, String> names = new HashMap<>();
+    if (namesAttr == null || namesAttr.isEmpty()) {
+      return names;
+    }
+    for (String entry : namesAttr.split(",")) {
+      int separator = entry.indexOf(NAME_SEPARATOR);
+      if (separator > 0) {
+        names.put(Integer.parseInt(entry.substring(0, separator).trim()),
+            entry.substring(separator + 1).trim());
+      }
+    }
+    return names;
+  }
+}
@@ -0,0 +1,190 @@
+package oogasalad.filesaver.atlas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs rectangles into one fixed-size bin using the MaxRects algorithm with the best short side
+ * fit heuristic. The bin keeps every maximal free rectangle; a rectangle is placed where it leaves
+ * the smallest leftover on its shorter side, and every free rectangle it overlaps is split around
+ * it. Rectangles are never rotated, since sprite frames are drawn as they are cut.
+ *
+ * @author Jacob You
+ */
+final class MaxRectsPacker {
+
+  /**
+   * A rectangle in the bin.
+   *
+   * @param x      the left edge
+   * @param y      the top edge
+   * @param width  the width
+   * @param height the height
+   */
+  record Rect(int x, int y, int width, int height) {
+
+    int right() {
+      return x + width;
+    }
+
+    int bottom() {
+      return y + height;
+    }
+
+    boolean contains(Rect other) {
+      return other.x >= x && other.y >= y && other.right() <= right()
+          && other.bottom() <= bottom();
+    }
+
+    boolean overlaps(Rect other) {
+      return other.x < right() && other.right() > x && other.y < bottom()
+          && other.bottom() > y;
+    }
+  }
+
+  private final int width;
+  private final int height;
+  private List<Rect> free = new ArrayList<>();
+  private int usedWidth;
+  private int usedHeight;
+
+  /**
+   * Constructs an empty bin.
+   *
+   * @param width  the width of the bin
+   * @param height the height of the bin
+   */
+  MaxRectsPacker(int width, int height) {
+    this.width = width;
+    this.height = height;
+    free.add(new Rect(0, 0, width, height));
+  }
+
+  /**
+   * Places a rectangle.
+   *
+   * @param rectWidth  the width of the rectangle
+   * @param rectHeight the height of the rectangle
+   * @return where the rectangle was placed, or {@code null} if it does not fit
+   */
+  Rect insert(int rectWidth, int rectHeight) {
+    Rect best = null;
+    int bestShortSide = Integer.MAX_VALUE;
+    int bestLongSide = Integer.MAX_VALUE;
+    for (Rect rect : free) {
+      if (rect.width < rectWidth || rect.height < rectHeight) {
+        continue;
+      }
+      int leftoverX = rect.width - rectWidth;
+      int leftoverY = rect.height - rectHeight;
+      int shortSide = Math.min(leftoverX, leftoverY);
+      int longSide = Math.max(leftoverX, leftoverY);
+      if (shortSide < bestShortSide || (shortSide == bestShortSide && longSide < bestLongSide)) {
+        best = new Rect(rect.x, rect.y, rectWidth, rectHeight);
+        bestShortSide = shortSide;
+        bestLongSide = longSide;
+      }
+    }
+    if (best != null) {
+      place(best);
+    }
+    return best;
+  }
+
+  /**
+   * Places several rectangles, all or none.
+   *
+   * @param sizes the width and height of each rectangle
+   * @return where each rectangle was placed, in order, or {@code null} if they do not all fit, in
+   * which case the bin is left as it was
+   */
+  List<Rect> insertAll(List<int[]> sizes) {
+    List<Rect> previousFree = new ArrayList<>(free);
+    int previousWidth = usedWidth;
+    int previousHeight = usedHeight;
+    List<Rect> placed = new ArrayList<>(sizes.size());
+    for (int[] size : sizes) {
+      Rect rect = insert(size[0], size[1]);
+      if (rect == null) {
+        free = previousFree;
+        usedWidth = previousWidth;
+        usedHeight = previousHeight;
+        return null;
+      }
+      placed.add(rect);
+    }
+    return placed;
+  }
+
+  /**
+   * @return the width of the bin that rectangles were placed in so far
+   */
+  int getUsedWidth() {
+    return usedWidth;
+  }
+
+  /**
+   * @return the height of the bin that rectangles were placed in so far
+   */
+  int getUsedHeight() {
+    return usedHeight;
+  }
+
+  /**
+   * @return the width of the bin
+   */
+  int getWidth() {
+    return width;
+  }
+
+  /**
+   * @return the height of the bin
+   */
+  int getHeight() {
+    return height;
+  }
+
+  private void place(Rect used) {
+    List<Rect> split = new ArrayList<>(free.size() + 4);
+    for (Rect rect : free) {
+      if (!rect.overlaps(used)) {
+        split.add(rect);
+        continue;
+      }
+      if (used.x > rect.x) {
+        split.add(new Rect(rect.x, rect.y, used.x - rect.x, rect.height));
+      }
+      if (used.right() < rect.right()) {
+        split.add(new Rect(used.right(), rect.y, rect.right() - used.right(), rect.height));
+      }
+      if (used.y > rect.y) {
+        split.add(new Rect(rect.x, rect.y, rect.width, used.y - rect.y));
+      }
+      if (used.bottom() < rect.bottom()) {
+        split.add(new Rect(rect.x, used.bottom(), rect.width, rect.bottom() - used.bottom()));
+      }
+    }
+    free = prune(split);
+    usedWidth = Math.max(usedWidth, used.right());
+    usedHeight = Math.max(usedHeight, used.bottom());
+  }
+
+  /**
+   * Drops every free rectangle contained in another, keeping one of any identical pair.
+   */
+  private static List<Rect> prune(List<Rect> rects) {
+    List<Rect> maximal = new ArrayList<>(rects.size());
+    for (int i = 0; i < rects.size(); i++) {
+      Rect rect = rects.get(i);
+      boolean contained = false;
+      for (int j = 0; j < rects.size() && !contained; j++) {
+        Rect other = rects.get(j);
+        contained = i != j && other.contains(rect) && (!rect.equals(other) || j < i);
+      }
+      if (!contained) {
+        maximal.add(rect);
+      }
+    }
+    return maximal;
+  }
+}
@@ -0,0 +1,535 @@
+package oogasalad.filesaver.atlas;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import oogasalad.ResourceManager;
+import oogasalad.exceptions.BlueprintParseException;
+import oogasalad.exceptions.EditorSaveException;
+import oogasalad.exceptions.EventParseException;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.exceptions.HitBoxParseException;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.exceptions.SpriteSheetSaveException;
+import oogasalad.fileparser.DefaultFileParser;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import oogasalad.filesaver.atlas.MaxRectsPacker.Rect;
+import oogasalad.filesaver.savestrategy.XmlStrategy;
+import oogasalad.filesaver.xmlcomponents.XmlSpriteSheetWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Repacks the sprites a game's levels use into a few power-of-two texture atlases, so the engine
+ * decodes less transparent padding and binds fewer sheets.
+ * <p>
+ * Every frame of every sprite the levels' blueprints use is trimmed to its non-transparent pixels
+ * and packed with {@link MaxRectsPacker}. Frames shared by several sprites are packed once per
+ * atlas. All frames of one sprite land in the same atlas, since a sprite is drawn from a single
+ * image. The frames of a sprite share one left and top trim, which is added to the sprite offset
+ * of the blueprints using it so the sprite is drawn exactly where it was. Sprites used by a flipped
+ * or rotated blueprint are packed untrimmed, since trimming would move the point they turn about.
+ * Sprites too large for an atlas keep their original sheet.
+ * </p>
+ * <p>
+ * The atlas images are written next to the game's other graphics, together with an atlas
+ * description written by {@link XmlSpriteSheetWriter}. The levels are then saved again through
+ * {@link XmlStrategy}, which writes their sprite files through
+ * {@link oogasalad.filesaver.xmlcomponents.XmlSpriteWriter}.
+ * </p>
+ *
+ * @author Jacob You
+ */
+public class SpriteAtlasPacker {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String FILE_STRUCTURE = "file.fileStructure";
+  private static final String LEVEL_DIRECTORY =
+      System.getProperty("user.dir") + "/data/gameData/levels/";
+  private static final String USAGE = "Usage: SpriteAtlasPacker <gameName> [maxAtlasSize]";
+  private static final String ATLAS_SUFFIX = "-atlas-";
+  private static final int DEFAULT_MAX_ATLAS_SIZE = 2048;
+  private static final int DEFAULT_PADDING = 1;
+  private static final int BYTES_PER_PIXEL = 4;
+  private static final int ALPHA_SHIFT = 24;
+
+  /**
+   * What a repack did.
+   *
+   * @param spritesPacked the number of sprites moved into an atlas
+   * @param atlases       the number of atlas images written
+   * @param bytesBefore   the decoded size of the sheets the sprites were drawn from before
+   * @param bytesAfter    the decoded size of the sheets the sprites are drawn from now
+   */
+  public record Report(int spritesPacked, int atlases, long bytesBefore, long bytesAfter) {
+
+  }
+
+  /**
+   * A sprite moved into an atlas.
+   *
+   * @param sprite the sprite, drawn from its atlas
+   * @param shiftX how far right its frames moved within the sprite because of trimming
+   * @param shiftY how far down its frames moved within the sprite because of trimming
+   */
+  record PackedSprite(SpriteData sprite, int shiftX, int shiftY) {
+
+  }
+
+  /**
+   * A rectangle of a source sheet.
+   */
+  private record Region(File sheet, int x, int y, int width, int height) {
+
+  }
+
+  /**
+   * A sprite's frames, trimmed, before they are placed.
+   */
+  private record TrimmedSprite(SpriteData sprite, Map<FrameData, Region> regions, int shiftX,
+                               int shiftY, long area) {
+
+  }
+
+  /**
+   * An atlas being filled.
+   */
+  private final class Atlas {
+
+    private final MaxRectsPacker packer =
+        new MaxRectsPacker(maxAtlasSize + padding, maxAtlasSize + padding);
+    private final Map<Region, Rect> placed = new LinkedHashMap<>();
+    private final Map<Region, String> names = new HashMap<>();
+  }
+
+  private final int maxAtlasSize;
+  private final int padding;
+  private final File graphicsDirectory;
+  private final File atlasDataDirectory;
+  private final Map<File, BufferedImage> sheets = new HashMap<>();
+
+  /**
+   * Constructs a packer writing into a game's graphics and sprite data folders, with atlases of at
+   * most 2048 by 2048 pixels.
+   *
+   * @param gameName the game whose sprites are repacked
+   */
+  public SpriteAtlasPacker(String gameName) {
+    this(DEFAULT_MAX_ATLAS_SIZE, DEFAULT_PADDING,
+        dataDirectory("path.to.graphics.data", gameName),
+        dataDirectory("path.to.game.data", gameName));
+  }
+
+  /**
+   * Constructs a packer.
+   *
+   * @param maxAtlasSize       the largest width and height of an atlas, a power of two
+   * @param padding            the transparent pixels left between frames
+   * @param graphicsDirectory  the folder atlas images are written to
+   * @param atlasDataDirectory the folder atlas descriptions are written to
+   */
+  public SpriteAtlasPacker(int maxAtlasSize, int padding, File graphicsDirectory,
+      File atlasDataDirectory) {
+    if (Integer.bitCount(maxAtlasSize) != 1) {
+      throw new IllegalArgumentException("Atlas size must be a power of two: " + maxAtlasSize);
+    }
+    this.maxAtlasSize = maxAtlasSize;
+    this.padding = Math.max(0, padding);
+    this.graphicsDirectory = graphicsDirectory;
+    this.atlasDataDirectory = atlasDataDirectory;
+  }
+
+  /**
+   * Repacks the sprites of every level of a game, given as the game's level folder name and an
+   * optional largest atlas size. Both plain and gzip-compressed levels are repacked. Logs the
+   * expected usage and does nothing if the arguments are missing or malformed.
+   *
+   * @param args the game name, then optionally the largest atlas size
+   * @throws SpriteSheetSaveException if a level, sheet or atlas cannot be read or written
+   */
+  public static void main(String[] args) throws SpriteSheetSaveException {
+    if (args.length < 1 || args.length > 2 || args[0].isBlank()) {
+      LOG.error(USAGE);
+      return;
+    }
+    String gameName = args[0];
+    File[] levels = new File(LEVEL_DIRECTORY, gameName).listFiles((dir, name) ->
+        name.endsWith(".xml") || name.endsWith(".xml.gz"));
+    if (levels == null) {
+      LOG.error("No level folder for game '{}' in {}", gameName, LEVEL_DIRECTORY);
+      return;
+    }
+    SpriteAtlasPacker packer;
+    try {
+      packer = args.length > 1
+          ? new SpriteAtlasPacker(Integer.parseInt(args[1]), DEFAULT_PADDING,
+          dataDirectory("path.to.graphics.data", gameName),
+          dataDirectory("path.to.game.data", gameName))
+          : new SpriteAtlasPacker(gameName);
+    } catch (IllegalArgumentException e) {
+      LOG.error("Invalid atlas size '{}': {}. {}", args[1], e.getMessage(), USAGE);
+      return;
+    }
+    packer.pack(gameName, List.of(levels));
+  }
+
+  /**
+   * Repacks the sprites a game's levels use and saves the levels so they draw from the atlases.
+   *
+   * @param gameName   the game whose blueprints are repacked; blueprints of other games are kept
+   * @param levelFiles the game's level files
+   * @return what was repacked
+   * @throws SpriteSheetSaveException if a level, sheet or atlas cannot be read or written
+   */
+  public Report pack(String gameName, List<File> levelFiles) throws SpriteSheetSaveException {
+    List<LevelData> levels = new ArrayList<>();
+    for (File levelFile : levelFiles) {
+      levels.add(parseLevel(levelFile));
+    }
+    Map<SpriteData, Boolean> trimmable = new LinkedHashMap<>();
+    for (LevelData level : levels) {
+      for (BlueprintData blueprint : level.gameBluePrintData().values()) {
+        if (gameName.equals(blueprint.gameName()) && blueprint.spriteData() != null) {
+          boolean turns = blueprint.isFlipped() || blueprint.rotation() != 0;
+          trimmable.merge(blueprint.spriteData(), !turns, Boolean::logicalAnd);
+        }
+      }
+    }
+
+    Map<SpriteData, PackedSprite> packed = packSprites(gameName, trimmable);
+    for (int i = 0; i < levels.size(); i++) {
+      try {
+        new XmlStrategy().save(remap(levels.get(i), packed), levelFiles.get(i));
+      } catch (EditorSaveException e) {
+        throw new SpriteSheetSaveException(
+            "Could not save level " + levelFiles.get(i) + ": " + e.getMessage(), e);
+      }
+    }
+
+    Set<File> atlases = new HashSet<>();
+    packed.values().forEach(sprite -> atlases.add(sprite.sprite().spriteFile()));
+    Set<File> remaining = new HashSet<>();
+    trimmable.keySet().stream().filter(sprite -> !packed.containsKey(sprite))
+        .forEach(sprite -> remaining.add(sprite.spriteFile()));
+    Set<File> before = new HashSet<>();
+    trimmable.keySet().forEach(sprite -> before.add(sprite.spriteFile()));
+    remaining.addAll(atlases);
+    Report report = new Report(packed.size(), atlases.size(), decodedBytes(before),
+        decodedBytes(remaining));
+    LOG.info("Packed {} sprites of {} into {} atlases: {} KB of decoded sheets became {} KB",
+        report.spritesPacked(), gameName, report.atlases(), report.bytesBefore() / 1024,
+        report.bytesAfter() / 1024);
+    return report;
+  }
+
+  /**
+   * Trims and packs sprites, and writes the atlases and their descriptions.
+   *
+   * @param gameName  names the atlases
+   * @param trimmable the sprites to pack, and whether each may be trimmed
+   * @return the sprites that were packed, drawn from their atlases
+   * @throws SpriteSheetSaveException if a sheet cannot be read or an atlas cannot be written
+   */
+  Map<SpriteData, PackedSprite> packSprites(String gameName, Map<SpriteData, Boolean> trimmable)
+      throws SpriteSheetSaveException {
+    List<TrimmedSprite> trimmed = new ArrayList<>();
+    for (Map.Entry<SpriteData, Boolean> entry : trimmable.entrySet()) {
+      TrimmedSprite sprite = trim(entry.getKey(), entry.getValue());
+      if (sprite != null) {
+        trimmed.add(sprite);
+      }
+    }
+    trimmed.sort(Comparator.comparingLong(TrimmedSprite::area).reversed());
+
+    List<Atlas> atlases = new ArrayList<>();
+    Map<SpriteData, Atlas> spriteAtlases = new LinkedHashMap<>();
+    for (TrimmedSprite sprite : trimmed) {
+      Atlas atlas = place(sprite, atlases);
+      if (atlas != null) {
+        spriteAtlases.put(sprite.sprite(), atlas);
+      } else {
+        LOG.warn("Sprite {} does not fit in a {} pixel atlas, keeping its sheet",
+            sprite.sprite().name(), maxAtlasSize);
+      }
+    }
+
+    Map<Atlas, File> atlasFiles = new HashMap<>();
+    for (int i = 0; i < atlases.size(); i++) {
+      atlasFiles.put(atlases.get(i), writeAtlas(atlases.get(i), gameName + ATLAS_SUFFIX + i));
+    }
+
+    Map<SpriteData, PackedSprite> packed = new LinkedHashMap<>();
+    for (TrimmedSprite sprite : trimmed) {
+      Atlas atlas = spriteAtlases.get(sprite.sprite());
+      if (atlas != null) {
+        packed.put(sprite.sprite(), new PackedSprite(
+            remapSprite(sprite, atlas, atlasFiles.get(atlas)), sprite.shiftX(), sprite.shiftY()));
+      }
+    }
+    return packed;
+  }
+
+  /**
+   * Points the blueprints of a level at their packed sprites, moving their sprite offsets by the
+   * sprites' trim.
+   *
+   * @param level  the level as parsed
+   * @param packed the packed sprites by their original sprite
+   * @return the level drawing from the atlases
+   */
+  static LevelData remap(LevelData level, Map<SpriteData, PackedSprite> packed) {
+    Map<Integer, BlueprintData> blueprints = new LinkedHashMap<>();
+    level.gameBluePrintData().forEach((id, blueprint) -> {
+      PackedSprite sprite = packed.get(blueprint.spriteData());
+      if (sprite == null) {
+        blueprints.put(id, blueprint);
+        return;
+      }
+      HitBoxData hitBox = blueprint.hitBoxData();
+      blueprints.put(id, new BlueprintData(blueprint.blueprintId(), blueprint.velocityX(),
+          blueprint.velocityY(), blueprint.rotation(), blueprint.isFlipped(),
+          blueprint.gameName(), blueprint.group(), blueprint.type(), sprite.sprite(),
+          new HitBoxData(hitBox.shape(), hitBox.hitBoxWidth(), hitBox.hitBoxHeight(),
+              hitBox.spriteDx() + sprite.shiftX(), hitBox.spriteDy() + sprite.shiftY()),
+          blueprint.eventDataList(), blueprint.stringProperties(), blueprint.doubleProperties(),
+          blueprint.displayedProperties()));
+    });
+    return new LevelData(level.name(), level.minX(), level.minY(), level.maxX(), level.maxY(),
+        level.cameraData(), blueprints, level.gameObjects());
+  }
+
+  private TrimmedSprite trim(SpriteData sprite, boolean trimmable)
+      throws SpriteSheetSaveException {
+    BufferedImage sheet = readSheet(sprite.spriteFile());
+    Set<FrameData> frames = new LinkedHashSet<>();
+    frames.add(sprite.baseFrame());
+    frames.addAll(sprite.frames());
+
+    Map<FrameData, int[]> bounds = new LinkedHashMap<>();
+    int shiftX = Integer.MAX_VALUE;
+    int shiftY = Integer.MAX_VALUE;
+    for (FrameData frame : frames) {
+      int[] clamped = clamp(frame, sheet);
+      if (clamped == null) {
+        return null;
+      }
+      int[] opaque = trimmable ? opaqueBounds(sheet, clamped) : clamped;
+      bounds.put(frame, opaque == null ? clamped : opaque);
+      if (opaque != null) {
+        shiftX = Math.min(shiftX, opaque[0] - frame.x());
+        shiftY = Math.min(shiftY, opaque[1] - frame.y());
+      }
+    }
+    if (shiftX == Integer.MAX_VALUE) {
+      shiftX = 0;
+      shiftY = 0;
+    }
+
+    Map<FrameData, Region> regions = new LinkedHashMap<>();
+    long area = 0;
+    for (FrameData frame : frames) {
+      int[] box = bounds.get(frame);
+      int x = Math.min(frame.x() + shiftX, box[0] + box[2] - 1);
+      int y = Math.min(frame.y() + shiftY, box[1] + box[3] - 1);
+      Region region = new Region(sprite.spriteFile(), x, y,
+          Math.max(1, box[0] + box[2] - x), Math.max(1, box[1] + box[3] - y));
+      regions.put(frame, region);
+      area += (long) region.width() * region.height();
+    }
+    return new TrimmedSprite(sprite, regions, shiftX, shiftY, area);
+  }
+
+  /**
+   * @return the frame's rectangle cut to the sheet as {x, y, width, height}, or null if it lies
+   * outside the sheet
+   */
+  private static int[] clamp(FrameData frame, BufferedImage sheet) {
+    int x = Math.max(0, frame.x());
+    int y = Math.max(0, frame.y());
+    int right = Math.min(sheet.getWidth(), frame.x() + frame.width());
+    int bottom = Math.min(sheet.getHeight(), frame.y() + frame.height());
+    return right > x && bottom > y ? new int[]{x, y, right - x, bottom - y} : null;
+  }
+
+  /**
+   * @return the box of the non-transparent pixels in a rectangle as {x, y, width, height}, or null
+   * if every pixel is transparent
+   */
+  private static int[] opaqueBounds(BufferedImage sheet, int[] rect) {
+    int[] argb = sheet.getRGB(rect[0], rect[1], rect[2], rect[3], null, 0, rect[2]);
+    int minX = Integer.MAX_VALUE;
+    int minY = Integer.MAX_VALUE;
+    int maxX = -1;
+    int maxY = -1;
+    for (int row = 0; row < rect[3]; row++) {
+      for (int col = 0; col < rect[2]; col++) {
+        if ((argb[row * rect[2] + col] >>> ALPHA_SHIFT) != 0) {
+          minX = Math.min(minX, col);
+          maxX = Math.max(maxX, col);
+          minY = Math.min(minY, row);
+          maxY = row;
+        }
+      }
+    }
+    return maxX < 0 ? null
+        : new int[]{rect[0] + minX, rect[1] + minY, maxX - minX + 1, maxY - minY + 1};
+  }
+
+  /**
+   * Places every frame of a sprite in the first atlas they all fit in, opening a new atlas if
+   * needed.
+   *
+   * @return the atlas the sprite was placed in, or null if it does not fit in an empty atlas
+   */
+  private Atlas place(TrimmedSprite sprite, List<Atlas> atlases) {
+    for (Atlas atlas : atlases) {
+      if (placeIn(sprite, atlas)) {
+        return atlas;
+      }
+    }
+    Atlas atlas = new Atlas();
+    if (!placeIn(sprite, atlas)) {
+      return null;
+    }
+    atlases.add(atlas);
+    return atlas;
+  }
+
+  private boolean placeIn(TrimmedSprite sprite, Atlas atlas) {
+    List<Region> missing = new ArrayList<>();
+    Map<Region, FrameData> firstFrame = new LinkedHashMap<>();
+    sprite.regions().forEach((frame, region) -> {
+      firstFrame.putIfAbsent(region, frame);
+      if (!atlas.placed.containsKey(region) && !missing.contains(region)) {
+        missing.add(region);
+      }
+    });
+    missing.sort(Comparator.comparingInt((Region region) ->
+        Math.max(region.width(), region.height())).reversed());
+    List<int[]> sizes = missing.stream()
+        .map(region -> new int[]{region.width() + padding, region.height() + padding})
+        .toList();
+    List<Rect> placed = atlas.packer.insertAll(sizes);
+    if (placed == null) {
+      return false;
+    }
+    for (int i = 0; i < missing.size(); i++) {
+      Region region = missing.get(i);
+      atlas.placed.put(region, placed.get(i));
+      atlas.names.put(region, uniqueName(atlas, firstFrame.get(region).name()));
+    }
+    return true;
+  }
+
+  private static String uniqueName(Atlas atlas, String name) {
+    String unique = name;
+    for (int i = 1; atlas.names.containsValue(unique); i++) {
+      unique = name + "_" + i;
+    }
+    return unique;
+  }
+
+  private File writeAtlas(Atlas atlas, String name) throws SpriteSheetSaveException {
+    int width = powerOfTwo(atlas.packer.getUsedWidth() - padding);
+    int height = powerOfTwo(atlas.packer.getUsedHeight() - padding);
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    List<FrameData> frames = new ArrayList<>();
+    for (Map.Entry<Region, Rect> entry : atlas.placed.entrySet()) {
+      Region region = entry.getKey();
+      Rect rect = entry.getValue();
+      int[] argb = readSheet(region.sheet()).getRGB(region.x(), region.y(), region.width(),
+          region.height(), null, 0, region.width());
+      image.setRGB(rect.x(), rect.y(), region.width(), region.height(), argb, 0, region.width());
+      frames.add(new FrameData(atlas.names.get(region), rect.x(), rect.y(), region.width(),
+          region.height()));
+    }
+
+    File imageFile = new File(graphicsDirectory, name + ".png");
+    try {
+      graphicsDirectory.mkdirs();
+      atlasDataDirectory.mkdirs();
+      ImageIO.write(image, "png", imageFile);
+      new XmlSpriteSheetWriter(new SpriteSheetData(imageFile.getName(), width, height, frames),
+          new File(atlasDataDirectory, name + ".xml")).write();
+    } catch (IOException e) {
+      throw new SpriteSheetSaveException("Could not write atlas " + name + ": " + e.getMessage(),
+          e);
+    }
+    return imageFile;
+  }
+
+  private static SpriteData remapSprite(TrimmedSprite sprite, Atlas atlas, File atlasFile) {
+    Map<FrameData, FrameData> remapped = new HashMap<>();
+    sprite.regions().forEach((frame, region) -> {
+      Rect rect = atlas.placed.get(region);
+      remapped.put(frame, new FrameData(frame.name(), rect.x(), rect.y(), region.width(),
+          region.height()));
+    });
+    SpriteData original = sprite.sprite();
+    return new SpriteData(original.name(), atlasFile, remapped.get(original.baseFrame()),
+        original.frames().stream().map(remapped::get).toList(), original.animations());
+  }
+
+  private BufferedImage readSheet(File file) throws SpriteSheetSaveException {
+    BufferedImage sheet = sheets.get(file);
+    if (sheet == null) {
+      try {
+        sheet = ImageIO.read(file);
+      } catch (IOException e) {
+        throw new SpriteSheetSaveException("Could not read sheet " + file + ": " + e.getMessage(),
+            e);
+      }
+      if (sheet == null) {
+        throw new SpriteSheetSaveException("Unsupported image format: " + file);
+      }
+      sheets.put(file, sheet);
+    }
+    return sheet;
+  }
+
+  private long decodedBytes(Set<File> files) throws SpriteSheetSaveException {
+    long bytes = 0;
+    for (File file : files) {
+      BufferedImage sheet = readSheet(file);
+      bytes += (long) sheet.getWidth() * sheet.getHeight() * BYTES_PER_PIXEL;
+    }
+    return bytes;
+  }
+
+  private static int powerOfTwo(int size) {
+    return Math.max(1, Integer.highestOneBit(Math.max(1, size) - 1) << 1);
+  }
+
+  private static LevelData parseLevel(File levelFile) throws SpriteSheetSaveException {
+    try {
+      return new DefaultFileParser().parseLevelFile(levelFile.getPath());
+    } catch (BlueprintParseException | SpriteParseException | HitBoxParseException |
+             GameObjectParseException | LevelDataParseException | PropertyParsingException |
+             EventParseException e) {
+      throw new SpriteSheetSaveException(
+          "Could not read level " + levelFile + ": " + e.getMessage(), e);
+    }
+  }
+
+  private static File dataDirectory(String pathKey, String gameName) {
+    String path = ResourceManager.getInstance().getConfig(FILE_STRUCTURE, pathKey).trim();
+    return new File(System.getProperty("user.dir") + path, gameName);
+  }
+}
@@ -1,9 +1,9 @@
 package oogasalad.filesaver.savestrategy;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.exceptions.EditorSaveException;
 import oogasalad.exceptions.SpriteSheetSaveException;
 import oogasalad.fileparser.records.LevelData;
@@ -13,12 +13,19 @@ import oogasalad.filesaver.xmlcomponents.XmlCameraDataWriter;
 import oogasalad.filesaver.xmlcomponents.XmlEventsWriter;
 import oogasalad.filesaver.xmlcomponents.XmlLayersWriter;
 import oogasalad.filesaver.xmlcomponents.XmlMapBoundsWriter;
+import oogasalad.filesaver.xmlcomponents.XmlOutputFile;
 import oogasalad.filesaver.xmlcomponents.XmlSpriteSheetWriter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Concrete implementation of SaverStrategy for saving data in XML format.
+ * <p>
+ * Levels are streamed through a single {@link XMLStreamWriter} into a temporary file which only
+ * replaces the output file once the whole level has been written, so a failed save never leaves a
+ * truncated level behind. Output files ending in {@value XmlOutputFile#GZIP_EXTENSION} are
+ * gzip-compressed.
+ * </p>
  *
  * @author Aksel Bell, Jacob You
  */
@@ -28,15 +35,19 @@ public class XmlStrategy implements SaverStrategy {
   @Override
   public void save(LevelData levelData, File outputFile) throws EditorSaveException {
 
-    try (BufferedWriter writer = new BufferedWriter(new FileWriter(outputFile))) {
-      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    try (XmlOutputFile output = new XmlOutputFile(outputFile.toPath())) {
+      XMLStreamWriter writer = output.getWriter();
+      writer.writeStartDocument("UTF-8", "1.0");
+      writer.writeCharacters("\n");
       new XmlMapBoundsWriter(writer, levelData).write();
       new XmlCameraDataWriter(writer, levelData).write();
       new XmlLayersWriter(writer, levelData).write();
       new XmlBlueprintsWriter(writer, levelData).write();
       new XmlEventsWriter(writer, levelData).write();
-      writer.write("</map>\n");
-    } catch (IOException e) {
+      writer.writeEndElement();
+      writer.writeCharacters("\n");
+      output.commit();
+    } catch (IOException | XMLStreamException e) {
       LOG.warn("Could not save level data.", e);
       throw new EditorSaveException("Could not save level data.", e);
     }
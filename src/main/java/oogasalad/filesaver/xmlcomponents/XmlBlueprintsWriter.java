@@ -1,6 +1,5 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -8,11 +7,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.EventData;
 import oogasalad.fileparser.records.HitBoxData;
 import oogasalad.fileparser.records.LevelData;
 import oogasalad.fileparser.records.SpriteData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Writes the <game>/<objectGroup>/<object> (blueprint) sections of the level XML.
@@ -22,16 +25,12 @@ import oogasalad.fileparser.records.SpriteData;
  */
 public class XmlBlueprintsWriter implements XmlComponentWriter {
 
-  private static final String INDENT = "  ";
-  private static final String INDENT2 = INDENT + INDENT;
-  private static final String INDENT3 = INDENT2 + INDENT;
-  private static final String INDENT4 = INDENT3 + INDENT;
-
-  private final BufferedWriter writer;
+  private static final Logger LOG = LogManager.getLogger();
+  private final XMLStreamWriter writer;
   private final LevelData levelData;
   private final Map<String, String> savedSprites = new HashMap<>();
 
-  public XmlBlueprintsWriter(BufferedWriter writer, LevelData levelData) {
+  public XmlBlueprintsWriter(XMLStreamWriter writer, LevelData levelData) {
     this.writer = Objects.requireNonNull(writer);
     this.levelData = Objects.requireNonNull(levelData);
   }
@@ -39,7 +38,7 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
   /* ====================================================================== */
 
   @Override
-  public void write() throws IOException {
+  public void write() throws XMLStreamException {
 
     Map<Integer, BlueprintData> blueprints = levelData.gameBluePrintData();
     if (blueprints == null || blueprints.isEmpty()) {
@@ -54,9 +53,9 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
       String gameName = gameEntry.getKey();
       Map<String, List<BlueprintData>> groups = gameEntry.getValue();
 
-      writer.write(INDENT + "<game name=\"" + gameName + "\">\n");
+      XmlTags.start(writer, 1, "game", "name", gameName);
       writeGameSection(gameName, groups);
-      writer.write(INDENT + "</game>\n");
+      XmlTags.end(writer, 1);
     }
   }
 
@@ -64,7 +63,7 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
   /* -----------------------  helper writers  ----------------------------- */
 
   private void writeGameSection(String gameName,
-      Map<String, List<BlueprintData>> groups) throws IOException {
+      Map<String, List<BlueprintData>> groups) throws XMLStreamException {
 
     for (var groupEntry : groups.entrySet()) {
       writeObjectGroupSection(gameName,
@@ -75,56 +74,40 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
 
   private void writeObjectGroupSection(String gameName,
       String groupName,
-      List<BlueprintData> blueprints) throws IOException {
+      List<BlueprintData> blueprints) throws XMLStreamException {
 
-    writer.write(INDENT2 + "<objectGroup name=\"" + groupName + "\">\n");
+    XmlTags.start(writer, 2, "objectGroup", "name", groupName);
     for (BlueprintData blueprint : blueprints) {
       writeBlueprintObject(gameName, blueprint);
     }
-    writer.write(INDENT2 + "</objectGroup>\n");
+    XmlTags.end(writer, 2);
   }
 
   private void writeBlueprintObject(String gameName,
-      BlueprintData blueprint) throws IOException {
+      BlueprintData blueprint) throws XMLStreamException {
 
     SpriteData sprite = blueprint.spriteData();
     HitBoxData hitbox = blueprint.hitBoxData();
 
     String spriteFileName = saveSpriteIfNeeded(gameName, sprite);
 
-    writer.write(INDENT3 + String.format("""
-            <object
-              spriteName="%s"
-              type="%s"
-              id="%d"
-              spriteFile="%s"
-              hitBoxWidth="%d"
-              hitBoxHeight="%d"
-              hitBoxShape="%s"
-              spriteDx="%d"
-              spriteDy="%d"
-              eventIDs="%s"
-              velocityX="%.2f"
-              velocityY="%.2f"
-              rotation="%.2f">
-            """,
-        sprite.baseFrame().name(),           // %s  spriteName
-        blueprint.type(),                    // %s  type
-        blueprint.blueprintId(),             // %d  id
-        spriteFileName,                      // %s  spriteFile
-        hitbox.hitBoxWidth(),                // %d  hitBoxWidth
-        hitbox.hitBoxHeight(),               // %d  hitBoxHeight
-        hitbox.shape(),                      // %s  hitBoxShape
-        hitbox.spriteDx(),                   // %d  spriteDx
-        hitbox.spriteDy(),                   // %d  spriteDy
-        getEventIdsAsString(blueprint),      // %s  eventIDs
-        blueprint.velocityX(),               // %.2f velocityX
-        blueprint.velocityY(),               // %.2f velocityY
-        blueprint.rotation()                 // %.2f rotation
-    ));
+    XmlTags.start(writer, 3, "object",
+        "spriteName", sprite.baseFrame().name(),
+        "type", blueprint.type(),
+        "id", blueprint.blueprintId(),
+        "spriteFile", spriteFileName,
+        "hitBoxWidth", hitbox.hitBoxWidth(),
+        "hitBoxHeight", hitbox.hitBoxHeight(),
+        "hitBoxShape", hitbox.shape(),
+        "spriteDx", hitbox.spriteDx(),
+        "spriteDy", hitbox.spriteDy(),
+        "eventIDs", getEventIdsAsString(blueprint),
+        "velocityX", String.format("%.2f", blueprint.velocityX()),
+        "velocityY", String.format("%.2f", blueprint.velocityY()),
+        "rotation", String.format("%.2f", blueprint.rotation()));
 
     /* ---- custom properties ---- */
-    writer.write(INDENT4 + "<properties>\n");
+    XmlTags.start(writer, 4, "properties");
     new XmlPropertiesWriter(
         writer,
         5,
@@ -132,16 +115,16 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
         blueprint.doubleProperties(), "Properties",
         "property"
     ).write();
-    writer.write(INDENT4 + "</properties>\n");
+    XmlTags.end(writer, 4);
 
     // Add displayedProperties element for player objects
     if ("player".equals(blueprint.type()) && !blueprint.displayedProperties().isEmpty()) {
       List<String> displayedProps = blueprint.displayedProperties();
-      writer.write(INDENT4 + String.format("<displayedProperties propertyList=\"%s\"/>\n",
-          String.join(",", displayedProps)));
+      XmlTags.empty(writer, 4, "displayedProperties", "propertyList",
+          String.join(",", displayedProps));
     }
 
-    writer.write(INDENT3 + "</object>\n");
+    XmlTags.end(writer, 3);
   }
 
   private Map<String, Map<String, List<BlueprintData>>> groupByGameAndGroup(
@@ -179,8 +162,9 @@ public class XmlBlueprintsWriter implements XmlComponentWriter {
         XmlSpriteWriter sw = new XmlSpriteWriter(gameName, sprite);
         sw.write();
         savedSprites.put(key, sw.getSpriteFileName());
-      } catch (IOException ioe) {
-        ioe.printStackTrace();
+      } catch (IOException | XMLStreamException e) {
+        LOG.warn("Could not write sprite file for '{}'; referencing {} instead",
+            sprite.baseFrame().name(), sprite.spriteFile().getName(), e);
         savedSprites.put(key, sprite.spriteFile().getName());
       }
     }
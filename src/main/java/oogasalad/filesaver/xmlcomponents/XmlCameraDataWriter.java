@@ -1,7 +1,7 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.CameraData;
 import oogasalad.fileparser.records.LevelData;
 
@@ -11,8 +11,7 @@ import oogasalad.fileparser.records.LevelData;
  * @author Aksel Bell
  */
 public class XmlCameraDataWriter implements XmlComponentWriter{
-  private static final String INDENT = "  ";
-  private final BufferedWriter writer;
+  private final XMLStreamWriter writer;
   private final LevelData data;
 
   /**
@@ -20,7 +19,7 @@ public class XmlCameraDataWriter implements XmlComponentWriter{
    * @param writer writer to write to.
    * @param data level data containing necessary data.
    */
-  public XmlCameraDataWriter(BufferedWriter writer, LevelData data) {
+  public XmlCameraDataWriter(XMLStreamWriter writer, LevelData data) {
     this.writer = writer;
     this.data = data;
   }
@@ -28,15 +27,14 @@ public class XmlCameraDataWriter implements XmlComponentWriter{
   /**
    * @see XmlComponentWriter#write()
    */
-  public void write() throws IOException {
+  public void write() throws XMLStreamException {
     CameraData camera = data.cameraData();
     if (camera == null) {
       return;
     }
 
-    writer.write(String.format(INDENT + "<cameraData type=\"%s\">\n", camera.type()));
+    XmlTags.start(writer, 1, "cameraData", "type", camera.type());
     new XmlPropertiesWriter(writer, 2, camera.stringProperties(), camera.doubleProperties(),"Properties" ,"property").write();
-    writer.write(INDENT + "</cameraData>\n");
+    XmlTags.end(writer, 1);
   }
 }
-
@@ -1,6 +1,7 @@
 package oogasalad.filesaver.xmlcomponents;
 
 import java.io.IOException;
+import javax.xml.stream.XMLStreamException;
 
 /**
  * This class writes a component of the XML file.
@@ -14,6 +15,7 @@ public interface XmlComponentWriter {
    * component.
    *
    * @throws IOException if error writing to file.
+   * @throws XMLStreamException if the XML stream rejects the component.
    */
-  void write() throws IOException;
-}
\ No newline at end of file
+  void write() throws IOException, XMLStreamException;
+}
@@ -1,8 +1,8 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.ConditionData;
 import oogasalad.fileparser.records.EventData;
 import oogasalad.fileparser.records.LevelData;
@@ -14,12 +14,7 @@ import oogasalad.fileparser.records.OutcomeData;
  * @author Aksel Bell
  */
 public class XmlEventsWriter implements XmlComponentWriter{
-  private static final String INDENT = "  ";
-  private static final String INDENT2 = INDENT + INDENT;
-  private static final String INDENT3 = INDENT2 + INDENT;
-  private static final String INDENT4 = INDENT3 + INDENT;
-  private static final String INDENT5 = INDENT4 + INDENT;
-  private final BufferedWriter writer;
+  private final XMLStreamWriter writer;
   private final LevelData levelData;
 
   /**
@@ -27,7 +22,7 @@ public class XmlEventsWriter implements XmlComponentWriter{
    * @param writer writer to write to.
    * @param levelData level data containing necessary data.
    */
-  public XmlEventsWriter(BufferedWriter writer, LevelData levelData) {
+  public XmlEventsWriter(XMLStreamWriter writer, LevelData levelData) {
     this.writer = writer;
     this.levelData = levelData;
   }
@@ -35,48 +30,48 @@ public class XmlEventsWriter implements XmlComponentWriter{
   /**
    * @see XmlComponentWriter#write()
    */
-  public void write() throws IOException {
+  public void write() throws XMLStreamException {
     if (levelData.gameBluePrintData() == null) {
       return;
     }
 
-    writer.write(INDENT + "<events>\n");
+    XmlTags.start(writer, 1, "events");
     for (var blueprint : levelData.gameBluePrintData().values()) {
       for (EventData event : blueprint.eventDataList()) {
         writeEvent(event);
       }
     }
-    writer.write(INDENT + "</events>\n");
+    XmlTags.end(writer, 1);
   }
 
-  private void writeEvent(EventData event) throws IOException {
-    writer.write(String.format(INDENT2 + "<event type=\"%s\" id=\"%s\">\n", event.type(), event.eventId()));
+  private void writeEvent(EventData event) throws XMLStreamException {
+    XmlTags.start(writer, 2, "event", "type", event.type(), "id", event.eventId());
     writeConditions(event.conditions());
     writeOutcomes(event.outcomes());
-    writer.write(INDENT2 + "</event>\n");
+    XmlTags.end(writer, 2);
   }
 
-  private void writeConditions(List<List<ConditionData>> nestedConditions) throws IOException {
-    writer.write(INDENT3 + "<conditions>\n");
+  private void writeConditions(List<List<ConditionData>> nestedConditions) throws XMLStreamException {
+    XmlTags.start(writer, 3, "conditions");
     for (List<ConditionData> conditionSet : nestedConditions) {
-      writer.write(INDENT4 + "<conditionSet>\n");
+      XmlTags.start(writer, 4, "conditionSet");
       for (ConditionData condition : conditionSet) {
-        writer.write(String.format(INDENT5 + "<condition name=\"%s\">\n", condition.name()));
+        XmlTags.start(writer, 5, "condition", "name", condition.name());
         new XmlPropertiesWriter(writer, 6, condition.stringProperties(), condition.doubleProperties(),"Parameters" ,"parameter").write();
-        writer.write(INDENT5 + "</condition>\n");
+        XmlTags.end(writer, 5);
       }
-      writer.write(INDENT4 + "</conditionSet>\n");
+      XmlTags.end(writer, 4);
     }
-    writer.write(INDENT3 + "</conditions>\n");
+    XmlTags.end(writer, 3);
   }
 
-  private void writeOutcomes(List<OutcomeData> outcomes) throws IOException {
-    writer.write(INDENT3 + "<outcomes>\n");
+  private void writeOutcomes(List<OutcomeData> outcomes) throws XMLStreamException {
+    XmlTags.start(writer, 3, "outcomes");
     for (OutcomeData outcome : outcomes) {
-      writer.write(String.format(INDENT4 + "<outcome name=\"%s\">\n", outcome.name()));
+      XmlTags.start(writer, 4, "outcome", "name", outcome.name());
       new XmlPropertiesWriter(writer, 5, outcome.stringProperties(), outcome.doubleProperties(),"Parameters", "parameter").write();
-      writer.write(INDENT4 + "</outcome>\n");
+      XmlTags.end(writer, 4);
     }
-    writer.write(INDENT3 + "</outcomes>\n");
+    XmlTags.end(writer, 3);
   }
 }
\ No newline at end of file
@@ -1,27 +1,32 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
 
 /**
- * This class writes the layers tags of the XML file.
+ * This class writes the layers tags of the XML file. Dense tiles in a layer are written as a
+ * single run-length encoded grid by {@link XmlTileGridWriter}; the rest become object tags, one
+ * per blueprint and object name.
  *
  * @author Aksel Bell
  */
 public class XmlLayersWriter implements XmlComponentWriter {
-  private static final String INDENT = "  ";
-  private static final String INDENT2 = INDENT + INDENT;
-  private static final String INDENT3 = INDENT2 + INDENT;
-  private static final String INDENT4 = INDENT3 + INDENT;
-  private final BufferedWriter writer;
+
+  /**
+   * The objects sharing one object tag: they must have the same blueprint and name.
+   */
+  private record ObjectGroup(int blueprintId, String name) {
+
+  }
+
+  private final XMLStreamWriter writer;
   private final LevelData data;
 
   /**
@@ -29,7 +34,7 @@ public class XmlLayersWriter implements XmlComponentWriter {
    * @param writer writer to write to.
    * @param data level data containing necessary data.
    */
-  public XmlLayersWriter(BufferedWriter writer, LevelData data) {
+  public XmlLayersWriter(XMLStreamWriter writer, LevelData data) {
     this.writer = writer;
     this.data = data;
   }
@@ -37,7 +42,7 @@ public class XmlLayersWriter implements XmlComponentWriter {
   /**
    * @see XmlComponentWriter#write()
    */
-  public void write() throws IOException {
+  public void write() throws XMLStreamException {
     List<GameObjectData> objects = data.gameObjects();
     if (objects == null || objects.isEmpty()) {
       return;
@@ -45,11 +50,11 @@ public class XmlLayersWriter implements XmlComponentWriter {
 
     Map<Integer, List<GameObjectData>> layerMap = groupObjectsByLayer(objects);
 
-    writer.write(INDENT + "<layers>\n");
+    XmlTags.start(writer, 1, "layers");
     for (Map.Entry<Integer, List<GameObjectData>> entry : layerMap.entrySet()) {
       writeSingleLayer(writer, entry.getKey(), entry.getValue(), data);
     }
-    writer.write(INDENT + "</layers>\n");
+    XmlTags.end(writer, 1);
   }
 
   private Map<Integer, List<GameObjectData>> groupObjectsByLayer(List<GameObjectData> objects) {
@@ -60,43 +65,53 @@ public class XmlLayersWriter implements XmlComponentWriter {
     return layerMap;
   }
 
-  private void writeSingleLayer(BufferedWriter writer, int layerZ, List<GameObjectData> layerObjects, LevelData data) throws IOException {
+  private void writeSingleLayer(XMLStreamWriter writer, int layerZ, List<GameObjectData> layerObjects, LevelData data) throws XMLStreamException {
     int width = data.maxX() - data.minX();
     int height = data.maxY() - data.minY();
 
-    writer.write(String.format(INDENT2 + "<layer name=\"layer_%d\" width=\"%d\" height=\"%d\" z=\"%d\">\n", layerZ, width, height, layerZ));
-    writer.write(INDENT3 + "<data>\n");
+    XmlTags.start(writer, 2, "layer", "name", "layer_" + layerZ, "width", width, "height", height,
+        "z", layerZ);
+    XmlTags.start(writer, 3, "data");
+
+    XmlTileGridWriter gridWriter = new XmlTileGridWriter(writer, layerObjects, data);
+    gridWriter.write();
 
-    Map<Integer, List<GameObjectData>> groupedById = groupObjectsByBlueprintId(layerObjects);
+    Map<ObjectGroup, List<GameObjectData>> groups =
+        groupObjectsByBlueprintAndName(gridWriter.getRemainingObjects());
 
-    for (Map.Entry<Integer, List<GameObjectData>> objGroup : groupedById.entrySet()) {
-      writeObjectTag(writer, objGroup.getKey(), objGroup.getValue());
+    for (Map.Entry<ObjectGroup, List<GameObjectData>> objGroup : groups.entrySet()) {
+      writeObjectTag(writer, objGroup.getKey().blueprintId(), objGroup.getValue());
     }
 
-    writer.write(INDENT3 + "</data>\n");
-    writer.write(INDENT2 + "</layer>\n");
+    XmlTags.end(writer, 3);
+    XmlTags.end(writer, 2);
   }
 
-  private Map<Integer, List<GameObjectData>> groupObjectsByBlueprintId(List<GameObjectData> objects) {
-    Map<Integer, List<GameObjectData>> groupedById = new LinkedHashMap<>();
+  private Map<ObjectGroup, List<GameObjectData>> groupObjectsByBlueprintAndName(
+      List<GameObjectData> objects) {
+    Map<ObjectGroup, List<GameObjectData>> groups = new LinkedHashMap<>();
     for (GameObjectData obj : objects) {
-      groupedById.computeIfAbsent(obj.blueprintId(), k -> new ArrayList<>()).add(obj);
+      groups.computeIfAbsent(new ObjectGroup(obj.blueprintId(), obj.name()),
+          k -> new ArrayList<>()).add(obj);
     }
-    return groupedById;
+    return groups;
   }
 
-  private void writeObjectTag(BufferedWriter writer, int blueprintId, List<GameObjectData> group) throws IOException {
+  private void writeObjectTag(XMLStreamWriter writer, int blueprintId, List<GameObjectData> group) throws XMLStreamException {
     String name = group.get(0).name();
 
-    String coords = group.stream()
-        .map(o -> String.format("(%d,%d)", o.x(), o.y()))
-        .collect(Collectors.joining(", "));
-
-    String uids = group.stream()
-        .map(o -> o.uniqueId().toString())
-        .collect(Collectors.joining(", "));
+    StringBuilder coords = new StringBuilder(group.size() * 12);
+    StringBuilder uids = new StringBuilder(group.size() * 38);
+    for (GameObjectData obj : group) {
+      if (!uids.isEmpty()) {
+        coords.append(", ");
+        uids.append(", ");
+      }
+      coords.append('(').append(obj.x()).append(',').append(obj.y()).append(')');
+      uids.append(obj.uniqueId());
+    }
 
-    writer.write(String.format(INDENT4 + "<object name = \"%s\" id=\"%d\" coordinates=\"%s\" uid=\"%s\" />\n", name, blueprintId, coords, uids));
+    XmlTags.empty(writer, 4, "object", "name", name, "id", blueprintId, "coordinates", coords,
+        "uid", uids);
   }
 }
-
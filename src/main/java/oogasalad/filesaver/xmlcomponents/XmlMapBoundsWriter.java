@@ -1,16 +1,17 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.IOException;
-import java.io.Writer;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.LevelData;
 
 /**
- * This class writes the XML component of the map tag.
+ * This class writes the XML component of the map tag. The tag is left open for the remaining
+ * components and is closed by whoever finishes the document.
  *
  * @author Aksel Bell
  */
 public class XmlMapBoundsWriter implements XmlComponentWriter {
-  private final Writer writer;
+  private final XMLStreamWriter writer;
   private final LevelData data;
 
   /**
@@ -18,7 +19,7 @@ public class XmlMapBoundsWriter implements XmlComponentWriter {
    * @param writer writer to write to.
    * @param data level data containing necessary data.
    */
-  public XmlMapBoundsWriter(Writer writer, LevelData data) {
+  public XmlMapBoundsWriter(XMLStreamWriter writer, LevelData data) {
     this.writer = writer;
     this.data = data;
   }
@@ -26,11 +27,8 @@ public class XmlMapBoundsWriter implements XmlComponentWriter {
   /**
    * @see XmlComponentWriter#write()
    */
-  public void write() throws IOException {
-    writer.write(String.format(
-        "<map minX=\"%d\" minY=\"%d\" maxX=\"%d\" maxY=\"%d\">\n",
-        data.minX(), data.minY(), data.maxX(), data.maxY()
-    ));
+  public void write() throws XMLStreamException {
+    XmlTags.start(writer, 0, "map", "minX", data.minX(), "minY", data.minY(),
+        "maxX", data.maxX(), "maxY", data.maxY());
   }
 }
-
@@ -0,0 +1,131 @@
+package oogasalad.filesaver.xmlcomponents;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class streams an XML document into a file without ever exposing a partially written file.
+ * <p>
+ * Output goes through a UTF-8 {@link XMLStreamWriter} into a temporary file next to the target.
+ * Only {@link #commit()} syncs that file to disk and renames it over the target, atomically where
+ * the file system supports it. Closing without committing deletes the temporary file and leaves
+ * any existing target untouched. Targets whose name ends in {@value #GZIP_EXTENSION} are written
+ * gzip-compressed.
+ * </p>
+ *
+ * @author Aksel Bell
+ */
+public class XmlOutputFile implements AutoCloseable {
+  /**
+   * File name extension that selects gzip-compressed output.
+   */
+  public static final String GZIP_EXTENSION = ".gz";
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+  private final Path target;
+  private final Path tempFile;
+  private final FileOutputStream fileOutput;
+  private final OutputStream dataOutput;
+  private final Writer textOutput;
+  private final XMLStreamWriter writer;
+  private boolean committed;
+
+  /**
+   * Opens a temporary file for the given target and a stream writer on top of it.
+   * @param target file which will hold the document once committed.
+   * @throws IOException if the temporary file cannot be created.
+   * @throws XMLStreamException if the stream writer cannot be created.
+   */
+  public XmlOutputFile(Path target) throws IOException, XMLStreamException {
+    this.target = target.toAbsolutePath();
+    Files.createDirectories(this.target.getParent());
+    tempFile = this.target.resolveSibling(
+        "." + this.target.getFileName() + "." + System.nanoTime() + ".tmp");
+    fileOutput = new FileOutputStream(tempFile.toFile());
+    try {
+      dataOutput = isCompressed(this.target)
+          ? new GZIPOutputStream(fileOutput, BUFFER_SIZE) : fileOutput;
+      textOutput = new BufferedWriter(
+          new OutputStreamWriter(dataOutput, StandardCharsets.UTF_8), BUFFER_SIZE);
+      writer = OUTPUT_FACTORY.createXMLStreamWriter(textOutput);
+    } catch (IOException | XMLStreamException | RuntimeException e) {
+      fileOutput.close();
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+  }
+
+  /**
+   * Returns whether a file will be written gzip-compressed.
+   * @param file file to check.
+   * @return true if the file name ends in {@value #GZIP_EXTENSION}.
+   */
+  public static boolean isCompressed(Path file) {
+    return file.getFileName().toString().toLowerCase().endsWith(GZIP_EXTENSION);
+  }
+
+  /**
+   * @return the stream writer all components should write to.
+   */
+  public XMLStreamWriter getWriter() {
+    return writer;
+  }
+
+  /**
+   * Finishes the document and replaces the target with it.
+   * @throws IOException if the file cannot be flushed, synced or moved into place.
+   * @throws XMLStreamException if the document cannot be completed.
+   */
+  public void commit() throws IOException, XMLStreamException {
+    writer.writeEndDocument();
+    writer.flush();
+    textOutput.flush();
+    if (dataOutput instanceof GZIPOutputStream gzip) {
+      gzip.finish();
+    }
+    fileOutput.getFD().sync();
+    textOutput.close();
+    try {
+      Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      LOG.debug("Atomic move not supported for {}, replacing directly", target);
+      Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+    committed = true;
+  }
+
+  /**
+   * Releases the temporary file if the document was never committed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (committed) {
+      return;
+    }
+    try {
+      textOutput.close();
+    } catch (IOException e) {
+      LOG.debug("Could not close abandoned output for {}", target, e);
+    } finally {
+      fileOutput.close();
+      Files.deleteIfExists(tempFile);
+    }
+  }
+}
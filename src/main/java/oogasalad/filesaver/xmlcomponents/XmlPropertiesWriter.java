@@ -1,8 +1,8 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
-import java.io.IOException;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 /**
  * This class writes the String and Double tag of the XML file.
@@ -10,8 +10,7 @@ import java.util.Map;
  * @author Aksel Bell, Billy McCune
  */
 public class XmlPropertiesWriter implements XmlComponentWriter{
-  private static final String INDENT = "  ";
-  private final BufferedWriter writer;
+  private final XMLStreamWriter writer;
   private final int indentLevel;
   private final Map<String, String> stringProps;
   private final Map<String, Double> doubleProps;
@@ -25,7 +24,7 @@ public class XmlPropertiesWriter implements XmlComponentWriter{
    * @param stringProps mapping of string properties the tag should contain.
    * @param doubleProps mapping of double properties the tag should contain.
    */
-  public XmlPropertiesWriter(BufferedWriter writer, int indentLevel, Map<String, String> stringProps, Map<String, Double> doubleProps, String outSideName, String insideName) {
+  public XmlPropertiesWriter(XMLStreamWriter writer, int indentLevel, Map<String, String> stringProps, Map<String, Double> doubleProps, String outSideName, String insideName) {
     this.writer = writer;
     this.indentLevel = indentLevel;
     this.stringProps = stringProps;
@@ -37,24 +36,19 @@ public class XmlPropertiesWriter implements XmlComponentWriter{
   /**
    * @see XmlComponentWriter#write()
    */
-  public void write() throws IOException {
-    String indent = INDENT.repeat(indentLevel);
-    String inner = INDENT.repeat(indentLevel + 1);
-
-    writer.write(indent + String.format("<string%s>\n", outsideName));
-    if (stringProps != null) {
-      for (var entry : stringProps.entrySet()) {
-        writer.write(String.format(inner + "<%s name=\"%s\" value=\"%s\"/>\n", insideName, entry.getKey(), entry.getValue()));
-      }
-    }
-    writer.write(indent + String.format("</string%s>\n", outsideName));
+  public void write() throws XMLStreamException {
+    writeGroup("string" + outsideName, stringProps);
+    writeGroup("double" + outsideName, doubleProps);
+  }
 
-    writer.write(indent + String.format("<double%s>\n", outsideName));
-    if (doubleProps != null) {
-      for (var entry : doubleProps.entrySet()) {
-        writer.write(String.format(inner + "<%s name=\"%s\" value=\"%s\"/>\n", insideName, entry.getKey(), entry.getValue()));
+  private void writeGroup(String groupName, Map<String, ?> props) throws XMLStreamException {
+    XmlTags.start(writer, indentLevel, groupName);
+    if (props != null) {
+      for (var entry : props.entrySet()) {
+        XmlTags.empty(writer, indentLevel + 1, insideName, "name", entry.getKey(), "value",
+            entry.getValue());
       }
     }
-    writer.write(indent + String.format("</double%s>\n", outsideName));
+    XmlTags.end(writer, indentLevel);
   }
 }
@@ -1,11 +1,11 @@
 package oogasalad.filesaver.xmlcomponents;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.AnimationData;
 import oogasalad.fileparser.records.FrameData;
 import oogasalad.fileparser.records.SpriteData;
@@ -24,59 +24,49 @@ public class XmlSpriteWriter implements XmlComponentWriter {
   }
 
   @Override
-  public void write() throws IOException {
+  public void write() throws IOException, XMLStreamException {
 
     this.spriteFileName = sprite.baseFrame().name().toLowerCase()
         .replaceFirst("\\.[^.]+$", "") + ".xml";
 
     Path outDir = Paths.get(ROOT, gameName);
-    Files.createDirectories(outDir);
     Path outFile = outDir.resolve(spriteFileName);
 
-    try (BufferedWriter bw = Files.newBufferedWriter(outFile)) {
+    try (XmlOutputFile output = new XmlOutputFile(outFile)) {
+      XMLStreamWriter xml = output.getWriter();
+      xml.writeStartDocument("UTF-8", "1.0");
+      xml.writeCharacters("\n");
+      xml.writeComment(String.format("\n  Auto-generated sprite sheet for %s (%s)\n",
+          sprite.baseFrame().name(), gameName));
+      xml.writeCharacters("\n");
 
-      bw.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-      bw.write(String.format("""
-          <!--
-            Auto-generated sprite sheet for %s (%s)
-          -->
-          """, sprite.baseFrame().name(), gameName));
-
-      bw.write(String.format(
-          "<spriteFile imagePath=\"%s\">\n",
-          sprite.spriteFile().getName()
-      ));
+      XmlTags.start(xml, 0, "spriteFile", "imagePath", sprite.spriteFile().getName());
 
       /* <sprite …> tag --------------------------------------------------- */
-      bw.write(
-          String.format("  <sprite name=\"%s\" x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\">\n",
-              sprite.baseFrame().name(),
-              sprite.baseFrame().x(), sprite.baseFrame().y(),
-              sprite.baseFrame().width(), sprite.baseFrame().height()
-          ));
+      XmlTags.start(xml, 1, "sprite", "name", sprite.baseFrame().name(),
+          "x", sprite.baseFrame().x(), "y", sprite.baseFrame().y(),
+          "width", sprite.baseFrame().width(), "height", sprite.baseFrame().height());
 
       /* frames ---------------------------------------------------------- */
-      bw.write("    <frames>\n");
+      XmlTags.start(xml, 2, "frames");
       for (FrameData f : sprite.frames()) {
-        bw.write(String.format(
-            "      <frame name=\"%s\" x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\"/>\n",
-            f.name(), f.x(), f.y(), f.width(), f.height()));
+        XmlTags.empty(xml, 3, "frame", "name", f.name(), "x", f.x(), "y", f.y(),
+            "width", f.width(), "height", f.height());
       }
-      bw.write("    </frames>\n");
+      XmlTags.end(xml, 2);
 
       /* animations ------------------------------------------------------ */
-      bw.write("    <animations>\n");
+      XmlTags.start(xml, 2, "animations");
       for (AnimationData a : sprite.animations()) {
-        bw.write(String.format(
-            "      <animation name=\"%s\" frameLen=\"%s\" frames=\"%s\"/>\n",
-            a.name(), a.frameLength(),
-            String.join(",", a.frameNames())));
+        XmlTags.empty(xml, 3, "animation", "name", a.name(), "frameLen", a.frameLength(),
+            "frames", String.join(",", a.frameNames()));
       }
-      bw.write("    </animations>\n");
+      XmlTags.end(xml, 2);
 
       /* close sprite + spriteFile -------------------------------------- */
-      bw.write("  </sprite>\n");
-      bw.write("</spriteFile>\n");
+      XmlTags.end(xml, 1);
+      XmlTags.end(xml, 0);
+      output.commit();
     }
   }
 
@@ -0,0 +1,76 @@
+package oogasalad.filesaver.xmlcomponents;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Small helpers shared by the component writers for emitting indented tags on an
+ * {@link XMLStreamWriter}, which does not indent its output by itself.
+ * <p>
+ * Attributes are passed as alternating name/value pairs; values are converted with
+ * {@link String#valueOf(Object)} and escaped by the stream writer.
+ * </p>
+ *
+ * @author Aksel Bell
+ */
+final class XmlTags {
+  private static final String INDENT = "  ";
+  private static final String NEWLINE = "\n";
+
+  private XmlTags() {
+  }
+
+  /**
+   * Writes an indented start tag with the given attributes, followed by a newline.
+   *
+   * @param writer     writer to write to.
+   * @param depth      indent level of the tag.
+   * @param name       name of the tag.
+   * @param attributes alternating attribute names and values.
+   * @throws XMLStreamException if the stream rejects the tag.
+   */
+  static void start(XMLStreamWriter writer, int depth, String name, Object... attributes)
+      throws XMLStreamException {
+    writer.writeCharacters(INDENT.repeat(depth));
+    writer.writeStartElement(name);
+    writeAttributes(writer, attributes);
+    writer.writeCharacters(NEWLINE);
+  }
+
+  /**
+   * Writes an indented self-closing tag with the given attributes, followed by a newline.
+   *
+   * @param writer     writer to write to.
+   * @param depth      indent level of the tag.
+   * @param name       name of the tag.
+   * @param attributes alternating attribute names and values.
+   * @throws XMLStreamException if the stream rejects the tag.
+   */
+  static void empty(XMLStreamWriter writer, int depth, String name, Object... attributes)
+      throws XMLStreamException {
+    writer.writeCharacters(INDENT.repeat(depth));
+    writer.writeEmptyElement(name);
+    writeAttributes(writer, attributes);
+    writer.writeCharacters(NEWLINE);
+  }
+
+  /**
+   * Writes an indented end tag for the innermost open tag, followed by a newline.
+   *
+   * @param writer writer to write to.
+   * @param depth  indent level of the matching start tag.
+   * @throws XMLStreamException if there is no open tag to close.
+   */
+  static void end(XMLStreamWriter writer, int depth) throws XMLStreamException {
+    writer.writeCharacters(INDENT.repeat(depth));
+    writer.writeEndElement();
+    writer.writeCharacters(NEWLINE);
+  }
+
+  private static void writeAttributes(XMLStreamWriter writer, Object[] attributes)
+      throws XMLStreamException {
+    for (int i = 0; i + 1 < attributes.length; i += 2) {
+      writer.writeAttribute(String.valueOf(attributes[i]), String.valueOf(attributes[i + 1]));
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package oogasalad.filesaver.xmlcomponents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+
+/**
+ * This class writes the dense tiles of a single layer as one run-length encoded grid tag.
+ * <p>
+ * The tile size is the most common blueprint hitbox size in the layer. Objects of that size which
+ * sit on a shared grid alignment become grid cells; everything else, including any object the
+ * camera refers to by ID, is left for the regular object tags. The grid stores one name per
+ * blueprint, the name of that blueprint's first tile, so tiles named differently stay object tags
+ * too, as do tiles whose name would not survive the comma separated {@code names} attribute.
+ * Layers with too few tiles, or whose tiles fill too little of their bounding grid, are not
+ * encoded at all.
+ * </p>
+ *
+ * @author Aksel Bell
+ */
+public class XmlTileGridWriter implements XmlComponentWriter {
+  private static final String INDENT4 = "        ";
+  private static final String NEWLINE = "\n";
+  private static final int MIN_GRID_TILES = 16;
+  private static final long MAX_GRID_CELLS = 1L << 22;
+  private static final double MIN_FILL_RATIO = 0.25;
+  private static final String EMPTY_CELL = "-";
+  private static final int EMPTY = Integer.MIN_VALUE;
+  private final XMLStreamWriter writer;
+  private final List<GameObjectData> tiles = new ArrayList<>();
+  private final List<GameObjectData> remaining = new ArrayList<>();
+  private final Map<Integer, String> tileNames = new HashMap<>();
+  private int tileWidth;
+  private int tileHeight;
+  private int originX;
+  private int originY;
+  private int columns;
+  private int rows;
+
+  /**
+   * Instantiates a writer and chooses which of the layer's objects belong to the grid.
+   * @param writer writer to write to.
+   * @param layerObjects all objects of the layer being written.
+   * @param data level data containing the blueprints and camera data.
+   */
+  public XmlTileGridWriter(XMLStreamWriter writer, List<GameObjectData> layerObjects,
+      LevelData data) {
+    this.writer = writer;
+    selectTiles(layerObjects, data);
+  }
+
+  /**
+   * Returns the objects of the layer that are not part of the grid, in their original order.
+   *
+   * @return objects which still need to be written as object tags.
+   */
+  public List<GameObjectData> getRemainingObjects() {
+    return remaining;
+  }
+
+  /**
+   * @see XmlComponentWriter#write()
+   */
+  public void write() throws XMLStreamException {
+    if (tiles.isEmpty()) {
+      return;
+    }
+    int[] cells = new int[columns * rows];
+    Arrays.fill(cells, EMPTY);
+    Map<Integer, String> names = new LinkedHashMap<>();
+    for (GameObjectData tile : tiles) {
+      cells[cellIndex(tile)] = tile.blueprintId();
+      names.putIfAbsent(tile.blueprintId(), tileNames.get(tile.blueprintId()));
+    }
+
+    StringJoiner nameList = new StringJoiner(",");
+    names.forEach((id, name) -> nameList.add(id + ":" + name));
+
+    writer.writeCharacters(INDENT4);
+    writer.writeStartElement("grid");
+    writer.writeAttribute("tileWidth", String.valueOf(tileWidth));
+    writer.writeAttribute("tileHeight", String.valueOf(tileHeight));
+    writer.writeAttribute("x", String.valueOf(originX));
+    writer.writeAttribute("y", String.valueOf(originY));
+    writer.writeAttribute("columns", String.valueOf(columns));
+    writer.writeAttribute("rows", String.valueOf(rows));
+    writer.writeAttribute("encoding", "rle");
+    writer.writeAttribute("names", nameList.toString());
+    writer.writeCharacters(encodeCells(cells));
+    writer.writeEndElement();
+    writer.writeCharacters(NEWLINE);
+  }
+
+  private void selectTiles(List<GameObjectData> layerObjects, LevelData data) {
+    Map<Integer, BlueprintData> blueprints = data.gameBluePrintData();
+    Set<String> referencedIds = new HashSet<>();
+    if (data.cameraData() != null && data.cameraData().stringProperties() != null) {
+      referencedIds.addAll(data.cameraData().stringProperties().values());
+    }
+
+    List<GameObjectData> candidates = new ArrayList<>();
+    Map<List<Integer>, Integer> sizeCounts = new HashMap<>();
+    for (GameObjectData obj : layerObjects) {
+      HitBoxData hitBox = blueprints == null || blueprints.get(obj.blueprintId()) == null ? null
+          : blueprints.get(obj.blueprintId()).hitBoxData();
+      if (hitBox == null || hitBox.hitBoxWidth() <= 0 || hitBox.hitBoxHeight() <= 0
+          || referencedIds.contains(obj.uniqueId().toString()) || !hasGridName(obj)) {
+        continue;
+      }
+      candidates.add(obj);
+      sizeCounts.merge(List.of(hitBox.hitBoxWidth(), hitBox.hitBoxHeight()), 1, Integer::sum);
+    }
+    if (candidates.size() < MIN_GRID_TILES) {
+      remaining.addAll(layerObjects);
+      return;
+    }
+
+    List<Integer> tileSize = mostCommon(sizeCounts);
+    tileWidth = tileSize.get(0);
+    tileHeight = tileSize.get(1);
+    Map<List<Integer>, Integer> alignmentCounts = new HashMap<>();
+    for (GameObjectData obj : candidates) {
+      if (hasTileSize(obj, blueprints)) {
+        alignmentCounts.merge(alignment(obj), 1, Integer::sum);
+      }
+    }
+    List<Integer> gridAlignment = mostCommon(alignmentCounts);
+
+    Set<GameObjectData> gridCandidates = new HashSet<>();
+    originX = Integer.MAX_VALUE;
+    originY = Integer.MAX_VALUE;
+    int maxX = Integer.MIN_VALUE;
+    int maxY = Integer.MIN_VALUE;
+    for (GameObjectData obj : candidates) {
+      if (hasTileSize(obj, blueprints) && alignment(obj).equals(gridAlignment)) {
+        gridCandidates.add(obj);
+        originX = Math.min(originX, obj.x());
+        originY = Math.min(originY, obj.y());
+        maxX = Math.max(maxX, obj.x());
+        maxY = Math.max(maxY, obj.y());
+      }
+    }
+    long cellCount = ((long) (maxX - originX) / tileWidth + 1)
+        * ((long) (maxY - originY) / tileHeight + 1);
+    if (gridCandidates.size() < MIN_GRID_TILES || cellCount > MAX_GRID_CELLS
+        || gridCandidates.size() < cellCount * MIN_FILL_RATIO) {
+      remaining.addAll(layerObjects);
+      return;
+    }
+    columns = (maxX - originX) / tileWidth + 1;
+    rows = (maxY - originY) / tileHeight + 1;
+
+    Set<Integer> claimedCells = new HashSet<>();
+    for (GameObjectData obj : layerObjects) {
+      if (gridCandidates.contains(obj) && claimedCells.add(cellIndex(obj))) {
+        tiles.add(obj);
+      } else {
+        remaining.add(obj);
+      }
+    }
+  }
+
+  // A tile can only be a grid cell if it carries its blueprint's grid-wide name, and that name
+  // parses back unchanged from the names attribute.
+  private boolean hasGridName(GameObjectData obj) {
+    String name = obj.name();
+    if (name == null || name.contains(",") || !name.equals(name.trim())) {
+      return false;
+    }
+    return tileNames.computeIfAbsent(obj.blueprintId(), id -> name).equals(name);
+  }
+
+  private boolean hasTileSize(GameObjectData obj, Map<Integer, BlueprintData> blueprints) {
+    HitBoxData hitBox = blueprints.get(obj.blueprintId()).hitBoxData();
+    return hitBox.hitBoxWidth() == tileWidth && hitBox.hitBoxHeight() == tileHeight;
+  }
+
+  private List<Integer> alignment(GameObjectData obj) {
+    return List.of(Math.floorMod(obj.x(), tileWidth), Math.floorMod(obj.y(), tileHeight));
+  }
+
+  private List<Integer> mostCommon(Map<List<Integer>, Integer> counts) {
+    return counts.entrySet().stream()
+        .max(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .orElseThrow();
+  }
+
+  private int cellIndex(GameObjectData tile) {
+    return (tile.y() - originY) / tileHeight * columns + (tile.x() - originX) / tileWidth;
+  }
+
+  private String encodeCells(int[] cells) {
+    StringJoiner runs = new StringJoiner(",");
+    int runStart = 0;
+    for (int i = 1; i <= cells.length; i++) {
+      if (i == cells.length || cells[i] != cells[runStart]) {
+        String token = cells[runStart] == EMPTY ? EMPTY_CELL : String.valueOf(cells[runStart]);
+        int runLength = i - runStart;
+        runs.add(runLength == 1 ? token : runLength + "*" + token);
+        runStart = i;
+      }
+    }
+    return runs.toString();
+  }
+}
@@ -206,11 +206,11 @@ class ConcreteEditorControllerTest {
 
   @Test
   void testGetObjectIDAt() {
-    // Mock the underlying API call used by the internal handler
-    when(mockEditorDataAPI.getObjectDataMap()).thenReturn(Collections.emptyMap());
+    // Mock the level's hitbox index query used by the internal handler
+    when(mockLevelData.getObjectIdsAt(100.0, 200.0)).thenReturn(Collections.emptyList());
     UUID result = controller.getObjectIDAt(100.0, 200.0);
     assertNull(result); // Expect null if no object found at coords
-    verify(mockEditorDataAPI).getObjectDataMap(); // Verify the underlying data access
+    verify(mockLevelData).getObjectIdsAt(100.0, 200.0); // Verify the underlying data access
   }
 
   // --- Event Handling Tests (Verify Notifications Only) ---
@@ -0,0 +1,73 @@
+package oogasalad.editor.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import oogasalad.engine.controller.api.GameManagerAPI;
+import oogasalad.fileparser.records.LevelData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that playtests hand the latest snapshot to a single, reused game engine.
+ *
+ * @author Jacob You
+ */
+class EditorPlaytestTest {
+
+  private final GameManagerAPI engine = mock(GameManagerAPI.class);
+  private final List<String> errors = new ArrayList<>();
+
+  @Test
+  void play_CalledTwice_ReusesEngineWithLatestSnapshot() {
+    AtomicInteger enginesCreated = new AtomicInteger();
+    AtomicInteger edits = new AtomicInteger();
+    EditorPlaytest playtest = new EditorPlaytest(() -> level("edit" + edits.incrementAndGet()),
+        () -> {
+          enginesCreated.incrementAndGet();
+          return engine;
+        }, errors::add);
+
+    playtest.play();
+    playtest.play();
+
+    assertEquals(1, enginesCreated.get());
+    verify(engine).playtest(level("edit1"));
+    verify(engine).playtest(level("edit2"));
+    assertTrue(errors.isEmpty());
+  }
+
+  @Test
+  void play_EngineCannotStart_ReportsError() {
+    EditorPlaytest playtest = new EditorPlaytest(() -> level("level"), () -> {
+      throw new IllegalStateException("no window");
+    }, errors::add);
+
+    playtest.play();
+
+    assertEquals(List.of("Playtest failed: no window"), errors);
+    verify(engine, never()).playtest(any());
+  }
+
+  @Test
+  void play_LevelCannotBeLoaded_ReportsError() {
+    doThrow(new IllegalStateException("bad level")).when(engine).playtest(any());
+    EditorPlaytest playtest = new EditorPlaytest(() -> level("level"), () -> engine, errors::add);
+
+    playtest.play();
+
+    assertEquals(List.of("Playtest failed: bad level"), errors);
+  }
+
+  private LevelData level(String name) {
+    return new LevelData(name, 0, 0, 0, 0, null, Map.of(), List.of());
+  }
+}
@@ -0,0 +1,146 @@
+package oogasalad.editor.controller.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import oogasalad.editor.controller.level.EditorDataAPI;
+import oogasalad.editor.controller.listeners.EditorListenerNotifier;
+import oogasalad.editor.model.data.object.EditorObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests undo, redo, grouping and the memory bound of the editor history.
+ *
+ * @author Jacob You
+ */
+class EditorHistoryTest {
+
+  private EditorDataAPI dataAPI;
+  private UUID objectId;
+
+  @BeforeEach
+  void setUp() {
+    dataAPI = new EditorDataAPI(new EditorListenerNotifier());
+    objectId = dataAPI.createEditorObject();
+  }
+
+  @Test
+  void undo_HitboxMoved_RestoresOldPosition() {
+    dataAPI.getHitboxDataAPI().setX(objectId, 40);
+
+    dataAPI.undo();
+    int undone = dataAPI.getHitboxDataAPI().getX(objectId);
+    dataAPI.redo();
+
+    assertEquals(0, undone);
+    assertEquals(40, dataAPI.getHitboxDataAPI().getX(objectId));
+  }
+
+  @Test
+  void undo_DragGroup_RevertsWholeDragWithOneDeltaPerProperty() {
+    dataAPI.undo();
+    objectId = dataAPI.createEditorObject();
+    dataAPI.beginEditGroup("drag");
+    for (int i = 1; i <= 100; i++) {
+      dataAPI.getHitboxDataAPI().setX(objectId, i);
+      dataAPI.getHitboxDataAPI().setY(objectId, 2 * i);
+    }
+    dataAPI.endEditGroup();
+
+    List<EditorEdit> reverted = dataAPI.undo();
+
+    assertEquals(2, reverted.size());
+    assertEquals(0, dataAPI.getHitboxDataAPI().getX(objectId));
+    assertEquals(0, dataAPI.getHitboxDataAPI().getY(objectId));
+    assertNotNull(dataAPI.getEditorObject(objectId));
+  }
+
+  @Test
+  void undo_ObjectRemoved_RestoresSameInstance() {
+    EditorObject object = dataAPI.getEditorObject(objectId);
+    dataAPI.removeEditorObject(objectId);
+
+    List<EditorEdit> reverted = dataAPI.undo();
+
+    assertTrue(reverted.get(0).changesPresence());
+    assertSame(object, dataAPI.getEditorObject(objectId));
+    assertTrue(dataAPI.getLevel().getObjectIdsAt(1, 1).contains(objectId));
+  }
+
+  @Test
+  void undo_EventOutcomeParameterSet_RestoresOldValue() {
+    dataAPI.getInputDataAPI().addEvent(objectId, "jump");
+    dataAPI.getInputDataAPI().addEventOutcome(objectId, "jump", "Move");
+    dataAPI.getInputDataAPI().setEventOutcomeDoubleParameter(objectId, "jump", 0, "dy", 5.0);
+    dataAPI.getInputDataAPI().setEventOutcomeDoubleParameter(objectId, "jump", 0, "dy", 9.0);
+
+    dataAPI.undo();
+    Double undone = dataAPI.getInputDataAPI().getEventOutcomeData(objectId, "jump", 0)
+        .getDoubleParams().get("dy");
+    dataAPI.redo();
+
+    assertEquals(5.0, undone);
+    assertEquals(9.0, dataAPI.getInputDataAPI().getEventOutcomeData(objectId, "jump", 0)
+        .getDoubleParams().get("dy"));
+  }
+
+  @Test
+  void undo_EventRemoved_RestoresEventAndItsOutcomes() {
+    dataAPI.getInputDataAPI().addEvent(objectId, "jump");
+    dataAPI.getInputDataAPI().addEventOutcome(objectId, "jump", "Move");
+    dataAPI.getInputDataAPI().removeEvent(objectId, "jump");
+
+    dataAPI.undo();
+
+    assertEquals(1, dataAPI.getInputDataAPI().getEventOutcomes(objectId, "jump").size());
+  }
+
+  @Test
+  void undo_ObjectCreated_RemovesObject() {
+    dataAPI.undo();
+
+    assertNull(dataAPI.getEditorObject(objectId));
+    assertTrue(dataAPI.canRedo());
+  }
+
+  @Test
+  void record_AfterUndo_DiscardsRedo() {
+    dataAPI.getHitboxDataAPI().setX(objectId, 40);
+    dataAPI.undo();
+
+    dataAPI.getHitboxDataAPI().setY(objectId, 10);
+
+    assertFalse(dataAPI.canRedo());
+  }
+
+  @Test
+  void record_OverBudget_DropsOldestSteps() {
+    Map<UUID, Integer> values = new HashMap<>();
+    BiConsumer<UUID, Integer> setter = values::put;
+    EditorHistory history = new EditorHistory(1000);
+    UUID id = UUID.randomUUID();
+    for (int i = 0; i < 100; i++) {
+      history.change(id, "value", i, i + 1, setter);
+    }
+
+    int steps = 0;
+    while (history.canUndo()) {
+      history.undo();
+      steps++;
+    }
+
+    assertTrue(steps < 100);
+    assertTrue(history.getRetainedBytes() <= 1000);
+    assertEquals(100 - steps, values.get(id));
+  }
+}
@@ -0,0 +1,64 @@
+package oogasalad.editor.controller.listeners;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import oogasalad.editor.view.EditorViewListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EditorListenerNotifierTest {
+
+  private EditorListenerNotifier notifier;
+  private EditorViewListener listener;
+
+  @BeforeEach
+  void setUp() {
+    notifier = new EditorListenerNotifier();
+    listener = mock(EditorViewListener.class);
+    notifier.registerViewListener(listener);
+  }
+
+  @Test
+  void notifyObjectsLoaded_ManyObjects_SendsOneBulkNotification() {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    notifier.notifyObjectsLoaded(ids);
+
+    verify(listener, times(1)).onObjectsLoaded(ids);
+    verify(listener, never()).onObjectAdded(any());
+  }
+
+  @Test
+  void notifyObjectsLoaded_UnregisteredListener_IsNotNotified() {
+    notifier.unregisterViewListener(listener);
+
+    notifier.notifyObjectsLoaded(List.of(UUID.randomUUID()));
+
+    verify(listener, never()).onObjectsLoaded(any());
+  }
+
+  @Test
+  void endBatch_ManyChanges_SendsOneAggregatedNotification() {
+    UUID removedId = UUID.randomUUID();
+    UUID updatedId = UUID.randomUUID();
+    UUID transientId = UUID.randomUUID();
+
+    notifier.beginBatch();
+    notifier.notifyObjectRemoved(removedId);
+    notifier.notifyObjectUpdated(updatedId);
+    notifier.notifyObjectUpdated(updatedId);
+    notifier.notifyObjectAdded(transientId);
+    notifier.notifyObjectRemoved(transientId);
+    notifier.endBatch();
+
+    verify(listener, times(1)).onObjectsChanged(List.of(), List.of(removedId), List.of(updatedId));
+    verify(listener, never()).onObjectRemoved(any());
+    verify(listener, never()).onObjectUpdated(any());
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 import oogasalad.editor.model.data.object.EditorObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -139,4 +140,137 @@ class EditorLevelDataTest {
     Properties props = levelData.getEditorConfig();
     assertNotNull(props);
   }
+
+  /**
+   * Tests that point queries follow hitbox moves made after the object was registered.
+   */
+  @Test
+  void getObjectIdsAt_whenHitboxMoves_shouldFindObjectAtNewPosition() {
+    UUID id = levelData.createEditorObject();
+    EditorObject object = levelData.getEditorObject(id);
+    object.getHitboxData().setX(500);
+    object.getHitboxData().setY(600);
+
+    assertTrue(levelData.getObjectIdsAt(1, 1).isEmpty());
+    assertEquals(List.of(id), levelData.getObjectIdsAt(501, 601));
+  }
+
+  /**
+   * Tests that overlapping objects are returned from the highest layer priority down.
+   */
+  @Test
+  void getObjectIdsAt_whenObjectsOverlap_shouldOrderByLayerPriority() {
+    UUID bottomId = levelData.createEditorObject();
+    UUID topId = levelData.createEditorObject();
+    Layer top = new Layer("Top", 5);
+    levelData.addLayer(top);
+    levelData.getEditorObject(topId).getIdentityData().setLayer(top);
+
+    assertEquals(List.of(topId, bottomId), levelData.getObjectIdsAt(1, 1));
+  }
+
+  /**
+   * Tests region and nearest queries, including objects removed from the level.
+   */
+  @Test
+  void getObjectIdsInRegion_whenObjectRemoved_shouldNoLongerReturnIt() {
+    UUID nearId = levelData.createEditorObject();
+    UUID farId = levelData.createEditorObject();
+    levelData.getEditorObject(farId).getHitboxData().setX(10000);
+
+    assertEquals(List.of(farId), levelData.getObjectIdsInRegion(9000, -10, 2000, 20));
+    assertEquals(nearId, levelData.getNearestObjectId(-50, -50, Double.POSITIVE_INFINITY));
+    assertNull(levelData.getNearestObjectId(-50, -50, 10));
+
+    levelData.removeObjectById(farId);
+    assertTrue(levelData.getObjectIdsInRegion(9000, -10, 2000, 20).isEmpty());
+  }
+
+  /**
+   * Tests that the render order groups objects by layer priority and follows layer changes.
+   */
+  @Test
+  void getRenderOrder_whenObjectMovesLayer_shouldRegroupObject() {
+    UUID firstId = levelData.createEditorObject();
+    UUID secondId = levelData.createEditorObject();
+    UUID thirdId = levelData.createEditorObject();
+    Layer top = new Layer("Top", 5);
+    levelData.addLayer(top);
+    assertEquals(List.of(firstId, secondId, thirdId), levelData.getRenderOrder());
+
+    assertTrue(levelData.moveObjectToLayer(secondId, top));
+    assertEquals(List.of(secondId, firstId, thirdId), levelData.getRenderOrder());
+    assertTrue(levelData.getObjectsByLayer("Top").contains(levelData.getEditorObject(secondId)));
+    assertEquals(List.of(secondId, thirdId),
+        levelData.sortByRenderOrder(List.of(thirdId, secondId)));
+
+    levelData.removeObjectById(secondId);
+    assertEquals(List.of(firstId, thirdId), levelData.getRenderOrder());
+  }
+
+  /**
+   * Tests that bulk removal keeps the object map, layer lists and indexes consistent.
+   */
+  @Test
+  void removeObjects_whenSomeAndThenAllRemoved_shouldUpdateIndexes() {
+    UUID firstId = levelData.createEditorObject();
+    UUID secondId = levelData.createEditorObject();
+    UUID thirdId = levelData.createEditorObject();
+
+    List<EditorObject> removed = levelData.removeObjects(List.of(secondId, UUID.randomUUID()));
+    assertEquals(1, removed.size());
+    assertEquals(List.of(firstId, thirdId), levelData.getRenderOrder());
+    assertEquals(Set.of(firstId, thirdId), Set.copyOf(levelData.getObjectIdsAt(1, 1)));
+
+    levelData.removeObjects(List.of(firstId, thirdId));
+    assertTrue(levelData.getObjectDataMap().isEmpty());
+    assertTrue(levelData.getObjectIdsAt(1, 1).isEmpty());
+    assertTrue(levelData.getObjectLayerDataMap().values().stream().allMatch(List::isEmpty));
+  }
+
+  /**
+   * Tests that the level bounds follow hitboxes as they are added, moved and removed.
+   */
+  @Test
+  void getBounds_whenObjectsMoveAndAreRemoved_shouldTrackExtremeEdges() {
+    assertArrayEquals(new int[]{0, 0, 0, 0}, levelData.getBounds());
+    UUID firstId = levelData.createEditorObject();
+    UUID secondId = levelData.createEditorObject();
+    EditorObject second = levelData.getEditorObject(secondId);
+    second.getHitboxData().setX(100);
+    second.getHitboxData().setY(-20);
+    int width = second.getHitboxData().getWidth();
+    int height = levelData.getEditorObject(firstId).getHitboxData().getHeight();
+
+    assertArrayEquals(new int[]{0, -20, 100 + width, height}, levelData.getBounds());
+
+    levelData.removeObjectById(secondId);
+    assertArrayEquals(new int[]{0, 0, width, height}, levelData.getBounds());
+  }
+
+  /**
+   * Tests that per-layer membership and counts follow objects between layers.
+   */
+  @Test
+  void getObjectCount_whenObjectsMoveAndAreRemoved_shouldTrackLayerMembership() {
+    UUID firstId = levelData.createEditorObject();
+    UUID secondId = levelData.createEditorObject();
+    Layer top = new Layer("Top", 5);
+    levelData.addLayer(top);
+    List<EditorObject> topObjects = levelData.getObjectsByLayer("Top");
+
+    levelData.moveObjectToLayer(secondId, top);
+    levelData.registerObject(levelData.getEditorObject(secondId), top);
+    assertEquals(1, levelData.getObjectCount("New Layer"));
+    assertEquals(List.of(levelData.getEditorObject(secondId)), topObjects);
+    assertThrows(UnsupportedOperationException.class, () -> topObjects.clear());
+
+    top.setName("Renamed");
+    assertEquals(1, levelData.getObjectCount("Renamed"));
+    assertEquals(0, levelData.getObjectCount("Top"));
+
+    levelData.removeObjects(List.of(firstId));
+    assertEquals(0, levelData.getObjectCount("New Layer"));
+    assertEquals(1, levelData.getObjectCount("Renamed"));
+  }
 }
@@ -0,0 +1,151 @@
+package oogasalad.editor.model.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the HitboxQuadTree class, checked against a brute-force scan.
+ * @author Jacob You
+ */
+class HitboxQuadTreeTest {
+
+  private HitboxQuadTree tree;
+  private Map<UUID, int[]> boxes;
+
+  @BeforeEach
+  void setUp() {
+    tree = new HitboxQuadTree();
+    boxes = new HashMap<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 2000; i++) {
+      int[] box = {random.nextInt(40000) - 20000, random.nextInt(40000) - 20000,
+          1 + random.nextInt(200), 1 + random.nextInt(200)};
+      UUID id = UUID.randomUUID();
+      boxes.put(id, box);
+      tree.put(id, box[0], box[1], box[2], box[3]);
+    }
+  }
+
+  /**
+   * Tests that point queries match a scan of every hitbox, including after moves and removals.
+   */
+  @Test
+  void queryPoint_afterMovesAndRemovals_shouldMatchBruteForce() {
+    Random random = new Random(7);
+    List<UUID> ids = List.copyOf(boxes.keySet());
+    for (int i = 0; i < 500; i++) {
+      UUID id = ids.get(random.nextInt(ids.size()));
+      if (i % 5 == 0) {
+        tree.remove(id);
+        boxes.remove(id);
+      } else if (boxes.containsKey(id)) {
+        int[] box = boxes.get(id);
+        box[0] += random.nextInt(2000) - 1000;
+        box[1] += random.nextInt(2000) - 1000;
+        tree.put(id, box[0], box[1], box[2], box[3]);
+      }
+    }
+    assertEquals(boxes.size(), tree.size());
+    for (int i = 0; i < 500; i++) {
+      double px = random.nextInt(40000) - 20000;
+      double py = random.nextInt(40000) - 20000;
+      int[] target = boxes.values().stream().skip(i % boxes.size()).findFirst().orElseThrow();
+      if (i % 2 == 0) {
+        px = target[0] + 0.5;
+        py = target[1] + 0.5;
+      }
+      assertEquals(bruteForcePoint(px, py), new HashSet<>(tree.queryPoint(px, py)));
+    }
+  }
+
+  /**
+   * Tests that rectangle queries return exactly the overlapping hitboxes.
+   */
+  @Test
+  void queryRect_whenCalled_shouldMatchBruteForce() {
+    Set<UUID> expected = new HashSet<>();
+    boxes.forEach((id, box) -> {
+      if (box[0] <= 1000 && box[0] + box[2] >= -1000 && box[1] <= 500 && box[1] + box[3] >= 0) {
+        expected.add(id);
+      }
+    });
+    assertEquals(expected, new HashSet<>(tree.queryRect(-1000, 0, 2000, 500)));
+  }
+
+  /**
+   * Tests that nearest queries find the hitbox with the smallest distance to the point.
+   */
+  @Test
+  void nearest_whenCalled_shouldReturnClosestHitbox() {
+    double px = 123;
+    double py = -456;
+    double best = boxes.values().stream().mapToDouble(box -> distance(box, px, py)).min()
+        .orElseThrow();
+    UUID nearest = tree.nearest(px, py, Double.POSITIVE_INFINITY);
+    assertEquals(best, distance(boxes.get(nearest), px, py), 1e-9);
+    assertNull(tree.nearest(px, py, best / 2));
+  }
+
+  /**
+   * Tests that hitboxes far outside the initial bounds are still found.
+   */
+  @Test
+  void put_whenFarOutsideRoot_shouldGrowTree() {
+    UUID far = UUID.randomUUID();
+    tree.put(far, -5_000_000, 3_000_000, 10, 10);
+    assertEquals(List.of(far), tree.queryPoint(-4_999_995, 3_000_005));
+  }
+
+  /**
+   * Tests that the bounds match a full scan of the hitboxes after moves and removals.
+   */
+  @Test
+  void getBounds_whenHitboxesMoveAndAreRemoved_shouldMatchBruteForce() {
+    List<UUID> ids = List.copyOf(boxes.keySet());
+    for (int i = 0; i < ids.size(); i += 3) {
+      tree.remove(ids.get(i));
+      boxes.remove(ids.get(i));
+    }
+    for (int i = 1; i < ids.size(); i += 3) {
+      int[] box = {i * 7 - 9000, 50 - i, 12, 30};
+      tree.put(ids.get(i), box[0], box[1], box[2], box[3]);
+      boxes.put(ids.get(i), box);
+    }
+
+    int[] expected = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+    boxes.values().forEach(box -> {
+      expected[0] = Math.min(expected[0], box[0]);
+      expected[1] = Math.min(expected[1], box[1]);
+      expected[2] = Math.max(expected[2], box[0] + box[2]);
+      expected[3] = Math.max(expected[3], box[1] + box[3]);
+    });
+    assertArrayEquals(expected, tree.getBounds());
+    tree.clear();
+    assertNull(tree.getBounds());
+  }
+
+  private Set<UUID> bruteForcePoint(double px, double py) {
+    Set<UUID> hits = new HashSet<>();
+    boxes.forEach((id, box) -> {
+      if (px >= box[0] && px < box[0] + box[2] && py >= box[1] && py < box[1] + box[3]) {
+        hits.add(id);
+      }
+    });
+    return hits;
+  }
+
+  private double distance(int[] box, double px, double py) {
+    double dx = Math.max(Math.max(box[0] - px, 0), px - (box[0] + box[2]));
+    double dy = Math.max(Math.max(box[1] - py, 0), py - (box[1] + box[3]));
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+}
@@ -2,8 +2,12 @@ package oogasalad.editor.model.loader;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import oogasalad.editor.controller.level.EditorDataAPI;
 import oogasalad.editor.controller.listeners.EditorListenerNotifier;
@@ -12,7 +16,9 @@ import oogasalad.editor.model.data.Layer;
 import oogasalad.editor.model.loader.LevelDataConverter;
 import oogasalad.editor.model.saver.api.EditorFileConverterAPI;
 import oogasalad.exceptions.EditorSaveException;
+import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
 import oogasalad.filesaver.savestrategy.SaverStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +73,69 @@ public class LevelDataConverterTest {
     assertEquals("objectID", cam.getStringParam("objectToTrack"));
   }
 
+  /**
+   * Preparing a level only builds its objects; applying it adds them and one layer per z-value.
+   */
+  @Test
+  public void prepareLevelData_ManyObjects_LeavesLevelUntouchedUntilApplied() throws Exception {
+    BlueprintData blueprint = new BlueprintData(1, 0, 0, 0, false, "game", "enemies", "goomba",
+        null, null, List.of(), Map.of(), Map.of(), List.of());
+    List<GameObjectData> objects = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      objects.add(new GameObjectData("goomba" + i, 1, UUID.randomUUID(), i * 10, 0, i % 2, ""));
+    }
+    fileConverter.setLevelData(new LevelData("level", 0, 0, 0, 0,
+        new CameraData("Tracker", Map.of(), Map.of()), Map.of(1, blueprint), objects));
+    AtomicInteger lastProgress = new AtomicInteger();
+
+    LevelDataConverter.PreparedLevel prepared = converter.prepareLevelData(dataAPI,
+        editorLevelData, fileConverter, "ignoredPath", new LevelLoadMonitor() {
+          @Override
+          public void progress(int done, int total) {
+            lastProgress.accumulateAndGet(done, Math::max);
+          }
+
+          @Override
+          public boolean isCancelled() {
+            return false;
+          }
+        });
+
+    assertEquals(200, prepared.getObjectCount());
+    assertEquals(200, lastProgress.get());
+    assertTrue(editorLevelData.getObjectDataMap().isEmpty());
+
+    converter.applyLevelData(editorLevelData, prepared);
+
+    assertEquals(200, editorLevelData.getObjectDataMap().size());
+    assertEquals(List.of("Layer_1", "Layer_0"),
+        editorLevelData.getLayers().stream().map(Layer::getName).toList());
+    assertEquals(100, editorLevelData.getObjectCount("Layer_0"));
+    assertTrue(editorLevelData.getGroups().contains("enemies"));
+  }
+
+  /**
+   * A cancelled preparation stops with a CancellationException.
+   */
+  @Test
+  public void prepareLevelData_Cancelled_Throws() {
+    fileConverter.setLevelData(new LevelData("level", 0, 0, 0, 0,
+        new CameraData("Tracker", Map.of(), Map.of()), Map.of(), List.of()));
+    LevelLoadMonitor cancelled = new LevelLoadMonitor() {
+      @Override
+      public void progress(int done, int total) {
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return true;
+      }
+    };
+
+    assertThrows(CancellationException.class, () -> converter.prepareLevelData(dataAPI,
+        editorLevelData, fileConverter, "ignoredPath", cancelled));
+  }
+
   /**
    * Simple stub implementing EditorDataAPI by returning a fixed EditorLevelData.
    */
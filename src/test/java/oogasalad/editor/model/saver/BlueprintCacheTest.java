@@ -0,0 +1,105 @@
+package oogasalad.editor.model.saver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.editor.controller.level.EditorDataAPI;
+import oogasalad.editor.controller.listeners.EditorListenerNotifier;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.LevelData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that saved blueprints are reused until their object changes.
+ *
+ * @author Jacob You
+ */
+class BlueprintCacheTest {
+
+  private EditorDataAPI dataAPI;
+  private BlueprintCache cache;
+  private UUID first;
+  private UUID second;
+
+  @BeforeEach
+  void setUp() {
+    dataAPI = new EditorDataAPI(new EditorListenerNotifier());
+    cache = new BlueprintCache();
+    first = dataAPI.createEditorObject();
+    second = dataAPI.createEditorObject();
+  }
+
+  @Test
+  void blueprintsFor_ObjectsUnchanged_ReusesBlueprints() {
+    BlueprintData before = blueprintOf(first);
+
+    assertSame(before, blueprintOf(first));
+  }
+
+  @Test
+  void blueprintsFor_ObjectEdited_RebuildsOnlyThatBlueprint() {
+    BlueprintData untouched = blueprintOf(second);
+    BlueprintData before = blueprintOf(first);
+
+    dataAPI.getIdentityDataAPI().setType(first, "enemy");
+
+    assertNotEquals(before, blueprintOf(first));
+    assertSame(untouched, blueprintOf(second));
+  }
+
+  @Test
+  void blueprintsFor_EditUndone_RebuildsBlueprint() {
+    BlueprintData before = blueprintOf(first);
+    dataAPI.getIdentityDataAPI().setType(first, "enemy");
+    blueprintOf(first);
+
+    dataAPI.undo();
+
+    assertEquals(before, blueprintOf(first));
+  }
+
+  @Test
+  void blueprintsFor_EqualObjects_ShareOneBlueprint() {
+    BlueprintData a = blueprintOf(first);
+    dataAPI.getIdentityDataAPI().setType(second, "enemy");
+    assertNotSame(a, blueprintOf(second));
+
+    dataAPI.getIdentityDataAPI().setType(second, dataAPI.getIdentityDataAPI().getType(first));
+
+    assertSame(a, blueprintOf(second));
+  }
+
+  @Test
+  void buildLevelData_WithCache_GivesEqualObjectsOneBlueprintId() {
+    dataAPI.getIdentityDataAPI().setType(second, "enemy");
+    EditorDataSaver.buildLevelData(dataAPI.getLevel(), cache);
+    dataAPI.getIdentityDataAPI().setType(second, dataAPI.getIdentityDataAPI().getType(first));
+
+    LevelData level = EditorDataSaver.buildLevelData(dataAPI.getLevel(), cache);
+
+    assertEquals(1, level.gameBluePrintData().size());
+    assertEquals(1, level.gameBluePrintData().get(1).blueprintId());
+    assertEquals(2, level.gameObjects().size());
+  }
+
+  @Test
+  void blueprintsFor_ObjectRemoved_ForgetsItsBlueprint() {
+    blueprintOf(first);
+
+    dataAPI.removeEditorObject(second);
+    cache.blueprintsFor(dataAPI.getLevel().getObjectDataMap());
+
+    assertEquals(1, cache.size());
+  }
+
+  private BlueprintData blueprintOf(UUID id) {
+    Map<UUID, BlueprintData> blueprints = cache.blueprintsFor(
+        dataAPI.getLevel().getObjectDataMap());
+    return blueprints.get(id);
+  }
+}
@@ -0,0 +1,106 @@
+package oogasalad.editor.model.saver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import oogasalad.exceptions.EditorSaveException;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import oogasalad.filesaver.savestrategy.SaverStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests backup rotation, skipping unchanged snapshots and crash recovery of the editor autosave.
+ *
+ * @author Jacob You
+ */
+class EditorAutosaveTest {
+
+  @TempDir
+  Path directory;
+
+  private final SaverStrategy nameWriter = new SaverStrategy() {
+    @Override
+    public void save(LevelData levelData, File outputFile) throws EditorSaveException {
+      try {
+        Files.writeString(outputFile.toPath(), levelData.name());
+      } catch (IOException e) {
+        throw new EditorSaveException("write failed", e);
+      }
+    }
+
+    @Override
+    public void saveSpriteSheet(SpriteSheetData spriteSheetData, File outputFile) {
+    }
+  };
+
+  @Test
+  void write_SeveralSnapshots_KeepsNewestAndRotatesBackups() throws Exception {
+    EditorAutosave autosave = new EditorAutosave(directory, nameWriter, 1);
+
+    autosave.write(level("first"));
+    autosave.write(level("second"));
+    autosave.write(level("third"));
+
+    assertEquals("third", Files.readString(autosave.savePath(0)));
+    assertEquals("second", Files.readString(autosave.savePath(1)));
+    assertFalse(Files.exists(autosave.savePath(2)));
+  }
+
+  @Test
+  void write_SnapshotUnchanged_SkipsWrite() throws Exception {
+    EditorAutosave autosave = new EditorAutosave(directory, nameWriter, 1);
+    autosave.write(level("same"));
+
+    assertFalse(autosave.write(level("same")));
+    assertFalse(Files.exists(autosave.savePath(1)));
+  }
+
+  @Test
+  void findRecoverable_SessionCrashed_ReportsItsAutosaveUntilDiscarded() throws Exception {
+    Files.writeString(directory.resolve("crashed.lock"), "crashed.xml");
+    Path save = Files.writeString(directory.resolve("crashed.xml"), "lost work");
+    EditorAutosave autosave = new EditorAutosave(directory, nameWriter, 1);
+
+    assertEquals(List.of(save), autosave.findRecoverable());
+
+    autosave.discard(save);
+    assertTrue(autosave.findRecoverable().isEmpty());
+    assertFalse(Files.exists(save));
+  }
+
+  @Test
+  void start_RunningSession_IsNotRecoverableAndCleansUpOnStop() throws Exception {
+    EditorAutosave autosave = new EditorAutosave(directory, nameWriter, 1);
+
+    autosave.start(() -> level("live"), Duration.ofMillis(10), Runnable::run, message -> {
+    });
+    awaitTrue(() -> Files.exists(autosave.savePath(0)));
+    assertTrue(new EditorAutosave(directory, nameWriter, 1).findRecoverable().isEmpty());
+
+    autosave.stop();
+    awaitTrue(() -> !Files.exists(autosave.savePath(0)));
+  }
+
+  private LevelData level(String name) {
+    return new LevelData(name, 0, 0, 0, 0, null, Map.of(), List.of());
+  }
+
+  private void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+}
@@ -0,0 +1,99 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import oogasalad.editor.model.data.Layer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests that the EditorChunkCache renders each chunk once and re-renders only invalidated ones.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class EditorChunkCacheTest {
+
+  private static final int SIZE = EditorChunkCache.CHUNK_SIZE;
+
+  private final UUID objectId = UUID.randomUUID();
+  private final Layer layer = new Layer("Main", 0);
+  private final List<double[]> rendered = new ArrayList<>();
+  private EditorChunkCache cache;
+  private GraphicsContext target;
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @BeforeEach
+  void setUp() {
+    rendered.clear();
+    cache = new EditorChunkCache((gc, chunkLayer, chunkX, chunkY, size) -> {
+      rendered.add(new double[]{chunkX, chunkY});
+      gc.setFill(Color.RED);
+      gc.fillRect(10, 10, 32, 32);
+      return chunkX == 0 && chunkY == 0 ? List.of(objectId) : List.of();
+    });
+  }
+
+  @Test
+  void drawLayer_PannedWithinCachedChunks_RendersEachChunkOnce(FxRobot robot) {
+    robot.interact(() -> {
+      target = new Canvas(800, 600).getGraphicsContext2D();
+      cache.drawLayer(target, layer, 0, 0, 2 * SIZE - 1, SIZE - 1, 1);
+      cache.drawLayer(target, layer, 100, 0, 2 * SIZE - 1, SIZE - 1, 1);
+    });
+
+    assertEquals(2, rendered.size());
+  }
+
+  @Test
+  void invalidateObject_ObjectInOneChunk_RerendersOnlyThatChunk(FxRobot robot) {
+    robot.interact(() -> {
+      target = new Canvas(800, 600).getGraphicsContext2D();
+      cache.drawLayer(target, layer, 0, 0, 2 * SIZE - 1, SIZE - 1, 1);
+      rendered.clear();
+      cache.invalidateObject(objectId);
+      cache.drawLayer(target, layer, 0, 0, 2 * SIZE - 1, SIZE - 1, 1);
+    });
+
+    assertEquals(1, rendered.size());
+    assertEquals(0, rendered.get(0)[0]);
+  }
+
+  @Test
+  void drawLayer_ZoomIntoAnotherResolution_RerendersChunks(FxRobot robot) {
+    robot.interact(() -> {
+      target = new Canvas(800, 600).getGraphicsContext2D();
+      cache.drawLayer(target, layer, 0, 0, SIZE - 1, SIZE - 1, 1);
+      cache.drawLayer(target, layer, 0, 0, SIZE - 1, SIZE - 1, 0.9);
+      cache.drawLayer(target, layer, 0, 0, SIZE - 1, SIZE - 1, 0.4);
+    });
+
+    assertEquals(2, rendered.size());
+  }
+
+  @Test
+  void drawLayer_ZoomedPastHighestResolution_PaintsVisibleRegionLive(FxRobot robot) {
+    robot.interact(() -> {
+      target = new Canvas(800, 600).getGraphicsContext2D();
+      cache.drawLayer(target, layer, 100, 50, 300, 200, 4);
+      cache.drawLayer(target, layer, 100, 50, 300, 200, 4);
+    });
+
+    assertEquals(2, rendered.size());
+    assertEquals(100, rendered.get(0)[0]);
+    assertEquals(50, rendered.get(0)[1]);
+  }
+}
@@ -0,0 +1,62 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests the grid tile cache and its level-of-detail rule.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class EditorGridPatternCacheTest {
+
+  private final EditorGridPatternCache cache = new EditorGridPatternCache();
+  private Image first;
+  private Image second;
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @Test
+  void lineSpacing_CellsLargeOnScreen_KeepsEveryLine() {
+    assertEquals(32, EditorGridPatternCache.lineSpacing(32, 0.5));
+  }
+
+  @Test
+  void lineSpacing_CellsTooSmallOnScreen_DropsMinorLines() {
+    assertEquals(16, EditorGridPatternCache.lineSpacing(4, 0.5));
+  }
+
+  @Test
+  void tileFor_SameSpacingTwice_ReusesTile(FxRobot robot) {
+    robot.interact(() -> {
+      first = cache.tileFor(32, 1, Color.GRAY);
+      second = cache.tileFor(32.2, 1, Color.GRAY);
+    });
+
+    assertSame(first, second);
+    assertEquals(32, first.getWidth());
+  }
+
+  @Test
+  void tileFor_DifferentSpacing_RendersNewTile(FxRobot robot) {
+    robot.interact(() -> {
+      first = cache.tileFor(32, 1, Color.GRAY);
+      second = cache.tileFor(48, 1, Color.GRAY);
+    });
+
+    assertNotSame(first, second);
+    assertEquals(48, second.getWidth());
+  }
+}
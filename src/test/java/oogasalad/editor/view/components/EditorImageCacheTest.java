@@ -0,0 +1,90 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests sharing, reference counting and eviction in the editor's URL-keyed image cache.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class EditorImageCacheTest {
+
+  private static final long IMAGE_BYTES = 10 * 10 * 4;
+
+  private final List<String> loaded = new ArrayList<>();
+  private final EditorImageCache cache = new EditorImageCache(2 * IMAGE_BYTES, this::load,
+      users -> {
+      });
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @Test
+  void acquire_SameFileSpelledDifferently_LoadsOnceAndShares() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    Image a = cache.acquire(first, "file:/tmp/sheets/hero.png");
+    Image b = cache.acquire(second, "file:/tmp/sheets/../sheets/hero.png");
+
+    assertSame(a, b);
+    assertEquals(1, loaded.size());
+    assertEquals(2, cache.getReferenceCount("file:/tmp/sheets/hero.png"));
+    assertEquals(IMAGE_BYTES, cache.getDecodedBytes());
+  }
+
+  @Test
+  void release_OverBudget_EvictsOnlyUnusedImagesOldestFirst() {
+    UUID keeper = UUID.randomUUID();
+    cache.acquire(keeper, "file:/tmp/a.png");
+    UUID other = UUID.randomUUID();
+    cache.acquire(other, "file:/tmp/b.png");
+    cache.release(other);
+    assertEquals(2, cache.size());
+
+    cache.acquire(UUID.randomUUID(), "file:/tmp/c.png");
+
+    assertEquals(2, cache.size());
+    assertEquals(0, cache.getReferenceCount("file:/tmp/b.png"));
+    assertNotNull(cache.get(keeper));
+    cache.acquire(other, "file:/tmp/b.png");
+    assertEquals(4, loaded.size());
+  }
+
+  @Test
+  void acquire_AfterLoadFailed_RetriesAndKeepsUsers() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    cache.acquire(first, "broken:image");
+    cache.acquire(second, "broken:image");
+    assertNull(cache.get(first));
+
+    cache.acquire(first, "broken:image");
+
+    assertEquals(2, cache.getReferenceCount("broken:image"));
+    assertEquals(3, loaded.size());
+  }
+
+  private Image load(String url) {
+    loaded.add(url);
+    if (url.startsWith("broken")) {
+      return new Image("file:/nonexistent/" + UUID.randomUUID() + ".png");
+    }
+    return new WritableImage(10, 10);
+  }
+}
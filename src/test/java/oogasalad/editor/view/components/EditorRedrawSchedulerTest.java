@@ -0,0 +1,59 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests that the EditorRedrawScheduler collapses redraw requests into one repaint per pulse.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class EditorRedrawSchedulerTest {
+
+  private final AtomicInteger gridPaints = new AtomicInteger();
+  private final AtomicInteger objectPaints = new AtomicInteger();
+  private final AtomicInteger selectionPaints = new AtomicInteger();
+  private EditorRedrawScheduler scheduler;
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @BeforeEach
+  void setUp() {
+    scheduler = new EditorRedrawScheduler(gridPaints::incrementAndGet,
+        objectPaints::incrementAndGet, selectionPaints::incrementAndGet);
+  }
+
+  @Test
+  void handle_ManyRequestsInOnePulse_PaintsEachDirtyLayerOnce() {
+    for (int i = 0; i < 50; i++) {
+      scheduler.request(EditorRedrawScheduler.OBJECTS | EditorRedrawScheduler.SELECTION);
+    }
+    scheduler.request(EditorRedrawScheduler.SELECTION);
+
+    scheduler.handle(0);
+
+    assertEquals(0, gridPaints.get());
+    assertEquals(1, objectPaints.get());
+    assertEquals(1, selectionPaints.get());
+  }
+
+  @Test
+  void handle_NoRequestsSinceLastPulse_PaintsNothing() {
+    scheduler.request(EditorRedrawScheduler.GRID);
+    scheduler.handle(0);
+    scheduler.handle(1);
+
+    assertEquals(1, gridPaints.get());
+    assertEquals(0, objectPaints.get());
+    assertEquals(0, selectionPaints.get());
+  }
+}
@@ -0,0 +1,73 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests rendering level thumbnails from parsed level files.
+ * @author Tatum McKinnis
+ */
+class LevelDataMinimapSourceTest {
+
+  private static final int PLACEHOLDER = 0xFF00FF00;
+  private static final int BACKGROUND = 0xFFFFFFFF;
+
+  @Test
+  void marksIn_SpriteOffsetFromHitbox_PlacesMarkWhereEngineDrawsSprite() {
+    LevelDataMinimapSource source = new LevelDataMinimapSource(
+        level(object(1, 100, 200, 0)), file -> null, PLACEHOLDER);
+
+    List<LevelMinimapRaster.Mark> marks = source.marksIn(0, 0, 1000, 1000);
+
+    assertEquals(List.of(new LevelMinimapRaster.Mark(90, 195, 32, 48, PLACEHOLDER)), marks);
+  }
+
+  @Test
+  void marksIn_ObjectsOnSeveralLayers_OrdersHigherLayersFirst() {
+    LevelDataMinimapSource source = new LevelDataMinimapSource(
+        level(object(1, 0, 0, 0), object(1, 500, 0, 2)), file -> null, PLACEHOLDER);
+
+    List<LevelMinimapRaster.Mark> marks = source.marksIn(-100, -100, 1000, 1000);
+
+    assertEquals(490, marks.get(0).x());
+    assertEquals(-10, marks.get(1).x());
+  }
+
+  @Test
+  void render_FitsRasterToObjects() {
+    LevelDataMinimapSource source = new LevelDataMinimapSource(
+        level(object(1, 10, 5, 0), object(1, 410, 5, 0)), file -> null, PLACEHOLDER);
+
+    LevelMinimapRaster raster = source.render(100, 100, BACKGROUND);
+
+    assertEquals(100, raster.getWidth());
+    assertEquals(PLACEHOLDER, raster.getArgb(0, 0));
+    assertEquals(PLACEHOLDER, raster.getArgb(99, 0));
+  }
+
+  private static GameObjectData object(int blueprintId, int x, int y, int layer) {
+    return new GameObjectData("object", blueprintId, UUID.randomUUID(), x, y, layer, "layer");
+  }
+
+  private static LevelData level(GameObjectData... objects) {
+    FrameData frame = new FrameData("idle", 0, 0, 32, 48);
+    SpriteData sprite = new SpriteData("player", new File("missing.png"), frame, List.of(frame),
+        List.of());
+    BlueprintData blueprint = new BlueprintData(1, 0, 0, 0, false, "game", "group", "type",
+        sprite, new HitBoxData("RECTANGLE", 16, 40, -10, -5), new ArrayList<>(), Map.of(),
+        Map.of(), List.of());
+    return new LevelData("level", 0, 0, 0, 0, null, Map.of(1, blueprint), List.of(objects));
+  }
+}
@@ -0,0 +1,166 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests the level overview raster and its incremental updates.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class LevelMinimapRasterTest {
+
+  private static final int BACKGROUND = 0xFFFFFFFF;
+  private static final int RED = 0xFFFF0000;
+  private static final int BLUE = 0xFF0000FF;
+
+  private final List<LevelMinimapRaster.Mark> marks = new ArrayList<>();
+  private final List<double[]> queries = new ArrayList<>();
+  private LevelMinimapRaster raster;
+  private int uploadedArgb;
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @BeforeEach
+  void setUp() {
+    raster = new LevelMinimapRaster((minX, minY, maxX, maxY) -> {
+      queries.add(new double[]{minX, minY, maxX, maxY});
+      return new ArrayList<>(marks);
+    }, 200, 150, BACKGROUND);
+  }
+
+  @Test
+  void setWorldBounds_WideLevel_ScalesToFitWidth() {
+    assertTrue(raster.setWorldBounds(0, 0, 1000, 500));
+
+    assertEquals(200, raster.getWidth());
+    assertEquals(100, raster.getHeight());
+    assertEquals(5, raster.getWorldPerPixel());
+  }
+
+  @Test
+  void setWorldBounds_SameBoundsTwice_ReportsNoChange() {
+    raster.setWorldBounds(0, 0, 1000, 500);
+
+    assertFalse(raster.setWorldBounds(0, 0, 1000, 500));
+  }
+
+  @Test
+  void update_AfterBoundsSet_DrawsMarksOverBackground() {
+    marks.add(new LevelMinimapRaster.Mark(100, 100, 50, 50, RED));
+    raster.setWorldBounds(0, 0, 1000, 500);
+
+    assertTrue(raster.update());
+
+    assertEquals(RED, raster.getArgb(25, 25));
+    assertEquals(BACKGROUND, raster.getArgb(5, 5));
+    assertFalse(raster.update());
+  }
+
+  @Test
+  void update_LaterMarks_DrawnOnTop() {
+    marks.add(new LevelMinimapRaster.Mark(0, 0, 100, 100, RED));
+    marks.add(new LevelMinimapRaster.Mark(50, 50, 100, 100, BLUE));
+    raster.setWorldBounds(0, 0, 1000, 500);
+
+    raster.update();
+
+    assertEquals(RED, raster.getArgb(2, 2));
+    assertEquals(BLUE, raster.getArgb(15, 15));
+  }
+
+  @Test
+  void update_MarkSmallerThanPixel_StillCoversOnePixel() {
+    marks.add(new LevelMinimapRaster.Mark(502, 252, 1, 1, RED));
+    raster.setWorldBounds(0, 0, 1000, 500);
+
+    raster.update();
+
+    assertEquals(RED, raster.getArgb(100, 50));
+  }
+
+  @Test
+  void invalidate_SmallRegion_RedrawsOnlyThatRegion() {
+    raster.setWorldBounds(0, 0, 1000, 500);
+    raster.update();
+    queries.clear();
+    marks.add(new LevelMinimapRaster.Mark(0, 0, 1000, 500, RED));
+
+    raster.invalidate(100, 100, 150, 150);
+    raster.update();
+
+    assertEquals(1, queries.size());
+    double[] query = queries.get(0);
+    assertTrue(query[0] >= 90 && query[2] <= 160);
+    assertEquals(RED, raster.getArgb(25, 25));
+    assertEquals(BACKGROUND, raster.getArgb(150, 80));
+  }
+
+  @Test
+  void invalidate_OutsideRaster_Ignored() {
+    raster.setWorldBounds(0, 0, 1000, 500);
+    raster.update();
+
+    raster.invalidate(2000, 2000, 2100, 2100);
+
+    assertFalse(raster.update());
+  }
+
+  @Test
+  void toArgb_PacksChannelsWithAlphaOnTop() {
+    assertEquals(0xFF336699, LevelMinimapRaster.toArgb(Color.web("#336699")));
+    assertEquals(0x80FF0000, LevelMinimapRaster.toArgb(Color.rgb(255, 0, 0, 128 / 255.0)));
+  }
+
+  @Test
+  void toWorld_RoundTripsThroughRaster() {
+    raster.setWorldBounds(-500, -250, 500, 250);
+
+    assertEquals(0, raster.toWorldX(raster.toRasterX(0)), 1e-9);
+    assertEquals(100, raster.toRasterX(0), 1e-9);
+    assertEquals(-250, raster.toWorldY(0), 1e-9);
+  }
+
+  @Test
+  void getImage_AfterIncrementalUpdate_ShowsNewPixels(FxRobot robot) {
+    raster.setWorldBounds(0, 0, 1000, 500);
+    raster.update();
+    robot.interact(() -> raster.getImage());
+    marks.add(new LevelMinimapRaster.Mark(100, 100, 50, 50, RED));
+    raster.invalidate(100, 100, 150, 150);
+    raster.update();
+
+    robot.interact(() -> uploadedArgb = raster.getImage().getPixelReader().getArgb(25, 25));
+
+    assertEquals(RED, uploadedArgb);
+  }
+
+  @Test
+  void averageColor_IgnoresTransparentPixels(FxRobot robot) {
+    robot.interact(() -> {
+      WritableImage image = new WritableImage(4, 4);
+      image.getPixelWriter().setColor(1, 1, Color.BLUE);
+      image.getPixelWriter().setColor(2, 1, Color.BLUE);
+      image.getPixelWriter().setColor(1, 2, Color.BLUE);
+      image.getPixelWriter().setColor(2, 2, Color.BLUE);
+      uploadedArgb = LevelMinimapRaster.averageColor(image, 0, 0, 4, 4);
+    });
+
+    assertEquals(BLUE, uploadedArgb);
+  }
+}
@@ -0,0 +1,88 @@
+package oogasalad.editor.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javafx.scene.image.Image;
+import javafx.stage.Stage;
+import javax.imageio.ImageIO;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+/**
+ * Tests that prefab thumbnails are scaled, kept in memory and reused from disk.
+ * @author Tatum McKinnis
+ */
+@ExtendWith(ApplicationExtension.class)
+class PrefabThumbnailCacheTest {
+
+  private static final FrameData FRAME = new FrameData("idle", 0, 0, 128, 64);
+
+  @TempDir
+  Path tempDir;
+  private File sheet;
+  private Path thumbnails;
+
+  @Start
+  private void start(Stage stage) {
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    sheet = tempDir.resolve("sheet.png").toFile();
+    ImageIO.write(new BufferedImage(256, 128, BufferedImage.TYPE_INT_ARGB), "png", sheet);
+    thumbnails = tempDir.resolve("thumbnails");
+  }
+
+  @Test
+  void request_FirstTime_ScalesFrameInBackgroundAndKeepsItInMemory() throws Exception {
+    PrefabThumbnailCache cache = new PrefabThumbnailCache(thumbnails, 64, Runnable::run);
+
+    Image thumbnail = await(cache);
+
+    assertEquals(64, thumbnail.getWidth());
+    assertEquals(32, thumbnail.getHeight());
+    assertSame(thumbnail, cache.request(sheet, FRAME, image -> {
+    }));
+  }
+
+  @Test
+  void request_InLaterSession_ReusesThumbnailFromDisk() throws Exception {
+    await(new PrefabThumbnailCache(thumbnails, 64, Runnable::run));
+    Path stored;
+    try (Stream<Path> files = Files.list(thumbnails)) {
+      stored = files.findFirst().orElseThrow();
+    }
+    long written = Files.getLastModifiedTime(stored).toMillis();
+
+    PrefabThumbnailCache nextSession = new PrefabThumbnailCache(thumbnails, 64, Runnable::run);
+    CompletableFuture<Image> ready = new CompletableFuture<>();
+    assertNull(nextSession.request(sheet, FRAME, ready::complete));
+    assertNotNull(ready.get(10, TimeUnit.SECONDS));
+
+    try (Stream<Path> files = Files.list(thumbnails)) {
+      assertEquals(1, files.count());
+    }
+    assertEquals(written, Files.getLastModifiedTime(stored).toMillis());
+  }
+
+  private Image await(PrefabThumbnailCache cache) throws Exception {
+    CompletableFuture<Image> ready = new CompletableFuture<>();
+    Image cached = cache.request(sheet, FRAME, ready::complete);
+    return cached != null ? cached : ready.get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,81 @@
+package oogasalad.editor.view.sprites;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import oogasalad.editor.view.panes.sprite_creation.AlphaIslandSlicer;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.Test;
+
+class AlphaIslandSlicerTest {
+
+  private static final int OPAQUE = 0xFF00FF00;
+  private static final int FAINT = 0x10000000;
+
+  @Test
+  void slice_SeparateIslands_OneFramePerIslandInReadingOrder() {
+    int width = 20;
+    int[] argb = new int[width * 10];
+    fill(argb, width, 12, 1, 4, 3);
+    fill(argb, width, 2, 2, 3, 5);
+
+    List<FrameData> frames = new AlphaIslandSlicer(0, 1).slice(argb, width, 10);
+
+    assertEquals(List.of(
+        new FrameData("sprite_0", 12, 1, 4, 3),
+        new FrameData("sprite_1", 2, 2, 3, 5)), frames);
+  }
+
+  @Test
+  void slice_PixelsTouchingAtCorner_MergedIntoOneIsland() {
+    int width = 4;
+    int[] argb = new int[width * 4];
+    argb[0] = OPAQUE;
+    argb[width + 1] = OPAQUE;
+    argb[2 * width + 2] = OPAQUE;
+
+    assertEquals(List.of(new FrameData("sprite_0", 0, 0, 3, 3)),
+        new AlphaIslandSlicer(0, 1).slice(argb, width, 4));
+  }
+
+  @Test
+  void slice_IslandSpanningManyBands_MergedAcrossBandEdges() {
+    int width = 8;
+    int height = 2048;
+    int[] argb = new int[width * height];
+    for (int y = 0; y < height; y++) {
+      argb[y * width + (y % 2 == 0 ? 3 : 4)] = OPAQUE;
+    }
+
+    assertEquals(List.of(new FrameData("sprite_0", 3, 0, 2, height)),
+        new AlphaIslandSlicer(0, 1).slice(argb, width, height));
+  }
+
+  @Test
+  void slice_ThresholdAndMinArea_DropFaintPixelsAndSmallIslands() {
+    int width = 10;
+    int[] argb = new int[width * 10];
+    fill(argb, width, 0, 0, 3, 3);
+    argb[5 * width + 8] = OPAQUE;
+    for (int x = 5; x < 10; x++) {
+      argb[9 * width + x] = FAINT;
+    }
+
+    assertEquals(List.of(new FrameData("sprite_0", 0, 0, 3, 3)),
+        new AlphaIslandSlicer(0x20, 2).slice(argb, width, 10));
+  }
+
+  @Test
+  void constructor_ThresholdOutOfRange_Throws() {
+    assertThrows(IllegalArgumentException.class, () -> new AlphaIslandSlicer(256, 1));
+  }
+
+  private static void fill(int[] argb, int width, int x, int y, int w, int h) {
+    for (int row = y; row < y + h; row++) {
+      for (int col = x; col < x + w; col++) {
+        argb[row * width + col] = OPAQUE;
+      }
+    }
+  }
+}
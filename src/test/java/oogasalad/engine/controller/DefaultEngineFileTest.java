@@ -89,4 +89,16 @@ class DefaultEngineFileTest {
     assertEquals(expectedObjects.getFirst().getType(), myActualObjects.getFirst().getType());
   }
 
-}
\ No newline at end of file
+  @Test
+  void loadFileToEngine_GameChangesParams_LevelDataCanBeReplayed()
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+    GameObject firstRun = myEngineFile.loadFileToEngine(levelData).values().iterator().next();
+    firstRun.getDoubleParams().put("health", 0.0);
+
+    GameObject secondRun = myEngineFile.loadFileToEngine(levelData).values().iterator().next();
+
+    assertTrue(levelData.gameBluePrintData().get(1).doubleProperties().isEmpty());
+    assertFalse(secondRun.getDoubleParams().containsKey("health"));
+  }
+
+}
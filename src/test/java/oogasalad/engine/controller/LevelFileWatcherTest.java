@@ -0,0 +1,64 @@
+package oogasalad.engine.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LevelFileWatcherTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  @TempDir
+  Path directory;
+
+  private final BlockingQueue<Set<Path>> reported = new LinkedBlockingQueue<>();
+  private LevelFileWatcher watcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    watcher = new LevelFileWatcher(Duration.ofMillis(50), reported::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    watcher.close();
+  }
+
+  @Test
+  void watch_WatchedFileModified_ReportsOnlyThatFile() throws Exception {
+    Path level = Files.writeString(directory.resolve("level.xml"), "<level/>");
+    Path sibling = Files.writeString(directory.resolve("other.xml"), "<other/>");
+    watcher.watch(level);
+
+    Files.writeString(sibling, "<other edited=\"true\"/>");
+    Files.writeString(level, "<level edited=\"true\"/>");
+
+    Set<Path> changed = reported.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertNotNull(changed);
+    assertEquals(Set.of(level.toAbsolutePath().normalize()), changed);
+  }
+
+  @Test
+  void unwatchAll_FileModifiedAfterwards_NothingReported() throws Exception {
+    Path level = Files.writeString(directory.resolve("level.xml"), "<level/>");
+    watcher.watch(level);
+    watcher.unwatchAll();
+
+    Files.writeString(level, "<level edited=\"true\"/>");
+
+    assertNull(reported.poll(1, TimeUnit.SECONDS));
+  }
+}
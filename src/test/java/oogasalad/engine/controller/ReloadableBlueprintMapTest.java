@@ -0,0 +1,86 @@
+package oogasalad.engine.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReloadableBlueprintMapTest {
+
+  private static final SpriteRequest MARIO_REQUEST =
+      new SpriteRequest("Mario", "Player", "Player", "Mario", "player.xml");
+  private static final SpriteRequest OTHER_MARIO_REQUEST =
+      new SpriteRequest("Mario", "Player", "Player", "Mario", "player-alt.xml");
+
+  private BlueprintData mario;
+  private BlueprintData goomba;
+  private BlueprintData otherMario;
+  private ReloadableBlueprintMap blueprints;
+
+  @BeforeEach
+  void setUp() {
+    mario = blueprint(1, "Player", sprite("Mario", "mario.png"));
+    goomba = blueprint(2, "Enemy", sprite("Goomba", "goomba.png"));
+    otherMario = blueprint(3, "Player", sprite("Mario", "mario-alt.png"));
+    Map<Integer, BlueprintData> parsed = new HashMap<>();
+    parsed.put(1, mario);
+    parsed.put(2, goomba);
+    parsed.put(3, otherMario);
+    Map<SpriteData, SpriteRequest> sources = new IdentityHashMap<>();
+    sources.put(mario.spriteData(), MARIO_REQUEST);
+    sources.put(otherMario.spriteData(), OTHER_MARIO_REQUEST);
+    blueprints = new ReloadableBlueprintMap(parsed, sources);
+  }
+
+  @Test
+  void get_NoSpriteReloaded_ReturnsParsedBlueprint() {
+    assertSame(mario, blueprints.get(1));
+    assertEquals(3, blueprints.size());
+  }
+
+  @Test
+  void get_SpriteReloaded_ReplacesSpriteOfBlueprintsUsingIt() {
+    SpriteData reloaded = sprite("Mario", "mario-v2.png");
+    blueprints.reloadSprite(MARIO_REQUEST, reloaded);
+
+    assertSame(reloaded, blueprints.get(1).spriteData());
+    assertEquals(mario.hitBoxData(), blueprints.get(1).hitBoxData());
+    assertSame(goomba, blueprints.get(2));
+    assertSame(otherMario, blueprints.get(3));
+    assertSame(reloaded, blueprints.entrySet().stream()
+        .filter(entry -> entry.getKey() == 1).findFirst().orElseThrow().getValue().spriteData());
+  }
+
+  @Test
+  void usesSprite_MatchesOnlyBlueprintsOfTheRequest() {
+    assertTrue(blueprints.usesSprite(1, List.of(MARIO_REQUEST)));
+    assertFalse(blueprints.usesSprite(2, List.of(MARIO_REQUEST)));
+    assertFalse(blueprints.usesSprite(3, List.of(MARIO_REQUEST)));
+    assertFalse(blueprints.usesSprite(4, List.of(MARIO_REQUEST)));
+  }
+
+  private static SpriteData sprite(String name, String file) {
+    return new SpriteData(name, new File(file), new FrameData(name, 0, 0, 16, 16),
+        new ArrayList<>(), new ArrayList<>());
+  }
+
+  private static BlueprintData blueprint(int id, String group, SpriteData sprite) {
+    return new BlueprintData(id, 0, 0, 0, false, "Mario", group, group, sprite,
+        new HitBoxData("rect", 0, 0, 16, 16), new ArrayList<>(), new HashMap<>(),
+        new HashMap<>(), new ArrayList<>());
+  }
+}
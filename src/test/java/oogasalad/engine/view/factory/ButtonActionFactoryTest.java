@@ -3,7 +3,7 @@ package oogasalad.engine.view.factory;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-
+import java.util.concurrent.CompletableFuture;
 import javafx.stage.Stage;
 import oogasalad.engine.controller.api.GameManagerAPI;
 import oogasalad.engine.view.DefaultView;
@@ -52,6 +52,15 @@ class ButtonActionFactoryTest {
     assertDoesNotThrow(selectLevel::run);
   }
 
+  @Test
+  void StartGame_TexturesStillLoading_DoesNotDisplayGame() throws Exception {
+    when(mockGameManager.texturesReady()).thenReturn(new CompletableFuture<>());
+
+    buttonActionFactory.startGame().run();
+
+    verify(mockGameManager, never()).displayGameObjects();
+  }
+
   @Test
   void SelectLanguage_SetsLanguage() {
     Runnable selectLanguage = buttonActionFactory.selectLanguage("Spanish");
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.junit.jupiter.api.AfterEach;
@@ -281,4 +282,87 @@ public class BlueprintDataParserTest {
       parser.getBlueprintData(root, eventList);
     }, "A non-numeric object id should result in a BlueprintParseException");
   }
+
+  /**
+   * Tests that blueprints are returned in document order and that sprite parsing errors raised on
+   * the sprite worker threads reach the caller as {@link SpriteParseException}s.
+   *
+   * @throws Exception if an error occurs during XML parsing.
+   */
+  @Test
+  public void getBlueprintData_MultipleBlueprints_KeepsDocumentOrder() throws Exception {
+    String xml =
+        "<root>" +
+            "<game>" +
+            "<objectGroup name='GroupA'>" +
+            blueprintXml(5) + blueprintXml(1) + blueprintXml(3) +
+            "</objectGroup>" +
+            "</game>" +
+            "</root>";
+    BlueprintDataParser parser = new BlueprintDataParser();
+
+    Map<Integer, BlueprintData> blueprintDataMap = parser.getBlueprintData(loadXML(xml),
+        new ArrayList<>());
+
+    assertEquals(List.of(5, 1, 3), new ArrayList<>(blueprintDataMap.keySet()));
+  }
+
+  /**
+   * Tests that a sprite file which cannot be found fails with a {@link SpriteParseException}, even
+   * though sprites are resolved on worker threads.
+   *
+   * @throws Exception if an error occurs during XML parsing.
+   */
+  @Test
+  public void getBlueprintData_MissingSpriteFile_ThrowsSpriteParseException() throws Exception {
+    String xml =
+        "<root>" +
+            "<game name='MissingGame'>" +
+            "<objectGroup name='GroupA'>" +
+            blueprintXml(1) +
+            "</objectGroup>" +
+            "</game>" +
+            "</root>";
+    BlueprintDataParser parser = new BlueprintDataParser();
+
+    assertThrows(SpriteParseException.class,
+        () -> parser.getBlueprintData(loadXML(xml), new ArrayList<>()));
+  }
+
+  /**
+   * Tests that a lazy parse only resolves the requested blueprints up front, resolves the others
+   * on first lookup, and only reports a broken unused blueprint once it is looked up.
+   *
+   * @throws Exception if an error occurs during XML parsing.
+   */
+  @Test
+  public void getBlueprintData_LazyIds_ResolvesOthersOnDemand() throws Exception {
+    String xml =
+        "<root>" +
+            "<game>" +
+            "<objectGroup name='GroupA'>" +
+            blueprintXml(1) + blueprintXml(2) +
+            "<object id='3' velocityX='fast'/>" +
+            "</objectGroup>" +
+            "</game>" +
+            "</root>";
+    BlueprintDataParser parser = new BlueprintDataParser();
+
+    Map<Integer, BlueprintData> blueprintDataMap = parser.getBlueprintData(loadXML(xml),
+        new ArrayList<>(), Set.of(1));
+
+    assertEquals(3, blueprintDataMap.size());
+    assertTrue(blueprintDataMap.containsKey(3));
+    assertEquals(Set.of(1, 2, 3), blueprintDataMap.keySet());
+    assertEquals(2, ((LazyBlueprintMap) blueprintDataMap).pendingCount());
+    assertEquals(2, blueprintDataMap.get(2).blueprintId());
+    assertEquals(1, ((LazyBlueprintMap) blueprintDataMap).pendingCount());
+    assertThrows(IllegalStateException.class, () -> blueprintDataMap.get(3));
+  }
+
+  private String blueprintXml(int id) {
+    return "<object id='" + id + "' velocityX='0' velocityY='0' rotation='0' type='block' "
+        + "spriteName='Block' spriteFile='missing.xml' hitBoxShape='RECTANGLE' hitBoxWidth='8' "
+        + "hitBoxHeight='8' spriteDx='0' spriteDy='0'/>";
+  }
 }
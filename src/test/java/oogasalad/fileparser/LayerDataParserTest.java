@@ -191,4 +191,87 @@ public class LayerDataParserTest {
       parser.getGameObjectDataList(root);
     });
   }
+
+  /**
+   * Tests that a run-length encoded grid expands into one game object per non-empty cell, with
+   * positions derived from the tile size and stable implicit ids.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectDataList_TileGrid_ExpandsNonEmptyCells() throws Exception {
+    String xml =
+        "<root>" +
+            "<layers>" +
+            "<layer z='2'>" +
+            "<data>" +
+            "<object id='101' uid='550e8400-e29b-41d4-a716-446655440000' coordinates='(10,20)'/>" +
+            "<grid tileWidth='8' tileHeight='4' x='16' y='32' columns='3' rows='2' encoding='rle' "
+            + "names='7:brick'>2*7,2*-,5,-</grid>" +
+            "</data>" +
+            "</layer>" +
+            "</layers>" +
+            "</root>";
+    Element root = loadElementFromString(xml);
+    LayerDataParser parser = new LayerDataParser();
+
+    List<GameObjectData> gameObjectDataList = parser.getGameObjectDataList(root);
+
+    assertEquals(4, gameObjectDataList.size(), "Expected one object plus three tiles");
+    GameObjectData second = gameObjectDataList.get(2);
+    assertEquals(7, second.blueprintId());
+    assertEquals("brick", second.name());
+    assertEquals(24, second.x());
+    assertEquals(32, second.y());
+    assertEquals(2, second.layer());
+    GameObjectData last = gameObjectDataList.get(3);
+    assertEquals(5, last.blueprintId());
+    assertEquals(24, last.x());
+    assertEquals(36, last.y());
+    assertEquals(TileGridDataParser.implicitTileId(2, 0, 4), last.uniqueId());
+    assertEquals(last.uniqueId(), parser.getGameObjectDataList(root).get(3).uniqueId());
+  }
+
+  /**
+   * Tests that the grid documented in {@link TileGridDataParser} parses, including its run of
+   * empty cells.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectDataList_DocumentedTileGrid_Parses() throws Exception {
+    String xml =
+        "<root><layers><layer z='0'><data>" +
+            "<grid tileWidth='8' tileHeight='8' x='0' y='0' columns='4' rows='2' encoding='rle' "
+            + "names='3:platform'>3*3,-,2*-,2*2</grid>" +
+            "</data></layer></layers></root>";
+    Element root = loadElementFromString(xml);
+    LayerDataParser parser = new LayerDataParser();
+
+    List<GameObjectData> gameObjectDataList = parser.getGameObjectDataList(root);
+
+    assertEquals(5, gameObjectDataList.size(), "Expected three platforms and two other tiles");
+    assertEquals("platform", gameObjectDataList.get(0).name());
+    GameObjectData fourth = gameObjectDataList.get(3);
+    assertEquals(2, fourth.blueprintId());
+    assertEquals(16, fourth.x());
+    assertEquals(8, fourth.y());
+  }
+
+  /**
+   * Tests that a grid whose cells overflow its declared size is rejected.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectDataList_TileGridTooManyCells_ThrowsException() throws Exception {
+    String xml =
+        "<root><layers><layer z='1'><data>" +
+            "<grid tileWidth='8' tileHeight='8' x='0' y='0' columns='2' rows='1'>3*1</grid>" +
+            "</data></layer></layers></root>";
+    Element root = loadElementFromString(xml);
+    LayerDataParser parser = new LayerDataParser();
+
+    assertThrows(GameObjectParseException.class, () -> parser.getGameObjectDataList(root));
+  }
 }
@@ -0,0 +1,45 @@
+package oogasalad.filesaver.atlas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import oogasalad.filesaver.atlas.MaxRectsPacker.Rect;
+import org.junit.jupiter.api.Test;
+
+class MaxRectsPackerTest {
+
+  @Test
+  void insert_ExactlyFillingRects_PackedWithoutOverlap() {
+    MaxRectsPacker packer = new MaxRectsPacker(64, 64);
+    List<Rect> placed = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      Rect rect = packer.insert(16, 16);
+      assertNotNull(rect);
+      placed.add(rect);
+    }
+
+    for (int i = 0; i < placed.size(); i++) {
+      for (int j = i + 1; j < placed.size(); j++) {
+        assertFalse(placed.get(i).overlaps(placed.get(j)));
+      }
+    }
+    assertNull(packer.insert(1, 1));
+    assertEquals(64, packer.getUsedWidth());
+    assertEquals(64, packer.getUsedHeight());
+  }
+
+  @Test
+  void insertAll_NotAllFit_BinLeftUnchanged() {
+    MaxRectsPacker packer = new MaxRectsPacker(32, 32);
+    packer.insert(32, 16);
+
+    assertNull(packer.insertAll(List.of(new int[]{16, 16}, new int[]{32, 32})));
+    assertEquals(16, packer.getUsedHeight());
+    assertEquals(List.of(new Rect(0, 16, 32, 16)),
+        packer.insertAll(List.of(new int[]{32, 16})));
+  }
+}
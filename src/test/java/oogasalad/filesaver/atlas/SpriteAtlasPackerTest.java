@@ -0,0 +1,136 @@
+package oogasalad.filesaver.atlas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.filesaver.atlas.SpriteAtlasPacker.PackedSprite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpriteAtlasPackerTest {
+
+  private static final int RED = 0xFFFF0000;
+  private static final int BLUE = 0xFF0000FF;
+
+  @TempDir
+  File directory;
+
+  private File sheetFile;
+  private SpriteAtlasPacker packer;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    BufferedImage sheet = new BufferedImage(256, 128, BufferedImage.TYPE_INT_ARGB);
+    fill(sheet, 10, 20, 6, 4, RED);
+    fill(sheet, 140, 30, 3, 3, BLUE);
+    sheetFile = new File(directory, "sheet.png");
+    ImageIO.write(sheet, "png", sheetFile);
+    packer = new SpriteAtlasPacker(64, 1, new File(directory, "graphics"),
+        new File(directory, "atlasData"));
+  }
+
+  @Test
+  void packSprites_TrimmableSprite_FramesTrimmedAndOffsetShifted() throws Exception {
+    FrameData walk1 = new FrameData("walk1", 0, 0, 32, 32);
+    FrameData walk2 = new FrameData("walk2", 128, 16, 32, 32);
+    SpriteData sprite = new SpriteData("walker", sheetFile, walk1, List.of(walk1, walk2),
+        new ArrayList<>());
+
+    PackedSprite packed = packer.packSprites("game", Map.of(sprite, true)).get(sprite);
+
+    assertEquals(10, packed.shiftX());
+    assertEquals(14, packed.shiftY());
+    SpriteData atlasSprite = packed.sprite();
+    BufferedImage atlas = ImageIO.read(atlasSprite.spriteFile());
+    assertTrue(atlas.getWidth() <= 16 && Integer.bitCount(atlas.getWidth()) == 1);
+    assertTrue(Integer.bitCount(atlas.getHeight()) == 1);
+    assertEquals(6, atlasSprite.baseFrame().width());
+    assertEquals(10, atlasSprite.baseFrame().height());
+    assertEquals(RED, pixel(atlas, atlasSprite.baseFrame(), 0, 6));
+    FrameData second = atlasSprite.frames().get(1);
+    assertEquals("walk2", second.name());
+    assertEquals(BLUE, pixel(atlas, second, 2, 0));
+    assertTrue(new File(directory, "atlasData/game-atlas-0.xml").isFile());
+  }
+
+  @Test
+  void packSprites_UntrimmableSprite_FrameKeepsItsSize() throws Exception {
+    FrameData frame = new FrameData("still", 0, 0, 32, 32);
+    SpriteData sprite = new SpriteData("still", sheetFile, frame, List.of(frame),
+        new ArrayList<>());
+
+    PackedSprite packed = packer.packSprites("game", Map.of(sprite, false)).get(sprite);
+
+    assertEquals(0, packed.shiftX());
+    assertEquals(32, packed.sprite().baseFrame().width());
+    assertEquals(RED, pixel(ImageIO.read(packed.sprite().spriteFile()),
+        packed.sprite().baseFrame(), 10, 20));
+  }
+
+  @Test
+  void packSprites_SpriteLargerThanAtlas_KeepsItsSheet() throws Exception {
+    FrameData frame = new FrameData("wide", 0, 0, 256, 128);
+    SpriteData sprite = new SpriteData("wide", sheetFile, frame, List.of(frame),
+        new ArrayList<>());
+
+    assertTrue(packer.packSprites("game", Map.of(sprite, false)).isEmpty());
+  }
+
+  @Test
+  void remap_PackedSprite_BlueprintUsesAtlasAndShiftedOffset() {
+    FrameData frame = new FrameData("walk1", 0, 0, 32, 32);
+    SpriteData original = new SpriteData("walker", sheetFile, frame, List.of(frame),
+        new ArrayList<>());
+    SpriteData atlasSprite = new SpriteData("walker", new File("game-atlas-0.png"),
+        new FrameData("walk1", 0, 0, 6, 4), List.of(new FrameData("walk1", 0, 0, 6, 4)),
+        new ArrayList<>());
+    Map<Integer, BlueprintData> blueprints = new LinkedHashMap<>();
+    blueprints.put(1, new BlueprintData(1, 0, 0, 0, false, "game", "player", "player", original,
+        new HitBoxData("SQUARE", 32, 32, 2, -3), new ArrayList<>(), new HashMap<>(),
+        new HashMap<>(), new ArrayList<>()));
+    LevelData level = new LevelData("level", 0, 0, 100, 100, null, blueprints, List.of());
+
+    LevelData remapped = SpriteAtlasPacker.remap(level,
+        Map.of(original, new PackedSprite(atlasSprite, 10, 20)));
+
+    BlueprintData blueprint = remapped.gameBluePrintData().get(1);
+    assertSame(atlasSprite, blueprint.spriteData());
+    assertEquals(12, blueprint.hitBoxData().spriteDx());
+    assertEquals(17, blueprint.hitBoxData().spriteDy());
+    assertEquals(32, blueprint.hitBoxData().hitBoxWidth());
+  }
+
+  @Test
+  void constructor_AtlasSizeNotPowerOfTwo_Throws() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SpriteAtlasPacker(100, 1, directory, directory));
+  }
+
+  private static void fill(BufferedImage image, int x, int y, int w, int h, int argb) {
+    for (int row = y; row < y + h; row++) {
+      for (int col = x; col < x + w; col++) {
+        image.setRGB(col, row, argb);
+      }
+    }
+  }
+
+  private static int pixel(BufferedImage atlas, FrameData frame, int dx, int dy) {
+    return atlas.getRGB(frame.x() + dx, frame.y() + dy);
+  }
+}
@@ -1,5 +1,6 @@
 package oogasalad.filesaver.savestrategy;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -9,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import oogasalad.exceptions.EditorSaveException;
+import oogasalad.fileparser.DefaultFileParser;
 import oogasalad.fileparser.records.CameraData;
 import oogasalad.fileparser.records.FrameData;
 import oogasalad.fileparser.records.GameObjectData;
@@ -129,4 +131,27 @@ public class XMLStrategyTest {
     assertTrue(xml.contains("name=\"frame0\""));
   }
 
+  @Test
+  void save_GzipFileName_WritesCompressedLevelTheParserReads() throws Exception {
+    File gzipFile = File.createTempFile("xmlstrategy_test", ".xml.gz");
+    gzipFile.deleteOnExit();
+    List<GameObjectData> gameObjects = List.of(
+        new GameObjectData("", 1, UUID.fromString("d3fa8312-f7db-4fa3-b0d9-0b4a016bc2a5"), 0, 500, 1,
+            ""));
+    CameraData cameraData = new CameraData("Tracker", Map.of("objectToTrack", "player"), Map.of());
+    LevelData levelData = new LevelData("", -500, -700, 4000, 500, cameraData, null, gameObjects);
+
+    saver = new FileSaver();
+    saver.chooseExportType("XML");
+    saver.saveLevelData(levelData, gzipFile.getAbsolutePath());
+
+    byte[] bytes = Files.readAllBytes(gzipFile.toPath());
+    assertEquals((byte) 0x1f, bytes[0]);
+    assertEquals((byte) 0x8b, bytes[1]);
+    LevelData parsed = new DefaultFileParser().parseLevelFile(gzipFile.getAbsolutePath());
+    assertEquals(-700, parsed.minY());
+    assertEquals(1, parsed.gameObjects().size());
+    assertEquals(500, parsed.gameObjects().get(0).y());
+  }
+
 }
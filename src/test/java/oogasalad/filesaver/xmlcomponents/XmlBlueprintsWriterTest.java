@@ -12,6 +12,8 @@ import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.CameraData;
 import oogasalad.fileparser.records.EventData;
@@ -37,7 +39,9 @@ public class XmlBlueprintsWriterTest {
     LevelData levelData = getLevelData();
 
     try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile))) {
-      new XmlBlueprintsWriter(writer, levelData).write();
+      XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+      new XmlBlueprintsWriter(xml, levelData).write();
+      xml.flush();
     }
 
     String content = Files.readString(tempFile.toPath());
@@ -85,7 +89,7 @@ public class XmlBlueprintsWriterTest {
 
   @Test
   public void saveSpriteIfNeeded_DifferentSpriteNames_ReturnsDifferentFileNames() throws Exception {
-    BufferedWriter bw = new BufferedWriter(new StringWriter());
+    XMLStreamWriter bw = XMLOutputFactory.newInstance().createXMLStreamWriter(new StringWriter());
     LevelData levelData = new LevelData("lvl", 0, 0, 0, 0, new CameraData("", Map.of(), Map.of()),
         Map.of(), List.of());
     XmlBlueprintsWriter writer = new XmlBlueprintsWriter(bw, levelData);
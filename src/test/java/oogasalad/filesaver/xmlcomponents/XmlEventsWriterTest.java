@@ -8,6 +8,8 @@ import java.io.FileWriter;
 import java.nio.file.Files;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
 import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.ConditionData;
 import oogasalad.fileparser.records.EventData;
@@ -30,7 +32,9 @@ public class XmlEventsWriterTest {
     LevelData levelData = getLevelData();
 
     try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile))) {
-      new XmlEventsWriter(writer, levelData).write();
+      XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+      new XmlEventsWriter(xml, levelData).write();
+      xml.flush();
     }
 
     String content = Files.readString(tempFile.toPath());
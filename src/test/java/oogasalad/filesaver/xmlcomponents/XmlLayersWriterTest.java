@@ -0,0 +1,124 @@
+package oogasalad.filesaver.xmlcomponents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import oogasalad.fileparser.LayerDataParser;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+public class XmlLayersWriterTest {
+  private static final BlueprintData TILE = new BlueprintData(3, 0, 0, 0, false, "", "blocks", "",
+      null, new HitBoxData("RECTANGLE", 8, 8, 0, 0), List.of(), Map.of(), Map.of(), List.of());
+  private File tempFile;
+
+  @BeforeEach
+  void setup() throws Exception {
+    tempFile = File.createTempFile("layers_test", ".xml");
+    tempFile.deleteOnExit();
+  }
+
+  @Test
+  void write_DenseTileLayer_WritesGridAndParsesBack() throws Exception {
+    List<GameObjectData> gameObjects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      gameObjects.add(new GameObjectData("ground", 3, UUID.randomUUID(), 16 + 8 * i, 64, 1, ""));
+    }
+    UUID player = UUID.randomUUID();
+    gameObjects.add(new GameObjectData("player", 3, player, 0, 0, 1, ""));
+    CameraData cameraData = new CameraData("Tracker", Map.of("objectToTrack", player.toString()),
+        Map.of());
+    LevelData levelData = new LevelData("", 0, 0, 200, 100, cameraData, Map.of(3, TILE),
+        gameObjects);
+
+    String content = writeLayers(levelData);
+
+    assertTrue(content.contains(
+        "<grid tileWidth=\"8\" tileHeight=\"8\" x=\"16\" y=\"64\" columns=\"20\" rows=\"1\" "
+            + "encoding=\"rle\" names=\"3:ground\">20*3</grid>"));
+    assertTrue(content.contains("uid=\"" + player + "\""));
+
+    Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new InputSource(new StringReader("<map>" + content + "</map>")))
+        .getDocumentElement();
+    List<GameObjectData> parsed = new LayerDataParser().getGameObjectDataList(root);
+    assertEquals(21, parsed.size());
+    assertTrue(parsed.stream().anyMatch(o -> o.uniqueId().equals(player)));
+    assertTrue(parsed.stream().anyMatch(o -> o.x() == 168 && o.y() == 64));
+  }
+
+  @Test
+  void write_SparseLayer_WritesOnlyObjectTags() throws Exception {
+    List<GameObjectData> gameObjects = List.of(
+        new GameObjectData("ground", 3, UUID.randomUUID(), 0, 64, 1, ""),
+        new GameObjectData("ground", 3, UUID.randomUUID(), 8, 64, 1, ""));
+    LevelData levelData = new LevelData("", 0, 0, 200, 100, null, Map.of(3, TILE), gameObjects);
+
+    String content = writeLayers(levelData);
+
+    assertFalse(content.contains("<grid"));
+    assertTrue(content.contains("coordinates=\"(0,64), (8,64)\""));
+  }
+
+  @Test
+  void write_TilesWithOtherNames_KeepsThemAsObjectTags() throws Exception {
+    List<GameObjectData> gameObjects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      gameObjects.add(new GameObjectData("ground", 3, UUID.randomUUID(), 8 * i, 64, 1, ""));
+    }
+    gameObjects.add(new GameObjectData("secret", 3, UUID.randomUUID(), 160, 64, 1, ""));
+    gameObjects.add(new GameObjectData("a,b", 3, UUID.randomUUID(), 168, 64, 1, ""));
+    LevelData levelData = new LevelData("", 0, 0, 200, 100, null, Map.of(3, TILE), gameObjects);
+
+    String content = writeLayers(levelData);
+
+    assertTrue(content.contains("names=\"3:ground\">20*3</grid>"));
+    Element root = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new InputSource(new StringReader("<map>" + content + "</map>")))
+        .getDocumentElement();
+    List<GameObjectData> parsed = new LayerDataParser().getGameObjectDataList(root);
+    assertEquals(22, parsed.size());
+    assertTrue(parsed.stream().anyMatch(o -> o.name().equals("secret") && o.x() == 160));
+    assertTrue(parsed.stream().anyMatch(o -> o.name().equals("a,b") && o.x() == 168));
+  }
+
+  @Test
+  void write_TilesSpreadThinly_WritesOnlyObjectTags() throws Exception {
+    List<GameObjectData> gameObjects = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      gameObjects.add(new GameObjectData("ground", 3, UUID.randomUUID(), 80 * i, 64, 1, ""));
+    }
+    LevelData levelData = new LevelData("", 0, 0, 2000, 100, null, Map.of(3, TILE), gameObjects);
+
+    assertFalse(writeLayers(levelData).contains("<grid"));
+  }
+
+  private String writeLayers(LevelData levelData) throws Exception {
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile))) {
+      XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+      new XmlLayersWriter(xml, levelData).write();
+      xml.flush();
+    }
+    return Files.readString(tempFile.toPath());
+  }
+}